@@ -0,0 +1,184 @@
+package com.comeon.authservice.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    auth-service 로그인 -> 토큰 검증 -> 재발급 -> 토큰 검증 -> 로그아웃 부하 테스트.
+    카카오 OAuth2 서버와 user-service 는 로컬 stub 으로 대체한다.
+
+    실행 : ./gradlew loadTest -Dloadtest.sessions=1000 -Dloadtest.concurrency=50
+    - loadtest.sessions : 수행할 전체 세션(유저) 수
+    - loadtest.concurrency : 동시에 수행할 세션 수
+    - loadtest.access-token-expire-time : 엑세스 토큰 만료 시간(초). 재발급 단계는 이 시간이 지난 후에 시작한다.
+    - loadtest.redis.host, loadtest.redis.port : 사용할 로컬 Redis. 지정하지 않으면 Redis 컨테이너를 띄운다.
+ */
+@Slf4j
+@ActiveProfiles("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class AuthLifecycleLoadTest {
+
+    static final int SESSIONS = Integer.getInteger("loadtest.sessions", 200);
+    static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 20);
+
+    static final StubKakaoServer KAKAO_SERVER;
+    static final StubUserServiceServer USER_SERVICE_SERVER;
+    static GenericContainer<?> redisContainer;
+
+    static {
+        try {
+            KAKAO_SERVER = new StubKakaoServer();
+            USER_SERVICE_SERVER = new StubUserServiceServer();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        KAKAO_SERVER.start();
+        USER_SERVICE_SERVER.start();
+    }
+
+    @DynamicPropertySource
+    static void overrideProps(DynamicPropertyRegistry registry) {
+        String redisHost = System.getProperty("loadtest.redis.host");
+        if (redisHost != null) {
+            registry.add("spring.redis.host", () -> redisHost);
+            registry.add("spring.redis.port", () -> Integer.getInteger("loadtest.redis.port", 6379));
+        } else {
+            redisContainer = new GenericContainer<>("redis:7.0.4").withExposedPorts(6379);
+            redisContainer.start();
+            registry.add("spring.redis.host", redisContainer::getHost);
+            registry.add("spring.redis.port", () -> redisContainer.getMappedPort(6379));
+        }
+
+        registry.add("jwt.access-token.expire-time", () -> Integer.getInteger("loadtest.access-token-expire-time", 3));
+        registry.add("spring.security.oauth2.client.provider.kakao.authorization-uri", () -> KAKAO_SERVER.baseUrl() + "/oauth/authorize");
+        registry.add("spring.security.oauth2.client.provider.kakao.token-uri", () -> KAKAO_SERVER.baseUrl() + "/oauth/token");
+        registry.add("spring.security.oauth2.client.provider.kakao.user-info-uri", () -> KAKAO_SERVER.baseUrl() + "/v2/user/me");
+        registry.add("spring.cloud.discovery.client.simple.instances.user-service[0].uri", USER_SERVICE_SERVER::baseUrl);
+    }
+
+    @AfterAll
+    static void stopServers() {
+        KAKAO_SERVER.stop();
+        USER_SERVICE_SERVER.stop();
+        if (redisContainer != null) {
+            redisContainer.stop();
+        }
+    }
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    RedisConnectionFactory redisConnectionFactory;
+
+    @Test
+    void tokenLifecycle() throws Exception {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        String authServiceUrl = "http://localhost:" + port;
+
+        // 워밍업
+        TokenLifecycleSession warmUp = new TokenLifecycleSession(httpClient, authServiceUrl, new LatencyRecorder());
+        warmUp.loginAndValidate();
+        waitUntil(warmUp.getAccessTokenExpiry());
+        warmUp.reissueAndLogout();
+
+        LatencyRecorder recorder = new LatencyRecorder();
+        List<TokenLifecycleSession> sessions = new ArrayList<>();
+        for (int i = 0; i < SESSIONS; i++) {
+            sessions.add(new TokenLifecycleSession(httpClient, authServiceUrl, recorder));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+        long redisCommandsBefore = redisCommandsProcessed();
+
+        // 재발급은 엑세스 토큰이 만료된 이후에만 가능하므로 두 단계로 나누어 수행하고,
+        // 만료를 기다리는 시간은 측정에서 제외한다.
+        long loginPhase = runPhase(executor, sessions, TokenLifecycleSession::loginAndValidate);
+        waitUntil(sessions.stream()
+                .map(TokenLifecycleSession::getAccessTokenExpiry)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElseGet(Instant::now));
+        long reissuePhase = runPhase(executor, sessions, TokenLifecycleSession::reissueAndLogout);
+
+        // INFO 명령 자체도 집계되므로 1회 제외
+        long redisCommands = redisCommandsProcessed() - redisCommandsBefore - 1;
+        executor.shutdown();
+
+        log.info(recorder.report(loginPhase + reissuePhase, redisCommands));
+
+        assertThat(recorder.totalErrors()).isZero();
+    }
+
+    private long runPhase(ExecutorService executor,
+                          List<TokenLifecycleSession> sessions,
+                          SessionStep step) throws InterruptedException {
+        long start = System.nanoTime();
+
+        List<Future<?>> results = new ArrayList<>();
+        for (TokenLifecycleSession session : sessions) {
+            results.add(executor.submit(() -> {
+                step.run(session);
+                return null;
+            }));
+        }
+        for (Future<?> result : results) {
+            try {
+                result.get();
+            } catch (ExecutionException e) {
+                log.warn("[load-test] session failed. {}", e.getCause().getMessage());
+            }
+        }
+
+        return System.nanoTime() - start;
+    }
+
+    private static void waitUntil(Instant instant) throws InterruptedException {
+        long waitMillis = Duration.between(Instant.now(), instant).toMillis() + 100;
+        if (waitMillis > 0) {
+            Thread.sleep(waitMillis);
+        }
+    }
+
+    private long redisCommandsProcessed() {
+        try (RedisConnection connection = redisConnectionFactory.getConnection()) {
+            Properties stats = connection.info("stats");
+            return Long.parseLong(stats.getProperty("total_commands_processed"));
+        }
+    }
+
+    @FunctionalInterface
+    interface SessionStep {
+        void run(TokenLifecycleSession session) throws Exception;
+    }
+}
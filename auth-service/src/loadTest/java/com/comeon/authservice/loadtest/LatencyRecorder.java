@@ -0,0 +1,67 @@
+package com.comeon.authservice.loadtest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+// 요청 단계별 응답 시간(nanos)과 실패 횟수를 기록한다.
+public class LatencyRecorder {
+
+    private final Map<String, ConcurrentLinkedQueue<Long>> latencies = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    public void record(String step, long elapsedNanos) {
+        latencies.computeIfAbsent(step, key -> new ConcurrentLinkedQueue<>()).add(elapsedNanos);
+    }
+
+    public void recordError(String step) {
+        errors.computeIfAbsent(step, key -> new LongAdder()).increment();
+    }
+
+    public long totalRequests() {
+        return latencies.values().stream().mapToLong(ConcurrentLinkedQueue::size).sum();
+    }
+
+    public long totalErrors() {
+        return errors.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    public String report(long elapsedNanos, long redisCommands) {
+        double elapsedSec = elapsedNanos / 1_000_000_000.0;
+        long totalRequests = totalRequests();
+
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%n=== auth-service token lifecycle load test ===%n"));
+        report.append(String.format("elapsed : %.2f s, requests : %d, errors : %d%n", elapsedSec, totalRequests, totalErrors()));
+        report.append(String.format("throughput : %.1f req/s%n", totalRequests / elapsedSec));
+        report.append(String.format("redis commands : %d (%.2f per request)%n",
+                redisCommands, totalRequests == 0 ? 0.0 : (double) redisCommands / totalRequests));
+        report.append(String.format("%-12s %8s %8s %8s %8s %8s %8s%n", "step", "count", "errors", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)"));
+
+        latencies.keySet().stream().sorted().forEach(step -> {
+            List<Long> sorted = new ArrayList<>(latencies.get(step));
+            Collections.sort(sorted);
+            report.append(String.format("%-12s %8d %8d %8.2f %8.2f %8.2f %8.2f%n",
+                    step,
+                    sorted.size(),
+                    errors.getOrDefault(step, new LongAdder()).sum(),
+                    percentile(sorted, 50),
+                    percentile(sorted, 90),
+                    percentile(sorted, 99),
+                    percentile(sorted, 100)));
+        });
+        return report.toString();
+    }
+
+    private static double percentile(List<Long> sorted, int percentile) {
+        if (sorted.isEmpty()) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(index, 0)) / 1_000_000.0;
+    }
+}
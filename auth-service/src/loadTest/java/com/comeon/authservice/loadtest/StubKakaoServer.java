@@ -0,0 +1,104 @@
+package com.comeon.authservice.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+// 카카오 OAuth2 서버(authorize, token, user-info) 대신 사용하는 로컬 stub
+public class StubKakaoServer {
+
+    private final HttpServer server;
+    private final AtomicLong oauthIdSequence = new AtomicLong(1_000_000L);
+
+    public StubKakaoServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/oauth/authorize", this::authorize);
+        server.createContext("/oauth/token", this::token);
+        server.createContext("/v2/user/me", this::userInfo);
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(0);
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    // 동의 화면 없이 바로 authorization code 를 발급하여 redirect_uri 로 돌려보낸다.
+    // 로그인 할 때마다 새로운 oauthId 를 발급하고, code 에 담아둔다.
+    private void authorize(HttpExchange exchange) throws IOException {
+        Map<String, String> params = parseQuery(exchange.getRequestURI().getRawQuery());
+        long oauthId = oauthIdSequence.incrementAndGet();
+
+        String location = UriComponentsBuilder.fromUriString(params.get("redirect_uri"))
+                .queryParam("code", "code-" + oauthId)
+                .queryParam("state", params.get("state"))
+                .build()
+                .toUriString();
+
+        exchange.getResponseHeaders().add("Location", location);
+        // 부하 테스트 클라이언트가 유휴 커넥션을 재사용하다 끊기는 일이 없도록 매번 커넥션을 닫는다.
+        exchange.getResponseHeaders().add("Connection", "close");
+        exchange.sendResponseHeaders(302, -1);
+        exchange.close();
+    }
+
+    private void token(HttpExchange exchange) throws IOException {
+        Map<String, String> params = parseQuery(readBody(exchange));
+        String oauthId = params.get("code").substring("code-".length());
+
+        writeJson(exchange, "{\"access_token\":\"token-" + oauthId + "\"," +
+                "\"token_type\":\"bearer\"," +
+                "\"expires_in\":21599}");
+    }
+
+    private void userInfo(HttpExchange exchange) throws IOException {
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        String oauthId = authorization.substring(authorization.indexOf("token-") + "token-".length());
+
+        writeJson(exchange, "{\"id\":" + oauthId + "," +
+                "\"properties\":{\"nickname\":\"user" + oauthId + "\",\"thumbnail_image\":null}," +
+                "\"kakao_account\":{\"email\":\"user" + oauthId + "@loadtest.com\"}}");
+    }
+
+    static String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            return new String(body.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    static void writeJson(HttpExchange exchange, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(200, body.length);
+        exchange.getResponseBody().write(body);
+        exchange.close();
+    }
+
+    private static Map<String, String> parseQuery(String query) {
+        return Arrays.stream(query.split("&"))
+                .map(param -> param.split("=", 2))
+                .collect(Collectors.toMap(
+                        pair -> pair[0],
+                        pair -> pair.length > 1 ? URLDecoder.decode(pair[1], StandardCharsets.UTF_8) : "",
+                        (first, second) -> first
+                ));
+    }
+}
@@ -0,0 +1,50 @@
+package com.comeon.authservice.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// user-service 의 회원 정보 저장 API(POST /users) 대신 사용하는 로컬 stub
+public class StubUserServiceServer {
+
+    private static final Pattern OAUTH_ID_PATTERN = Pattern.compile("\"oauthId\"\\s*:\\s*\"([^\"]+)\"");
+
+    private final HttpServer server;
+    private final AtomicLong userIdSequence = new AtomicLong();
+    private final Map<String, Long> userIds = new ConcurrentHashMap<>();
+
+    public StubUserServiceServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/users", this::saveUser);
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(0);
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    private void saveUser(HttpExchange exchange) throws IOException {
+        Matcher matcher = OAUTH_ID_PATTERN.matcher(StubKakaoServer.readBody(exchange));
+        String oauthId = matcher.find() ? matcher.group(1) : "unknown";
+        Long userId = userIds.computeIfAbsent(oauthId, key -> userIdSequence.incrementAndGet());
+
+        StubKakaoServer.writeJson(exchange, "{\"code\":\"SUCCESS\"," +
+                "\"data\":{\"userId\":" + userId + ",\"role\":\"ROLE_USER\"}}");
+    }
+}
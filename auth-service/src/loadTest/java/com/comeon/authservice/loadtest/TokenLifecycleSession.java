@@ -0,0 +1,149 @@
+package com.comeon.authservice.loadtest;
+
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.net.HttpCookie;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// 한 명의 유저가 로그인 -> 토큰 검증 -> 재발급 -> 토큰 검증 -> 로그아웃 하는 흐름을 수행한다.
+// 보안 쿠키(Secure, 서버 도메인)는 HttpClient 가 저장하지 않으므로 직접 관리한다.
+public class TokenLifecycleSession {
+
+    static final String FRONT_REDIRECT_URI = "http://localhost:3000/front/redirect-page";
+
+    private final HttpClient httpClient;
+    private final String authServiceUrl;
+    private final LatencyRecorder recorder;
+    private final Map<String, String> cookies = new HashMap<>();
+
+    private String accessToken;
+    private Instant accessTokenExpiry;
+
+    public TokenLifecycleSession(HttpClient httpClient, String authServiceUrl, LatencyRecorder recorder) {
+        this.httpClient = httpClient;
+        this.authServiceUrl = authServiceUrl;
+        this.recorder = recorder;
+    }
+
+    // 로그인 후 발급받은 엑세스 토큰을 검증한다.
+    public void loginAndValidate() throws IOException, InterruptedException {
+        login();
+        validate();
+    }
+
+    // 엑세스 토큰이 만료된 이후에 호출해야 한다. 재발급 받은 토큰을 검증하고 로그아웃한다.
+    public void reissueAndLogout() throws IOException, InterruptedException {
+        reissue();
+        validate();
+        logout();
+    }
+
+    public Instant getAccessTokenExpiry() {
+        return accessTokenExpiry;
+    }
+
+    private void login() throws IOException, InterruptedException {
+        HttpResponse<String> authorize = send("authorize", HttpRequest.newBuilder(
+                URI.create(authServiceUrl + "/oauth2/authorize/kakao?redirect_uri=" + FRONT_REDIRECT_URI)
+        ).GET(), 302);
+
+        // stub 카카오 서버의 동의 화면. 부하 측정 대상이 아니므로 지연 시간은 기록하지 않는다.
+        HttpResponse<String> consent;
+        try {
+            consent = httpClient.send(
+                    HttpRequest.newBuilder(URI.create(location(authorize))).GET().build(),
+                    HttpResponse.BodyHandlers.ofString()
+            );
+        } catch (IOException e) {
+            recorder.recordError("consent");
+            throw new IOException("consent failed. " + e.getMessage(), e);
+        }
+
+        HttpResponse<String> callback = send("callback", HttpRequest.newBuilder(
+                URI.create(location(consent))
+        ).GET(), 302);
+
+        UriComponents frontRedirect = UriComponentsBuilder.fromUriString(location(callback)).build();
+        accessToken = frontRedirect.getQueryParams().getFirst("token");
+        accessTokenExpiry = Instant.ofEpochSecond(Long.parseLong(frontRedirect.getQueryParams().getFirst("expiry")));
+    }
+
+    private void validate() throws IOException, InterruptedException {
+        send("validate", HttpRequest.newBuilder(URI.create(authServiceUrl + "/auth/validate"))
+                .header("Authorization", "Bearer " + accessToken)
+                .GET(), 200);
+    }
+
+    private void reissue() throws IOException, InterruptedException {
+        HttpResponse<String> reissue = send("reissue", HttpRequest.newBuilder(URI.create(authServiceUrl + "/auth/reissue"))
+                .header("Authorization", "Bearer " + accessToken)
+                .POST(HttpRequest.BodyPublishers.noBody()), 200);
+
+        String body = reissue.body();
+        int start = body.indexOf("\"accessToken\":\"") + "\"accessToken\":\"".length();
+        accessToken = body.substring(start, body.indexOf('"', start));
+    }
+
+    private void logout() throws IOException, InterruptedException {
+        String logoutParams = "?token=" + accessToken + "&redirect_uri=" + FRONT_REDIRECT_URI;
+
+        // 소셜 로그아웃. 카카오 로그아웃 페이지로의 리다이렉트는 따라가지 않는다.
+        send("logout-oauth", HttpRequest.newBuilder(URI.create(authServiceUrl + "/oauth2/logout" + logoutParams))
+                .POST(HttpRequest.BodyPublishers.noBody()), 302);
+
+        send("logout", HttpRequest.newBuilder(URI.create(authServiceUrl + "/auth/logout"))
+                .POST(HttpRequest.BodyPublishers.noBody()), 302);
+    }
+
+    private HttpResponse<String> send(String step, HttpRequest.Builder builder, int expectedStatus)
+            throws IOException, InterruptedException {
+        if (!cookies.isEmpty()) {
+            builder.header("Cookie", cookies.entrySet().stream()
+                    .map(cookie -> cookie.getKey() + "=" + cookie.getValue())
+                    .collect(Collectors.joining("; ")));
+        }
+
+        long start = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            recorder.recordError(step);
+            throw new IOException(step + " failed. " + e.getMessage(), e);
+        }
+        recorder.record(step, System.nanoTime() - start);
+
+        storeCookies(response);
+        if (response.statusCode() != expectedStatus) {
+            recorder.recordError(step);
+            throw new IllegalStateException(step + " failed. status : " + response.statusCode() + ", body : " + response.body());
+        }
+        return response;
+    }
+
+    private void storeCookies(HttpResponse<String> response) {
+        response.headers().allValues("Set-Cookie").stream()
+                .flatMap(header -> HttpCookie.parse(header).stream())
+                .forEach(cookie -> {
+                    if (cookie.getMaxAge() == 0) {
+                        cookies.remove(cookie.getName());
+                    } else {
+                        cookies.put(cookie.getName(), cookie.getValue());
+                    }
+                });
+    }
+
+    private static String location(HttpResponse<String> response) {
+        return response.headers().firstValue("Location")
+                .orElseThrow(() -> new IllegalStateException("no redirect location. status : " + response.statusCode()));
+    }
+}
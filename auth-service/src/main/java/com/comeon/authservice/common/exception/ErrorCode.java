@@ -10,6 +10,7 @@ public enum ErrorCode {
     NO_AUTHORIZATION_HEADER(601, HttpStatus.UNAUTHORIZED, "인증 헤더를 찾을 수 없습니다."),
     INVALID_ACCESS_TOKEN(602, HttpStatus.UNAUTHORIZED, "인증 헤더 검증에 실패하였습니다."),
     NOT_SUPPORTED_TOKEN_TYPE(603, HttpStatus.UNAUTHORIZED, "인증 헤더의 토큰 타입이 유효하지 않습니다."),
+    INVALID_SERVICE_KEY(604, HttpStatus.UNAUTHORIZED, "서비스 인증 키 검증에 실패하였습니다."),
 
     NO_REFRESH_TOKEN(661, HttpStatus.UNAUTHORIZED, "리프레시 토큰을 찾을 수 없습니다."),
     INVALID_REFRESH_TOKEN(662, HttpStatus.UNAUTHORIZED, "리프레시 토큰 검증에 실패하였습니다."),
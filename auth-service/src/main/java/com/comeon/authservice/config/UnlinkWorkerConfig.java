@@ -0,0 +1,58 @@
+package com.comeon.authservice.config;
+
+import com.comeon.authservice.feign.kakao.KakaoApiFeignService;
+import com.comeon.authservice.feign.kakao.unlink.KakaoUnlinkWorker;
+import com.comeon.authservice.feign.kakao.unlink.UnlinkJobQueue;
+import com.comeon.authservice.feign.kakao.unlink.UnlinkRetryPolicy;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.time.Duration;
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "kakao.unlink.worker.enabled", havingValue = "true", matchIfMissing = true)
+public class UnlinkWorkerConfig {
+
+    @Value("${kakao.unlink.worker.batch-size:20}")
+    private int batchSize;
+
+    @Value("${kakao.unlink.worker.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${kakao.unlink.worker.initial-backoff:1s}")
+    private Duration initialBackoff;
+
+    @Value("${kakao.unlink.worker.max-backoff:30m}")
+    private Duration maxBackoff;
+
+    @Value("${kakao.unlink.worker.lease:1m}")
+    private Duration lease;
+
+    // 카카오 API 로 초당 보낼 수 있는 최대 연결 끊기 요청 수
+    @Value("${kakao.unlink.worker.rate-limit-per-second:10}")
+    private int rateLimitPerSecond;
+
+    @Bean
+    public KakaoUnlinkWorker kakaoUnlinkWorker(UnlinkJobQueue unlinkJobQueue,
+                                               KakaoApiFeignService kakaoApiFeignService,
+                                               MeterRegistry meterRegistry) {
+        RateLimiter rateLimiter = RateLimiter.of(
+                "kakaoUnlink",
+                RateLimiterConfig.custom()
+                        .limitForPeriod(rateLimitPerSecond)
+                        .limitRefreshPeriod(Duration.ofSeconds(1))
+                        .timeoutDuration(Duration.ZERO)
+                        .build()
+        );
+        UnlinkRetryPolicy retryPolicy = new UnlinkRetryPolicy(batchSize, maxAttempts, initialBackoff, maxBackoff, lease);
+
+        return new KakaoUnlinkWorker(unlinkJobQueue, kakaoApiFeignService, rateLimiter, retryPolicy, meterRegistry);
+    }
+}
@@ -0,0 +1,105 @@
+package com.comeon.authservice.feign.kakao.unlink;
+
+import com.comeon.authservice.common.exception.CustomException;
+import com.comeon.authservice.common.exception.ErrorCode;
+import com.comeon.authservice.feign.kakao.KakaoApiFeignService;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.List;
+
+@Slf4j
+public class KakaoUnlinkWorker {
+
+    private static final String METRIC_JOBS = "kakao.unlink.jobs";
+
+    private final UnlinkJobQueue unlinkJobQueue;
+    private final KakaoApiFeignService kakaoApiFeignService;
+    private final RateLimiter rateLimiter;
+    private final UnlinkRetryPolicy retryPolicy;
+
+    private final Timer unlinkTimer;
+    private final Counter successCounter;
+    private final Counter retryCounter;
+    private final Counter deadLetterCounter;
+
+    public KakaoUnlinkWorker(UnlinkJobQueue unlinkJobQueue,
+                             KakaoApiFeignService kakaoApiFeignService,
+                             RateLimiter rateLimiter,
+                             UnlinkRetryPolicy retryPolicy,
+                             MeterRegistry meterRegistry) {
+        this.unlinkJobQueue = unlinkJobQueue;
+        this.kakaoApiFeignService = kakaoApiFeignService;
+        this.rateLimiter = rateLimiter;
+        this.retryPolicy = retryPolicy;
+
+        this.unlinkTimer = Timer.builder("kakao.unlink.latency")
+                .description("카카오 연결 끊기 API 호출 시간")
+                .register(meterRegistry);
+        this.successCounter = Counter.builder(METRIC_JOBS).tag("result", "success").register(meterRegistry);
+        this.retryCounter = Counter.builder(METRIC_JOBS).tag("result", "retry").register(meterRegistry);
+        this.deadLetterCounter = Counter.builder(METRIC_JOBS).tag("result", "dead").register(meterRegistry);
+        Gauge.builder("kakao.unlink.queue.size", unlinkJobQueue, UnlinkJobQueue::size)
+                .description("처리 대기중인 카카오 연결 끊기 작업 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${kakao.unlink.worker.poll-interval:1000}")
+    public void drain() {
+        List<UnlinkJob> jobs = unlinkJobQueue.pollDueJobs(retryPolicy.getBatchSize(), retryPolicy.getLease());
+
+        for (int i = 0; i < jobs.size(); i++) {
+            // 카카오 API 처리율 제한. 허용량을 초과하면 남은 작업은 다음 주기로 미룬다.
+            if (!rateLimiter.acquirePermission()) {
+                jobs.subList(i, jobs.size())
+                        .forEach(job -> unlinkJobQueue.release(job.getOauthId()));
+                return;
+            }
+            process(jobs.get(i));
+        }
+    }
+
+    private void process(UnlinkJob job) {
+        Long oauthId = job.getOauthId();
+        try {
+            unlinkTimer.record(() -> kakaoApiFeignService.userUnlink(oauthId));
+            unlinkJobQueue.complete(oauthId);
+            successCounter.increment();
+        } catch (CustomException e) {
+            // 앱에 등록되지 않은 oauthId 는 재시도해도 성공할 수 없다.
+            if (e.getErrorCode() == ErrorCode.INVALID_OAUTH_ID) {
+                deadLetter(oauthId, e);
+                return;
+            }
+            retryOrDeadLetter(job, e);
+        } catch (RuntimeException e) {
+            retryOrDeadLetter(job, e);
+        }
+    }
+
+    private void retryOrDeadLetter(UnlinkJob job, RuntimeException e) {
+        int failedAttempts = job.getFailedAttempts() + 1;
+        if (failedAttempts >= retryPolicy.getMaxAttempts()) {
+            deadLetter(job.getOauthId(), e);
+            return;
+        }
+
+        Duration delay = retryPolicy.backoff(failedAttempts);
+        log.warn("[kakao-unlink] oauthId : {}, attempts : {}, retry after {}ms",
+                job.getOauthId(), failedAttempts, delay.toMillis(), e);
+        unlinkJobQueue.retry(job.getOauthId(), failedAttempts, delay);
+        retryCounter.increment();
+    }
+
+    private void deadLetter(Long oauthId, RuntimeException e) {
+        log.error("[kakao-unlink] oauthId : {} unlink failed. moved to dead letter.", oauthId, e);
+        unlinkJobQueue.deadLetter(oauthId);
+        deadLetterCounter.increment();
+    }
+}
@@ -0,0 +1,14 @@
+package com.comeon.authservice.feign.kakao.unlink;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class UnlinkJob {
+
+    private Long oauthId;
+
+    // 지금까지 실패한 횟수
+    private int failedAttempts;
+}
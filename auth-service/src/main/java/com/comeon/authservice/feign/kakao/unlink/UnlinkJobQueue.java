@@ -0,0 +1,105 @@
+package com.comeon.authservice.feign.kakao.unlink;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 카카오 연결 끊기 작업 큐.
+// Redis Sorted Set 에 oauthId 를 멤버로, 다음 실행 시각(epoch millis)을 score 로 저장한다.
+@Component
+@RequiredArgsConstructor
+public class UnlinkJobQueue {
+
+    private static final String QUEUE_KEY = "UNLINK_QUEUE";
+    private static final String ATTEMPTS_KEY = "UNLINK_ATTEMPTS";
+    private static final String DEAD_LETTER_KEY = "UNLINK_DEAD";
+
+    // 실행 시각이 지난 작업을 조회하면서 lease 시각으로 score 를 미뤄둔다.
+    // 워커가 처리 도중 종료되어도 lease 가 지나면 다시 조회되므로 작업이 유실되지 않는다.
+    private static final RedisScript<List> POLL_SCRIPT = new DefaultRedisScript<>(
+            "local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2]) " +
+                    "local result = {} " +
+                    "for _, member in ipairs(due) do " +
+                    "  redis.call('ZADD', KEYS[1], ARGV[3], member) " +
+                    "  local attempts = redis.call('HGET', KEYS[2], member) or '0' " +
+                    "  table.insert(result, member .. ':' .. attempts) " +
+                    "end " +
+                    "return result",
+            List.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public void enqueue(Long oauthId) {
+        redisTemplate.opsForZSet().add(QUEUE_KEY, String.valueOf(oauthId), Instant.now().toEpochMilli());
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<UnlinkJob> pollDueJobs(int limit, Duration lease) {
+        long now = Instant.now().toEpochMilli();
+        List<Object> polled = redisTemplate.execute(
+                POLL_SCRIPT,
+                List.of(QUEUE_KEY, ATTEMPTS_KEY),
+                String.valueOf(now),
+                String.valueOf(limit),
+                String.valueOf(now + lease.toMillis())
+        );
+        if (polled == null) {
+            return Collections.emptyList();
+        }
+
+        return polled.stream()
+                .map(Object::toString)
+                .map(value -> value.split(":"))
+                .map(values -> new UnlinkJob(Long.parseLong(values[0]), Integer.parseInt(values[1])))
+                .collect(Collectors.toList());
+    }
+
+    public void complete(Long oauthId) {
+        String member = String.valueOf(oauthId);
+        redisTemplate.opsForZSet().remove(QUEUE_KEY, member);
+        redisTemplate.opsForHash().delete(ATTEMPTS_KEY, member);
+    }
+
+    public void retry(Long oauthId, int failedAttempts, Duration delay) {
+        String member = String.valueOf(oauthId);
+        redisTemplate.opsForHash().put(ATTEMPTS_KEY, member, String.valueOf(failedAttempts));
+        redisTemplate.opsForZSet().add(QUEUE_KEY, member, Instant.now().plus(delay).toEpochMilli());
+    }
+
+    // 처리율 제한에 걸려 처리하지 못한 작업은 실패 횟수 증가 없이 즉시 다시 조회될 수 있도록 되돌린다.
+    public void release(Long oauthId) {
+        redisTemplate.opsForZSet().add(QUEUE_KEY, String.valueOf(oauthId), Instant.now().toEpochMilli());
+    }
+
+    public void deadLetter(Long oauthId) {
+        complete(oauthId);
+        redisTemplate.opsForZSet().add(DEAD_LETTER_KEY, String.valueOf(oauthId), Instant.now().toEpochMilli());
+    }
+
+    public boolean contains(Long oauthId) {
+        return redisTemplate.opsForZSet().score(QUEUE_KEY, String.valueOf(oauthId)) != null;
+    }
+
+    public boolean isDeadLetter(Long oauthId) {
+        return redisTemplate.opsForZSet().score(DEAD_LETTER_KEY, String.valueOf(oauthId)) != null;
+    }
+
+    public long size() {
+        Long size = redisTemplate.opsForZSet().zCard(QUEUE_KEY);
+        return size == null ? 0 : size;
+    }
+
+    public long deadLetterSize() {
+        Long size = redisTemplate.opsForZSet().zCard(DEAD_LETTER_KEY);
+        return size == null ? 0 : size;
+    }
+}
@@ -0,0 +1,34 @@
+package com.comeon.authservice.feign.kakao.unlink;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class UnlinkRetryPolicy {
+
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+
+    public UnlinkRetryPolicy(int batchSize, int maxAttempts,
+                             Duration initialBackoff, Duration maxBackoff, Duration lease) {
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.lease = lease;
+    }
+
+    // initialBackoff * 2^(failedAttempts - 1), 최대 maxBackoff
+    public Duration backoff(int failedAttempts) {
+        int exponent = Math.min(Math.max(failedAttempts - 1, 0), 30);
+        long millis = initialBackoff.toMillis() << exponent;
+        if (millis <= 0 || millis > maxBackoff.toMillis()) {
+            return maxBackoff;
+        }
+        return Duration.ofMillis(millis);
+    }
+}
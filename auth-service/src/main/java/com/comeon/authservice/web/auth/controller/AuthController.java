@@ -4,7 +4,7 @@ import com.comeon.authservice.common.jwt.JwtTokenInfo;
 import com.comeon.authservice.common.jwt.JwtTokenProvider;
 import com.comeon.authservice.common.jwt.RedisRepository;
 import com.comeon.authservice.common.utils.CookieUtil;
-import com.comeon.authservice.feign.kakao.KakaoApiFeignService;
+import com.comeon.authservice.feign.kakao.unlink.UnlinkJobQueue;
 import com.comeon.authservice.web.auth.request.UserUnlinkRequest;
 import com.comeon.authservice.web.auth.response.TokenReissueResponse;
 import com.comeon.authservice.web.auth.response.UnlinkResponse;
@@ -36,7 +36,7 @@ public class AuthController {
     private final RedisRepository redisRepository;
     private final LogoutManager logoutManager;
 
-    private final KakaoApiFeignService kakaoApiFeignService;
+    private final UnlinkJobQueue unlinkJobQueue;
 
     @PostMapping("/reissue")
     public ApiResponse<TokenReissueResponse> reissueTokens(HttpServletRequest request,
@@ -95,7 +95,8 @@ public class AuthController {
             BindingResult bindingResult,
             HttpServletRequest request,
             HttpServletResponse response) {
-        kakaoApiFeignService.userUnlink(userUnlinkRequest.getUserOauthId());
+        // 카카오 연결 끊기는 큐에 등록만 하고, KakaoUnlinkWorker 가 비동기로 처리한다.
+        unlinkJobQueue.enqueue(userUnlinkRequest.getUserOauthId());
 
         String accessToken = resolveAccessToken(request);
         logoutManager.doAppLogout(request, response, accessToken);
@@ -0,0 +1,113 @@
+package com.comeon.authservice.web.auth.controller;
+
+import com.comeon.authservice.common.exception.CustomException;
+import com.comeon.authservice.common.exception.ErrorCode;
+import com.comeon.authservice.common.jwt.RedisRepository;
+import com.comeon.authservice.common.response.ApiResponse;
+import com.comeon.authservice.feign.kakao.unlink.UnlinkJobQueue;
+import com.comeon.authservice.web.auth.request.ServiceUnlinkRequest;
+import com.comeon.authservice.web.auth.response.LogoutResponse;
+import com.comeon.authservice.web.auth.response.UnlinkResponse;
+import com.comeon.authservice.web.auth.service.LogoutManager;
+import com.comeon.authservice.web.common.aop.ValidationRequired;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.StringUtils;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/*
+    다른 서비스가 유저 대신 호출하는 API.
+    JWT 필터 체인(/auth/**)에 걸리지 않고, 서비스 간 공유하는 키로 호출한 서비스를 인증한다.
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/internal/auth")
+public class InternalAuthController {
+
+    public static final String SERVICE_KEY_HEADER = "X-Service-Key";
+    private static final String BEARER_TOKEN_TYPE = "Bearer ";
+
+    private final RedisRepository redisRepository;
+    private final UnlinkJobQueue unlinkJobQueue;
+    private final LogoutManager logoutManager;
+
+    // 기본값이 없으므로 config-service 에 키가 등록되어 있어야 기동된다.
+    @Value("${auth.service-key:}")
+    private String serviceKey;
+
+    @PostConstruct
+    void checkServiceKey() {
+        if (!StringUtils.hasText(serviceKey)) {
+            throw new IllegalStateException(
+                    "auth.service-key 가 설정되지 않았습니다. config-service 에 user-service 와 같은 서비스 인증 키를 등록해주세요."
+            );
+        }
+    }
+
+    // 탈퇴하는 유저의 엑세스 토큰을 남은 유효 기간 동안 블랙리스트에 등록하고, 리프레시 토큰을 삭제한다.
+    // user-service 가 탈퇴를 처리하기 전에 호출하므로, 탈퇴한 유저의 토큰은 바로 거부된다.
+    @PostMapping("/logout")
+    public ApiResponse<LogoutResponse> logout(
+            @RequestHeader(name = SERVICE_KEY_HEADER, required = false) String requestServiceKey,
+            @RequestHeader(name = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        verifyServiceKey(requestServiceKey);
+
+        String accessToken = resolveAccessToken(authorization);
+        try {
+            logoutManager.doTokenLogout(accessToken);
+        } catch (JwtException e) {
+            throw new CustomException("유효하지 않은 엑세스 토큰입니다.", e, ErrorCode.INVALID_ACCESS_TOKEN);
+        }
+
+        log.info("[internal-logout] access token blacklisted");
+
+        return ApiResponse.createSuccess(new LogoutResponse());
+    }
+
+    // 탈퇴한 유저의 카카오 연결 끊기(어드민 키, oauthId)를 큐에 등록하고, 리프레시 토큰을 삭제해 재발급을 막는다.
+    @ValidationRequired
+    @PostMapping("/unlink")
+    public ApiResponse<UnlinkResponse> unlink(
+            @RequestHeader(name = SERVICE_KEY_HEADER, required = false) String requestServiceKey,
+            @Validated @ModelAttribute ServiceUnlinkRequest serviceUnlinkRequest,
+            BindingResult bindingResult) {
+        verifyServiceKey(requestServiceKey);
+
+        unlinkJobQueue.enqueue(serviceUnlinkRequest.getUserOauthId());
+        redisRepository.removeRefreshToken(String.valueOf(serviceUnlinkRequest.getUserId()));
+
+        log.info("[internal-unlink] user[{}] unlink enqueued", serviceUnlinkRequest.getUserId());
+
+        return ApiResponse.createSuccess(new UnlinkResponse());
+    }
+
+    /* === private method === */
+    private String resolveAccessToken(String authorization) {
+        if (!StringUtils.hasText(authorization)) {
+            throw new CustomException(ErrorCode.NO_AUTHORIZATION_HEADER);
+        }
+        if (!authorization.startsWith(BEARER_TOKEN_TYPE)) {
+            throw new CustomException(ErrorCode.NOT_SUPPORTED_TOKEN_TYPE);
+        }
+        return authorization.substring(BEARER_TOKEN_TYPE.length());
+    }
+
+    private void verifyServiceKey(String requestServiceKey) {
+        if (requestServiceKey == null
+                || !MessageDigest.isEqual(
+                        serviceKey.getBytes(StandardCharsets.UTF_8),
+                        requestServiceKey.getBytes(StandardCharsets.UTF_8))) {
+            throw new CustomException(ErrorCode.INVALID_SERVICE_KEY);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.comeon.authservice.web.auth.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.validation.constraints.NotNull;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ServiceUnlinkRequest {
+
+    @NotNull(message = "유저 식별값을 입력해주세요.")
+    private Long userId;
+
+    @NotNull(message = "유저의 OauthId를 입력해주세요.")
+    private Long userOauthId;
+}
@@ -0,0 +1,15 @@
+package com.comeon.authservice.web.auth.response;
+
+import lombok.Getter;
+
+@Getter
+public class LogoutResponse {
+
+    public static final String SUCCESS_MESSAGE = "로그아웃 처리가 완료되었습니다.";
+
+    private String message;
+
+    public LogoutResponse() {
+        this.message = SUCCESS_MESSAGE;
+    }
+}
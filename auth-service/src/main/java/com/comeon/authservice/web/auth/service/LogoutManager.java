@@ -22,14 +22,19 @@ public class LogoutManager {
     private final RedisRepository redisRepository;
 
     public void doAppLogout(HttpServletRequest request, HttpServletResponse response, String accessToken) {
+        doTokenLogout(accessToken);
+
+        // 리프레시 토큰, 로그아웃 요청 쿠키 삭제
+        CookieUtil.deleteSecureCookie(request, response, COOKIE_NAME_USER_LOGOUT_REQUEST);
+        CookieUtil.deleteSecureCookie(request, response, COOKIE_NAME_REFRESH_TOKEN);
+    }
+
+    // 쿠키 없이 토큰만 무효화한다. 다른 서비스가 유저 대신 로그아웃 처리를 요청할 때도 사용한다.
+    public void doTokenLogout(String accessToken) {
         Instant expiration = jwtTokenProvider.getClaims(accessToken).getExpiration().toInstant();
         // 블랙 리스트에 추가. duration 만큼 지나면 자동 삭제.
         redisRepository.addBlackList(accessToken, Duration.between(Instant.now(), expiration));
         // RefreshToken 삭제
         redisRepository.removeRefreshToken(jwtTokenProvider.getUserId(accessToken));
-
-        // 리프레시 토큰, 로그아웃 요청 쿠키 삭제
-        CookieUtil.deleteSecureCookie(request, response, COOKIE_NAME_USER_LOGOUT_REQUEST);
-        CookieUtil.deleteSecureCookie(request, response, COOKIE_NAME_REFRESH_TOKEN);
     }
 }
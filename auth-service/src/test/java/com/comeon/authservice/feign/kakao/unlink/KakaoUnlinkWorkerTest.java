@@ -0,0 +1,200 @@
+package com.comeon.authservice.feign.kakao.unlink;
+
+import com.comeon.authservice.common.exception.CustomException;
+import com.comeon.authservice.common.exception.ErrorCode;
+import com.comeon.authservice.feign.kakao.KakaoApiFeignClient;
+import com.comeon.authservice.feign.kakao.KakaoApiFeignService;
+import com.comeon.authservice.feign.kakao.response.UserUnlinkResponse;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JCircuitBreakerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+class KakaoUnlinkWorkerTest {
+
+    static final Duration INITIAL_BACKOFF = Duration.ofSeconds(1);
+    static final Duration MAX_BACKOFF = Duration.ofSeconds(10);
+    static final int MAX_ATTEMPTS = 3;
+
+    UnlinkJobQueue unlinkJobQueue;
+    StubKakaoApiFeignClient kakaoApiFeignClient;
+    MeterRegistry meterRegistry;
+
+    KakaoUnlinkWorker kakaoUnlinkWorker;
+
+    @BeforeEach
+    void setUp() {
+        unlinkJobQueue = mock(UnlinkJobQueue.class);
+        kakaoApiFeignClient = new StubKakaoApiFeignClient();
+        meterRegistry = new SimpleMeterRegistry();
+
+        kakaoUnlinkWorker = createWorker(100);
+    }
+
+    KakaoUnlinkWorker createWorker(int rateLimitPerSecond) {
+        RateLimiter rateLimiter = RateLimiter.of(
+                "test",
+                RateLimiterConfig.custom()
+                        .limitForPeriod(rateLimitPerSecond)
+                        .limitRefreshPeriod(Duration.ofMinutes(1))
+                        .timeoutDuration(Duration.ZERO)
+                        .build()
+        );
+        return new KakaoUnlinkWorker(
+                unlinkJobQueue,
+                new KakaoApiFeignService(kakaoApiFeignClient, new Resilience4JCircuitBreakerFactory()),
+                rateLimiter,
+                new UnlinkRetryPolicy(10, MAX_ATTEMPTS, INITIAL_BACKOFF, MAX_BACKOFF, Duration.ofMinutes(1)),
+                meterRegistry
+        );
+    }
+
+    void givenJobs(UnlinkJob... jobs) {
+        given(unlinkJobQueue.pollDueJobs(anyInt(), any(Duration.class)))
+                .willReturn(List.of(jobs));
+    }
+
+    double jobCount(String result) {
+        return meterRegistry.get("kakao.unlink.jobs").tag("result", result).counter().count();
+    }
+
+    @Nested
+    @DisplayName("연결 끊기 작업 처리")
+    class drain {
+
+        @Test
+        @DisplayName("카카오 API 호출에 성공하면 작업을 큐에서 제거한다.")
+        void success() {
+            // given
+            Long oauthId = 10000L;
+            givenJobs(new UnlinkJob(oauthId, 0));
+
+            // when
+            kakaoUnlinkWorker.drain();
+
+            // then
+            assertThat(kakaoApiFeignClient.calledTargetIds).containsExactly(oauthId);
+            then(unlinkJobQueue).should().complete(oauthId);
+            assertThat(jobCount("success")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("카카오 API 호출에 실패하면 실패 횟수에 따라 지수적으로 늘어나는 대기 시간 후 재시도하도록 등록한다.")
+        void retryWithBackoff() {
+            // given
+            Long oauthId = 10000L;
+            givenJobs(new UnlinkJob(oauthId, 1));
+            kakaoApiFeignClient.failWith(new CustomException(ErrorCode.KAKAO_API_ERROR));
+
+            // when
+            kakaoUnlinkWorker.drain();
+
+            // then
+            then(unlinkJobQueue).should().retry(oauthId, 2, INITIAL_BACKOFF.multipliedBy(2));
+            then(unlinkJobQueue).should(never()).complete(anyLong());
+            assertThat(jobCount("retry")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("최대 시도 횟수만큼 실패하면 작업을 dead letter 로 옮긴다.")
+        void exceedMaxAttempts() {
+            // given
+            Long oauthId = 10000L;
+            givenJobs(new UnlinkJob(oauthId, MAX_ATTEMPTS - 1));
+            kakaoApiFeignClient.failWith(new CustomException(ErrorCode.KAKAO_API_ERROR));
+
+            // when
+            kakaoUnlinkWorker.drain();
+
+            // then
+            then(unlinkJobQueue).should().deadLetter(oauthId);
+            then(unlinkJobQueue).should(never()).retry(anyLong(), anyInt(), any());
+            assertThat(jobCount("dead")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("앱에 등록되지 않은 oauthId 이면 재시도 하지 않고 dead letter 로 옮긴다.")
+        void invalidOauthId() {
+            // given
+            Long oauthId = 10000L;
+            givenJobs(new UnlinkJob(oauthId, 0));
+            kakaoApiFeignClient.failWith(new CustomException(ErrorCode.INVALID_OAUTH_ID));
+
+            // when
+            kakaoUnlinkWorker.drain();
+
+            // then
+            then(unlinkJobQueue).should().deadLetter(oauthId);
+            then(unlinkJobQueue).should(never()).retry(anyLong(), anyInt(), any());
+        }
+
+        @Test
+        @DisplayName("처리율 제한을 초과한 작업은 호출하지 않고 큐로 되돌린다.")
+        void rateLimited() {
+            // given
+            kakaoUnlinkWorker = createWorker(1);
+            givenJobs(new UnlinkJob(1L, 0), new UnlinkJob(2L, 0), new UnlinkJob(3L, 0));
+
+            // when
+            kakaoUnlinkWorker.drain();
+
+            // then
+            assertThat(kakaoApiFeignClient.calledTargetIds).containsExactly(1L);
+            then(unlinkJobQueue).should().complete(1L);
+            then(unlinkJobQueue).should().release(2L);
+            then(unlinkJobQueue).should().release(3L);
+        }
+    }
+
+    @Nested
+    @DisplayName("재시도 대기 시간")
+    class backoff {
+
+        @Test
+        @DisplayName("대기 시간은 최대 대기 시간을 넘지 않는다.")
+        void maxBackoff() {
+            UnlinkRetryPolicy retryPolicy = new UnlinkRetryPolicy(10, 100, INITIAL_BACKOFF, MAX_BACKOFF, Duration.ofMinutes(1));
+
+            assertThat(retryPolicy.backoff(1)).isEqualTo(INITIAL_BACKOFF);
+            assertThat(retryPolicy.backoff(3)).isEqualTo(INITIAL_BACKOFF.multipliedBy(4));
+            assertThat(retryPolicy.backoff(10)).isEqualTo(MAX_BACKOFF);
+            assertThat(retryPolicy.backoff(80)).isEqualTo(MAX_BACKOFF);
+        }
+    }
+
+    // 카카오 API 대신 사용하는 로컬 stub
+    static class StubKakaoApiFeignClient implements KakaoApiFeignClient {
+
+        private final List<Long> calledTargetIds = new ArrayList<>();
+        private RuntimeException failure;
+
+        void failWith(RuntimeException failure) {
+            this.failure = failure;
+        }
+
+        @Override
+        public UserUnlinkResponse userUnlink(String kakaoAdminKey, Long targetId, String targetIdType) {
+            calledTargetIds.add(targetId);
+            if (failure != null) {
+                throw failure;
+            }
+            return new UserUnlinkResponse(targetId);
+        }
+    }
+}
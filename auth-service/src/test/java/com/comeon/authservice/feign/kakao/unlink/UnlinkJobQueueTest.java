@@ -0,0 +1,110 @@
+package com.comeon.authservice.feign.kakao.unlink;
+
+import com.comeon.authservice.config.RedisConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 작업 조회 Lua 스크립트를 실제 Redis 에서 실행한다.
+@Testcontainers
+class UnlinkJobQueueTest {
+
+    @Container
+    static final GenericContainer<?> REDIS_CONTAINER = new GenericContainer<>("redis:7.0.4")
+            .withExposedPorts(6379);
+
+    LettuceConnectionFactory connectionFactory;
+    RedisTemplate<String, String> redisTemplate;
+
+    UnlinkJobQueue unlinkJobQueue;
+
+    @BeforeEach
+    void setUp() {
+        RedisConfig redisConfig = new RedisConfig();
+        ReflectionTestUtils.setField(redisConfig, "host", REDIS_CONTAINER.getHost());
+        ReflectionTestUtils.setField(redisConfig, "port", REDIS_CONTAINER.getMappedPort(6379));
+
+        redisTemplate = redisConfig.redisTemplate();
+        connectionFactory = (LettuceConnectionFactory) redisTemplate.getConnectionFactory();
+        connectionFactory.afterPropertiesSet();
+        redisTemplate.afterPropertiesSet();
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+
+        unlinkJobQueue = new UnlinkJobQueue(redisTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("실행 시각이 지난 작업을 실패 횟수와 함께 조회하고, lease 동안은 다시 조회되지 않는다.")
+    void pollDueJobs() {
+        unlinkJobQueue.enqueue(1L);
+        unlinkJobQueue.enqueue(2L);
+
+        List<UnlinkJob> polled = unlinkJobQueue.pollDueJobs(10, Duration.ofMinutes(1));
+
+        assertThat(polled).extracting(UnlinkJob::getOauthId).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(polled).extracting(UnlinkJob::getFailedAttempts).containsOnly(0);
+        assertThat(unlinkJobQueue.pollDueJobs(10, Duration.ofMinutes(1))).isEmpty();
+        assertThat(unlinkJobQueue.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다시 시도할 작업은 실패 횟수가 함께 조회된다.")
+    void pollRetriedJob() {
+        unlinkJobQueue.enqueue(1L);
+        unlinkJobQueue.pollDueJobs(10, Duration.ofMinutes(1));
+
+        unlinkJobQueue.retry(1L, 3, Duration.ZERO);
+        List<UnlinkJob> polled = unlinkJobQueue.pollDueJobs(10, Duration.ofMinutes(1));
+
+        assertThat(polled).hasSize(1);
+        assertThat(polled.get(0).getOauthId()).isEqualTo(1L);
+        assertThat(polled.get(0).getFailedAttempts()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("실행 시각이 지나지 않은 작업은 조회하지 않는다.")
+    void notDue() {
+        unlinkJobQueue.enqueue(1L);
+        unlinkJobQueue.pollDueJobs(10, Duration.ofMinutes(1));
+        unlinkJobQueue.retry(1L, 1, Duration.ofMinutes(10));
+
+        assertThat(unlinkJobQueue.pollDueJobs(10, Duration.ofMinutes(1))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("완료한 작업은 큐와 실패 횟수에서 제거되고, 처리할 수 없는 작업은 dead letter 로 옮긴다.")
+    void completeAndDeadLetter() {
+        unlinkJobQueue.enqueue(1L);
+        unlinkJobQueue.enqueue(2L);
+        unlinkJobQueue.retry(1L, 2, Duration.ZERO);
+
+        unlinkJobQueue.complete(1L);
+        unlinkJobQueue.deadLetter(2L);
+
+        assertThat(unlinkJobQueue.contains(1L)).isFalse();
+        assertThat(unlinkJobQueue.contains(2L)).isFalse();
+        assertThat(unlinkJobQueue.isDeadLetter(2L)).isTrue();
+        assertThat(redisTemplate.opsForHash().hasKey("UNLINK_ATTEMPTS", "1")).isFalse();
+    }
+}
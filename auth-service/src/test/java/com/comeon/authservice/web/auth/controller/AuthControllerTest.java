@@ -7,6 +7,7 @@ import com.comeon.authservice.common.utils.CookieUtil;
 import com.comeon.authservice.config.security.handler.UserLogoutRequest;
 import com.comeon.authservice.feign.kakao.KakaoApiFeignClient;
 import com.comeon.authservice.feign.kakao.response.UserUnlinkResponse;
+import com.comeon.authservice.feign.kakao.unlink.UnlinkJobQueue;
 import com.comeon.authservice.web.AbstractControllerTest;
 import com.comeon.authservice.web.docs.utils.RestDocsUtil;
 import org.apache.http.HttpHeaders;
@@ -32,6 +33,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
@@ -60,6 +62,9 @@ class AuthControllerTest extends AbstractControllerTest {
     @Autowired
     RedisTemplate<String, String> redisTemplate;
 
+    @Autowired
+    UnlinkJobQueue unlinkJobQueue;
+
     @MockBean
     KakaoApiFeignClient kakaoApiFeignClient;
 
@@ -403,6 +408,9 @@ class AuthControllerTest extends AbstractControllerTest {
                         .isNotPresent();
                 assertThat(redisRepository.findBlackList(requestAccessToken))
                         .isPresent();
+                // 카카오 연결 끊기는 요청 처리 중에 호출하지 않고 큐에 등록된다.
+                assertThat(unlinkJobQueue.contains(oauthId)).isTrue();
+                then(kakaoApiFeignClient).shouldHaveNoInteractions();
 
                 // docs
                 perform.andDo(
@@ -1541,4 +1549,166 @@ class AuthControllerTest extends AbstractControllerTest {
             );
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("서비스 간 카카오 연결 끊기")
+    class internalUnlink {
+
+        @Test
+        @DisplayName("서비스 인증 키가 일치하면 카카오 연결 끊기를 큐에 등록하고 리프레시 토큰을 삭제한다.")
+        void success() throws Exception {
+            // given
+            Long userId = 1L;
+            Long oauthId = 10000L;
+
+            JwtTokenInfo refreshTokenInfo = generateRefreshToken(Instant.now(), Instant.now().plusSeconds(600));
+            redisRepository.addRefreshToken(
+                    String.valueOf(userId),
+                    refreshTokenInfo.getValue(),
+                    Duration.ofSeconds(600)
+            );
+
+            // when
+            ResultActions perform = mockMvc.perform(
+                    post("/internal/auth/unlink")
+                            .header(InternalAuthController.SERVICE_KEY_HEADER, "test-service-key")
+                            .param("userId", String.valueOf(userId))
+                            .param("userOauthId", String.valueOf(oauthId))
+            );
+
+            // then
+            perform.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.message").exists());
+
+            assertThat(redisRepository.findRefreshTokenByUserId(String.valueOf(userId)))
+                    .isNotPresent();
+            assertThat(unlinkJobQueue.contains(oauthId)).isTrue();
+            then(kakaoApiFeignClient).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("서비스 인증 키가 일치하지 않으면 http status 401 반환하고 아무것도 처리하지 않는다.")
+        void invalidServiceKey() throws Exception {
+            // given
+            Long userId = 1L;
+            Long oauthId = 10000L;
+
+            JwtTokenInfo refreshTokenInfo = generateRefreshToken(Instant.now(), Instant.now().plusSeconds(600));
+            redisRepository.addRefreshToken(
+                    String.valueOf(userId),
+                    refreshTokenInfo.getValue(),
+                    Duration.ofSeconds(600)
+            );
+
+            // when
+            ResultActions perform = mockMvc.perform(
+                    post("/internal/auth/unlink")
+                            .header(InternalAuthController.SERVICE_KEY_HEADER, "invalid-service-key")
+                            .param("userId", String.valueOf(userId))
+                            .param("userOauthId", String.valueOf(oauthId))
+            );
+
+            // then
+            perform.andExpect(status().isUnauthorized())
+                    .andExpect(jsonPath("$.data.errorCode").value(ErrorCode.INVALID_SERVICE_KEY.getCode()));
+
+            assertThat(redisRepository.findRefreshTokenByUserId(String.valueOf(userId)))
+                    .isPresent();
+            assertThat(unlinkJobQueue.contains(oauthId)).isFalse();
+        }
+
+        @Test
+        @DisplayName("서비스 인증 키 헤더가 없으면 http status 401 반환한다.")
+        void noServiceKey() throws Exception {
+            // when
+            ResultActions perform = mockMvc.perform(
+                    post("/internal/auth/unlink")
+                            .param("userId", "1")
+                            .param("userOauthId", "10000")
+            );
+
+            // then
+            perform.andExpect(status().isUnauthorized())
+                    .andExpect(jsonPath("$.data.errorCode").value(ErrorCode.INVALID_SERVICE_KEY.getCode()));
+            assertThat(unlinkJobQueue.contains(10000L)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("서비스 간 로그아웃")
+    class internalLogout {
+
+        @Test
+        @DisplayName("서비스 인증 키가 일치하면 엑세스 토큰을 블랙리스트에 등록하고 리프레시 토큰을 삭제한다. 이후 그 토큰으로 요청하면 http status 401 반환한다.")
+        void success() throws Exception {
+            // given
+            Long userId = 1L;
+            JwtTokenInfo accessToken = generateAccessToken(userId, "ROLE_USER", Instant.now(), Instant.now().plusSeconds(300));
+            String accessTokenValue = accessToken.getValue();
+
+            JwtTokenInfo refreshTokenInfo = generateRefreshToken(Instant.now(), Instant.now().plusSeconds(600));
+            redisRepository.addRefreshToken(
+                    String.valueOf(userId),
+                    refreshTokenInfo.getValue(),
+                    Duration.ofSeconds(600)
+            );
+
+            // when
+            ResultActions perform = mockMvc.perform(
+                    post("/internal/auth/logout")
+                            .header(InternalAuthController.SERVICE_KEY_HEADER, "test-service-key")
+                            .header(HttpHeaders.AUTHORIZATION, TOKEN_TYPE_BEARER + accessTokenValue)
+            );
+
+            // then
+            perform.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.message").exists());
+
+            assertThat(redisRepository.findBlackList(accessTokenValue)).isPresent();
+            assertThat(redisRepository.findRefreshTokenByUserId(String.valueOf(userId))).isNotPresent();
+
+            // 탈퇴한 유저의 토큰으로 요청하면 거부된다.
+            mockMvc.perform(
+                    get("/auth/validate")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .header(HttpHeaders.AUTHORIZATION, TOKEN_TYPE_BEARER + accessTokenValue)
+            )
+                    .andExpect(status().isUnauthorized())
+                    .andExpect(jsonPath("$.data.errorCode").value(ErrorCode.INVALID_ACCESS_TOKEN.getCode()));
+        }
+
+        @Test
+        @DisplayName("서비스 인증 키가 일치하지 않으면 http status 401 반환하고 토큰을 블랙리스트에 등록하지 않는다.")
+        void invalidServiceKey() throws Exception {
+            // given
+            JwtTokenInfo accessToken = generateAccessToken(1L, "ROLE_USER", Instant.now(), Instant.now().plusSeconds(300));
+
+            // when
+            ResultActions perform = mockMvc.perform(
+                    post("/internal/auth/logout")
+                            .header(InternalAuthController.SERVICE_KEY_HEADER, "invalid-service-key")
+                            .header(HttpHeaders.AUTHORIZATION, TOKEN_TYPE_BEARER + accessToken.getValue())
+            );
+
+            // then
+            perform.andExpect(status().isUnauthorized())
+                    .andExpect(jsonPath("$.data.errorCode").value(ErrorCode.INVALID_SERVICE_KEY.getCode()));
+            assertThat(redisRepository.findBlackList(accessToken.getValue())).isNotPresent();
+        }
+
+        @Test
+        @DisplayName("엑세스 토큰 검증에 실패하면 http status 401 반환한다. ErrorCode.INVALID_ACCESS_TOKEN")
+        void invalidAccessToken() throws Exception {
+            // when
+            ResultActions perform = mockMvc.perform(
+                    post("/internal/auth/logout")
+                            .header(InternalAuthController.SERVICE_KEY_HEADER, "test-service-key")
+                            .header(HttpHeaders.AUTHORIZATION, TOKEN_TYPE_BEARER + "invalid.access.token")
+            );
+
+            // then
+            perform.andExpect(status().isUnauthorized())
+                    .andExpect(jsonPath("$.data.errorCode").value(ErrorCode.INVALID_ACCESS_TOKEN.getCode()));
+        }
+    }
+}
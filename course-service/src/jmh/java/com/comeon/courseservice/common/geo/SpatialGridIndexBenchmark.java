@@ -0,0 +1,52 @@
+package com.comeon.courseservice.common.geo;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/*
+    주변 코스 검색(k 최근접) 성능 측정.
+    국내 좌표 범위에 코스를 무작위로 두고, 무작위 좌표에서 100km 이내의 가까운 코스 11개(한 페이지 + 1)를 찾는다.
+    ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SpatialGridIndexBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int courseCount;
+
+    @Param({"0.05"})
+    private double cellDegrees;
+
+    private SpatialGridIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        index = new SpatialGridIndex(cellDegrees);
+        for (long id = 1; id <= courseCount; id++) {
+            index.put(id, 33 + random.nextDouble() * 5, 125 + random.nextDouble() * 5);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object nearest() {
+        return search();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object nearestConcurrent() {
+        return search();
+    }
+
+    private Object search() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return index.nearest(33 + random.nextDouble() * 5, 125 + random.nextDouble() * 5, 11, 100);
+    }
+}
@@ -0,0 +1,99 @@
+package com.comeon.courseservice.common.search;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/*
+    코스 제목 검색 성능 측정.
+    자주 쓰이는 음절 200개로 만든 단어 2000개 중 2~4개를 이어 제목을 만들고,
+    무작위 단어 하나 또는 둘로 최대 1001개(제목 검색 인덱스의 maxCandidates + 1)를 찾는다.
+    likeScan 은 DB 의 LIKE 검색처럼 모든 제목의 공백을 지우고 포함 여부를 확인하는 비교 기준이다.
+    ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NgramIndexBenchmark {
+
+    private static final int LIMIT = 1001;
+
+    @Param({"100000", "1000000"})
+    private int courseCount;
+
+    private NgramIndex index;
+    private List<String> titles;
+    private String[] words;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        char[] syllables = new char[200];
+        for (int i = 0; i < syllables.length; i++) {
+            syllables[i] = (char) (0xAC00 + random.nextInt(0xD7A3 - 0xAC00));
+        }
+        words = new String[2000];
+        for (int i = 0; i < words.length; i++) {
+            StringBuilder word = new StringBuilder();
+            int length = 2 + random.nextInt(2);
+            for (int j = 0; j < length; j++) {
+                word.append(syllables[random.nextInt(syllables.length)]);
+            }
+            words[i] = word.toString();
+        }
+
+        index = new NgramIndex();
+        titles = new ArrayList<>(courseCount);
+        for (long id = 1; id <= courseCount; id++) {
+            StringBuilder title = new StringBuilder();
+            int wordCount = 2 + random.nextInt(3);
+            for (int j = 0; j < wordCount; j++) {
+                if (j > 0) {
+                    title.append(' ');
+                }
+                title.append(words[random.nextInt(words.length)]);
+            }
+            index.put(id, title.toString());
+            titles.add(title.toString());
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object searchOneWord() {
+        return index.search(randomWord(), LIMIT);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object searchTwoWords() {
+        return index.search(randomWord() + " " + randomWord(), LIMIT);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object searchOneWordConcurrent() {
+        return index.search(randomWord(), LIMIT);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object likeScan() {
+        String word = randomWord();
+        int count = 0;
+        for (String title : titles) {
+            if (title.replace(" ", "").toLowerCase().contains(word)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private String randomWord() {
+        return words[ThreadLocalRandom.current().nextInt(words.length)];
+    }
+}
@@ -0,0 +1,70 @@
+package com.comeon.courseservice.web.course.query.recommend;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/*
+    위치 기반 코스 추천 성능 측정.
+    국내 좌표 범위에 코스를 무작위로 두고 좋아요와 수정 시각도 무작위로 정한다.
+    무작위 좌표에서 추천 코스 10개를 찾는다. 전체 구성 시간은 CourseRecommendRebuildBenchmark
+    ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CourseRecommendIndexBenchmark {
+
+    private static final RecommendScorer SCORER =
+            new RecommendScorer(0.5, 0.3, 0.2, 5, Duration.ofDays(7), 10, Duration.ofDays(30));
+
+    @Param({"100000", "1000000"})
+    private int courseCount;
+
+    private CourseRecommendIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        index = createIndex(courseCount);
+        index.rankOccupiedTiles(ForkJoinPool.commonPool(), System.currentTimeMillis());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object recommend() {
+        return search();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object recommendConcurrent() {
+        return search();
+    }
+
+    private Object search() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return index.recommend(33 + random.nextDouble() * 5, 125 + random.nextDouble() * 5, 10, System.currentTimeMillis());
+    }
+
+    static CourseRecommendIndex createIndex(int courseCount) {
+        long now = System.currentTimeMillis();
+        Random random = new Random(42);
+        CourseRecommendIndex created = new CourseRecommendIndex(SCORER, 0.05, 20, 1000, 100, 50000);
+        for (long id = 1; id <= courseCount; id++) {
+            created.load(new RecommendCandidate(
+                    id,
+                    33 + random.nextDouble() * 5,
+                    125 + random.nextDouble() * 5,
+                    now - (long) (random.nextDouble() * Duration.ofDays(180).toMillis()),
+                    random.nextDouble() * 50,
+                    random.nextInt(100),
+                    now
+            ));
+        }
+        return created;
+    }
+}
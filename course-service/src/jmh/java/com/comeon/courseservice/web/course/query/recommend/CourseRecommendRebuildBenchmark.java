@@ -0,0 +1,47 @@
+package com.comeon.courseservice.web.course.query.recommend;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/*
+    추천 인덱스 전체 구성 시간 측정.
+    코스가 있는 모든 격자의 후보 목록을 fork/join 으로 계산한다. 병렬도 1 과 CPU 수(0)를 비교한다.
+    ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CourseRecommendRebuildBenchmark {
+
+    @Param({"100000"})
+    private int courseCount;
+
+    @Param({"1", "0"})
+    private int parallelism;
+
+    private ForkJoinPool pool;
+    private CourseRecommendIndex index;
+
+    @Setup(Level.Trial)
+    public void setUpPool() {
+        pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpIndex() {
+        index = CourseRecommendIndexBenchmark.createIndex(courseCount);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Benchmark
+    public Object rankOccupiedTiles() {
+        index.rankOccupiedTiles(pool, System.currentTimeMillis());
+        return index;
+    }
+}
@@ -0,0 +1,58 @@
+package com.comeon.courseservice.common.collection;
+
+import java.util.Arrays;
+
+/*
+    long 키의 횟수를 depth * width 개의 int 카운터로 추정한다. 키 수와 관계없이 메모리가 일정하다.
+    키마다 행별로 다른 해시의 칸에 더하고, 추정값은 행들의 최솟값이다.
+    모든 키의 실제 횟수가 음수가 아니면 추정값은 실제보다 작지 않다.
+    차감(음수 delta)도 더할 수 있지만, 어떤 키의 실제 횟수가 음수가 되도록 빼면 그 키와 칸을 함께 쓰는 키들의 추정값은
+    실제보다 작아질 수 있다.
+ */
+public class CountMinSketch {
+
+    private final int depth;
+    private final int mask;
+    private final int[][] counters;
+
+    // width 는 2의 거듭제곱으로 올린다.
+    public CountMinSketch(int depth, int width) {
+        if (depth <= 0 || width <= 0) {
+            throw new IllegalArgumentException("depth, width 는 0 보다 커야 합니다. depth : " + depth + ", width : " + width);
+        }
+        int size = Integer.highestOneBit(width);
+        if (size < width) {
+            size <<= 1;
+        }
+        this.depth = depth;
+        this.mask = size - 1;
+        this.counters = new int[depth][size];
+    }
+
+    public void add(long key, int delta) {
+        for (int row = 0; row < depth; row++) {
+            counters[row][index(key, row)] += delta;
+        }
+    }
+
+    public int estimate(long key) {
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters[row][index(key, row)]);
+        }
+        return estimate;
+    }
+
+    public void clear() {
+        for (int[] row : counters) {
+            Arrays.fill(row, 0);
+        }
+    }
+
+    private int index(long key, int row) {
+        long h = (key + row * 0x632BE59BD9B4E019L) * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 29;
+        h *= 0xBF58476D1CE4E5B9L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,84 @@
+package com.comeon.courseservice.common.collection;
+
+// long -> long open addressing 해시맵. 식별값마다 객체를 만들지 않기 위해 사용한다.
+public class LongLongMap {
+
+    public static final long NO_VALUE = Long.MIN_VALUE;
+
+    private long[] keys = new long[16];
+    private long[] values = new long[16];
+    private boolean[] used = new boolean[16];
+    private int size;
+
+    public int size() {
+        return size;
+    }
+
+    public long get(long key) {
+        int slot = find(key);
+        return used[slot] ? values[slot] : NO_VALUE;
+    }
+
+    public void put(long key, long value) {
+        if ((size + 1) * 4 > keys.length * 3) {
+            resize(keys.length * 2);
+        }
+        int slot = find(key);
+        if (!used[slot]) {
+            used[slot] = true;
+            keys[slot] = key;
+            size++;
+        }
+        values[slot] = value;
+    }
+
+    public long remove(long key) {
+        int slot = find(key);
+        if (!used[slot]) {
+            return NO_VALUE;
+        }
+        long value = values[slot];
+        used[slot] = false;
+        size--;
+
+        // 지운 자리 뒤에 이어진 원소들을 다시 넣어 탐색이 끊기지 않게 한다.
+        int mask = keys.length - 1;
+        for (int next = (slot + 1) & mask; used[next]; next = (next + 1) & mask) {
+            long movedKey = keys[next];
+            long movedValue = values[next];
+            used[next] = false;
+            size--;
+            put(movedKey, movedValue);
+        }
+        return value;
+    }
+
+    private int find(long key) {
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (used[slot] && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        boolean[] oldUsed = used;
+        keys = new long[capacity];
+        values = new long[capacity];
+        used = new boolean[capacity];
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldUsed[i]) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
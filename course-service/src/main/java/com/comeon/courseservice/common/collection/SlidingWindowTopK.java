@@ -0,0 +1,199 @@
+package com.comeon.courseservice.common.collection;
+
+import java.util.Arrays;
+
+/*
+    최근 windowBuckets 개 구간(예: 하루 단위)의 횟수가 가장 많은 키들을 유지한다.
+    - 구간마다 CountMinSketch 에 횟수를 더하고, 키의 창 횟수는 창 안 구간들의 추정값 합이다.
+      횟수를 더한 구간과 다른 구간에 차감(음수 delta)하면(예: 지난 날짜에 등록된 좋아요를 오늘 취소) 그 구간의 실제 횟수가 음수가 되므로,
+      창 횟수는 실제보다 클 수도, 작을 수도 있는 추정값이다.
+      상위권이 아닌 대부분의 키는 sketch 에만 남으므로, 키 수와 관계없이 메모리가 일정하다.
+    - 후보는 최대 capacity 개를 창 횟수와 함께 유지한다. 후보가 가득 차면 가장 적은 후보보다 많아진 키가 그 자리를 차지한다.
+    - 구간이 바뀌면 창에서 빠진 구간의 sketch 를 비우고 후보들의 창 횟수만 다시 계산한다. 모든 키를 다시 세지 않는다.
+    - 변경할 때마다 후보를 횟수 순으로 정렬한 Ranking 을 만들어 두므로, 읽기는 잠금 없이 상위 K 개만 읽는다.
+ */
+public class SlidingWindowTopK {
+
+    private final int windowBuckets;
+    private final int capacity;
+    private final CountMinSketch[] sketches;
+    private long currentBucket;
+
+    private final long[] candidateKeys;
+    private final long[] candidateCounts;
+    private int candidateSize;
+
+    private volatile Ranking ranking = Ranking.EMPTY;
+
+    public SlidingWindowTopK(int windowBuckets, int capacity, int sketchDepth, int sketchWidth, long currentBucket) {
+        if (windowBuckets <= 0 || capacity <= 0) {
+            throw new IllegalArgumentException("windowBuckets, capacity 는 0 보다 커야 합니다. windowBuckets : "
+                    + windowBuckets + ", capacity : " + capacity);
+        }
+        this.windowBuckets = windowBuckets;
+        this.capacity = capacity;
+        this.sketches = new CountMinSketch[windowBuckets];
+        for (int i = 0; i < windowBuckets; i++) {
+            sketches[i] = new CountMinSketch(sketchDepth, sketchWidth);
+        }
+        this.currentBucket = currentBucket;
+        this.candidateKeys = new long[capacity];
+        this.candidateCounts = new long[capacity];
+    }
+
+    public Ranking ranking() {
+        return ranking;
+    }
+
+    // bucket 구간에 delta 를 더한다. 창보다 오래된 구간이면 무시한다.
+    public synchronized void add(long key, int delta, long bucket) {
+        advance(bucket);
+        if (bucket <= currentBucket - windowBuckets) {
+            return;
+        }
+        sketches[slot(bucket)].add(key, delta);
+        updateCandidate(key, windowCount(key));
+        publish();
+    }
+
+    public synchronized void remove(long key) {
+        int index = indexOf(key);
+        if (index >= 0) {
+            removeCandidate(index);
+            publish();
+        }
+    }
+
+    public synchronized void advanceTo(long bucket) {
+        if (advance(bucket)) {
+            publish();
+        }
+    }
+
+    // 창에서 빠진 구간을 비우고 후보들의 창 횟수를 다시 계산한다.
+    private boolean advance(long bucket) {
+        if (bucket <= currentBucket) {
+            return false;
+        }
+        long expiredBuckets = Math.min(bucket - currentBucket, windowBuckets);
+        for (long expired = bucket - expiredBuckets + 1; expired <= bucket; expired++) {
+            sketches[slot(expired)].clear();
+        }
+        currentBucket = bucket;
+
+        for (int index = candidateSize - 1; index >= 0; index--) {
+            long count = windowCount(candidateKeys[index]);
+            if (count > 0) {
+                candidateCounts[index] = count;
+            } else {
+                removeCandidate(index);
+            }
+        }
+        return true;
+    }
+
+    // 취소가 등록과 다른 구간에 더해져 구간의 추정값이 음수일 수 있으므로, 합이 0 보다 작으면 0 으로 본다.
+    private long windowCount(long key) {
+        long count = 0;
+        for (CountMinSketch sketch : sketches) {
+            count += sketch.estimate(key);
+        }
+        return Math.max(count, 0);
+    }
+
+    private void updateCandidate(long key, long count) {
+        int index = indexOf(key);
+        if (index >= 0) {
+            if (count > 0) {
+                candidateCounts[index] = count;
+            } else {
+                removeCandidate(index);
+            }
+            return;
+        }
+        if (count <= 0) {
+            return;
+        }
+        if (candidateSize < capacity) {
+            candidateKeys[candidateSize] = key;
+            candidateCounts[candidateSize] = count;
+            candidateSize++;
+            return;
+        }
+
+        int minIndex = 0;
+        for (int i = 1; i < candidateSize; i++) {
+            if (candidateCounts[i] < candidateCounts[minIndex]) {
+                minIndex = i;
+            }
+        }
+        if (count > candidateCounts[minIndex]) {
+            candidateKeys[minIndex] = key;
+            candidateCounts[minIndex] = count;
+        }
+    }
+
+    private void removeCandidate(int index) {
+        candidateSize--;
+        candidateKeys[index] = candidateKeys[candidateSize];
+        candidateCounts[index] = candidateCounts[candidateSize];
+    }
+
+    private int indexOf(long key) {
+        for (int i = 0; i < candidateSize; i++) {
+            if (candidateKeys[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int slot(long bucket) {
+        return (int) Math.floorMod(bucket, (long) windowBuckets);
+    }
+
+    // 횟수 내림차순, 횟수가 같으면 키 오름차순
+    private void publish() {
+        Integer[] order = new Integer[candidateSize];
+        for (int i = 0; i < candidateSize; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> candidateCounts[a] != candidateCounts[b]
+                ? Long.compare(candidateCounts[b], candidateCounts[a])
+                : Long.compare(candidateKeys[a], candidateKeys[b]));
+
+        long[] keys = new long[candidateSize];
+        long[] counts = new long[candidateSize];
+        for (int i = 0; i < candidateSize; i++) {
+            keys[i] = candidateKeys[order[i]];
+            counts[i] = candidateCounts[order[i]];
+        }
+        ranking = new Ranking(keys, counts);
+    }
+
+    // 변경할 수 없는 상위 목록
+    public static final class Ranking {
+
+        static final Ranking EMPTY = new Ranking(new long[0], new long[0]);
+
+        private final long[] keys;
+        private final long[] counts;
+
+        private Ranking(long[] keys, long[] counts) {
+            this.keys = keys;
+            this.counts = counts;
+        }
+
+        public int size() {
+            return keys.length;
+        }
+
+        public long keyAt(int index) {
+            return keys[index];
+        }
+
+        public long countAt(int index) {
+            return counts[index];
+        }
+    }
+}
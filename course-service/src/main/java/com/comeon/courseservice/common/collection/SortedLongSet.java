@@ -0,0 +1,67 @@
+package com.comeon.courseservice.common.collection;
+
+import java.util.Arrays;
+
+/*
+    정렬된 long 배열로 저장하는 변경 불가능한 집합. 원소마다 8 byte 만 사용한다.
+    추가, 삭제는 새 배열을 만들어 반환하므로 원소가 적고 조회가 많은 경우에 사용한다.
+ */
+public class SortedLongSet {
+
+    private static final SortedLongSet EMPTY = new SortedLongSet(new long[0]);
+
+    private final long[] values;
+
+    private SortedLongSet(long[] values) {
+        this.values = values;
+    }
+
+    public static SortedLongSet empty() {
+        return EMPTY;
+    }
+
+    public static SortedLongSet of(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+
+        int size = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (size == 0 || sorted[size - 1] != sorted[i]) {
+                sorted[size++] = sorted[i];
+            }
+        }
+        return new SortedLongSet(Arrays.copyOf(sorted, size));
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public boolean contains(long value) {
+        return Arrays.binarySearch(values, value) >= 0;
+    }
+
+    public SortedLongSet with(long value) {
+        int index = Arrays.binarySearch(values, value);
+        if (index >= 0) {
+            return this;
+        }
+        int insertAt = -index - 1;
+        long[] added = new long[values.length + 1];
+        System.arraycopy(values, 0, added, 0, insertAt);
+        added[insertAt] = value;
+        System.arraycopy(values, insertAt, added, insertAt + 1, values.length - insertAt);
+        return new SortedLongSet(added);
+    }
+
+    public SortedLongSet without(long value) {
+        int index = Arrays.binarySearch(values, value);
+        if (index < 0) {
+            return this;
+        }
+        long[] removed = new long[values.length - 1];
+        System.arraycopy(values, 0, removed, 0, index);
+        System.arraycopy(values, index + 1, removed, index, values.length - index - 1);
+        return new SortedLongSet(removed);
+    }
+}
@@ -0,0 +1,81 @@
+package com.comeon.courseservice.common.geo;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+    위경도 좌표를 1도 단위 격자 셀로 나눈다.
+    셀 번호 = (위도 격자 인덱스) * 360 + (경도 격자 인덱스)
+    반경 검색시 반경을 감싸는 사각형(bounding box)과 겹치는 셀들만 조회하고,
+    남은 코스들에 대해서만 실제 거리를 계산한다.
+ */
+public final class GeoCell {
+
+    public static final double EARTH_RADIUS_KM = 6371;
+
+    private static final int LNG_CELLS = 360;
+    private static final double KM_PER_LAT_DEGREE = Math.PI * EARTH_RADIUS_KM / 180;
+
+    private GeoCell() {
+    }
+
+    public static int of(double lat, double lng) {
+        return latIndex(lat) * LNG_CELLS + lngIndex(lng);
+    }
+
+    private static int latIndex(double lat) {
+        return (int) Math.floor(Math.min(lat, 89.999999) + 90);
+    }
+
+    private static int lngIndex(double lng) {
+        return Math.floorMod((int) Math.floor(lng + 180), LNG_CELLS);
+    }
+
+    // 중심 좌표에서 반경 radiusKm 이내의 모든 좌표를 포함하는 사각형
+    public static BoundingBox boundingBox(double lat, double lng, double radiusKm) {
+        double latDelta = radiusKm / KM_PER_LAT_DEGREE;
+        double minLat = Math.max(lat - latDelta, -90);
+        double maxLat = Math.min(lat + latDelta, 90);
+
+        // 극점을 포함하거나 경도 180도를 넘어가면 경도로 걸러내지 않는다.
+        double maxAbsLat = Math.max(Math.abs(minLat), Math.abs(maxLat));
+        if (maxAbsLat >= 90) {
+            return new BoundingBox(minLat, maxLat, -180, 180);
+        }
+        double lngDelta = latDelta / Math.cos(Math.toRadians(maxAbsLat));
+        if (lng - lngDelta < -180 || lng + lngDelta > 180) {
+            return new BoundingBox(minLat, maxLat, -180, 180);
+        }
+        return new BoundingBox(minLat, maxLat, lng - lngDelta, lng + lngDelta);
+    }
+
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class BoundingBox {
+
+        private final double minLat;
+        private final double maxLat;
+        private final double minLng;
+        private final double maxLng;
+
+        public boolean coversAllLng() {
+            return minLng <= -180 && maxLng >= 180;
+        }
+
+        // 사각형과 겹치는 셀 번호 목록
+        public List<Integer> cells() {
+            List<Integer> cells = new ArrayList<>();
+            int lastLngIndex = maxLng >= 180 ? LNG_CELLS - 1 : lngIndex(maxLng);
+            for (int latIndex = latIndex(minLat); latIndex <= latIndex(maxLat); latIndex++) {
+                for (int lngIndex = lngIndex(minLng); lngIndex <= lastLngIndex; lngIndex++) {
+                    cells.add(latIndex * LNG_CELLS + lngIndex);
+                }
+            }
+            return cells;
+        }
+    }
+}
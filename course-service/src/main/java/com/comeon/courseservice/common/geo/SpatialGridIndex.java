@@ -0,0 +1,392 @@
+package com.comeon.courseservice.common.geo;
+
+import com.comeon.courseservice.common.collection.LongLongMap;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/*
+    위경도 좌표를 cellDegrees 단위의 격자로 나누어 저장하는 메모리 공간 인덱스.
+    - 셀마다 식별값, 위도, 경도를 primitive 배열로 저장한다.
+    - 식별값 -> 셀 번호는 open addressing 해시맵으로 찾는다.
+    - k 최근접 검색은 중심 셀에서 한 칸씩 고리 모양으로 넓혀가며 후보를 모으고,
+      아직 보지 않은 셀들의 최소 거리가 k 번째 후보의 거리보다 멀어지면 멈춘다.
+    읽기는 동시에, 쓰기는 하나씩 수행한다.
+ */
+public class SpatialGridIndex {
+
+    private static final double EARTH_RADIUS_KM = GeoCell.EARTH_RADIUS_KM;
+
+    private final double cellDegrees;
+    private final int latCells;
+    private final int lngCells;
+
+    private final Map<Long, Cell> cells = new HashMap<>();
+    private final LongLongMap cellKeyById = new LongLongMap();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public SpatialGridIndex(double cellDegrees) {
+        if (cellDegrees <= 0 || cellDegrees > 90) {
+            throw new IllegalArgumentException("cellDegrees 는 0 보다 크고 90 이하여야 합니다. cellDegrees : " + cellDegrees);
+        }
+        this.cellDegrees = cellDegrees;
+        this.latCells = (int) Math.ceil(180 / cellDegrees);
+        this.lngCells = (int) Math.ceil(360 / cellDegrees);
+    }
+
+    public double getCellDegrees() {
+        return cellDegrees;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return cellKeyById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 이미 있는 식별값이면 좌표를 바꾼다.
+    public void put(long id, double lat, double lng) {
+        long cellKey = cellKey(latIndex(lat), lngIndex(lng));
+
+        lock.writeLock().lock();
+        try {
+            long previousKey = cellKeyById.get(id);
+            if (previousKey != LongLongMap.NO_VALUE) {
+                Cell previous = cells.get(previousKey);
+                if (previousKey == cellKey) {
+                    previous.update(id, lat, lng);
+                    return;
+                }
+                removeFromCell(previousKey, previous, id);
+            }
+            cells.computeIfAbsent(cellKey, key -> new Cell()).add(id, lat, lng);
+            cellKeyById.put(id, cellKey);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(long id) {
+        lock.writeLock().lock();
+        try {
+            long cellKey = cellKeyById.remove(id);
+            if (cellKey == LongLongMap.NO_VALUE) {
+                return false;
+            }
+            removeFromCell(cellKey, cells.get(cellKey), id);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeFromCell(long cellKey, Cell cell, long id) {
+        cell.remove(id);
+        if (cell.size == 0) {
+            cells.remove(cellKey);
+        }
+    }
+
+    // 저장된 모든 좌표를 순회한다. 순회하는 동안 쓰기는 대기한다.
+    public void forEach(EntryConsumer consumer) {
+        lock.readLock().lock();
+        try {
+            for (Cell cell : cells.values()) {
+                for (int i = 0; i < cell.size; i++) {
+                    consumer.accept(cell.ids[i], cell.lats[i], cell.lngs[i]);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // (lat, lng) 에서 maxDistanceKm 이내의 가까운 순으로 최대 k 개
+    public List<Neighbor> nearest(double lat, double lng, int k, double maxDistanceKm) {
+        if (k <= 0) {
+            return List.of();
+        }
+
+        int centerLat = latIndex(lat);
+        int centerLng = lngIndex(lng);
+        double cosLat = Math.cos(Math.toRadians(lat));
+        BoundedMaxHeap heap = new BoundedMaxHeap(k);
+
+        lock.readLock().lock();
+        try {
+            for (int ring = 0; ; ring++) {
+                scanRing(centerLat, centerLng, ring, lat, lng, cosLat, maxDistanceKm, heap);
+
+                double unvisitedMinDistance = minDistanceOutside(lat, lng, centerLat, centerLng, ring);
+                if (unvisitedMinDistance > maxDistanceKm) {
+                    break;
+                }
+                if (heap.isFull() && unvisitedMinDistance >= heap.maxDistance()) {
+                    break;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return heap.toSortedList();
+    }
+
+    private void scanRing(int centerLat, int centerLng, int ring,
+                          double lat, double lng, double cosLat, double maxDistanceKm,
+                          BoundedMaxHeap heap) {
+        // 경도 방향으로 한 바퀴를 넘으면 같은 셀을 다시 보지 않도록 범위를 제한한다.
+        int westLimit = lngCells / 2;
+        int eastLimit = lngCells - westLimit - 1;
+        int minDLng = -Math.min(ring, westLimit);
+        int maxDLng = Math.min(ring, eastLimit);
+
+        for (int dLat = -ring; dLat <= ring; dLat++) {
+            int latIndex = centerLat + dLat;
+            if (latIndex < 0 || latIndex >= latCells) {
+                continue;
+            }
+            if (Math.abs(dLat) == ring) {
+                for (int dLng = minDLng; dLng <= maxDLng; dLng++) {
+                    scanCell(latIndex, centerLng + dLng, lat, lng, cosLat, maxDistanceKm, heap);
+                }
+            } else {
+                if (ring <= westLimit) {
+                    scanCell(latIndex, centerLng - ring, lat, lng, cosLat, maxDistanceKm, heap);
+                }
+                if (ring <= eastLimit && ring != 0) {
+                    scanCell(latIndex, centerLng + ring, lat, lng, cosLat, maxDistanceKm, heap);
+                }
+            }
+        }
+    }
+
+    private void scanCell(int latIndex, int lngIndex,
+                          double lat, double lng, double cosLat, double maxDistanceKm,
+                          BoundedMaxHeap heap) {
+        Cell cell = cells.get(cellKey(latIndex, Math.floorMod(lngIndex, lngCells)));
+        if (cell == null) {
+            return;
+        }
+        for (int i = 0; i < cell.size; i++) {
+            double distance = distanceKm(lat, lng, cosLat, cell.lats[i], cell.lngs[i], cell.cosLats[i]);
+            if (distance <= maxDistanceKm) {
+                heap.offer(cell.ids[i], distance);
+            }
+        }
+    }
+
+    /*
+        중심 셀에서 ring 칸 이내의 셀들 밖에 있는 좌표까지의 최소 거리.
+        - 위도 범위 밖의 좌표는 위도 차이만큼 떨어져 있다.
+        - 위도 범위 안, 경도 범위 밖의 좌표는 범위 안에서 가장 극에 가까운 위도에서의 경도 차이만큼 떨어져 있다.
+     */
+    private double minDistanceOutside(double lat, double lng, int centerLat, int centerLng, int ring) {
+        double south = (centerLat - ring) * cellDegrees - 90;
+        double north = (centerLat + ring + 1) * cellDegrees - 90;
+
+        double latDistance = Double.POSITIVE_INFINITY;
+        if (south > -90) {
+            latDistance = Math.min(latDistance, Math.toRadians(lat - south) * EARTH_RADIUS_KM);
+        }
+        if (north < 90) {
+            latDistance = Math.min(latDistance, Math.toRadians(north - lat) * EARTH_RADIUS_KM);
+        }
+
+        double lngDistance = Double.POSITIVE_INFINITY;
+        if (2 * ring + 1 < lngCells) {
+            double west = (centerLng - ring) * cellDegrees - 180;
+            double east = (centerLng + ring + 1) * cellDegrees - 180;
+            double lngGap = Math.min(Math.min(lng - west, east - lng), 180);
+            double poleward = Math.min(Math.max(Math.abs(Math.max(south, -90)), Math.abs(Math.min(north, 90))), 90);
+            double sinHalf = Math.cos(Math.toRadians(poleward)) * Math.sin(Math.toRadians(lngGap) / 2);
+            lngDistance = 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, sinHalf));
+        }
+
+        return Math.min(latDistance, lngDistance);
+    }
+
+    public static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        return distanceKm(lat1, lng1, Math.cos(Math.toRadians(lat1)), lat2, lng2, Math.cos(Math.toRadians(lat2)));
+    }
+
+    // haversine
+    private static double distanceKm(double lat1, double lng1, double cosLat1,
+                                     double lat2, double lng2, double cosLat2) {
+        double sinDLat = Math.sin(Math.toRadians(lat2 - lat1) / 2);
+        double sinDLng = Math.sin(Math.toRadians(lng2 - lng1) / 2);
+        double a = sinDLat * sinDLat + cosLat1 * cosLat2 * sinDLng * sinDLng;
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private int latIndex(double lat) {
+        return Math.min((int) Math.floor((lat + 90) / cellDegrees), latCells - 1);
+    }
+
+    private int lngIndex(double lng) {
+        return Math.floorMod((int) Math.floor((lng + 180) / cellDegrees), lngCells);
+    }
+
+    private static long cellKey(int latIndex, int lngIndex) {
+        return ((long) latIndex << 32) | lngIndex;
+    }
+
+    @FunctionalInterface
+    public interface EntryConsumer {
+
+        void accept(long id, double lat, double lng);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Neighbor {
+
+        private final long id;
+        private final double distanceKm;
+    }
+
+    private static class Cell {
+
+        long[] ids = new long[4];
+        double[] lats = new double[4];
+        double[] lngs = new double[4];
+        double[] cosLats = new double[4];
+        int size;
+
+        void add(long id, double lat, double lng) {
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                lats = Arrays.copyOf(lats, capacity);
+                lngs = Arrays.copyOf(lngs, capacity);
+                cosLats = Arrays.copyOf(cosLats, capacity);
+            }
+            set(size++, id, lat, lng);
+        }
+
+        void update(long id, double lat, double lng) {
+            set(indexOf(id), id, lat, lng);
+        }
+
+        // 마지막 원소를 지운 자리로 옮긴다.
+        void remove(long id) {
+            int index = indexOf(id);
+            int last = --size;
+            ids[index] = ids[last];
+            lats[index] = lats[last];
+            lngs[index] = lngs[last];
+            cosLats[index] = cosLats[last];
+        }
+
+        private void set(int index, long id, double lat, double lng) {
+            ids[index] = id;
+            lats[index] = lat;
+            lngs[index] = lng;
+            cosLats[index] = Math.cos(Math.toRadians(lat));
+        }
+
+        private int indexOf(long id) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    return i;
+                }
+            }
+            throw new IllegalStateException("셀에 식별값이 없습니다. id : " + id);
+        }
+    }
+
+    // 거리가 가장 먼 후보를 root 에 두는 크기 k 의 heap
+    private static class BoundedMaxHeap {
+
+        private final long[] ids;
+        private final double[] distances;
+        private int size;
+
+        BoundedMaxHeap(int capacity) {
+            this.ids = new long[capacity];
+            this.distances = new double[capacity];
+        }
+
+        boolean isFull() {
+            return size == ids.length;
+        }
+
+        double maxDistance() {
+            return distances[0];
+        }
+
+        void offer(long id, double distance) {
+            if (!isFull()) {
+                ids[size] = id;
+                distances[size] = distance;
+                siftUp(size++);
+            } else if (distance < distances[0]) {
+                ids[0] = id;
+                distances[0] = distance;
+                siftDown(0);
+            }
+        }
+
+        List<Neighbor> toSortedList() {
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Double.compare(distances[a], distances[b]));
+
+            List<Neighbor> neighbors = new ArrayList<>(size);
+            for (int index : order) {
+                neighbors.add(new Neighbor(ids[index], distances[index]));
+            }
+            return neighbors;
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) / 2;
+                if (distances[parent] >= distances[index]) {
+                    return;
+                }
+                swap(parent, index);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int largest = index;
+                int left = index * 2 + 1;
+                int right = left + 1;
+                if (left < size && distances[left] > distances[largest]) {
+                    largest = left;
+                }
+                if (right < size && distances[right] > distances[largest]) {
+                    largest = right;
+                }
+                if (largest == index) {
+                    return;
+                }
+                swap(largest, index);
+                index = largest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            long id = ids[a];
+            ids[a] = ids[b];
+            ids[b] = id;
+            double distance = distances[a];
+            distances[a] = distances[b];
+            distances[b] = distance;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.comeon.courseservice.common.geo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Optional;
+
+/*
+    SpatialGridIndex 를 파일로 저장하고 다시 읽는다.
+    재시작할 때 DB 전체를 다시 읽지 않도록 memory-mapped 파일을 사용한다.
+
+    [header 32 bytes] magic(int) | version(int) | cellDegrees(double) | savedAt(long, epoch millis) | count(long)
+    [record 24 bytes] id(long) | lat(double) | lng(double)
+ */
+public class SpatialIndexSnapshot {
+
+    private static final int MAGIC = 0x43534958; // "CSIX"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 32;
+    private static final int RECORD_BYTES = 24;
+
+    private SpatialIndexSnapshot() {
+    }
+
+    // 임시 파일에 모두 쓴 다음 교체하여, 쓰는 도중에 종료되어도 이전 스냅샷이 남도록 한다.
+    public static void write(Path path, SpatialGridIndex index, Instant savedAt) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+
+        // 순회하는 동안 개수가 바뀌지 않도록 먼저 복사한다.
+        long[] ids = new long[index.size()];
+        double[] coordinates = new double[ids.length * 2];
+        int[] count = {0};
+        index.forEach((id, lat, lng) -> {
+            if (count[0] < ids.length) {
+                ids[count[0]] = id;
+                coordinates[count[0] * 2] = lat;
+                coordinates[count[0] * 2 + 1] = lng;
+                count[0]++;
+            }
+        });
+
+        try (FileChannel channel = FileChannel.open(tmp,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    HEADER_BYTES + (long) count[0] * RECORD_BYTES);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+            buffer.putInt(MAGIC)
+                    .putInt(VERSION)
+                    .putDouble(index.getCellDegrees())
+                    .putLong(savedAt.toEpochMilli())
+                    .putLong(count[0]);
+            for (int i = 0; i < count[0]; i++) {
+                buffer.putLong(ids[i])
+                        .putDouble(coordinates[i * 2])
+                        .putDouble(coordinates[i * 2 + 1]);
+            }
+            buffer.force();
+        }
+
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // 파일이 없거나, 형식이 다르거나, 셀 크기가 다르면 비어있는 값을 반환한다.
+    public static Optional<Loaded> read(Path path, double cellDegrees) throws IOException {
+        if (!Files.isRegularFile(path) || Files.size(path) < HEADER_BYTES) {
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION
+                    || Double.compare(buffer.getDouble(), cellDegrees) != 0) {
+                return Optional.empty();
+            }
+            Instant savedAt = Instant.ofEpochMilli(buffer.getLong());
+            long count = buffer.getLong();
+            if (count < 0 || HEADER_BYTES + count * RECORD_BYTES != channel.size()) {
+                return Optional.empty();
+            }
+
+            SpatialGridIndex index = new SpatialGridIndex(cellDegrees);
+            for (long i = 0; i < count; i++) {
+                index.put(buffer.getLong(), buffer.getDouble(), buffer.getDouble());
+            }
+            return Optional.of(new Loaded(index, savedAt));
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Loaded {
+
+        private final SpatialGridIndex index;
+        private final Instant savedAt;
+    }
+}
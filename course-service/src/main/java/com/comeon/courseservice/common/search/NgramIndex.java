@@ -0,0 +1,240 @@
+package com.comeon.courseservice.common.search;
+
+import com.comeon.courseservice.common.collection.LongLongMap;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/*
+    문자열을 2글자(bigram) 단위로 역색인하는 메모리 검색 인덱스. 형태소 분석 없이 한글 부분 문자열 검색에 사용한다.
+    - 문자열은 공백을 제거하고 소문자로 바꾼 뒤 저장한다.
+    - 문서마다 증가하는 내부 번호를 붙이고, bigram 마다 내부 번호 목록(posting)을 int 배열로 저장한다.
+      번호가 증가하는 순서로만 추가되므로 posting 은 항상 정렬되어 있다.
+    - 검색어는 가장 짧은 posting 에서 후보를 뽑고, 나머지 bigram 의 posting 에 모두 있는 후보만
+      저장된 문자열에 검색어가 실제로 포함되는지 확인한다. 한 글자 검색어는 전체 문자열을 확인한다.
+    - 변경, 삭제된 문서는 지운 표시만 하고, 지운 문서가 살아있는 문서보다 많아지면 전체를 다시 만든다.
+    읽기는 동시에, 쓰기는 하나씩 수행한다.
+ */
+public class NgramIndex {
+
+    private static final int COMPACT_MIN_DELETED = 1024;
+
+    private final Map<Integer, IntList> postings = new HashMap<>();
+    private final LongLongMap docById = new LongLongMap();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 내부 번호 -> 식별값, 정규화된 문자열. 지워진 문서의 문자열은 null
+    private long[] ids = new long[1024];
+    private String[] texts = new String[1024];
+    private int docCount;
+    private int deletedCount;
+
+    public static String normalize(String text) {
+        return text.replace(" ", "").toLowerCase(Locale.ROOT);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 이미 있는 식별값이면 문자열을 바꾼다.
+    public void put(long id, String text) {
+        String normalized = normalize(text);
+
+        lock.writeLock().lock();
+        try {
+            long doc = docById.get(id);
+            if (doc != LongLongMap.NO_VALUE) {
+                if (normalized.equals(texts[(int) doc])) {
+                    return;
+                }
+                delete((int) doc);
+            }
+            docById.put(id, add(id, normalized));
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(long id) {
+        lock.writeLock().lock();
+        try {
+            long doc = docById.remove(id);
+            if (doc == LongLongMap.NO_VALUE) {
+                return false;
+            }
+            delete((int) doc);
+            compactIfNeeded();
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /*
+        검색어를 공백으로 나눈 단어 중 하나라도 포함하는 문서의 식별값들.
+        포함하는 단어가 많은 순서, 같으면 식별값 내림차순(최신 순)으로 정렬한다.
+        결과가 limit 개를 넘으면 limit 개까지만 반환한다.
+     */
+    public List<Long> search(String query, int limit) {
+        Set<String> words = new LinkedHashSet<>();
+        for (String word : query.split(" ")) {
+            if (!word.isEmpty()) {
+                words.add(word.toLowerCase(Locale.ROOT));
+            }
+        }
+        if (words.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+
+        lock.readLock().lock();
+        try {
+            // 단어마다 찾은 문서 번호를 모두 모아 정렬하면, 같은 번호가 이어진 길이가 포함하는 단어 수이다.
+            IntList matched = new IntList();
+            for (String word : words) {
+                matchWord(word, matched);
+            }
+            int[] docs = Arrays.copyOf(matched.values, matched.size);
+            Arrays.sort(docs);
+
+            List<long[]> scored = new ArrayList<>();
+            for (int i = 0; i < docs.length; ) {
+                int j = i;
+                while (j < docs.length && docs[j] == docs[i]) {
+                    j++;
+                }
+                scored.add(new long[]{ids[docs[i]], j - i});
+                i = j;
+            }
+            scored.sort((a, b) -> a[1] != b[1] ? Long.compare(b[1], a[1]) : Long.compare(b[0], a[0]));
+
+            List<Long> result = new ArrayList<>(Math.min(limit, scored.size()));
+            for (int i = 0; i < scored.size() && i < limit; i++) {
+                result.add(scored.get(i)[0]);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void matchWord(String word, IntList matched) {
+        if (word.length() == 1) {
+            for (int doc = 0; doc < docCount; doc++) {
+                if (texts[doc] != null && texts[doc].indexOf(word.charAt(0)) >= 0) {
+                    matched.add(doc);
+                }
+            }
+            return;
+        }
+
+        List<IntList> wordPostings = new ArrayList<>();
+        Set<Integer> seen = new HashSet<>();
+        for (int i = 0; i + 1 < word.length(); i++) {
+            int gram = gram(word.charAt(i), word.charAt(i + 1));
+            if (!seen.add(gram)) {
+                continue;
+            }
+            IntList posting = postings.get(gram);
+            if (posting == null) {
+                return;
+            }
+            wordPostings.add(posting);
+        }
+        wordPostings.sort(Comparator.comparingInt(posting -> posting.size));
+
+        IntList shortest = wordPostings.get(0);
+        for (int i = 0; i < shortest.size; i++) {
+            int doc = shortest.values[i];
+            if (texts[doc] == null || !containsAll(wordPostings, doc)) {
+                continue;
+            }
+            // bigram 이 모두 있어도 순서가 다를 수 있으므로 원문으로 확인한다.
+            if (texts[doc].contains(word)) {
+                matched.add(doc);
+            }
+        }
+    }
+
+    private static boolean containsAll(List<IntList> wordPostings, int doc) {
+        for (int i = 1; i < wordPostings.size(); i++) {
+            IntList posting = wordPostings.get(i);
+            if (Arrays.binarySearch(posting.values, 0, posting.size, doc) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int add(long id, String normalized) {
+        if (docCount == ids.length) {
+            ids = Arrays.copyOf(ids, docCount * 2);
+            texts = Arrays.copyOf(texts, docCount * 2);
+        }
+        int doc = docCount++;
+        ids[doc] = id;
+        texts[doc] = normalized;
+
+        for (int i = 0; i + 1 < normalized.length(); i++) {
+            IntList posting = postings.computeIfAbsent(
+                    gram(normalized.charAt(i), normalized.charAt(i + 1)), gram -> new IntList()
+            );
+            // 같은 문서에 같은 bigram 이 여러 번 나오면 한 번만 저장한다.
+            if (posting.size == 0 || posting.values[posting.size - 1] != doc) {
+                posting.add(doc);
+            }
+        }
+        return doc;
+    }
+
+    // posting 에서는 지우지 않는다. 검색할 때 문자열이 null 인 문서는 건너뛴다.
+    private void delete(int doc) {
+        texts[doc] = null;
+        deletedCount++;
+    }
+
+    private void compactIfNeeded() {
+        if (deletedCount < COMPACT_MIN_DELETED || deletedCount < docCount - deletedCount) {
+            return;
+        }
+
+        long[] oldIds = ids;
+        String[] oldTexts = texts;
+        int oldDocCount = docCount;
+
+        postings.clear();
+        ids = new long[Math.max(1024, (oldDocCount - deletedCount) * 2)];
+        texts = new String[ids.length];
+        docCount = 0;
+        deletedCount = 0;
+        for (int doc = 0; doc < oldDocCount; doc++) {
+            if (oldTexts[doc] != null) {
+                docById.put(oldIds[doc], add(oldIds[doc], oldTexts[doc]));
+            }
+        }
+    }
+
+    private static int gram(char first, char second) {
+        return (first << 16) | second;
+    }
+
+    private static class IntList {
+
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.comeon.courseservice.config;
+
+import com.comeon.courseservice.web.course.query.cache.CourseDetailCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "course.detail-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CourseDetailCacheConfig {
+
+    @Value("${course.detail-cache.maximum-size:10000}")
+    private long maximumSize;
+
+    // 다른 인스턴스에서 변경된 코스는 지워지지 않으므로, 이 시간이 지나면 다시 읽는다.
+    @Value("${course.detail-cache.ttl:1m}")
+    private Duration ttl;
+
+    @Bean
+    public CourseDetailCache courseDetailCache(MeterRegistry meterRegistry) {
+        return new CourseDetailCache(maximumSize, ttl, meterRegistry);
+    }
+}
@@ -0,0 +1,56 @@
+package com.comeon.courseservice.config;
+
+import com.comeon.courseservice.domain.course.repository.CourseRepository;
+import com.comeon.courseservice.domain.courselike.repository.CourseLikeRepository;
+import com.comeon.courseservice.domain.courselike.service.CourseLikeCountReconciler;
+import com.comeon.courseservice.domain.courselike.service.CourseLikeCounter;
+import com.comeon.courseservice.domain.coursesearch.repository.CourseSearchRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 비활성화하면 좋아요 등록, 취소 트랜잭션에서 코스의 좋아요 수를 바로 변경한다.
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "course.like-counter.enabled", havingValue = "true", matchIfMissing = true)
+public class CourseLikeCounterConfig {
+
+    @Value("${course.like-counter.reconcile-batch-size:1000}")
+    private int reconcileBatchSize;
+
+    @Bean
+    public CourseLikeCounter courseLikeCounter(CourseRepository courseRepository,
+                                               CourseSearchRepository courseSearchRepository,
+                                               PlatformTransactionManager transactionManager,
+                                               MeterRegistry meterRegistry) {
+        return new CourseLikeCounter(
+                courseRepository,
+                courseSearchRepository,
+                new TransactionTemplate(transactionManager),
+                meterRegistry
+        );
+    }
+
+    @Bean
+    public CourseLikeCountReconciler courseLikeCountReconciler(CourseLikeRepository courseLikeRepository,
+                                                               CourseRepository courseRepository,
+                                                               CourseSearchRepository courseSearchRepository,
+                                                               CourseLikeCounter courseLikeCounter,
+                                                               PlatformTransactionManager transactionManager,
+                                                               MeterRegistry meterRegistry) {
+        return new CourseLikeCountReconciler(
+                courseLikeRepository,
+                courseRepository,
+                courseSearchRepository,
+                courseLikeCounter,
+                new TransactionTemplate(transactionManager),
+                reconcileBatchSize,
+                meterRegistry
+        );
+    }
+}
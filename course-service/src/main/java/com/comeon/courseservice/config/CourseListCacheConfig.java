@@ -0,0 +1,26 @@
+package com.comeon.courseservice.config;
+
+import com.comeon.courseservice.web.course.query.cache.CourseListCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "course.list-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CourseListCacheConfig {
+
+    @Value("${course.list-cache.maximum-size:1000}")
+    private long maximumSize;
+
+    @Value("${course.list-cache.ttl:10s}")
+    private Duration ttl;
+
+    @Bean
+    public CourseListCache courseListCache(MeterRegistry meterRegistry) {
+        return new CourseListCache(maximumSize, ttl, meterRegistry);
+    }
+}
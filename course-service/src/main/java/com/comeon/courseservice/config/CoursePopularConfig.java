@@ -0,0 +1,59 @@
+package com.comeon.courseservice.config;
+
+import com.comeon.courseservice.web.course.query.popular.PopularCourseBoard;
+import com.comeon.courseservice.web.course.query.popular.PopularCourseTracker;
+import com.comeon.courseservice.web.course.query.repository.CourseLikeQueryRepository;
+import com.comeon.courseservice.web.course.query.repository.CourseQueryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "course.popular.enabled", havingValue = "true", matchIfMissing = true)
+public class CoursePopularConfig {
+
+    @Value("${course.popular.window-days:7}")
+    private int windowDays;
+
+    // 목록마다 유지하는 후보 수. 응답할 수 있는 최대 개수이다.
+    @Value("${course.popular.capacity:100}")
+    private int capacity;
+
+    @Value("${course.popular.sketch-depth:4}")
+    private int sketchDepth;
+
+    @Value("${course.popular.sketch-width:1024}")
+    private int sketchWidth;
+
+    @Value("${course.popular.near-radius-km:30}")
+    private double nearRadiusKm;
+
+    @Value("${course.popular.load-batch-size:5000}")
+    private int loadBatchSize;
+
+    @Bean
+    public PopularCourseTracker popularCourseTracker(CourseQueryRepository courseQueryRepository,
+                                                     CourseLikeQueryRepository courseLikeQueryRepository,
+                                                     PlatformTransactionManager transactionManager,
+                                                     MeterRegistry meterRegistry) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        return new PopularCourseTracker(
+                courseQueryRepository,
+                courseLikeQueryRepository,
+                transactionTemplate,
+                currentDay -> new PopularCourseBoard(windowDays, capacity, sketchDepth, sketchWidth, currentDay),
+                windowDays,
+                nearRadiusKm,
+                loadBatchSize,
+                meterRegistry
+        );
+    }
+}
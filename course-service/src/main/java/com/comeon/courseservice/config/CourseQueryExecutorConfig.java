@@ -0,0 +1,39 @@
+package com.comeon.courseservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/*
+    코스 조회 응답을 만들 때 다른 서비스 호출을 함께 실행하는 스레드 풀.
+    sleuth 가 빈으로 등록된 executor 를 감싸서, 작업 스레드에도 요청의 trace 정보가 전달된다.
+    큐가 가득 차면 요청 스레드에서 직접 실행한다.
+ */
+@Configuration
+public class CourseQueryExecutorConfig {
+
+    @Value("${course.query.executor.core-pool-size:8}")
+    private int corePoolSize;
+
+    @Value("${course.query.executor.max-pool-size:32}")
+    private int maxPoolSize;
+
+    @Value("${course.query.executor.queue-capacity:200}")
+    private int queueCapacity;
+
+    @Bean
+    public ThreadPoolTaskExecutor courseQueryExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("course-query-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+}
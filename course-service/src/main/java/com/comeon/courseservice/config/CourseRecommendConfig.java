@@ -0,0 +1,94 @@
+package com.comeon.courseservice.config;
+
+import com.comeon.courseservice.web.course.query.recommend.CourseRecommendIndex;
+import com.comeon.courseservice.web.course.query.recommend.CourseRecommender;
+import com.comeon.courseservice.web.course.query.recommend.RecommendScorer;
+import com.comeon.courseservice.web.course.query.repository.CourseLikeQueryRepository;
+import com.comeon.courseservice.web.course.query.repository.CourseQueryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "course.recommend.enabled", havingValue = "true", matchIfMissing = true)
+public class CourseRecommendConfig {
+
+    // 약 5km
+    @Value("${course.recommend.tile-degrees:0.05}")
+    private double tileDegrees;
+
+    @Value("${course.recommend.radius-km:20}")
+    private double radiusKm;
+
+    // 격자마다 점수를 계산하는 가까운 코스 수와, 그 중 저장하는 후보 수
+    @Value("${course.recommend.pool-size:1000}")
+    private int poolSize;
+
+    @Value("${course.recommend.ranking-size:100}")
+    private int rankingSize;
+
+    @Value("${course.recommend.max-tiles:50000}")
+    private int maxTiles;
+
+    @Value("${course.recommend.distance-weight:0.5}")
+    private double distanceWeight;
+
+    @Value("${course.recommend.like-weight:0.3}")
+    private double likeWeight;
+
+    @Value("${course.recommend.freshness-weight:0.2}")
+    private double freshnessWeight;
+
+    @Value("${course.recommend.distance-scale-km:5}")
+    private double distanceScaleKm;
+
+    @Value("${course.recommend.like-half-life:7d}")
+    private Duration likeHalfLife;
+
+    @Value("${course.recommend.like-saturation:10}")
+    private double likeSaturation;
+
+    @Value("${course.recommend.freshness-half-life:30d}")
+    private Duration freshnessHalfLife;
+
+    @Value("${course.recommend.load-batch-size:5000}")
+    private int loadBatchSize;
+
+    // 0 이면 CPU 수
+    @Value("${course.recommend.parallelism:0}")
+    private int parallelism;
+
+    @Bean
+    public CourseRecommender courseRecommender(CourseQueryRepository courseQueryRepository,
+                                               CourseLikeQueryRepository courseLikeQueryRepository,
+                                               PlatformTransactionManager transactionManager,
+                                               MeterRegistry meterRegistry) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        RecommendScorer scorer = new RecommendScorer(
+                distanceWeight, likeWeight, freshnessWeight,
+                distanceScaleKm, likeHalfLife, likeSaturation, freshnessHalfLife
+        );
+
+        return new CourseRecommender(
+                courseQueryRepository,
+                courseLikeQueryRepository,
+                transactionTemplate,
+                scorer,
+                () -> new CourseRecommendIndex(scorer, tileDegrees, radiusKm, poolSize, rankingSize, maxTiles),
+                likeHalfLife,
+                loadBatchSize,
+                parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors(),
+                meterRegistry
+        );
+    }
+}
@@ -0,0 +1,34 @@
+package com.comeon.courseservice.config;
+
+import com.comeon.common.usercache.UserNearCache;
+import com.comeon.courseservice.domain.coursesearch.repository.CourseSearchRepository;
+import com.comeon.courseservice.domain.coursesearch.service.CourseSearchWriterUpdater;
+import com.comeon.courseservice.domain.coursesearch.service.dto.UserChangedMessage;
+import com.comeon.courseservice.web.feign.userservice.response.UserDetailsResponse;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Consumer;
+
+/*
+    코스 리스트 읽기 모델의 작성자 정보는 user-service 의 유저 변경 메시지로 갱신한다.
+
+    spring.cloud.function.definition: courseSearchWriterChanged
+    spring.cloud.stream.bindings.courseSearchWriterChanged-in-0:
+      destination: user-changed
+      group: course-service
+ */
+@Configuration
+public class CourseSearchConfig {
+
+    // 바뀐 유저는 user-service 조회 캐시에서도 지워, 코스 상세의 작성자 정보도 다음 조회에서 새로 가져온다.
+    @Bean
+    public Consumer<UserChangedMessage> courseSearchWriterChanged(CourseSearchRepository courseSearchRepository,
+                                                                  PlatformTransactionManager transactionManager,
+                                                                  UserNearCache<UserDetailsResponse> userNearCache) {
+        return new CourseSearchWriterUpdater(courseSearchRepository, new TransactionTemplate(transactionManager))
+                .andThen(message -> userNearCache.evict(message.getUserId()));
+    }
+}
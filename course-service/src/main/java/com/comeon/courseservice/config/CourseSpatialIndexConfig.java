@@ -0,0 +1,49 @@
+package com.comeon.courseservice.config;
+
+import com.comeon.courseservice.web.course.query.repository.CourseQueryRepository;
+import com.comeon.courseservice.web.course.query.spatial.CourseSpatialIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "course.spatial-index.enabled", havingValue = "true", matchIfMissing = true)
+public class CourseSpatialIndexConfig {
+
+    @Value("${course.spatial-index.cell-degrees:0.05}")
+    private double cellDegrees;
+
+    @Value("${course.spatial-index.load-batch-size:5000}")
+    private int loadBatchSize;
+
+    @Value("${course.spatial-index.sync-overlap:30s}")
+    private Duration syncOverlap;
+
+    // 비어있으면 스냅샷을 사용하지 않는다.
+    @Value("${course.spatial-index.snapshot-path:}")
+    private String snapshotPath;
+
+    @Bean
+    public CourseSpatialIndex courseSpatialIndex(CourseQueryRepository courseQueryRepository,
+                                                 PlatformTransactionManager transactionManager) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        return new CourseSpatialIndex(
+                courseQueryRepository,
+                transactionTemplate,
+                cellDegrees,
+                loadBatchSize,
+                syncOverlap,
+                snapshotPath.isBlank() ? null : Path.of(snapshotPath)
+        );
+    }
+}
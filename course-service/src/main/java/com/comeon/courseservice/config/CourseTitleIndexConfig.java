@@ -0,0 +1,44 @@
+package com.comeon.courseservice.config;
+
+import com.comeon.courseservice.web.course.query.repository.CourseQueryRepository;
+import com.comeon.courseservice.web.course.query.search.CourseTitleIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "course.title-index.enabled", havingValue = "true", matchIfMissing = true)
+public class CourseTitleIndexConfig {
+
+    @Value("${course.title-index.load-batch-size:5000}")
+    private int loadBatchSize;
+
+    @Value("${course.title-index.sync-overlap:30s}")
+    private Duration syncOverlap;
+
+    // 찾은 코스가 이보다 많으면 식별값 IN 조건 대신 LIKE 검색을 사용한다.
+    @Value("${course.title-index.max-candidates:1000}")
+    private int maxCandidates;
+
+    @Bean
+    public CourseTitleIndex courseTitleIndex(CourseQueryRepository courseQueryRepository,
+                                             PlatformTransactionManager transactionManager) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        return new CourseTitleIndex(
+                courseQueryRepository,
+                transactionTemplate,
+                loadBatchSize,
+                syncOverlap,
+                maxCandidates
+        );
+    }
+}
@@ -0,0 +1,36 @@
+package com.comeon.courseservice.config;
+
+import com.comeon.courseservice.web.course.query.cache.LikedCourseCache;
+import com.comeon.courseservice.web.course.query.repository.CourseLikeQueryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+// 비활성화하면 코스 조회마다 좋아요 여부를 DB 에서 조회한다.
+@Configuration
+@ConditionalOnProperty(name = "course.liked-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class LikedCourseCacheConfig {
+
+    // 저장할 좋아요 코스 식별값 수의 합. 약 8 byte 씩 사용한다.
+    @Value("${course.liked-cache.maximum-weight:5000000}")
+    private long maximumWeight;
+
+    @Value("${course.liked-cache.ttl:30s}")
+    private Duration ttl;
+
+    @Bean
+    public LikedCourseCache likedCourseCache(CourseLikeQueryRepository courseLikeQueryRepository,
+                                             PlatformTransactionManager transactionManager,
+                                             MeterRegistry meterRegistry) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        return new LikedCourseCache(courseLikeQueryRepository, transactionTemplate, maximumWeight, ttl, meterRegistry);
+    }
+}
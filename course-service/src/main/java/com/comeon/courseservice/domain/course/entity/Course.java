@@ -1,18 +1,29 @@
 package com.comeon.courseservice.domain.course.entity;
 
+import com.comeon.courseservice.common.geo.GeoCell;
 import com.comeon.courseservice.domain.common.BaseTimeEntity;
 import com.comeon.courseservice.domain.courseplace.entity.CoursePlace;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+/*
+    좋아요 수는 CourseLikeCounter 가 like_count = like_count + :delta 로 따로 반영하므로,
+    코스 수정이 읽어둔 좋아요 수로 덮어쓰지 않도록 변경된 컬럼만 UPDATE 한다.
+ */
 @Entity @Getter
+@DynamicUpdate
+@Table(indexes = {
+        @Index(name = "idx_course_first_place_geo_cell", columnList = "firstPlaceGeoCell, firstPlaceLat"),
+        @Index(name = "idx_course_last_modified_date", columnList = "lastModifiedDate")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Course extends BaseTimeEntity {
 
@@ -46,6 +57,13 @@ public class Course extends BaseTimeEntity {
     @Column(nullable = false)
     private LocalDateTime updatedDate;
 
+    // 주변 코스 검색을 위한 첫번째 장소의 좌표와 격자 셀. 장소가 없으면 null
+    private Double firstPlaceLat;
+
+    private Double firstPlaceLng;
+
+    private Integer firstPlaceGeoCell;
+
     @Builder
     public Course(Long userId, String title, String description, CourseImage courseImage) {
         this.userId = userId;
@@ -64,6 +82,7 @@ public class Course extends BaseTimeEntity {
 
     public void updateCourseState() {
         updatedDate = LocalDateTime.now();
+        updateFirstPlace();
 
         if (this.coursePlaces.size() == 0) {
             this.courseStatus = CourseStatus.DISABLED;
@@ -76,10 +95,30 @@ public class Course extends BaseTimeEntity {
         if (this.courseStatus != CourseStatus.COMPLETE) {
             this.courseStatus = CourseStatus.COMPLETE;
         }
+        updateFirstPlace();
     }
 
     public void disabledCourse() {
         this.courseStatus = CourseStatus.DISABLED;
+        updateFirstPlace();
+    }
+
+    // 장소가 추가, 삭제되거나 순서, 좌표가 바뀌면 호출한다.
+    public void updateFirstPlace() {
+        CoursePlace firstPlace = coursePlaces.stream()
+                .filter(coursePlace -> coursePlace.getOrder() == 1)
+                .findFirst()
+                .orElse(null);
+
+        if (firstPlace == null) {
+            this.firstPlaceLat = null;
+            this.firstPlaceLng = null;
+            this.firstPlaceGeoCell = null;
+            return;
+        }
+        this.firstPlaceLat = firstPlace.getLat();
+        this.firstPlaceLng = firstPlace.getLng();
+        this.firstPlaceGeoCell = GeoCell.of(firstPlace.getLat(), firstPlace.getLng());
     }
 
     public boolean isWritingComplete() {
@@ -0,0 +1,36 @@
+package com.comeon.courseservice.domain.course.event;
+
+import com.comeon.courseservice.domain.course.entity.Course;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Objects;
+
+// 코스, 코스 장소가 변경되었음을 알린다. 좋아요 수는 CourseLikeService 가 직접 반영한다.
+// 검색 좌표(작성 완료된 코스의 첫번째 장소)와 제목도 함께 전달한다. 검색 대상이 아니면 좌표가 null
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CourseChangedEvent {
+
+    private Long courseId;
+    private boolean removed;
+    private Double lat;
+    private Double lng;
+    private String title;
+
+    public static CourseChangedEvent of(Course course) {
+        if (!course.isWritingComplete() || Objects.isNull(course.getFirstPlaceLat())) {
+            return new CourseChangedEvent(course.getId(), false, null, null, course.getTitle());
+        }
+        return new CourseChangedEvent(course.getId(), false, course.getFirstPlaceLat(), course.getFirstPlaceLng(), course.getTitle());
+    }
+
+    public static CourseChangedEvent removed(Long courseId) {
+        return new CourseChangedEvent(courseId, true, null, null, null);
+    }
+
+    public boolean isSearchable() {
+        return Objects.nonNull(lat) && Objects.nonNull(lng);
+    }
+}
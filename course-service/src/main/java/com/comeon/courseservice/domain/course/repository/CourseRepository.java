@@ -1,11 +1,15 @@
 package com.comeon.courseservice.domain.course.repository;
 
 import com.comeon.courseservice.domain.course.entity.Course;
+import com.comeon.courseservice.domain.course.entity.CourseStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface CourseRepository extends JpaRepository<Course, Long> {
@@ -17,4 +21,30 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
     @EntityGraph(attributePaths = {"courseImage"})
     @Query("select c from Course c where c.id = :courseId")
     Optional<Course> findByIdFetchCourseImage(@Param("courseId") Long courseId);
+
+    // 첫번째 장소가 있지만 첫번째 장소 좌표가 저장되지 않은 코스
+    @Query("select c.id from Course c " +
+            "where c.firstPlaceGeoCell is null " +
+            "and exists (select cp.id from CoursePlace cp where cp.course = c and cp.order = 1) " +
+            "order by c.id asc")
+    List<Long> findIdsWithoutFirstPlace(Pageable pageable);
+
+    @EntityGraph(attributePaths = {"coursePlaces"})
+    @Query("select c from Course c where c.id in :courseIds")
+    List<Course> findAllByIdInFetchCoursePlaces(@Param("courseIds") List<Long> courseIds);
+
+    @Query("select c.courseStatus from Course c where c.id = :courseId")
+    Optional<CourseStatus> findCourseStatusById(@Param("courseId") Long courseId);
+
+    // 읽어서 더하지 않고 DB 에서 더하므로, 여러 인스턴스가 동시에 반영해도 증감이 유실되지 않는다.
+    @Modifying
+    @Query("update Course c set c.likeCount = c.likeCount + :delta where c.id = :courseId")
+    int addLikeCount(@Param("courseId") Long courseId, @Param("delta") int delta);
+
+    // 읽어둔 값 그대로일 때만 바꾼다. 그 사이에 반영된 증감을 덮어쓰지 않는다.
+    @Modifying
+    @Query("update Course c set c.likeCount = :likeCount where c.id = :courseId and c.likeCount = :readLikeCount")
+    int updateLikeCount(@Param("courseId") Long courseId,
+                        @Param("readLikeCount") int readLikeCount,
+                        @Param("likeCount") int likeCount);
 }
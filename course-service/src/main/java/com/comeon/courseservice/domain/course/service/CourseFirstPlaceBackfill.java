@@ -0,0 +1,54 @@
+package com.comeon.courseservice.domain.course.service;
+
+import com.comeon.courseservice.domain.course.entity.Course;
+import com.comeon.courseservice.domain.course.repository.CourseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// 첫번째 장소 좌표 컬럼이 추가되기 전에 저장된 코스들의 좌표와 격자 셀을 채운다.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "course.geo.backfill.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class CourseFirstPlaceBackfill implements ApplicationRunner {
+
+    private final CourseRepository courseRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${course.geo.backfill.batch-size:500}")
+    private int batchSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        int total = 0;
+        List<Long> courseIds;
+        do {
+            courseIds = courseRepository.findIdsWithoutFirstPlace(PageRequest.of(0, batchSize));
+            if (courseIds.isEmpty()) {
+                break;
+            }
+            List<Long> targetIds = courseIds;
+            transactionTemplate.executeWithoutResult(
+                    status -> courseRepository.findAllByIdInFetchCoursePlaces(targetIds)
+                            .forEach(Course::updateFirstPlace)
+            );
+            total += courseIds.size();
+        } while (courseIds.size() == batchSize);
+
+        if (total > 0) {
+            log.info("[course-geo] first place backfilled. courses : {}", total);
+        }
+    }
+}
@@ -5,11 +5,13 @@ import com.comeon.courseservice.common.exception.ErrorCode;
 import com.comeon.courseservice.domain.common.exception.EntityNotFoundException;
 import com.comeon.courseservice.domain.course.entity.Course;
 import com.comeon.courseservice.domain.course.entity.CourseImage;
+import com.comeon.courseservice.domain.course.event.CourseChangedEvent;
 import com.comeon.courseservice.domain.course.repository.CourseRepository;
 import com.comeon.courseservice.domain.course.service.dto.CourseDto;
 import com.comeon.courseservice.domain.course.service.dto.CourseImageDto;
 import com.comeon.courseservice.domain.courselike.repository.CourseLikeRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,10 +24,13 @@ public class CourseService {
 
     private final CourseRepository courseRepository;
     private final CourseLikeRepository courseLikeRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 코스 저장
     public Long saveCourse(CourseDto courseDto) {
-        return courseRepository.save(courseDto.toEntity()).getId();
+        Course course = courseRepository.save(courseDto.toEntity());
+        eventPublisher.publishEvent(CourseChangedEvent.of(course));
+        return course.getId();
     }
 
     // 코스 수정
@@ -50,6 +55,7 @@ public class CourseService {
 
         // 코스 정보 업데이트
         course.updateCourseInfo(courseDto.getTitle(), courseDto.getDescription());
+        eventPublisher.publishEvent(CourseChangedEvent.of(course));
     }
 
     // 코스 삭제
@@ -67,6 +73,7 @@ public class CourseService {
         courseLikeRepository.deleteByCourse(course);
         // 코스 삭제시 코스와 연관된 장소들, 이미지 함께 삭제(cascade)
         courseRepository.delete(course);
+        eventPublisher.publishEvent(CourseChangedEvent.removed(courseId));
     }
 
     private void checkWriter(Long userId, Course course) {
@@ -11,6 +11,18 @@ import javax.persistence.*;
 
 @Entity
 @Getter
+@Table(
+        indexes = {
+                // 좋아요한 코스 리스트의 정렬, 커서 조건과 같은 순서. 조인할 코스 식별값도 인덱스에서 읽는다.
+                @Index(name = "idx_course_like_user_last_modified_date", columnList = "userId, lastModifiedDate, course_like_id, course_id"),
+                // 추천 인덱스, 인기 코스 목록 구성시 최근 좋아요의 시작 식별값 조회
+                @Index(name = "idx_course_like_created_date", columnList = "createdDate")
+        },
+        uniqueConstraints = {
+                // 한 유저는 한 코스에 하나의 좋아요만 등록할 수 있다. 동시에 등록해도 중복 저장되지 않는다.
+                @UniqueConstraint(name = "uk_course_like_course_user", columnNames = {"course_id", "userId"})
+        }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class CourseLike extends BaseTimeEntity {
 
@@ -30,7 +42,5 @@ public class CourseLike extends BaseTimeEntity {
     public CourseLike(Course course, Long userId) {
         this.course = course;
         this.userId = userId;
-
-        this.course.increaseLikeCount();
     }
 }
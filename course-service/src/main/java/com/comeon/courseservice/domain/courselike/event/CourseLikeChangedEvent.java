@@ -0,0 +1,14 @@
+package com.comeon.courseservice.domain.courselike.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 유저의 좋아요가 등록(+1) 또는 취소(-1)되었음을 알린다. 커밋된 뒤 CourseLikeCounter 가 있으면 코스의 좋아요 수에 더한다.
+@Getter
+@AllArgsConstructor
+public class CourseLikeChangedEvent {
+
+    private Long courseId;
+    private Long userId;
+    private int delta;
+}
@@ -2,11 +2,15 @@ package com.comeon.courseservice.domain.courselike.repository;
 
 import com.comeon.courseservice.domain.course.entity.Course;
 import com.comeon.courseservice.domain.courselike.entity.CourseLike;
+import com.comeon.courseservice.domain.courselike.repository.dto.CourseLikeCountData;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface CourseLikeRepository extends JpaRepository<CourseLike, Long> {
@@ -29,4 +33,20 @@ public interface CourseLikeRepository extends JpaRepository<CourseLike, Long> {
                                                             @Param("userId") Long userId);
 
     void deleteByCourse(Course course);
+
+    @Modifying
+    @Query("delete from CourseLike cl " +
+            "where cl.course.id = :courseId and cl.userId = :userId")
+    int deleteByCourseIdAndUserId(@Param("courseId") Long courseId,
+                                  @Param("userId") Long userId);
+
+    // 식별값 순서로 코스의 좋아요 수와 실제 좋아요 수를 비교한다.
+    @Query("select new com.comeon.courseservice.domain.courselike.repository.dto.CourseLikeCountData(" +
+            "c.id, c.likeCount, cs.likeCount, " +
+            "(select count(cl.id) from CourseLike cl where cl.course.id = c.id)) " +
+            "from Course c " +
+            "left join CourseSearch cs on cs.courseId = c.id " +
+            "where c.id > :lastCourseId " +
+            "order by c.id asc")
+    List<CourseLikeCountData> findLikeCountsAfter(@Param("lastCourseId") Long lastCourseId, Pageable pageable);
 }
@@ -0,0 +1,96 @@
+package com.comeon.courseservice.domain.courselike.repository;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/*
+    좋아요 등록을 조회 없이 한 번의 insert 로 처리한다.
+    - 작성 완료된 코스일 때만 저장한다.
+    - course_like 의 (course_id, user_id) 유니크 인덱스로, 이미 등록된 좋아요가 있으면 저장하지 않는다.
+    MySQL 은 INSERT IGNORE ... SELECT 로, 테스트에 사용하는 H2 는 MERGE 로 처리한다.
+    MySQL 드라이버는 기본으로 CLIENT_FOUND_ROWS 를 사용하므로, ON DUPLICATE KEY UPDATE 는 이미 있는 행에도 1 을 반환한다.
+    INSERT IGNORE 는 새로 저장했을 때만 1 을 반환하고, 그때만 생성된 식별값을 읽는다.
+ */
+@Repository
+public class CourseLikeToggleRepository {
+
+    private static final String MYSQL_INSERT_IF_ABSENT =
+            "insert ignore into course_like (course_id, user_id, created_date, last_modified_date) " +
+            "select c.course_id, ?, ?, ? from course c " +
+            "where c.course_id = ? and c.course_status = 'COMPLETE'";
+
+    private static final String H2_MERGE_IF_ABSENT =
+            "merge into course_like cl " +
+            "using (select c.course_id from course c where c.course_id = ? and c.course_status = 'COMPLETE') s " +
+            "on cl.course_id = s.course_id and cl.user_id = ? " +
+            "when not matched then insert " +
+            "(course_id, user_id, created_date, last_modified_date) " +
+            "values (s.course_id, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager em;
+    private final boolean mysql;
+
+    public CourseLikeToggleRepository(JdbcTemplate jdbcTemplate, EntityManager em) throws MetaDataAccessException {
+        this.jdbcTemplate = jdbcTemplate;
+        this.em = em;
+        this.mysql = "MySQL".equals(
+                JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(), DatabaseMetaData::getDatabaseProductName)
+        );
+    }
+
+    // 새로 저장했으면 좋아요 식별값을 반환한다. 이미 등록되어 있거나, 작성 완료된 코스가 없으면 비어있다.
+    public Optional<Long> insertIfAbsent(Long courseId, Long userId) {
+        // 영속성 컨텍스트를 거치지 않고 저장하므로, 저장 전에 flush 한다.
+        em.flush();
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            return insert(courseId, userId, now);
+        } catch (DuplicateKeyException e) {
+            // H2 는 동시에 같은 좋아요를 저장하면 한 쪽이 유니크 인덱스 위반으로 실패한다. 이미 등록된 것으로 본다.
+            return Optional.empty();
+        }
+    }
+
+    private Optional<Long> insert(Long courseId, Long userId, Timestamp now) {
+        if (mysql) {
+            GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+            int affectedRows = jdbcTemplate.update(con -> {
+                PreparedStatement ps = con.prepareStatement(MYSQL_INSERT_IF_ABSENT, Statement.RETURN_GENERATED_KEYS);
+                ps.setLong(1, userId);
+                ps.setTimestamp(2, now);
+                ps.setTimestamp(3, now);
+                ps.setLong(4, courseId);
+                return ps;
+            }, keyHolder);
+            if (affectedRows != 1) {
+                return Optional.empty();
+            }
+            return Optional.of(keyHolder.getKey().longValue());
+        }
+
+        int affectedRows = jdbcTemplate.update(H2_MERGE_IF_ABSENT,
+                courseId, userId,
+                userId, now, now);
+        if (affectedRows != 1) {
+            return Optional.empty();
+        }
+        return Optional.of(jdbcTemplate.queryForObject(
+                "select course_like_id from course_like where course_id = ? and user_id = ?",
+                Long.class, courseId, userId
+        ));
+    }
+}
@@ -0,0 +1,36 @@
+package com.comeon.courseservice.domain.courselike.repository.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Objects;
+
+// 코스와 읽기 모델에 저장된 좋아요 수, course_like 에서 센 실제 좋아요 수
+@Getter
+@AllArgsConstructor
+public class CourseLikeCountData {
+
+    private Long courseId;
+    private Integer likeCount;
+    private Integer searchLikeCount;
+    private Long actualCount;
+
+    public long getCourseDrift() {
+        return Math.abs(likeCount - actualCount);
+    }
+
+    // 읽기 모델이 아직 없는 코스는 비교하지 않는다.
+    public long getSearchDrift() {
+        if (Objects.isNull(searchLikeCount)) {
+            return 0L;
+        }
+        return Math.abs(searchLikeCount - actualCount);
+    }
+
+    // 세 값이 모두 그대로면, 그 사이에 어느 인스턴스도 이 코스의 증감을 반영하지 않았다.
+    public boolean isUnchangedFrom(CourseLikeCountData previous) {
+        return Objects.equals(likeCount, previous.likeCount)
+                && Objects.equals(searchLikeCount, previous.searchLikeCount)
+                && Objects.equals(actualCount, previous.actualCount);
+    }
+}
@@ -0,0 +1,134 @@
+package com.comeon.courseservice.domain.courselike.service;
+
+import com.comeon.courseservice.domain.course.repository.CourseRepository;
+import com.comeon.courseservice.domain.courselike.repository.CourseLikeRepository;
+import com.comeon.courseservice.domain.courselike.repository.dto.CourseLikeCountData;
+import com.comeon.courseservice.domain.coursesearch.repository.CourseSearchRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+    코스와 읽기 모델의 좋아요 수를 course_like 에서 센 값으로 주기적으로 바로잡는다.
+    코스 식별값 순서로 batchSize 개씩 읽으며, 마지막으로 확인한 차이의 합을 drift 로 기록한다.
+
+    커밋된 좋아요의 증감이 아직 각 인스턴스의 CourseLikeCounter 에 남아있을 수 있으므로, 한 번 본 차이로는 바로잡지 않는다.
+    - 차이가 있는 코스는 기억해두고, 다음 확인에서 좋아요 수, 읽기 모델의 좋아요 수, 실제 좋아요 수가 모두 그대로일 때만 바로잡는다.
+      두 확인 사이에 증감이 반영되었다면 값이 바뀌므로, 남아있던 증감이 아니라 유실된 증감만 바로잡는다.
+    - 바로잡을 때도 읽어둔 값 그대로일 때만 바꿔서, 그 사이에 반영된 증감을 덮어쓰지 않는다.
+ */
+@Slf4j
+public class CourseLikeCountReconciler {
+
+    private static final String METRIC_DRIFT = "course.like.count.drift";
+
+    private final CourseLikeRepository courseLikeRepository;
+    private final CourseRepository courseRepository;
+    private final CourseSearchRepository courseSearchRepository;
+    private final CourseLikeCounter courseLikeCounter;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private final AtomicLong courseDrift = new AtomicLong();
+    private final AtomicLong searchDrift = new AtomicLong();
+    private final Counter correctedCounter;
+
+    // 지난 확인에서 차이가 있던 코스. 스케줄러 스레드에서만 사용한다.
+    private Map<Long, CourseLikeCountData> suspects = new HashMap<>();
+
+    public CourseLikeCountReconciler(CourseLikeRepository courseLikeRepository,
+                                     CourseRepository courseRepository,
+                                     CourseSearchRepository courseSearchRepository,
+                                     CourseLikeCounter courseLikeCounter,
+                                     TransactionTemplate transactionTemplate,
+                                     int batchSize,
+                                     MeterRegistry meterRegistry) {
+        this.courseLikeRepository = courseLikeRepository;
+        this.courseRepository = courseRepository;
+        this.courseSearchRepository = courseSearchRepository;
+        this.courseLikeCounter = courseLikeCounter;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+
+        Gauge.builder(METRIC_DRIFT, courseDrift, AtomicLong::get)
+                .description("마지막 확인에서 실제 좋아요 수와 달랐던 차이의 합")
+                .tag("table", "course")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_DRIFT, searchDrift, AtomicLong::get)
+                .description("마지막 확인에서 실제 좋아요 수와 달랐던 차이의 합")
+                .tag("table", "course_search")
+                .register(meterRegistry);
+        this.correctedCounter = Counter.builder("course.like.count.corrected")
+                .description("좋아요 수를 바로잡은 코스 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            initialDelayString = "${course.like-counter.reconcile-interval:3600000}",
+            fixedDelayString = "${course.like-counter.reconcile-interval:3600000}"
+    )
+    public void reconcile() {
+        long start = System.currentTimeMillis();
+
+        long totalCourseDrift = 0L;
+        long totalSearchDrift = 0L;
+        long lastCourseId = 0L;
+        Map<Long, CourseLikeCountData> newSuspects = new HashMap<>();
+        List<CourseLikeCountData> counts;
+        do {
+            long afterId = lastCourseId;
+            // 이 인스턴스에 모아둔 증감은 먼저 반영해서, 차이로 보이는 코스를 줄인다.
+            counts = courseLikeCounter.flushThen(
+                    () -> transactionTemplate.execute(status -> reconcileBatch(afterId, newSuspects))
+            );
+            for (CourseLikeCountData count : counts) {
+                totalCourseDrift += count.getCourseDrift();
+                totalSearchDrift += count.getSearchDrift();
+                lastCourseId = count.getCourseId();
+            }
+        } while (counts.size() == batchSize);
+        suspects = newSuspects;
+
+        courseDrift.set(totalCourseDrift);
+        searchDrift.set(totalSearchDrift);
+        if (totalCourseDrift > 0 || totalSearchDrift > 0) {
+            log.warn("[course-like-counter] like count reconciled. course drift : {}, course search drift : {}, elapsed : {}ms",
+                    totalCourseDrift, totalSearchDrift, System.currentTimeMillis() - start);
+        }
+    }
+
+    private List<CourseLikeCountData> reconcileBatch(long lastCourseId, Map<Long, CourseLikeCountData> newSuspects) {
+        List<CourseLikeCountData> counts =
+                courseLikeRepository.findLikeCountsAfter(lastCourseId, PageRequest.of(0, batchSize));
+
+        for (CourseLikeCountData count : counts) {
+            if (count.getCourseDrift() == 0 && count.getSearchDrift() == 0) {
+                continue;
+            }
+            CourseLikeCountData previous = suspects.get(count.getCourseId());
+            if (previous == null || !count.isUnchangedFrom(previous)) {
+                newSuspects.put(count.getCourseId(), count);
+                continue;
+            }
+
+            int actualCount = count.getActualCount().intValue();
+            if (count.getCourseDrift() > 0) {
+                courseRepository.updateLikeCount(count.getCourseId(), count.getLikeCount(), actualCount);
+            }
+            if (count.getSearchDrift() > 0) {
+                courseSearchRepository.updateLikeCount(count.getCourseId(), count.getSearchLikeCount(), actualCount);
+            }
+            correctedCounter.increment();
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,148 @@
+package com.comeon.courseservice.domain.courselike.service;
+
+import com.comeon.courseservice.domain.course.repository.CourseRepository;
+import com.comeon.courseservice.domain.courselike.event.CourseLikeChangedEvent;
+import com.comeon.courseservice.domain.coursesearch.repository.CourseSearchRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/*
+    좋아요 등록, 취소마다 같은 코스 행을 UPDATE 하지 않도록 코스별 증감을 메모리에 모아두고,
+    주기적으로 코스와 코스 리스트 읽기 모델에 like_count = like_count + :delta 로 반영한다.
+    - 증감은 좋아요가 커밋된 뒤에 더한다.
+    - ConcurrentHashMap 의 compute, remove 는 같은 코스끼리만 잠그므로 코스마다 잠금이 나뉜다.
+    - 반영에 실패한 증감은 다시 더해두고 다음 주기에 반영한다. 종료할 때도 남은 증감을 반영한다.
+    인스턴스가 비정상 종료되면 반영하지 못한 증감은 유실되며, CourseLikeCountReconciler 가 바로잡는다.
+ */
+@Slf4j
+public class CourseLikeCounter {
+
+    private final CourseRepository courseRepository;
+    private final CourseSearchRepository courseSearchRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, PendingDelta> pending = new ConcurrentHashMap<>();
+    private final Object flushLock = new Object();
+
+    private final Timer flushTimer;
+
+    public CourseLikeCounter(CourseRepository courseRepository,
+                             CourseSearchRepository courseSearchRepository,
+                             TransactionTemplate transactionTemplate,
+                             MeterRegistry meterRegistry) {
+        this.courseRepository = courseRepository;
+        this.courseSearchRepository = courseSearchRepository;
+        this.transactionTemplate = transactionTemplate;
+
+        this.flushTimer = Timer.builder("course.like.counter.flush")
+                .description("모아둔 좋아요 증감을 DB 에 반영하는 시간")
+                .register(meterRegistry);
+        Gauge.builder("course.like.counter.pending", pending, Map::size)
+                .description("DB 에 반영되지 않은 좋아요 증감이 있는 코스 수")
+                .register(meterRegistry);
+        Gauge.builder("course.like.counter.flush.lag", this, CourseLikeCounter::getFlushLagSeconds)
+                .description("DB 에 반영되지 않은 가장 오래된 좋아요 증감의 대기 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseLikeChanged(CourseLikeChangedEvent event) {
+        add(event.getCourseId(), event.getDelta());
+    }
+
+    public void add(Long courseId, int delta) {
+        pending.compute(courseId, (id, pendingDelta) -> {
+            if (pendingDelta == null) {
+                pendingDelta = new PendingDelta(System.currentTimeMillis());
+            }
+            pendingDelta.delta += delta;
+            return pendingDelta;
+        });
+    }
+
+    public int getPendingDelta(Long courseId) {
+        PendingDelta pendingDelta = pending.get(courseId);
+        return pendingDelta == null ? 0 : pendingDelta.delta;
+    }
+
+    public double getFlushLagSeconds() {
+        long oldest = Long.MAX_VALUE;
+        for (PendingDelta pendingDelta : pending.values()) {
+            oldest = Math.min(oldest, pendingDelta.recordedAt);
+        }
+        if (oldest == Long.MAX_VALUE) {
+            return 0;
+        }
+        return (System.currentTimeMillis() - oldest) / 1000.0;
+    }
+
+    @Scheduled(fixedDelayString = "${course.like-counter.flush-interval:1000}")
+    public void flush() {
+        flushThen(() -> null);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 모아둔 증감을 반영하고, 다음 반영 전에 action 을 실행한다.
+    public <T> T flushThen(Supplier<T> action) {
+        synchronized (flushLock) {
+            flushTimer.record(this::flushPending);
+            return action.get();
+        }
+    }
+
+    private void flushPending() {
+        // 여러 인스턴스가 같은 코스들을 갱신할 때 교착 상태가 생기지 않도록 식별값 순서로 반영한다.
+        Map<Long, PendingDelta> drained = new TreeMap<>();
+        for (Long courseId : pending.keySet()) {
+            PendingDelta pendingDelta = pending.remove(courseId);
+            if (pendingDelta != null && pendingDelta.delta != 0) {
+                drained.put(courseId, pendingDelta);
+            }
+        }
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> drained.forEach((courseId, pendingDelta) -> {
+                courseRepository.addLikeCount(courseId, pendingDelta.delta);
+                courseSearchRepository.addLikeCount(courseId, pendingDelta.delta);
+            }));
+        } catch (RuntimeException e) {
+            drained.forEach((courseId, pendingDelta) -> pending.merge(courseId, pendingDelta, PendingDelta::merge));
+            log.warn("[course-like-counter] flush failed. courses : {}", drained.size(), e);
+        }
+    }
+
+    private static class PendingDelta {
+
+        private final long recordedAt;
+        private int delta;
+
+        PendingDelta(long recordedAt) {
+            this.recordedAt = recordedAt;
+        }
+
+        PendingDelta merge(PendingDelta other) {
+            PendingDelta merged = new PendingDelta(Math.min(recordedAt, other.recordedAt));
+            merged.delta = delta + other.delta;
+            return merged;
+        }
+    }
+}
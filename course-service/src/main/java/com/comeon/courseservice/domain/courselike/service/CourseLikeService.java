@@ -3,11 +3,15 @@ package com.comeon.courseservice.domain.courselike.service;
 import com.comeon.courseservice.common.exception.CustomException;
 import com.comeon.courseservice.common.exception.ErrorCode;
 import com.comeon.courseservice.domain.common.exception.EntityNotFoundException;
-import com.comeon.courseservice.domain.course.entity.Course;
-import com.comeon.courseservice.domain.courselike.entity.CourseLike;
+import com.comeon.courseservice.domain.course.entity.CourseStatus;
 import com.comeon.courseservice.domain.course.repository.CourseRepository;
+import com.comeon.courseservice.domain.courselike.event.CourseLikeChangedEvent;
 import com.comeon.courseservice.domain.courselike.repository.CourseLikeRepository;
+import com.comeon.courseservice.domain.courselike.repository.CourseLikeToggleRepository;
+import com.comeon.courseservice.domain.coursesearch.repository.CourseSearchRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,43 +23,51 @@ import java.util.Optional;
 public class CourseLikeService {
 
     private final CourseRepository courseRepository;
+    private final CourseSearchRepository courseSearchRepository;
     private final CourseLikeRepository courseLikeRepository;
+    private final CourseLikeToggleRepository courseLikeToggleRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectProvider<CourseLikeCounter> courseLikeCounterProvider;
 
+    /*
+        좋아요를 등록하거나, 이미 등록되어 있으면 취소한다. 엔티티를 조회하지 않는다.
+        - 등록은 insert 한 번으로 처리한다. 작성 완료된 코스이고 등록된 좋아요가 없을 때만 저장된다.
+        - 저장되지 않았으면 (코스, 유저)로 바로 delete 하여 취소한다. 삭제한 좋아요의 식별값은 조회하지 않는다.
+        - 둘 다 변경이 없을 때만 코스를 조회하여 예외를 구분한다.
+        동시에 같은 요청이 들어와도 유니크 인덱스로 중복 저장되지 않고, 변경된 행 수만큼만 좋아요 수를 증감한다.
+     */
     public Long updateCourseLike(Long courseId, Long userId) {
-        Course course = courseRepository.findById(courseId).orElseThrow(
-                () -> new EntityNotFoundException("해당 식별값의 코스가 존재하지 않습니다. 요청한 코스 식별값 : " + courseId)
-        );
+        Optional<Long> savedCourseLikeId = courseLikeToggleRepository.insertIfAbsent(courseId, userId);
+        if (savedCourseLikeId.isPresent()) {
+            changeLikeCount(courseId, userId, 1);
+            return savedCourseLikeId.get();
+        }
 
-        Optional<CourseLike> optionalCourseLike =
-                courseLikeRepository.findByCourseIdAndUserIdFetchCourse(courseId, userId);
-
-        if (optionalCourseLike.isEmpty()) { // 등록된 좋아요가 없는 경우
-            // 작성이 완료되지 않은 코스에는 좋아요를 등록할 수 없다.
-            if (!course.isWritingComplete()) {
-                throw new CustomException("작성 완료되지 않은 코스입니다. 요청한 코스 식별값 : " + course.getId(), ErrorCode.CAN_NOT_ACCESS_RESOURCE);
-            }
-
-            // 생성하고 저장
-            return saveCourseLike(
-                    CourseLike.builder()
-                            .course(course)
-                            .userId(userId)
-                            .build()
-            );
-        } else { // 등록된 좋아요가 있는 경우
-            // 좋아요가 등록된 코스의 count 1 감소
-            removeCourseLike(optionalCourseLike.get());
+        // 등록된 좋아요가 있는 경우, 삭제하고 코스의 count 1 감소
+        if (courseLikeRepository.deleteByCourseIdAndUserId(courseId, userId) > 0) {
+            changeLikeCount(courseId, userId, -1);
             return null;
         }
-    }
 
-    private Long saveCourseLike(CourseLike courseLike) {
-        return courseLikeRepository.save(courseLike).getId();
+        CourseStatus courseStatus = courseRepository.findCourseStatusById(courseId).orElseThrow(
+                () -> new EntityNotFoundException("해당 식별값의 코스가 존재하지 않습니다. 요청한 코스 식별값 : " + courseId)
+        );
+        // 작성이 완료되지 않은 코스에는 좋아요를 등록할 수 없다.
+        if (courseStatus != CourseStatus.COMPLETE) {
+            throw new CustomException("작성 완료되지 않은 코스입니다. 요청한 코스 식별값 : " + courseId, ErrorCode.CAN_NOT_ACCESS_RESOURCE);
+        }
+        // 동시에 들어온 다른 요청이 먼저 취소한 경우
+        return null;
     }
 
-    private void removeCourseLike(CourseLike courseLike) {
-        // 좋아요가 등록된 코스의 count 1 감소
-        courseLike.getCourse().decreaseLikeCount();
-        courseLikeRepository.delete(courseLike);
+    // 좋아요 카운터가 있으면 커밋 후 카운터에 더하고, 없으면 코스와 읽기 모델의 좋아요 수에 바로 더한다.
+    private void changeLikeCount(Long courseId, Long userId, int delta) {
+        eventPublisher.publishEvent(new CourseLikeChangedEvent(courseId, userId, delta));
+        if (courseLikeCounterProvider.getIfAvailable() != null) {
+            return;
+        }
+
+        courseRepository.addLikeCount(courseId, delta);
+        courseSearchRepository.addLikeCount(courseId, delta);
     }
 }
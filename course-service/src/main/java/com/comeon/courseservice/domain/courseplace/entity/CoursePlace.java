@@ -6,15 +6,38 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.TableGenerator;
 
 import javax.persistence.*;
 
+/*
+    IDENTITY 는 INSERT 마다 생성된 키를 받아야 해서 Hibernate 가 INSERT 를 배치로 묶지 않는다.
+    식별값을 시퀀스 테이블에서 50개씩 미리 받아, 여러 장소를 등록할 때 INSERT 를 한 번의 배치로 보낸다.
+    시퀀스 테이블은 요청이 쓰는 커넥션 풀과 별도인 식별값 할당 전용 풀로 갱신한다. (SeparatePoolTableGenerator)
+ */
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class CoursePlace extends BaseTimeEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 시퀀스 테이블의 값은 CoursePlaceIdSequenceInitializer 가 시작할 때 기존 장소의 식별값보다 크게 맞춘다.
+    public static final String ID_SEQUENCE_TABLE = "id_sequences";
+    public static final String ID_SEQUENCE_NAME = "course_place";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    @Id
+    @GeneratedValue(generator = "course_place_id_generator")
+    @GenericGenerator(
+            name = "course_place_id_generator",
+            strategy = "com.comeon.courseservice.domain.common.id.SeparatePoolTableGenerator",
+            parameters = {
+                    @Parameter(name = TableGenerator.TABLE_PARAM, value = ID_SEQUENCE_TABLE),
+                    @Parameter(name = TableGenerator.SEGMENT_VALUE_PARAM, value = ID_SEQUENCE_NAME),
+                    @Parameter(name = TableGenerator.INCREMENT_PARAM, value = "" + ID_ALLOCATION_SIZE)
+            }
+    )
     @Column(name = "course_place_id")
     private Long id;
 
@@ -0,0 +1,73 @@
+package com.comeon.courseservice.domain.courseplace.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import static com.comeon.courseservice.domain.courseplace.entity.CoursePlace.*;
+
+/*
+    장소 식별값 시퀀스(id_sequences)의 next_val 을 기존 장소의 최대 식별값보다 크게 맞춘다.
+    IDENTITY 로 저장된 장소가 있는 DB 에서 시퀀스가 1부터 시작하면 식별값이 겹친다.
+    요청을 받기 전에 끝나도록 웹 서버가 시작되기 전, 빈 초기화 단계에서 실행한다.
+    next_val 을 내리지 않으므로 여러 인스턴스가 동시에 시작해도 안전하다.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory") // ddl-auto 를 사용하는 환경에서 테이블이 만들어진 후에 실행한다.
+@RequiredArgsConstructor
+public class CoursePlaceIdSequenceInitializer implements InitializingBean {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 처음 시퀀스를 만들 때, 배포 중인 이전 버전 인스턴스가 AUTO_INCREMENT 로 저장할 장소를 위해 비워두는 식별값 수
+    @Value("${course.place-id-sequence.rollout-gap:10000}")
+    private long rolloutGap;
+
+    @Override
+    public void afterPropertiesSet() {
+        jdbcTemplate.execute(
+                "create table if not exists " + ID_SEQUENCE_TABLE
+                        + " (sequence_name varchar(255) not null, next_val bigint, primary key (sequence_name))"
+        );
+
+        // pooled 방식은 읽은 next_val 이하의 식별값 ID_ALLOCATION_SIZE 개를 사용한다.
+        Long maxId = jdbcTemplate.queryForObject("select coalesce(max(course_place_id), 0) from course_place", Long.class);
+        long minNextVal = maxId + ID_ALLOCATION_SIZE;
+
+        if (existsSequence()) {
+            raiseNextVal(minNextVal);
+        } else {
+            try {
+                jdbcTemplate.update(
+                        "insert into " + ID_SEQUENCE_TABLE + " (sequence_name, next_val) values (?, ?)",
+                        ID_SEQUENCE_NAME, minNextVal + rolloutGap
+                );
+            } catch (DuplicateKeyException e) {
+                // 다른 인스턴스가 먼저 만들었다.
+                raiseNextVal(minNextVal);
+            }
+        }
+        log.info("[course-place] id sequence initialized. max id : {}", maxId);
+    }
+
+    private void raiseNextVal(long minNextVal) {
+        jdbcTemplate.update(
+                "update " + ID_SEQUENCE_TABLE + " set next_val = ? where sequence_name = ? and next_val < ?",
+                minNextVal, ID_SEQUENCE_NAME, minNextVal
+        );
+    }
+
+    private boolean existsSequence() {
+        Long count = jdbcTemplate.queryForObject(
+                "select count(*) from " + ID_SEQUENCE_TABLE + " where sequence_name = ?",
+                Long.class, ID_SEQUENCE_NAME
+        );
+        return count > 0;
+    }
+}
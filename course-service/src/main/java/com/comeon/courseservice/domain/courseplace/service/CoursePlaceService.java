@@ -4,11 +4,13 @@ import com.comeon.courseservice.common.exception.CustomException;
 import com.comeon.courseservice.common.exception.ErrorCode;
 import com.comeon.courseservice.domain.common.exception.EntityNotFoundException;
 import com.comeon.courseservice.domain.course.entity.Course;
+import com.comeon.courseservice.domain.course.event.CourseChangedEvent;
 import com.comeon.courseservice.domain.course.repository.CourseRepository;
 import com.comeon.courseservice.domain.courseplace.entity.CoursePlace;
 import com.comeon.courseservice.domain.courseplace.repository.CoursePlaceRepository;
 import com.comeon.courseservice.domain.courseplace.service.dto.CoursePlaceDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,21 +25,32 @@ public class CoursePlaceService {
 
     private final CourseRepository courseRepository;
     private final CoursePlaceRepository coursePlaceRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Long coursePlaceAdd(Long courseId, Long userId, CoursePlaceDto coursePlaceDto) {
-        Course course = getCourse(courseId);
+        return coursePlaceAdd(getCourseFetchPlaces(courseId), userId, coursePlaceDto);
+    }
+
+    // 장소까지 읽어둔 코스에 장소를 추가한다. 아래의 Course 를 받는 메서드들은 코스를 다시 조회하지 않는다.
+    public Long coursePlaceAdd(Course course, Long userId, CoursePlaceDto coursePlaceDto) {
         checkWriter(userId, course);
 
         coursePlaceDto.setOrder(course.getCoursePlaces().size() + 1);
         Long coursePlaceId = coursePlaceRepository.save(coursePlaceDto.toEntity(course)).getId();
 
         course.availableCourse();
+        eventPublisher.publishEvent(CourseChangedEvent.of(course));
 
         return coursePlaceId;
     }
 
     public void coursePlaceModify(Long courseId, Long userId, Long coursePlaceId, CoursePlaceDto coursePlaceDto) {
-        CoursePlace coursePlace = findCoursePlace(coursePlaceId, courseId, userId);
+        coursePlaceModify(getCourseFetchPlaces(courseId), userId, coursePlaceId, coursePlaceDto);
+    }
+
+    public void coursePlaceModify(Course course, Long userId, Long coursePlaceId, CoursePlaceDto coursePlaceDto) {
+        CoursePlace coursePlace = findCoursePlace(course, coursePlaceId);
+        checkWriter(userId, course);
 
         if (coursePlaceDto.getDescription() != null) {
             coursePlace.updateDescription(coursePlaceDto.getDescription());
@@ -50,36 +63,50 @@ public class CoursePlaceService {
             Integer originalOrder = coursePlace.getOrder();
             Integer targetOrder = coursePlaceDto.getOrder();
 
-            CoursePlace targetPlace = coursePlaceRepository.findByCourseIdAndOrder(courseId, targetOrder)
+            CoursePlace targetPlace = course.getCoursePlaces().stream()
+                    .filter(place -> Objects.equals(place.getOrder(), targetOrder))
+                    .findFirst()
                     .orElseThrow(
                             () -> new CustomException("코스에 " + targetOrder + "번 순서의 장소가 없습니다.", ErrorCode.NOT_EXIST_PLACE_ORDER)
                     );
 
             coursePlace.updateOrder(targetOrder);
             targetPlace.updateOrder(originalOrder);
+            course.updateFirstPlace();
         }
+
+        // 설명, 카테고리만 바뀌어도 코스 상세 캐시에 남은 장소 정보를 비워야 한다.
+        eventPublisher.publishEvent(CourseChangedEvent.of(course));
     }
 
     public void coursePlaceRemove(Long courseId, Long userId, Long coursePlaceId) {
-        CoursePlace coursePlace = findCoursePlace(coursePlaceId, courseId, userId);
+        coursePlaceRemove(getCourseFetchPlaces(courseId), userId, coursePlaceId);
+    }
+
+    public void coursePlaceRemove(Course course, Long userId, Long coursePlaceId) {
+        CoursePlace coursePlace = findCoursePlace(course, coursePlaceId);
+        checkWriter(userId, course);
 
+        course.getCoursePlaces().remove(coursePlace);
         coursePlaceRepository.delete(coursePlace);
 
-        List<CoursePlace> coursePlaces = coursePlaceRepository.findAllByCourseId(courseId);
-        decreaseAfterOrder(coursePlaces, coursePlace.getOrder());
+        decreaseAfterOrder(course.getCoursePlaces(), coursePlace.getOrder());
 
-        if (coursePlaces.size() == 0) {
-            coursePlace.getCourse().disabledCourse();
+        if (course.getCoursePlaces().size() == 0) {
+            course.disabledCourse();
+        } else {
+            course.updateFirstPlace();
         }
+        eventPublisher.publishEvent(CourseChangedEvent.of(course));
     }
 
-    private CoursePlace findCoursePlace(Long coursePlaceId, Long courseId, Long userId) {
-        CoursePlace coursePlace = coursePlaceRepository.findByIdFetchCourse(coursePlaceId)
+    private CoursePlace findCoursePlace(Course course, Long coursePlaceId) {
+        return course.getCoursePlaces().stream()
+                .filter(coursePlace -> coursePlace.getId().equals(coursePlaceId))
+                .findFirst()
                 .orElseThrow(
-                        () -> new EntityNotFoundException("코스 장소가 없습니다. 요청한 코스 식별값 : " + courseId + ", 요청한 장소 식별값 : " + coursePlaceId)
+                        () -> new EntityNotFoundException("코스 장소가 없습니다. 요청한 코스 식별값 : " + course.getId() + ", 요청한 장소 식별값 : " + coursePlaceId)
                 );
-        checkWriter(userId, coursePlace.getCourse());
-        return coursePlace;
     }
 
     private void decreaseAfterOrder(List<CoursePlace> coursePlaces, Integer deletedOrder) {
@@ -92,9 +119,13 @@ public class CoursePlaceService {
                                        List<CoursePlaceDto> dtosToSave,
                                        List<CoursePlaceDto> dtosToModify,
                                        List<Long> coursePlaceIdsToDelete) {
+        batchUpdateCoursePlace(getCourseFetchPlaces(courseId), userId, dtosToSave, dtosToModify, coursePlaceIdsToDelete);
+    }
 
-        Course course = getCourse(courseId);
-
+    public void batchUpdateCoursePlace(Course course, Long userId,
+                                       List<CoursePlaceDto> dtosToSave,
+                                       List<CoursePlaceDto> dtosToModify,
+                                       List<Long> coursePlaceIdsToDelete) {
         checkWriter(userId, course);
 
         // 삭제
@@ -117,17 +148,19 @@ public class CoursePlaceService {
         checkPlaceOrders(course);
 
         course.updateCourseState();
+        eventPublisher.publishEvent(CourseChangedEvent.of(course));
     }
 
-
-    /* === private method === */
-    private Course getCourse(Long courseId) {
+    // 장소까지 한 번에 읽는다. 요청 하나가 이 코스로 검증, 변경, 응답 생성을 모두 처리한다.
+    public Course getCourseFetchPlaces(Long courseId) {
         return courseRepository.findByIdFetchCoursePlaces(courseId)
                 .orElseThrow(
                         () -> new EntityNotFoundException("해당 식별자를 가진 Course가 없습니다. 요청한 Course 식별값 : " + courseId)
                 );
     }
 
+
+    /* === private method === */
     private void checkWriter(Long userId, Course course) {
         if (!Objects.equals(course.getUserId(), userId)) {
             throw new CustomException("해당 코스의 작성자가 아닙니다. 요청한 유저 식별값 : " + userId, ErrorCode.NO_AUTHORITIES);
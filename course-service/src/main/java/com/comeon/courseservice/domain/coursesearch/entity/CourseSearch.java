@@ -0,0 +1,113 @@
+package com.comeon.courseservice.domain.coursesearch.entity;
+
+import com.comeon.courseservice.common.geo.GeoCell;
+import com.comeon.courseservice.domain.course.entity.Course;
+import com.comeon.courseservice.domain.course.entity.CourseStatus;
+import com.comeon.courseservice.domain.courseplace.entity.CoursePlace;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/*
+    코스 리스트 조회용 읽기 모델.
+    코스, 이미지, 첫번째 장소, 작성자 닉네임을 한 행에 모아두어 리스트 조회시 조인과 user-service 호출이 없도록 한다.
+    코스 쓰기 트랜잭션 안에서 CourseSearchProjector 가 갱신하고, 작성자 정보는 user-service 의 유저 변경 메시지로 갱신한다.
+    좋아요 수는 처음 만들 때만 코스에서 복사하고, 이후에는 CourseLikeCounter 가 like_count = like_count + :delta 로 따로 반영한다.
+    코스 변경을 반영할 때 읽어둔 좋아요 수로 덮어쓰지 않도록 변경된 컬럼만 UPDATE 한다.
+ */
+@Entity @Getter
+@DynamicUpdate
+@Table(name = "course_search", indexes = {
+        // 주변 코스 리스트의 조건, 거리 계산, 정렬 컬럼을 모두 담아 테이블을 읽지 않고 페이지의 코스들을 찾는다.
+        // 거리는 계산한 값이라 인덱스 순서로 정렬할 수 없으므로, 반경 사각형 안의 모든 코스를 정렬한 뒤에 페이지를 자른다.
+        // likeCount, updatedDate 가 없으면 사각형 안의 모든 코스마다 기본 키로 테이블 행을 읽어야 한다.
+        // 대신 좋아요 수가 바뀌면 인덱스 항목도 다시 쓴다. CourseLikeCounter 가 코스별 증감을 모아 flush-interval 마다
+        // 한 번씩만 반영하므로, 코스 하나의 인덱스 항목은 주기당 최대 한 번 바뀐다. updatedDate 는 코스를 수정할 때만 바뀐다.
+        // 위 내용은 MySQL 에서 측정하지 않은 예상이다. 정의를 바꾸기 전에 MySQL 에서 EXPLAIN ANALYZE 로 실행 계획과 비용을 확인한다.
+        @Index(name = "idx_course_search_geo_cell", columnList = "searchGeoCell, firstPlaceLat, firstPlaceLng, courseStatus, likeCount, updatedDate, course_id"),
+        // 등록한 코스 리스트의 정렬, 커서 조건과 같은 순서. 상태 조건도 인덱스에서 검사한다.
+        @Index(name = "idx_course_search_user_updated_date", columnList = "userId, updatedDate, course_id, courseStatus")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CourseSearch {
+
+    @Id
+    @Column(name = "course_id")
+    private Long courseId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false, length = 20)
+    @Enumerated(value = EnumType.STRING)
+    private CourseStatus courseStatus;
+
+    @Column(nullable = false)
+    private Integer likeCount;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedDate;
+
+    @Column(nullable = false)
+    private String imageStoredName;
+
+    private Long firstPlaceId;
+
+    private Double firstPlaceLat;
+
+    private Double firstPlaceLng;
+
+    // 작성 완료된 코스만 격자 셀을 가진다. 주변 코스 검색은 이 컬럼의 인덱스만 사용한다.
+    private Integer searchGeoCell;
+
+    private String writerNickname;
+
+    private boolean writerWithdrawn;
+
+    // 마지막으로 반영한 유저 변경 메시지의 version. user-service 에서 직접 조회한 정보면 null
+    private Long writerVersion;
+
+    public CourseSearch(Course course) {
+        this.courseId = course.getId();
+        this.userId = course.getUserId();
+        this.likeCount = course.getLikeCount();
+        update(course);
+    }
+
+    public void update(Course course) {
+        this.title = course.getTitle();
+        this.courseStatus = course.getCourseStatus();
+        this.updatedDate = course.getUpdatedDate();
+        this.imageStoredName = course.getCourseImage().getStoredName();
+
+        CoursePlace firstPlace = course.getCoursePlaces().stream()
+                .filter(coursePlace -> coursePlace.getOrder() == 1)
+                .findFirst()
+                .orElse(null);
+
+        if (firstPlace == null) {
+            this.firstPlaceId = null;
+            this.firstPlaceLat = null;
+            this.firstPlaceLng = null;
+            this.searchGeoCell = null;
+            return;
+        }
+        this.firstPlaceId = firstPlace.getId();
+        this.firstPlaceLat = firstPlace.getLat();
+        this.firstPlaceLng = firstPlace.getLng();
+        this.searchGeoCell = course.isWritingComplete() ? GeoCell.of(firstPlace.getLat(), firstPlace.getLng()) : null;
+    }
+
+    public void updateWriter(String writerNickname, boolean writerWithdrawn, Long writerVersion) {
+        this.writerNickname = writerNickname;
+        this.writerWithdrawn = writerWithdrawn;
+        this.writerVersion = writerVersion;
+    }
+}
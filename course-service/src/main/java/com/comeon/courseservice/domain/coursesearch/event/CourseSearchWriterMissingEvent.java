@@ -0,0 +1,12 @@
+package com.comeon.courseservice.domain.coursesearch.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 작성자 정보 없이 코스 리스트 읽기 모델이 만들어졌음을 알린다. 커밋 후 user-service 에서 조회하여 채운다.
+@Getter
+@AllArgsConstructor
+public class CourseSearchWriterMissingEvent {
+
+    private Long userId;
+}
@@ -0,0 +1,53 @@
+package com.comeon.courseservice.domain.coursesearch.repository;
+
+import com.comeon.courseservice.domain.coursesearch.entity.CourseSearch;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface CourseSearchRepository extends JpaRepository<CourseSearch, Long> {
+
+    // 같은 작성자의 다른 코스에 저장된 작성자 정보
+    Optional<CourseSearch> findFirstByUserIdAndCourseIdNot(Long userId, Long courseId);
+
+    // 더 최신인 유저 변경 메시지만 반영한다.
+    @Modifying(clearAutomatically = true)
+    @Query("update CourseSearch cs " +
+            "set cs.writerNickname = :nickname, cs.writerWithdrawn = :withdrawn, cs.writerVersion = :version " +
+            "where cs.userId = :userId and (cs.writerVersion is null or cs.writerVersion < :version)")
+    int updateWriter(@Param("userId") Long userId,
+                     @Param("nickname") String nickname,
+                     @Param("withdrawn") boolean withdrawn,
+                     @Param("version") Long version);
+
+    // user-service 에서 직접 조회한 작성자 정보는, 유저 변경 메시지가 반영되지 않은 행에만 저장한다.
+    @Modifying(clearAutomatically = true)
+    @Query("update CourseSearch cs " +
+            "set cs.writerNickname = :nickname, cs.writerWithdrawn = :withdrawn " +
+            "where cs.userId = :userId and cs.writerVersion is null")
+    int updateWriterIfNoVersion(@Param("userId") Long userId,
+                                @Param("nickname") String nickname,
+                                @Param("withdrawn") boolean withdrawn);
+
+    // 읽기 모델이 만들어지지 않은 코스
+    @Query("select c.id from Course c " +
+            "where not exists (select cs.courseId from CourseSearch cs where cs.courseId = c.id) " +
+            "order by c.id asc")
+    List<Long> findCourseIdsWithoutCourseSearch(Pageable pageable);
+
+    @Modifying
+    @Query("update CourseSearch cs set cs.likeCount = cs.likeCount + :delta where cs.courseId = :courseId")
+    int addLikeCount(@Param("courseId") Long courseId, @Param("delta") int delta);
+
+    // 읽어둔 값 그대로일 때만 바꾼다. 그 사이에 반영된 증감을 덮어쓰지 않는다.
+    @Modifying
+    @Query("update CourseSearch cs set cs.likeCount = :likeCount where cs.courseId = :courseId and cs.likeCount = :readLikeCount")
+    int updateLikeCount(@Param("courseId") Long courseId,
+                        @Param("readLikeCount") int readLikeCount,
+                        @Param("likeCount") int likeCount);
+}
@@ -0,0 +1,53 @@
+package com.comeon.courseservice.domain.coursesearch.service;
+
+import com.comeon.courseservice.domain.coursesearch.repository.CourseSearchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// 코스 리스트 읽기 모델이 추가되기 전에 저장된 코스들의 읽기 모델을 만든다.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "course.search.backfill.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class CourseSearchBackfill implements ApplicationRunner {
+
+    private final CourseSearchRepository courseSearchRepository;
+    private final CourseSearchProjector courseSearchProjector;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${course.search.backfill.batch-size:500}")
+    private int batchSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        int total = 0;
+        List<Long> courseIds;
+        do {
+            courseIds = courseSearchRepository.findCourseIdsWithoutCourseSearch(PageRequest.of(0, batchSize));
+            if (courseIds.isEmpty()) {
+                break;
+            }
+            List<Long> targetIds = courseIds;
+            transactionTemplate.executeWithoutResult(
+                    status -> targetIds.forEach(courseSearchProjector::project)
+            );
+            total += courseIds.size();
+        } while (courseIds.size() == batchSize);
+
+        if (total > 0) {
+            log.info("[course-search] course search backfilled. courses : {}", total);
+        }
+    }
+}
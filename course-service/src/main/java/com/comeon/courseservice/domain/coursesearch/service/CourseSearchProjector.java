@@ -0,0 +1,64 @@
+package com.comeon.courseservice.domain.coursesearch.service;
+
+import com.comeon.courseservice.domain.common.exception.EntityNotFoundException;
+import com.comeon.courseservice.domain.course.entity.Course;
+import com.comeon.courseservice.domain.course.event.CourseChangedEvent;
+import com.comeon.courseservice.domain.coursesearch.entity.CourseSearch;
+import com.comeon.courseservice.domain.coursesearch.event.CourseSearchWriterMissingEvent;
+import com.comeon.courseservice.domain.coursesearch.repository.CourseSearchRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.Optional;
+
+// 코스가 변경된 트랜잭션 안에서 코스 리스트 읽기 모델을 함께 갱신한다.
+@Component
+@Transactional
+@RequiredArgsConstructor
+public class CourseSearchProjector {
+
+    private final EntityManager em;
+    private final CourseSearchRepository courseSearchRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @EventListener
+    public void onCourseChanged(CourseChangedEvent event) {
+        if (event.isRemoved()) {
+            courseSearchRepository.findById(event.getCourseId())
+                    .ifPresent(courseSearchRepository::delete);
+            return;
+        }
+        project(event.getCourseId());
+    }
+
+    public void project(Long courseId) {
+        // 새로 추가된 장소의 식별값이 필요하므로 먼저 반영한다.
+        em.flush();
+
+        // 같은 트랜잭션에서 변경한 코스는 영속성 컨텍스트에 있으므로 다시 조회하지 않는다.
+        Course course = Optional.ofNullable(em.find(Course.class, courseId))
+                .orElseThrow(
+                        () -> new EntityNotFoundException("해당 식별자를 가진 Course가 없습니다. 요청한 Course 식별값 : " + courseId)
+                );
+
+        CourseSearch courseSearch = courseSearchRepository.findById(courseId).orElse(null);
+        if (courseSearch != null) {
+            courseSearch.update(course);
+            return;
+        }
+
+        courseSearch = new CourseSearch(course);
+        CourseSearch writerSource = courseSearchRepository.findFirstByUserIdAndCourseIdNot(course.getUserId(), courseId)
+                .orElse(null);
+        if (writerSource != null) {
+            courseSearch.updateWriter(writerSource.getWriterNickname(), writerSource.isWriterWithdrawn(), writerSource.getWriterVersion());
+        } else {
+            eventPublisher.publishEvent(new CourseSearchWriterMissingEvent(course.getUserId()));
+        }
+        courseSearchRepository.save(courseSearch);
+    }
+}
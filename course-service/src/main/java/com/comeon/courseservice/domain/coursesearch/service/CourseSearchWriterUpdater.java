@@ -0,0 +1,33 @@
+package com.comeon.courseservice.domain.coursesearch.service;
+
+import com.comeon.courseservice.domain.coursesearch.repository.CourseSearchRepository;
+import com.comeon.courseservice.domain.coursesearch.service.dto.UserChangedMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Consumer;
+
+// 유저 변경 메시지를 코스 리스트 읽기 모델의 작성자 정보에 반영한다.
+// 중복되거나 순서가 바뀐 메시지는 version 비교로 무시된다.
+@Slf4j
+@RequiredArgsConstructor
+public class CourseSearchWriterUpdater implements Consumer<UserChangedMessage> {
+
+    private final CourseSearchRepository courseSearchRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void accept(UserChangedMessage message) {
+        Integer updated = transactionTemplate.execute(
+                status -> courseSearchRepository.updateWriter(
+                        message.getUserId(),
+                        message.isWithdrawn() ? null : message.getNickname(),
+                        message.isWithdrawn(),
+                        message.getVersion()
+                )
+        );
+        log.debug("[course-search] writer updated. userId : {}, version : {}, courses : {}",
+                message.getUserId(), message.getVersion(), updated);
+    }
+}
@@ -0,0 +1,47 @@
+package com.comeon.courseservice.web.common.cursor;
+
+import com.comeon.courseservice.common.exception.CustomException;
+import com.comeon.courseservice.common.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/*
+    커서 기반 페이징의 커서 값.
+    마지막으로 조회한 데이터의 정렬 키들을 구분자로 이어 URL 에 안전한 Base64 로 인코딩한다.
+    클라이언트는 구조를 알 필요 없이 응답의 nextCursor 를 다음 요청에 그대로 보낸다.
+ */
+public final class CursorCodec {
+
+    private static final String DELIMITER = "|";
+
+    private CursorCodec() {
+    }
+
+    public static String encode(Object... values) {
+        String joined = Arrays.stream(values)
+                .map(String::valueOf)
+                .collect(Collectors.joining(DELIMITER));
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(joined.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 형식이 맞지 않는 커서는 CustomException 발생
+    public static <T> T decode(String cursor, int size, Function<String[], T> parser) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = decoded.split(Pattern.quote(DELIMITER), -1);
+            if (values.length == size) {
+                return parser.apply(values);
+            }
+        } catch (RuntimeException e) {
+            throw new CustomException("잘못된 커서 값입니다. 요청한 커서 : " + cursor, e, ErrorCode.INVALID_CURSOR);
+        }
+        throw new CustomException("잘못된 커서 값입니다. 요청한 커서 : " + cursor, ErrorCode.INVALID_CURSOR);
+    }
+}
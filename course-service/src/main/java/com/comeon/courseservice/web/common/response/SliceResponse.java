@@ -5,6 +5,8 @@ import lombok.Getter;
 import org.springframework.data.domain.Slice;
 
 import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Getter
 public class SliceResponse<T> {
@@ -18,9 +20,13 @@ public class SliceResponse<T> {
     private boolean isLast;
     private List<T> contents;
 
+    // 커서 기반 페이징으로 조회했고 다음 페이지가 있을 때만 값이 있다.
+    private String nextCursor;
+
     @Builder
     private SliceResponse(int currentSlice, int sizePerSlice, int numberOfElements,
-                          boolean hasPrevious, boolean hasNext, boolean isFirst, boolean isLast, List<T> contents) {
+                          boolean hasPrevious, boolean hasNext, boolean isFirst, boolean isLast, List<T> contents,
+                          String nextCursor) {
         this.currentSlice = currentSlice;
         this.sizePerSlice = sizePerSlice;
         this.numberOfElements = numberOfElements;
@@ -29,9 +35,14 @@ public class SliceResponse<T> {
         this.isFirst = isFirst;
         this.isLast = isLast;
         this.contents = contents;
+        this.nextCursor = nextCursor;
     }
 
     public static<T> SliceResponse<T> toSliceResponse(Slice<T> slice) {
+        return toSliceResponse(slice, null);
+    }
+
+    public static<T> SliceResponse<T> toSliceResponse(Slice<T> slice, String nextCursor) {
         return SliceResponse.<T>builder()
                 .currentSlice(slice.getNumber())
                 .sizePerSlice(slice.getSize())
@@ -41,6 +52,22 @@ public class SliceResponse<T> {
                 .isFirst(slice.isFirst())
                 .isLast(slice.isLast())
                 .contents(slice.getContent())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    // 내용만 바꾼 복사본
+    public <R> SliceResponse<R> map(Function<? super T, ? extends R> converter) {
+        return SliceResponse.<R>builder()
+                .currentSlice(currentSlice)
+                .sizePerSlice(sizePerSlice)
+                .numberOfElements(numberOfElements)
+                .hasPrevious(hasPrevious)
+                .hasNext(hasNext)
+                .isFirst(isFirst)
+                .isLast(isLast)
+                .contents(contents.stream().map(converter).collect(Collectors.toList()))
+                .nextCursor(nextCursor)
                 .build();
     }
 }
@@ -10,6 +10,7 @@ import com.comeon.courseservice.web.common.aop.ValidationRequired;
 import com.comeon.courseservice.web.common.file.FileManager;
 import com.comeon.courseservice.web.common.file.UploadedFileInfo;
 import com.comeon.courseservice.web.common.response.ApiResponse;
+import com.comeon.courseservice.web.common.response.ListResponse;
 import com.comeon.courseservice.web.common.response.SliceResponse;
 import com.comeon.courseservice.web.course.query.CourseQueryService;
 import com.comeon.courseservice.web.course.request.*;
@@ -104,6 +105,32 @@ public class CourseController {
         );
     }
 
+    // 위치 기반 추천 코스 목록 조회 GET /courses/recommendations
+    @ValidationRequired
+    @GetMapping("/recommendations")
+    public ApiResponse<ListResponse<CourseListResponse>> courseRecommendationList(
+            @CurrentUserId Long currentUserId,
+            @Validated @ModelAttribute CourseRecommendRequest request,
+            BindingResult bindingResult) {
+
+        return ApiResponse.createSuccess(
+                courseQueryService.getRecommendedCourseList(currentUserId, request.getLat(), request.getLng(), request.getSize())
+        );
+    }
+
+    // 이번 주 인기 코스 목록 조회 GET /courses/popular
+    @ValidationRequired
+    @GetMapping("/popular")
+    public ApiResponse<ListResponse<CourseListResponse>> coursePopularList(
+            @CurrentUserId Long currentUserId,
+            @Validated @ModelAttribute CoursePopularRequest request,
+            BindingResult bindingResult) {
+
+        return ApiResponse.createSuccess(
+                courseQueryService.getPopularCourseList(currentUserId, request.getLat(), request.getLng(), request.getSize())
+        );
+    }
+
     // TODO [로그인 필수]
     // 내가 등록한 코스 목록 조회 GET /courses/my
     @ValidationRequired
@@ -124,10 +151,11 @@ public class CourseController {
     @GetMapping("/like")
     public ApiResponse<SliceResponse<MyPageCourseListResponse>> myCourseLikeList(
             @CurrentUserId Long currentUserId,
-            @PageableDefault(size = 10, page = 0) Pageable pageable) {
+            @PageableDefault(size = 10, page = 0) Pageable pageable,
+            @RequestParam(required = false) String cursor) {
 
         return ApiResponse.createSuccess(
-                courseQueryService.getMyLikedCourseList(currentUserId, pageable)
+                courseQueryService.getMyLikedCourseList(currentUserId, cursor, pageable)
         );
     }
 
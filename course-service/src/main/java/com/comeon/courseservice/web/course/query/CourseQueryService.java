@@ -2,17 +2,32 @@ package com.comeon.courseservice.web.course.query;
 
 import com.comeon.courseservice.common.exception.CustomException;
 import com.comeon.courseservice.common.exception.ErrorCode;
+import com.comeon.courseservice.common.geo.SpatialGridIndex;
 import com.comeon.courseservice.domain.common.exception.EntityNotFoundException;
 import com.comeon.courseservice.domain.course.entity.Course;
 import com.comeon.courseservice.domain.course.entity.CourseStatus;
+import com.comeon.courseservice.domain.courselike.service.CourseLikeCounter;
 import com.comeon.courseservice.web.common.file.FileManager;
+import com.comeon.courseservice.web.common.response.ListResponse;
 import com.comeon.courseservice.web.common.response.SliceResponse;
+import com.comeon.courseservice.web.course.query.cache.CourseDetailCache;
+import com.comeon.courseservice.web.course.query.cache.CourseListCache;
+import com.comeon.courseservice.web.course.query.cache.LikedCourseCache;
+import com.comeon.courseservice.web.course.query.popular.PopularCourseBoard;
+import com.comeon.courseservice.web.course.query.popular.PopularCourseTracker;
+import com.comeon.courseservice.web.course.query.recommend.CourseRecommendIndex;
+import com.comeon.courseservice.web.course.query.recommend.CourseRecommender;
 import com.comeon.courseservice.web.course.query.repository.CourseLikeQueryRepository;
 import com.comeon.courseservice.web.course.query.repository.cond.CourseCondition;
+import com.comeon.courseservice.web.course.query.repository.cond.CourseListCursor;
 import com.comeon.courseservice.web.course.query.repository.cond.MyCourseCondition;
+import com.comeon.courseservice.web.course.query.repository.cond.MyCourseListCursor;
 import com.comeon.courseservice.web.course.query.repository.dto.CourseListData;
 import com.comeon.courseservice.web.course.query.repository.CourseQueryRepository;
+import com.comeon.courseservice.web.course.query.repository.dto.CourseSummaryData;
 import com.comeon.courseservice.web.course.query.repository.dto.MyPageCourseListData;
+import com.comeon.courseservice.web.course.query.search.CourseTitleIndex;
+import com.comeon.courseservice.web.course.query.spatial.CourseSpatialIndex;
 import com.comeon.courseservice.web.course.response.CourseDetailResponse;
 import com.comeon.courseservice.web.course.response.CourseListResponse;
 import com.comeon.courseservice.web.course.response.MyPageCourseListResponse;
@@ -21,32 +36,68 @@ import com.comeon.courseservice.web.feign.userservice.UserFeignService;
 import com.comeon.courseservice.web.feign.userservice.response.UserDetailsResponse;
 import com.comeon.courseservice.web.feign.userservice.response.UserStatus;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class CourseQueryService {
 
     @Value("${s3.folder-name.course}")
     private String dirName;
 
+    // 작성자 정보 조회를 기다리는 최대 시간. 지나면 닉네임 없이 응답한다.
+    @Value("${course.query.user-lookup-timeout:3s}")
+    private Duration userLookupTimeout;
+
+    // 좋아요 여부 조회를 기다리는 최대 시간. 지나면 좋아요하지 않은 것으로 응답한다.
+    @Value("${course.query.like-lookup-timeout:3s}")
+    private Duration likeLookupTimeout;
+
     private final FileManager fileManager;
 
     private final UserFeignService userFeignService;
+    private final ThreadPoolTaskExecutor courseQueryExecutor;
+    private final PlatformTransactionManager transactionManager;
 
     private final CourseQueryRepository courseQueryRepository;
     private final CourseLikeQueryRepository courseLikeQueryRepository;
 
+    // 설정으로 비활성화되면 없다.
+    private final ObjectProvider<CourseSpatialIndex> courseSpatialIndexProvider;
+    private final ObjectProvider<CourseTitleIndex> courseTitleIndexProvider;
+    private final ObjectProvider<CourseDetailCache> courseDetailCacheProvider;
+    private final ObjectProvider<CourseListCache> courseListCacheProvider;
+    private final ObjectProvider<LikedCourseCache> likedCourseCacheProvider;
+    private final ObjectProvider<CourseRecommender> courseRecommenderProvider;
+    private final ObjectProvider<PopularCourseTracker> popularCourseTrackerProvider;
+    private final ObjectProvider<CourseLikeCounter> courseLikeCounterProvider;
+
+    @Transactional(readOnly = true)
     public CourseStatus getCourseStatus(Long courseId) {
         return courseQueryRepository.findById(courseId)
                 .map(Course::getCourseStatus)
@@ -55,121 +106,386 @@ public class CourseQueryService {
                 );
     }
 
+    /*
+        유저와 관계없는 코스 상세 정보는 캐시에서 찾고, 없으면 DB 와 user-service 에서 읽는다.
+        요청한 유저의 좋아요 여부는 그동안 별도 스레드에서 조회하여 응답에 덮어쓴다.
+     */
     public CourseDetailResponse getCourseDetails(Long courseId, Long userId) {
-        Course course = courseQueryRepository.findByIdFetchAll(courseId)
-                .orElseThrow(
-                        () -> new EntityNotFoundException("해당 식별값의 코스가 존재하지 않습니다. 요청한 코스 식별값 : " + courseId)
-                );
+        CompletableFuture<Boolean> userLikedFuture = CompletableFuture.completedFuture(false);
+        if (Objects.nonNull(userId)) {
+            userLikedFuture = CompletableFuture.supplyAsync(
+                    () -> doesUserLikeCourse(userId, courseId), courseQueryExecutor
+            );
+        }
+
+        CourseDetailCache courseDetailCache = courseDetailCacheProvider.getIfAvailable();
+        CourseDetailResponse courseDetails = Objects.isNull(courseDetailCache)
+                ? loadCourseDetails(courseId)
+                : courseDetailCache.get(courseId, this::loadCourseDetails);
 
         // 해당 코스 작성자가 아니라면, 작성 완료되지 않은 코스는 조회 X
-        if (!course.getUserId().equals(userId)) {
-            if (course.getCourseStatus() == CourseStatus.WRITING) {
+        if (!courseDetails.getWriter().getId().equals(userId)) {
+            if (courseDetails.getCourseStatus() == CourseStatus.WRITING) {
                 throw new CustomException("작성 완료되지 않은 코스입니다. 요청한 코스 식별값 : " + courseId, ErrorCode.WRITING_COURSE);
             }
-            if (course.getCourseStatus() == CourseStatus.DISABLED) {
+            if (courseDetails.getCourseStatus() == CourseStatus.DISABLED) {
                 throw new CustomException("비활성화 된 코스입니다. 요청한 코스 식별값 : " + courseId, ErrorCode.DISABLED_COURSE);
             }
         }
 
-        // 코스 작성자 닉네임 가져오기
-        UserDetailInfo userDetailInfo = getUserDetailInfo(course.getUserId());
+        return courseDetails.withUserLiked(awaitUserLiked(courseId, userLikedFuture));
+    }
+
+    /*
+        DB 조회는 읽기 전용 트랜잭션에서 끝내고, 작성자 정보는 트랜잭션이 끝난 후에 채운다.
+        user-service 가 느려도 커넥션을 붙잡고 있지 않도록 하기 위함이다.
+        작성자 식별값을 찾으면 바로 user-service 조회를 시작하여 나머지 DB 조회와 함께 진행한다.
+     */
+    private CourseDetailResponse loadCourseDetails(Long courseId) {
+        CompletableFuture<Long> writerIdFuture = new CompletableFuture<>();
+        CompletableFuture<UserDetailInfo> userDetailInfoFuture = writerIdFuture.thenApplyAsync(
+                this::getUserDetailInfo, courseQueryExecutor
+        );
+
+        CourseDetailResponse courseDetailResponse = readOnlyTransactionTemplate().execute(
+                status -> findCourseDetails(courseId, writerIdFuture)
+        );
+
+        Long writerId = courseDetailResponse.getWriter().getId();
+        courseDetailResponse.updateWriter(awaitUserDetailInfo(writerId, userDetailInfoFuture));
+        return courseDetailResponse;
+    }
+
+    // 작성자 닉네임과 유저의 좋아요 여부가 없는 응답을 만든다.
+    private CourseDetailResponse findCourseDetails(Long courseId, CompletableFuture<Long> writerIdFuture) {
+        Course course = courseQueryRepository.findByIdFetchAll(courseId)
+                .orElseThrow(
+                        () -> new EntityNotFoundException("해당 식별값의 코스가 존재하지 않습니다. 요청한 코스 식별값 : " + courseId)
+                );
+
+        // 코스 작성자 닉네임 조회 시작
+        writerIdFuture.complete(course.getUserId());
 
         // 코스 이미지 처리
         String fileUrl = getCourseImageUrl(course.getCourseImage().getStoredName());
 
-        // 코스 좋아요 조회
-        boolean userLiked = doesUserLikeCourse(userId, course);
+        CourseDetailResponse courseDetailResponse =
+                new CourseDetailResponse(course, new UserDetailInfo(course.getUserId(), null), fileUrl, null);
 
-        return new CourseDetailResponse(course, userDetailInfo, fileUrl, userLiked);
+        // 좋아요 카운터에 모여있는 증감은 아직 DB 에 반영되지 않았으므로 더해준다.
+        CourseLikeCounter courseLikeCounter = courseLikeCounterProvider.getIfAvailable();
+        if (Objects.nonNull(courseLikeCounter)) {
+            courseDetailResponse.updateLikeCount(course.getLikeCount() + courseLikeCounter.getPendingDelta(courseId));
+        }
+        return courseDetailResponse;
     }
 
-    // 코스 리스트 조회
+    /*
+        코스 리스트 조회. 유저와 관계없는 응답을 만든 후 유저의 좋아요 여부를 덮어쓴다.
+        좌표가 없는 기본 위치의 첫 페이지는 캐시에 저장된 응답을 사용한다.
+     */
     public SliceResponse<CourseListResponse> getCourseList(Long userId,
                                                            CourseCondition courseCondition,
                                                            Pageable pageable) {
-        Slice<CourseListData> courseSlice = courseQueryRepository.findCourseSlice(userId, courseCondition, pageable);
+        CourseListCache courseListCache = courseListCacheProvider.getIfAvailable();
+        Optional<CourseListCache.Key> cacheKey = Optional.empty();
+        if (Objects.nonNull(courseListCache)) {
+            cacheKey = courseListCache.keyOf(courseCondition, pageable);
+        }
+
+        SliceResponse<CourseListResponse> courseList = cacheKey.isPresent()
+                ? courseListCache.get(cacheKey.get(), key -> findCourseList(key.toCondition(), pageable))
+                : findCourseList(courseCondition, pageable);
+
+        // 조회 결과 중 유저가 좋아요한 코스
+        Set<Long> likedCourseIds = findLikedCourseIds(
+                userId,
+                courseList.getContents().stream()
+                        .map(CourseListResponse::getCourseId)
+                        .collect(Collectors.toList())
+        );
+
+        return courseList.map(
+                courseListResponse -> courseListResponse.withUserLiked(
+                        likedCourseIds.contains(courseListResponse.getCourseId())
+                )
+        );
+    }
+
+    // 좋아요 여부가 없는 코스 리스트
+    private SliceResponse<CourseListResponse> findCourseList(CourseCondition courseCondition, Pageable pageable) {
+        Pageable slicePageable = getSlicePageable(courseCondition.isCursorPaging(), pageable);
+
+        // 공간 인덱스를 사용할 수 없으면 DB 에서 검색한다.
+        Slice<CourseListData> courseSlice = readOnlyTransactionTemplate().execute(
+                status -> findNearbyCourseSlice(courseCondition, slicePageable)
+                        .orElseGet(() -> findCourseSlice(courseCondition, slicePageable))
+        );
+
+        Slice<CourseListResponse> courseListResponseSlice = courseSlice.map(this::toCourseListResponse);
+
+        String nextCursor = null;
+        if (courseCondition.isCursorPaging() && courseSlice.hasNext()) {
+            CourseListData last = courseSlice.getContent().get(courseSlice.getNumberOfElements() - 1);
+            nextCursor = new CourseListCursor(
+                    last.getDistance(),
+                    last.getCourseSummary().getLikeCount(),
+                    last.getCourseSummary().getUpdatedDate(),
+                    last.getCourseSummary().getCourseId()
+            ).encode();
+        }
+
+        return SliceResponse.toSliceResponse(courseListResponseSlice, nextCursor);
+    }
+
+    // 작성자 정보는 읽기 모델에 함께 저장되어 있다.
+    private CourseListResponse toCourseListResponse(CourseListData courseListData) {
+        return new CourseListResponse(
+                courseListData.getCourseSummary(),
+                courseListData.getDistance(),
+                getWriter(courseListData.getCourseSummary()),
+                getCourseImageUrl(courseListData.getCourseSummary().getImageStoredName()),
+                null
+        );
+    }
+
+    /*
+        공간 인덱스에서 가까운 코스 식별값들을 찾고, 해당 페이지의 코스들만 식별값으로 조회한다.
+        제목 검색 조건이 있거나 인덱스가 준비되지 않았다면 비어있는 값을 반환한다.
+        커서 기반 페이징도 DB 에서 검색한다. 커서의 거리는 DB 에서 계산한 값과 비교해야 하기 때문이다.
+        인덱스에 있는 코스가 DB 에서 검색 대상이 아니면 인덱스에서 제거하고 비어있는 값을 반환한다.
+     */
+    private Optional<Slice<CourseListData>> findNearbyCourseSlice(CourseCondition courseCondition,
+                                                                   Pageable pageable) {
+        String title = courseCondition.getTitle();
+        if (Objects.nonNull(title) && !title.isBlank()) {
+            return Optional.empty();
+        }
+        if (courseCondition.isCursorPaging()) {
+            return Optional.empty();
+        }
+        CourseSpatialIndex courseSpatialIndex = courseSpatialIndexProvider.getIfAvailable();
+        if (Objects.isNull(courseSpatialIndex)) {
+            return Optional.empty();
+        }
+
+        double lat = CourseQueryRepository.LAT;
+        double lng = CourseQueryRepository.LNG;
+        if (Objects.nonNull(courseCondition.getCoordinate())) {
+            lat = courseCondition.getCoordinate().getLat();
+            lng = courseCondition.getCoordinate().getLng();
+        }
+
+        int offset = (int) pageable.getOffset();
+        int pageSize = pageable.getPageSize();
+        Optional<List<SpatialGridIndex.Neighbor>> nearest = courseSpatialIndex.nearest(
+                lat, lng, offset + pageSize + 1, CourseQueryRepository.DISTANCE_LIMIT_KM
+        );
+        if (nearest.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<SpatialGridIndex.Neighbor> neighbors = nearest.get();
+        List<SpatialGridIndex.Neighbor> pageNeighbors = neighbors.subList(
+                Math.min(offset, neighbors.size()),
+                Math.min(offset + pageSize, neighbors.size())
+        );
+        List<CourseListData> courseListDatas = courseQueryRepository.findCourseListDataByNeighbors(pageNeighbors);
+
+        if (courseListDatas.size() != pageNeighbors.size()) {
+            Set<Long> foundCourseIds = courseListDatas.stream()
+                    .map(courseListData -> courseListData.getCourseSummary().getCourseId())
+                    .collect(Collectors.toSet());
+            pageNeighbors.stream()
+                    .map(SpatialGridIndex.Neighbor::getId)
+                    .filter(courseId -> !foundCourseIds.contains(courseId))
+                    .forEach(courseSpatialIndex::remove);
+            return Optional.empty();
+        }
+
+        return Optional.of(new SliceImpl<>(courseListDatas, pageable, neighbors.size() > offset + pageSize));
+    }
+
+    /*
+        제목 검색 조건이 있으면 제목 검색 인덱스가 찾은 코스들 중에서 조회한다.
+        인덱스를 사용할 수 없거나 찾은 코스가 너무 많으면 DB 의 LIKE 검색을 사용한다.
+     */
+    private Slice<CourseListData> findCourseSlice(CourseCondition courseCondition, Pageable pageable) {
+        String title = courseCondition.getTitle();
+        CourseTitleIndex courseTitleIndex = courseTitleIndexProvider.getIfAvailable();
+        if (Objects.isNull(title) || title.isBlank() || Objects.isNull(courseTitleIndex)) {
+            return courseQueryRepository.findCourseSlice(courseCondition, pageable);
+        }
 
-        // 조회 결과에서 작성자 id 리스트 추출
-        List<Long> writerIds = courseSlice.getContent().stream()
-                .map(courseListData -> courseListData.getCourse().getUserId())
-                .distinct()
+        Optional<List<Long>> titleMatchedCourseIds = courseTitleIndex.search(title);
+        if (titleMatchedCourseIds.isEmpty()) {
+            return courseQueryRepository.findCourseSlice(courseCondition, pageable);
+        }
+        if (titleMatchedCourseIds.get().isEmpty()) {
+            return new SliceImpl<>(new ArrayList<>(), pageable, false);
+        }
+        return courseQueryRepository.findCourseSlice(courseCondition, titleMatchedCourseIds.get(), pageable);
+    }
+
+    /*
+        위치 기반 추천 코스 리스트. 추천 인덱스가 고른 코스들만 식별값으로 조회하고, 추천 순서를 유지한다.
+        추천 인덱스를 사용할 수 없으면 거리순 코스 리스트의 첫 페이지로 응답한다.
+     */
+    public ListResponse<CourseListResponse> getRecommendedCourseList(Long userId, double lat, double lng, int size) {
+        List<CourseListResponse> courseList = findRecommendedCourseList(lat, lng, size)
+                .orElseGet(() -> findCourseList(new CourseCondition(null, lat, lng), PageRequest.of(0, size)).getContents());
+
+        // 조회 결과 중 유저가 좋아요한 코스
+        Set<Long> likedCourseIds = findLikedCourseIds(
+                userId,
+                courseList.stream()
+                        .map(CourseListResponse::getCourseId)
+                        .collect(Collectors.toList())
+        );
+
+        return ListResponse.toListResponse(
+                courseList.stream()
+                        .map(courseListResponse -> courseListResponse.withUserLiked(
+                                likedCourseIds.contains(courseListResponse.getCourseId())
+                        ))
+                        .collect(Collectors.toList())
+        );
+    }
+
+    // 추천 인덱스에는 있지만 더 이상 검색 대상이 아닌 코스는 제외된다.
+    private Optional<List<CourseListResponse>> findRecommendedCourseList(double lat, double lng, int size) {
+        CourseRecommender courseRecommender = courseRecommenderProvider.getIfAvailable();
+        if (Objects.isNull(courseRecommender)) {
+            return Optional.empty();
+        }
+        Optional<List<CourseRecommendIndex.Recommendation>> recommendations = courseRecommender.recommend(lat, lng, size);
+        if (recommendations.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<SpatialGridIndex.Neighbor> recommendedCourses = recommendations.get().stream()
+                .map(recommendation -> new SpatialGridIndex.Neighbor(recommendation.getCourseId(), recommendation.getDistanceKm()))
                 .collect(Collectors.toList());
+        List<CourseListData> courseListDatas = readOnlyTransactionTemplate().execute(
+                status -> courseQueryRepository.findCourseListDataByNeighbors(recommendedCourses)
+        );
+        return Optional.of(
+                courseListDatas.stream()
+                        .map(this::toCourseListResponse)
+                        .collect(Collectors.toList())
+        );
+    }
 
-        // 작성자 id 리스트로 유저들 정보 조회
-        Map<Long, UserDetailInfo> userDetailInfoMap = getUserDetailInfoMap(writerIds);
+    /*
+        최근 좋아요가 많이 등록된 코스 리스트. 좌표가 있으면 주변 지역, 없으면 전체에서 찾는다.
+        인기 코스 목록이 고른 코스들만 식별값으로 조회하고, 순서를 유지한다. 목록을 사용할 수 없으면 비어있는 리스트로 응답한다.
+     */
+    public ListResponse<CourseListResponse> getPopularCourseList(Long userId, Double lat, Double lng, int size) {
+        PopularCourseTracker popularCourseTracker = popularCourseTrackerProvider.getIfAvailable();
+        List<Long> popularCourseIds = Optional.ofNullable(popularCourseTracker)
+                .flatMap(tracker -> tracker.popular(lat, lng, size))
+                .orElseGet(ArrayList::new)
+                .stream()
+                .map(PopularCourseBoard.PopularCourse::getCourseId)
+                .collect(Collectors.toList());
+        if (popularCourseIds.isEmpty()) {
+            return ListResponse.toListResponse(new ArrayList<>());
+        }
 
-        Slice<CourseListResponse> courseListResponseSlice = courseSlice.map(
-                courseListData -> CourseListResponse.builder()
-                        .course(courseListData.getCourse())
-                        .coursePlace(courseListData.getCoursePlace())
-                        .firstPlaceDistance(courseListData.getDistance())
-                        .imageUrl(getCourseImageUrl(courseListData.getCourse().getCourseImage().getStoredName()))
-                        .writer(
-                                userDetailInfoMap.getOrDefault(
-                                        courseListData.getCourse().getUserId(),
-                                        new UserDetailInfo(courseListData.getCourse().getUserId(), null)
-                                )
-                        )
-                        .userLiked(Objects.nonNull(courseListData.getUserLikeId()))
-                        .build()
+        List<CourseListData> courseListDatas = readOnlyTransactionTemplate().execute(
+                status -> courseQueryRepository.findCourseListDataByIds(popularCourseIds)
         );
+        Set<Long> likedCourseIds = findLikedCourseIds(userId, popularCourseIds);
+
+        return ListResponse.toListResponse(
+                courseListDatas.stream()
+                        .map(courseListData -> toCourseListResponse(withDistance(courseListData, lat, lng)))
+                        .map(courseListResponse -> courseListResponse.withUserLiked(
+                                likedCourseIds.contains(courseListResponse.getCourseId())
+                        ))
+                        .collect(Collectors.toList())
+        );
+    }
 
-        return SliceResponse.toSliceResponse(courseListResponseSlice);
+    // 좌표가 있으면 첫번째 장소까지의 거리를 채운다.
+    private CourseListData withDistance(CourseListData courseListData, Double lat, Double lng) {
+        CourseSummaryData found = courseListData.getCourseSummary();
+        if (Objects.isNull(lat) || Objects.isNull(lng) || Objects.isNull(found.getFirstPlaceLat())) {
+            return courseListData;
+        }
+        return new CourseListData(
+                found,
+                SpatialGridIndex.distanceKm(lat, lng, found.getFirstPlaceLat(), found.getFirstPlaceLng())
+        );
     }
 
     // 유저가 등록한 코스 리스트 조회
+    @Transactional(readOnly = true)
     public SliceResponse<MyPageCourseListResponse> getMyRegisteredCourseList(Long userId,
                                                                              MyCourseCondition condition,
                                                                              Pageable pageable) {
-        Slice<MyPageCourseListData> myCourseSlice = courseQueryRepository.findMyCourseSlice(userId, condition, pageable);
+        Slice<MyPageCourseListData> myCourseSlice = courseQueryRepository.findMyCourseSlice(
+                userId, condition, getSlicePageable(condition.isCursorPaging(), pageable)
+        );
 
-        // 유저 닉네임 조회
-        UserDetailInfo userDetailInfo = getUserDetailInfo(userId);
+        // 조회 결과 중 유저가 좋아요한 코스
+        Set<Long> likedCourseIds = findLikedCourseIds(
+                userId,
+                myCourseSlice.map(myPageCourseListData -> myPageCourseListData.getCourseSummary().getCourseId()).getContent()
+        );
 
         Slice<MyPageCourseListResponse> myCourseListResponseSlice = myCourseSlice.map(
-                myPageCourseListData -> MyPageCourseListResponse.builder()
-                        .course(myPageCourseListData.getCourse())
-                        .imageUrl(getCourseImageUrl(myPageCourseListData.getCourse().getCourseImage().getStoredName()))
-                        .writer(userDetailInfo)
-                        .userLiked(Objects.nonNull(myPageCourseListData.getUserLikeId()))
-                        .build()
+                myPageCourseListData -> new MyPageCourseListResponse(
+                        myPageCourseListData.getCourseSummary(),
+                        getWriter(myPageCourseListData.getCourseSummary()),
+                        getCourseImageUrl(myPageCourseListData.getCourseSummary().getImageStoredName()),
+                        likedCourseIds.contains(myPageCourseListData.getCourseSummary().getCourseId())
+                )
         );
 
-        return SliceResponse.toSliceResponse(myCourseListResponseSlice);
-    }
+        String nextCursor = null;
+        if (condition.isCursorPaging() && myCourseSlice.hasNext()) {
+            CourseSummaryData last = myCourseSlice.getContent().get(myCourseSlice.getNumberOfElements() - 1).getCourseSummary();
+            nextCursor = new MyCourseListCursor(last.getUpdatedDate(), last.getCourseId()).encode();
+        }
 
-    // 유저가 좋아요한 코스 리스트 조회
-    public SliceResponse<MyPageCourseListResponse> getMyLikedCourseList(Long userId, Pageable pageable) {
-        // 코스 리스트 조회
-        Slice<MyPageCourseListData> myLikedCourseSlice = courseQueryRepository.findMyLikedCourseSlice(userId, pageable);
+        return SliceResponse.toSliceResponse(myCourseListResponseSlice, nextCursor);
+    }
 
-        // 조회 결과에서 작성자 id 리스트 추출
-        List<Long> writerIds = myLikedCourseSlice.getContent().stream()
-                .map(courseListData -> courseListData.getCourse().getUserId())
-                .distinct()
-                .collect(Collectors.toList());
+    // 유저가 좋아요한 코스 리스트 조회. cursor 가 null 이면 페이지 번호로, 아니면 커서 기반으로 조회한다.
+    @Transactional(readOnly = true)
+    public SliceResponse<MyPageCourseListResponse> getMyLikedCourseList(Long userId, String cursor, Pageable pageable) {
+        boolean cursorPaging = Objects.nonNull(cursor);
+        MyCourseListCursor likedCourseCursor = null;
+        if (cursorPaging && !cursor.isBlank()) {
+            likedCourseCursor = MyCourseListCursor.decode(cursor);
+        }
 
-        // 작성자 id 리스토로 유저 닉네임 조회
-        Map<Long, UserDetailInfo> userDetailInfoMap = getUserDetailInfoMap(writerIds);
+        // 코스 리스트 조회
+        Slice<MyPageCourseListData> myLikedCourseSlice = courseQueryRepository.findMyLikedCourseSlice(
+                userId, likedCourseCursor, getSlicePageable(cursorPaging, pageable)
+        );
 
-        // 응답값 변환
+        // 응답값 변환. 작성자 정보는 읽기 모델에 함께 저장되어 있다.
         Slice<MyPageCourseListResponse> myLikedCourseListResponseSlice = myLikedCourseSlice.map(
-                courseListData -> MyPageCourseListResponse.builder()
-                        .course(courseListData.getCourse())
-                        .imageUrl(getCourseImageUrl(courseListData.getCourse().getCourseImage().getStoredName()))
-                        .writer(
-                                userDetailInfoMap.getOrDefault(
-                                        courseListData.getCourse().getUserId(),
-                                        new UserDetailInfo(courseListData.getCourse().getUserId(), null)
-                                )
-                        )
-                        .userLiked(Objects.nonNull(courseListData.getUserLikeId()))
-                        .build()
+                courseListData -> new MyPageCourseListResponse(
+                        courseListData.getCourseSummary(),
+                        getWriter(courseListData.getCourseSummary()),
+                        getCourseImageUrl(courseListData.getCourseSummary().getImageStoredName()),
+                        true
+                )
         );
 
-        return SliceResponse.toSliceResponse(myLikedCourseListResponseSlice);
+        String nextCursor = null;
+        if (cursorPaging && myLikedCourseSlice.hasNext()) {
+            MyPageCourseListData last = myLikedCourseSlice.getContent().get(myLikedCourseSlice.getNumberOfElements() - 1);
+            nextCursor = new MyCourseListCursor(last.getLikedDate(), last.getCourseLikeId()).encode();
+        }
+
+        return SliceResponse.toSliceResponse(myLikedCourseListResponseSlice, nextCursor);
     }
 
+    @Transactional(readOnly = true)
     public String getStoredFileName(Long courseId) {
         return courseQueryRepository.findByIdFetchCourseImg(courseId)
                 .orElseThrow(
@@ -194,33 +510,82 @@ public class CourseQueryService {
         return new UserDetailInfo(userId, userNickname);
     }
 
-    private Map<Long, UserDetailInfo> getUserDetailInfoMap(List<Long> userIds) {
-        // userStatus == WITHDRAWN 이면 탈퇴한 회원 처리
-        return userFeignService.getUserDetailsMap(userIds)
-                .entrySet()
-                .stream()
-                .collect(
-                        Collectors.toMap(
-                                Map.Entry::getKey,
-                                entry ->
-                                        new UserDetailInfo(
-                                                entry.getValue().getUserId(),
-                                                entry.getValue().getStatus().equals(UserStatus.WITHDRAWN)
-                                                        ? "탈퇴한 회원입니다."
-                                                        : entry.getValue().getNickname()
-                                        )
-                        )
-                );
+    // 작성자 정보 조회에 실패하거나 시간이 초과되면 닉네임 없이 반환한다.
+    private UserDetailInfo awaitUserDetailInfo(Long userId, CompletableFuture<UserDetailInfo> userDetailInfoFuture) {
+        try {
+            return userDetailInfoFuture.get(userLookupTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            userDetailInfoFuture.cancel(true);
+            log.warn("[course-details] user lookup timed out. userId : {}", userId);
+        } catch (ExecutionException e) {
+            log.error("[course-details] user lookup failed. userId : {}", userId, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return new UserDetailInfo(userId, null);
+    }
 
+    private UserDetailInfo getWriter(CourseSummaryData courseSummary) {
+        if (courseSummary.isWriterWithdrawn()) {
+            return new UserDetailInfo(courseSummary.getUserId(), "탈퇴한 회원입니다.");
+        }
+        return new UserDetailInfo(courseSummary.getUserId(), courseSummary.getWriterNickname());
     }
 
-    private boolean doesUserLikeCourse(Long userId, Course course) {
-        if (userId != null) {
-            return courseLikeQueryRepository.findByCourseAndUserId(course, userId).isPresent();
+    // 좋아요 캐시가 있으면 DB 를 조회하지 않는다.
+    private boolean doesUserLikeCourse(Long userId, Long courseId) {
+        LikedCourseCache likedCourseCache = likedCourseCacheProvider.getIfAvailable();
+        if (Objects.nonNull(likedCourseCache)) {
+            return likedCourseCache.isLiked(userId, courseId);
+        }
+        return readOnlyTransactionTemplate().execute(
+                status -> courseLikeQueryRepository.existsByCourseIdAndUserId(courseId, userId)
+        );
+    }
+
+    // courseIds 중 유저가 좋아요한 코스 식별값. 좋아요 캐시가 있으면 DB 를 조회하지 않는다.
+    private Set<Long> findLikedCourseIds(Long userId, List<Long> courseIds) {
+        if (Objects.isNull(userId) || courseIds.isEmpty()) {
+            return new HashSet<>();
+        }
+        LikedCourseCache likedCourseCache = likedCourseCacheProvider.getIfAvailable();
+        if (Objects.nonNull(likedCourseCache)) {
+            return likedCourseCache.filterLiked(userId, courseIds);
+        }
+        return readOnlyTransactionTemplate().execute(
+                status -> courseLikeQueryRepository.findLikedCourseIds(userId, courseIds)
+        );
+    }
+
+    // 좋아요 여부 조회에 실패하거나 시간이 초과되면 좋아요하지 않은 것으로 응답한다.
+    private boolean awaitUserLiked(Long courseId, CompletableFuture<Boolean> userLikedFuture) {
+        try {
+            return userLikedFuture.get(likeLookupTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            userLikedFuture.cancel(true);
+            log.warn("[course-details] like lookup timed out. courseId : {}", courseId);
+        } catch (ExecutionException e) {
+            log.error("[course-details] like lookup failed. courseId : {}", courseId, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
         return false;
     }
 
+    // 커서 기반 페이징이면 페이지 번호는 사용하지 않는다.
+    private Pageable getSlicePageable(boolean cursorPaging, Pageable pageable) {
+        if (cursorPaging) {
+            return PageRequest.of(0, pageable.getPageSize());
+        }
+        return pageable;
+    }
+
+    private TransactionTemplate readOnlyTransactionTemplate() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate;
+    }
+
     private String getCourseImageUrl(String storedFileName) {
         return fileManager.getFileUrl(storedFileName, dirName);
     }
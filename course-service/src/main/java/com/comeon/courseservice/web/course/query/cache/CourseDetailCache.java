@@ -0,0 +1,108 @@
+package com.comeon.courseservice.web.course.query.cache;
+
+import com.comeon.courseservice.domain.course.event.CourseChangedEvent;
+import com.comeon.courseservice.domain.courselike.event.CourseLikeChangedEvent;
+import com.comeon.courseservice.web.course.response.CourseDetailResponse;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/*
+    유저와 관계없는 코스 상세 정보(코스, 장소, 작성자, 이미지 URL)를 코스 식별값으로 보관한다.
+    요청한 유저의 좋아요 여부는 저장하지 않는다.
+    - 같은 코스를 동시에 조회하면 한 요청만 DB 에서 읽고, 나머지는 그 결과를 기다린다.
+    - 코스, 장소, 좋아요 수가 변경되어 커밋되면 해당 코스를 지운다.
+      읽는 중에 지워진 결과는 다시 저장되지 않으므로, 변경 전에 읽은 정보가 남지 않는다.
+    - 작성자 닉네임을 가져오지 못한 결과는 저장하지 않는다.
+ */
+@Slf4j
+public class CourseDetailCache {
+
+    private static final String METRIC_LOOKUPS = "course.detail-cache.lookups";
+
+    private final AsyncCache<Long, CourseDetailResponse> cache;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public CourseDetailCache(long maximumSize, Duration ttl, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .buildAsync();
+
+        this.hitCounter = Counter.builder(METRIC_LOOKUPS).tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder(METRIC_LOOKUPS).tag("result", "miss").register(meterRegistry);
+        Gauge.builder("course.detail-cache.hit.ratio", this, CourseDetailCache::getHitRatio)
+                .description("DB 를 조회하지 않고 응답한 코스 상세 조회의 비율")
+                .register(meterRegistry);
+        Gauge.builder("course.detail-cache.size", cache, c -> c.synchronous().estimatedSize())
+                .register(meterRegistry);
+    }
+
+    public double getHitRatio() {
+        double lookups = hitCounter.count() + missCounter.count();
+        return lookups == 0 ? 0 : hitCounter.count() / lookups;
+    }
+
+    // 없으면 이 요청의 스레드에서 loader 로 읽는다. loader 의 예외는 그대로 던진다.
+    public CourseDetailResponse get(Long courseId, Function<Long, CourseDetailResponse> loader) {
+        CompletableFuture<CourseDetailResponse> loading = new CompletableFuture<>();
+        CompletableFuture<CourseDetailResponse> cached = cache.asMap().putIfAbsent(courseId, loading);
+        if (cached != null) {
+            hitCounter.increment();
+            try {
+                return cached.join();
+            } catch (CompletionException e) {
+                throw unwrap(e);
+            }
+        }
+
+        missCounter.increment();
+        CourseDetailResponse loaded;
+        try {
+            loaded = loader.apply(courseId);
+        } catch (RuntimeException e) {
+            cache.asMap().remove(courseId, loading);
+            loading.completeExceptionally(e);
+            throw e;
+        }
+
+        loading.complete(loaded);
+        if (Objects.isNull(loaded.getWriter().getNickname())) {
+            cache.asMap().remove(courseId, loading);
+        }
+        return loaded;
+    }
+
+    public void evict(Long courseId) {
+        cache.synchronous().invalidate(courseId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseChanged(CourseChangedEvent event) {
+        evict(event.getCourseId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseLikeChanged(CourseLikeChangedEvent event) {
+        evict(event.getCourseId());
+    }
+
+    private RuntimeException unwrap(CompletionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+            return (RuntimeException) e.getCause();
+        }
+        return e;
+    }
+}
@@ -0,0 +1,146 @@
+package com.comeon.courseservice.web.course.query.cache;
+
+import com.comeon.courseservice.domain.course.event.CourseChangedEvent;
+import com.comeon.courseservice.web.common.response.SliceResponse;
+import com.comeon.courseservice.web.course.query.repository.cond.CourseCondition;
+import com.comeon.courseservice.web.course.response.CourseListResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/*
+    제목 검색 조건이 없는 코스 리스트의 첫 페이지를 유저와 관계없이 만들어 보관한다. 좋아요 여부는 저장하지 않는다.
+    - 좌표가 없는 기본 위치(서울역) 기준의 첫 페이지만 저장한다. 페이지 번호, 커서 기반 페이징 모두 사용한다.
+    - 좌표가 있는 요청은 거리와 정렬 순서가 좌표마다 다르다. 다른 좌표의 첫 페이지를 사용하면
+      유저 좌표로 조회하는 다음 페이지와 겹치거나 빠지는 코스가 생기므로 저장하지 않는다.
+    - 좋아요 수 변경은 ttl 이 지나면 반영되고, 코스가 변경되어 커밋되면 모두 지운다.
+ */
+public class CourseListCache {
+
+    private static final String METRIC_LOOKUPS = "course.list-cache.lookups";
+    private static final long MINUTE_MILLIS = Duration.ofMinutes(1).toMillis();
+
+    private final Cache<Key, SliceResponse<CourseListResponse>> cache;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    // 직전 1분 동안 줄인 DB 조회 수
+    private long minuteStartedAt = System.currentTimeMillis();
+    private long savedQueriesInMinute;
+    private long savedQueriesLastMinute;
+
+    public CourseListCache(long maximumSize, Duration ttl, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+
+        this.hitCounter = Counter.builder(METRIC_LOOKUPS).tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder(METRIC_LOOKUPS).tag("result", "miss").register(meterRegistry);
+        Gauge.builder("course.list-cache.hit.ratio", this, CourseListCache::getHitRatio)
+                .description("DB 를 조회하지 않고 응답한 코스 리스트 첫 페이지 조회의 비율")
+                .register(meterRegistry);
+        Gauge.builder("course.list-cache.queries.saved", this, CourseListCache::getSavedQueriesLastMinute)
+                .description("직전 1분 동안 캐시로 줄인 코스 리스트 DB 조회 수")
+                .register(meterRegistry);
+        Gauge.builder("course.list-cache.size", cache, Cache::estimatedSize)
+                .register(meterRegistry);
+    }
+
+    public double getHitRatio() {
+        double lookups = hitCounter.count() + missCounter.count();
+        return lookups == 0 ? 0 : hitCounter.count() / lookups;
+    }
+
+    public synchronized long getSavedQueriesLastMinute() {
+        rollMinute();
+        return savedQueriesLastMinute;
+    }
+
+    // 저장할 수 있는 조회 조건이면 키를 반환한다.
+    public Optional<Key> keyOf(CourseCondition courseCondition, Pageable pageable) {
+        String title = courseCondition.getTitle();
+        if (Objects.nonNull(title) && !title.isBlank()) {
+            return Optional.empty();
+        }
+
+        if (Objects.nonNull(courseCondition.getCoordinate())) {
+            return Optional.empty();
+        }
+
+        if (courseCondition.isCursorPaging()) {
+            return Objects.isNull(courseCondition.getCursor())
+                    ? Optional.of(new Key(true, pageable.getPageSize()))
+                    : Optional.empty();
+        }
+        return pageable.getPageNumber() == 0
+                ? Optional.of(new Key(false, pageable.getPageSize()))
+                : Optional.empty();
+    }
+
+    // 없으면 loader 로 만들어 저장한다.
+    public SliceResponse<CourseListResponse> get(Key key, Function<Key, SliceResponse<CourseListResponse>> loader) {
+        SliceResponse<CourseListResponse> cached = cache.getIfPresent(key);
+        if (Objects.nonNull(cached)) {
+            hitCounter.increment();
+            recordSavedQuery();
+            return cached;
+        }
+
+        missCounter.increment();
+        SliceResponse<CourseListResponse> loaded = loader.apply(key);
+        cache.put(key, loaded);
+        return loaded;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseChanged(CourseChangedEvent event) {
+        cache.invalidateAll();
+    }
+
+    private synchronized void recordSavedQuery() {
+        rollMinute();
+        savedQueriesInMinute++;
+    }
+
+    private void rollMinute() {
+        long now = System.currentTimeMillis();
+        long elapsedMinutes = (now - minuteStartedAt) / MINUTE_MILLIS;
+        if (elapsedMinutes == 0) {
+            return;
+        }
+        savedQueriesLastMinute = elapsedMinutes == 1 ? savedQueriesInMinute : 0;
+        savedQueriesInMinute = 0;
+        minuteStartedAt += elapsedMinutes * MINUTE_MILLIS;
+    }
+
+    // 기본 위치 기준의 첫 페이지
+    @Getter
+    @EqualsAndHashCode
+    public static class Key {
+
+        private final boolean cursorPaging;
+        private final int pageSize;
+
+        Key(boolean cursorPaging, int pageSize) {
+            this.cursorPaging = cursorPaging;
+            this.pageSize = pageSize;
+        }
+
+        public CourseCondition toCondition() {
+            return new CourseCondition(null, null, null, cursorPaging ? "" : null);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.comeon.courseservice.web.course.query.cache;
+
+import com.comeon.courseservice.common.collection.SortedLongSet;
+import com.comeon.courseservice.domain.courselike.event.CourseLikeChangedEvent;
+import com.comeon.courseservice.web.course.query.repository.CourseLikeQueryRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/*
+    유저별로 좋아요한 코스 식별값들을 정렬된 long 배열로 보관하여, 코스 조회의 좋아요 여부를 DB 없이 계산한다.
+    - 처음 조회할 때 유저의 좋아요 전체를 DB 에서 읽는다.
+    - 이 인스턴스에서 등록, 취소된 좋아요는 커밋 직후 이벤트로 반영한다.
+    - 다른 인스턴스에서 변경된 좋아요는 반영되지 않으므로, ttl 이 지나면 다시 읽는다.
+    - 저장된 좋아요 수의 합이 maximumWeight 를 넘으면 오래 사용하지 않은 유저부터 지운다.
+    메모리 : 유저마다 캐시 항목과 배열 등 약 100 byte, 좋아요마다 8 byte.
+    활성 유저 10만 명이 평균 50개씩 좋아요했다면 약 10만 x (100 + 50 x 8) byte = 50MB
+ */
+public class LikedCourseCache {
+
+    private final CourseLikeQueryRepository courseLikeQueryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<Long, SortedLongSet> cache;
+
+    public LikedCourseCache(CourseLikeQueryRepository courseLikeQueryRepository,
+                            TransactionTemplate transactionTemplate,
+                            long maximumWeight,
+                            Duration ttl,
+                            MeterRegistry meterRegistry) {
+        this.courseLikeQueryRepository = courseLikeQueryRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((Long userId, SortedLongSet courseIds) -> courseIds.size() + 1)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "liked-course-cache");
+        Gauge.builder("course.liked-cache.course-ids", cache, c -> c.policy().eviction()
+                        .map(eviction -> eviction.weightedSize().orElse(0L))
+                        .orElse(0L))
+                .description("저장된 좋아요 코스 식별값 수")
+                .register(meterRegistry);
+    }
+
+    public boolean isLiked(Long userId, Long courseId) {
+        return getLikedCourseIds(userId).contains(courseId);
+    }
+
+    // courseIds 중 유저가 좋아요한 코스 식별값
+    public Set<Long> filterLiked(Long userId, Collection<Long> courseIds) {
+        SortedLongSet likedCourseIds = getLikedCourseIds(userId);
+        Set<Long> result = new HashSet<>();
+        for (Long courseId : courseIds) {
+            if (likedCourseIds.contains(courseId)) {
+                result.add(courseId);
+            }
+        }
+        return result;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseLikeChanged(CourseLikeChangedEvent event) {
+        // 읽는 중이면 읽기가 끝난 후에 반영된다. 읽기 전이면 다음 조회에서 읽는다.
+        cache.asMap().computeIfPresent(
+                event.getUserId(),
+                (userId, likedCourseIds) -> event.getDelta() > 0
+                        ? likedCourseIds.with(event.getCourseId())
+                        : likedCourseIds.without(event.getCourseId())
+        );
+    }
+
+    private SortedLongSet getLikedCourseIds(Long userId) {
+        return cache.get(userId, this::load);
+    }
+
+    private SortedLongSet load(Long userId) {
+        long[] courseIds = transactionTemplate.execute(
+                status -> courseLikeQueryRepository.findLikedCourseIdsByUserId(userId)
+                        .stream()
+                        .mapToLong(Long::longValue)
+                        .toArray()
+        );
+        return SortedLongSet.of(courseIds);
+    }
+}
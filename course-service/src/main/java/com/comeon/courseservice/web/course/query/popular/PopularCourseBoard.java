@@ -0,0 +1,126 @@
+package com.comeon.courseservice.web.course.query.popular;
+
+import com.comeon.courseservice.common.collection.LongLongMap;
+import com.comeon.courseservice.common.collection.SlidingWindowTopK;
+import com.comeon.courseservice.common.geo.GeoCell;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+    최근 windowDays 일 동안 좋아요가 많이 등록된 코스 목록을 전체와 지역별로 유지한다.
+    - 지역은 코스 첫번째 장소 좌표의 GeoCell(1도 격자)이다. 지역 목록은 좋아요가 처음 등록될 때 만든다.
+    - 좋아요 등록(+1), 취소(-1)는 코스 지역의 목록과 전체 목록에 더한다. 지역을 모르는 코스(검색 대상이 아닌 코스)는 무시한다.
+    - 날짜가 바뀌면 가장 오래된 날짜의 횟수만 빼고, 후보들의 횟수만 다시 계산한다.
+    - 주변 인기 코스는 반경이 걸치는 지역들의 상위 목록만 합쳐서 정렬한다.
+ */
+public class PopularCourseBoard {
+
+    private final int windowDays;
+    private final int capacity;
+    private final int sketchDepth;
+    private final int sketchWidth;
+
+    private final LongLongMap cellByCourseId = new LongLongMap();
+    private final Map<Integer, SlidingWindowTopK> regions = new ConcurrentHashMap<>();
+    private final SlidingWindowTopK global;
+
+    private volatile long currentDay;
+
+    public PopularCourseBoard(int windowDays, int capacity, int sketchDepth, int sketchWidth, long currentDay) {
+        this.windowDays = windowDays;
+        this.capacity = capacity;
+        this.sketchDepth = sketchDepth;
+        this.sketchWidth = sketchWidth;
+        this.currentDay = currentDay;
+        this.global = newTopK(currentDay);
+    }
+
+    public int regionCount() {
+        return regions.size();
+    }
+
+    // 검색 대상 코스. 좌표가 바뀌면 이후의 좋아요는 새 지역에 더한다.
+    public synchronized void putCourse(long courseId, double lat, double lng) {
+        cellByCourseId.put(courseId, GeoCell.of(lat, lng));
+    }
+
+    // 더 이상 검색 대상이 아닌 코스
+    public void removeCourse(long courseId) {
+        long cell;
+        synchronized (this) {
+            cell = cellByCourseId.remove(courseId);
+        }
+        if (cell == LongLongMap.NO_VALUE) {
+            return;
+        }
+        SlidingWindowTopK region = regions.get((int) cell);
+        if (region != null) {
+            region.remove(courseId);
+        }
+        global.remove(courseId);
+    }
+
+    public void addLike(long courseId, int delta, long day) {
+        long cell;
+        synchronized (this) {
+            cell = cellByCourseId.get(courseId);
+        }
+        if (cell == LongLongMap.NO_VALUE) {
+            return;
+        }
+        regions.computeIfAbsent((int) cell, key -> newTopK(currentDay)).add(courseId, delta, day);
+        global.add(courseId, delta, day);
+    }
+
+    public void advanceTo(long day) {
+        if (day <= currentDay) {
+            return;
+        }
+        currentDay = day;
+        global.advanceTo(day);
+        regions.values().forEach(region -> region.advanceTo(day));
+    }
+
+    public List<PopularCourse> popular(int size) {
+        return top(global.ranking(), size, new ArrayList<>());
+    }
+
+    public List<PopularCourse> popularNear(double lat, double lng, double radiusKm, int size) {
+        List<PopularCourse> merged = new ArrayList<>();
+        for (int cell : GeoCell.boundingBox(lat, lng, radiusKm).cells()) {
+            SlidingWindowTopK region = regions.get(cell);
+            if (region != null) {
+                top(region.ranking(), size, merged);
+            }
+        }
+        merged.sort(Comparator.comparingLong(PopularCourse::getLikeCount).reversed()
+                .thenComparingLong(PopularCourse::getCourseId));
+        return merged.subList(0, Math.min(size, merged.size()));
+    }
+
+    private List<PopularCourse> top(SlidingWindowTopK.Ranking ranking, int size, List<PopularCourse> target) {
+        for (int i = 0; i < Math.min(size, ranking.size()); i++) {
+            target.add(new PopularCourse(ranking.keyAt(i), ranking.countAt(i)));
+        }
+        return target;
+    }
+
+    private SlidingWindowTopK newTopK(long day) {
+        return new SlidingWindowTopK(windowDays, capacity, sketchDepth, sketchWidth, day);
+    }
+
+    // likeCount 는 최근 windowDays 일 동안 등록된 좋아요 수의 추정값
+    @Getter
+    @AllArgsConstructor
+    public static class PopularCourse {
+
+        private final long courseId;
+        private final long likeCount;
+    }
+}
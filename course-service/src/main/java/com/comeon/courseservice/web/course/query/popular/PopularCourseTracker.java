@@ -0,0 +1,189 @@
+package com.comeon.courseservice.web.course.query.popular;
+
+import com.comeon.courseservice.domain.course.event.CourseChangedEvent;
+import com.comeon.courseservice.domain.courselike.event.CourseLikeChangedEvent;
+import com.comeon.courseservice.web.course.query.repository.CourseLikeQueryRepository;
+import com.comeon.courseservice.web.course.query.repository.CourseQueryRepository;
+import com.comeon.courseservice.web.course.query.repository.dto.CourseLikeDateData;
+import com.comeon.courseservice.web.course.query.repository.dto.CourseLocationData;
+import com.comeon.courseservice.web.course.query.snapshot.LoadedCourseLikes;
+import com.comeon.courseservice.web.course.query.snapshot.ReplayingSnapshot;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.LongFunction;
+
+/*
+    최근 windowDays 일 동안의 인기 코스(좋아요가 많이 등록된 코스)를 전체와 지역별로 메모리에 유지한다.
+    - 시작할 때와 reload-interval 마다 DB 에서 검색 대상 코스의 좌표와 창 안에 등록된 좋아요를 읽어 새로 만든다.
+      다른 인스턴스에서 등록, 취소된 좋아요는 이때 반영된다.
+    - 이 인스턴스의 좋아요 등록, 취소와 코스 변경은 커밋 직후 이벤트로 반영한다.
+      새로 만드는 중에 들어온 이벤트는 ReplayingSnapshot 이 모아두었다가, 바꾸기 전에 새 목록에도 반영한다.
+    - 날짜가 바뀌면 전체를 다시 읽지 않고 가장 오래된 날짜만 창에서 뺀다.
+    준비되기 전에는 비어있는 값을 반환한다.
+ */
+@Slf4j
+public class PopularCourseTracker {
+
+    private final CourseQueryRepository courseQueryRepository;
+    private final CourseLikeQueryRepository courseLikeQueryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final LongFunction<PopularCourseBoard> boardFactory;
+    private final int windowDays;
+    private final double nearRadiusKm;
+    private final int loadBatchSize;
+
+    private final Timer reloadTimer;
+
+    private final ReplayingSnapshot<PopularCourseBoard> snapshot = new ReplayingSnapshot<>(this::apply);
+
+    public PopularCourseTracker(CourseQueryRepository courseQueryRepository,
+                                CourseLikeQueryRepository courseLikeQueryRepository,
+                                TransactionTemplate transactionTemplate,
+                                LongFunction<PopularCourseBoard> boardFactory,
+                                int windowDays,
+                                double nearRadiusKm,
+                                int loadBatchSize,
+                                MeterRegistry meterRegistry) {
+        this.courseQueryRepository = courseQueryRepository;
+        this.courseLikeQueryRepository = courseLikeQueryRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.boardFactory = boardFactory;
+        this.windowDays = windowDays;
+        this.nearRadiusKm = nearRadiusKm;
+        this.loadBatchSize = loadBatchSize;
+
+        this.reloadTimer = Timer.builder("course.popular.reload")
+                .description("인기 코스 목록을 DB 에서 새로 만드는 데 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    public boolean isReady() {
+        return snapshot.current() != null;
+    }
+
+    // 좌표가 없으면 전체, 있으면 주변 지역의 인기 코스
+    public Optional<List<PopularCourseBoard.PopularCourse>> popular(Double lat, Double lng, int size) {
+        PopularCourseBoard current = snapshot.current();
+        if (current == null) {
+            return Optional.empty();
+        }
+        if (Objects.isNull(lat) || Objects.isNull(lng)) {
+            return Optional.of(current.popular(size));
+        }
+        return Optional.of(current.popularNear(lat, lng, nearRadiusKm, size));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${course.popular.reload-interval:600000}",
+            initialDelayString = "${course.popular.reload-interval:600000}")
+    public void reload() {
+        long start = System.currentTimeMillis();
+        PopularCourseBoard reloaded;
+        try {
+            reloaded = reloadTimer.record(() -> snapshot.rebuild(this::loadBoard));
+        } catch (RuntimeException e) {
+            log.error("[course-popular] reload failed.", e);
+            return;
+        }
+        log.info("[course-popular] reloaded. regions : {}, elapsed : {}ms",
+                reloaded.regionCount(), System.currentTimeMillis() - start);
+    }
+
+    // 날짜가 바뀌었으면 창을 옮긴다.
+    @Scheduled(fixedDelayString = "${course.popular.roll-interval:60000}")
+    public void roll() {
+        PopularCourseBoard current = snapshot.current();
+        if (current != null) {
+            current.advanceTo(today());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseChanged(CourseChangedEvent event) {
+        snapshot.accept(event);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseLikeChanged(CourseLikeChangedEvent event) {
+        snapshot.accept(event);
+    }
+
+    private void apply(PopularCourseBoard target, Object event) {
+        if (event instanceof CourseLikeChangedEvent) {
+            CourseLikeChangedEvent likeChangedEvent = (CourseLikeChangedEvent) event;
+            target.addLike(likeChangedEvent.getCourseId(), likeChangedEvent.getDelta(), today());
+            return;
+        }
+
+        CourseChangedEvent courseChangedEvent = (CourseChangedEvent) event;
+        if (courseChangedEvent.isSearchable()) {
+            target.putCourse(courseChangedEvent.getCourseId(), courseChangedEvent.getLat(), courseChangedEvent.getLng());
+        } else {
+            target.removeCourse(courseChangedEvent.getCourseId());
+        }
+    }
+
+    /*
+        1. 검색 대상 코스들의 좌표를 식별값 순서로 나누어 읽는다.
+        2. 창 안에 등록된 좋아요들을 식별값 순서로 나누어 읽고, 등록된 날짜의 횟수에 더한다.
+           읽은 좋아요의 식별값은 loadedLikes 에 추가하여, 모아둔 이벤트가 같은 좋아요를 다시 더하지 않도록 한다.
+     */
+    private PopularCourseBoard loadBoard(LoadedCourseLikes loadedLikes) {
+        LocalDate today = LocalDate.now();
+        PopularCourseBoard loaded = boardFactory.apply(today.toEpochDay());
+
+        long lastCourseId = 0L;
+        List<CourseLocationData> locations;
+        do {
+            long afterId = lastCourseId;
+            locations = transactionTemplate.execute(
+                    status -> courseQueryRepository.findCourseLocationsAfter(afterId, loadBatchSize)
+            );
+            for (CourseLocationData location : locations) {
+                loaded.putCourse(location.getCourseId(), location.getLat(), location.getLng());
+                lastCourseId = location.getCourseId();
+            }
+        } while (locations.size() == loadBatchSize);
+
+        LocalDateTime windowStart = today.minusDays(windowDays - 1).atStartOfDay();
+        Long firstCourseLikeId = transactionTemplate.execute(
+                status -> courseLikeQueryRepository.findFirstCourseLikeIdCreatedSince(windowStart)
+        );
+        if (Objects.nonNull(firstCourseLikeId)) {
+            long lastCourseLikeId = firstCourseLikeId - 1;
+            List<CourseLikeDateData> likeDatas;
+            do {
+                long afterId = lastCourseLikeId;
+                likeDatas = transactionTemplate.execute(
+                        status -> courseLikeQueryRepository.findCourseLikeDatesAfter(afterId, loadBatchSize)
+                );
+                for (CourseLikeDateData likeData : likeDatas) {
+                    loadedLikes.add(likeData.getCourseId(), likeData.getUserId());
+                    loaded.addLike(likeData.getCourseId(), 1, likeData.getCreatedDate().toLocalDate().toEpochDay());
+                    lastCourseLikeId = likeData.getCourseLikeId();
+                }
+            } while (likeDatas.size() == loadBatchSize);
+        }
+        return loaded;
+    }
+
+    private static long today() {
+        return LocalDate.now().toEpochDay();
+    }
+}
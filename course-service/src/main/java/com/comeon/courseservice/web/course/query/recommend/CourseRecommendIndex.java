@@ -0,0 +1,301 @@
+package com.comeon.courseservice.web.course.query.recommend;
+
+import com.comeon.courseservice.common.geo.GeoCell;
+import com.comeon.courseservice.common.geo.SpatialGridIndex;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/*
+    위경도를 tileDegrees 크기의 격자로 나누고, 격자마다 격자 중심 기준의 추천 후보 목록(TileRanking)을 미리 계산해 둔다.
+    - 후보는 격자 중심에서 radiusKm 이내의 가까운 코스 poolSize 개 중 점수가 높은 rankingSize 개이다.
+    - 전체 구성시 코스가 있는 격자들을 fork/join 으로 나누어 병렬로 계산한다.
+      코스가 없는 격자는 처음 조회될 때 계산하여 저장한다. 저장된 격자가 maxTiles 개 이상이면 저장하지 않고, 변경과 겹쳐도 되도록 잠금 없이 계산한다.
+    - 코스 하나가 바뀌면 그 코스에서 radiusKm 이내에 중심이 있는 저장된 격자들의 목록에서 그 코스의 점수만 다시 계산한다.
+      다른 코스들의 점수는 시간이 지나며 조금씩 달라지므로, 주기적인 전체 구성으로 다시 맞춘다.
+    - 조회시에는 격자의 후보들만 요청 좌표 기준의 거리와 현재 시각으로 다시 점수를 계산해서 정렬한다.
+    읽기는 잠금 없이, 변경은 하나씩 수행한다.
+ */
+public class CourseRecommendIndex {
+
+    // 한 작업이 순서대로 계산하는 최대 격자 수
+    private static final int RANK_TASK_THRESHOLD = 16;
+
+    private final RecommendScorer scorer;
+    private final double tileDegrees;
+    private final int latTiles;
+    private final int lngTiles;
+    private final double radiusKm;
+    private final int poolSize;
+    private final int rankingSize;
+    private final int maxTiles;
+
+    private final Map<Long, RecommendCandidate> candidates = new ConcurrentHashMap<>();
+    private final SpatialGridIndex locations;
+    private final ConcurrentHashMap<Long, TileRanking> rankings = new ConcurrentHashMap<>();
+
+    public CourseRecommendIndex(RecommendScorer scorer, double tileDegrees, double radiusKm,
+                                int poolSize, int rankingSize, int maxTiles) {
+        if (tileDegrees <= 0 || tileDegrees > 90) {
+            throw new IllegalArgumentException("tileDegrees 는 0 보다 크고 90 이하여야 합니다. tileDegrees : " + tileDegrees);
+        }
+        this.scorer = scorer;
+        this.tileDegrees = tileDegrees;
+        this.latTiles = (int) Math.ceil(180 / tileDegrees);
+        this.lngTiles = (int) Math.ceil(360 / tileDegrees);
+        this.radiusKm = radiusKm;
+        this.poolSize = poolSize;
+        this.rankingSize = rankingSize;
+        this.maxTiles = maxTiles;
+        this.locations = new SpatialGridIndex(tileDegrees);
+    }
+
+    public int size() {
+        return candidates.size();
+    }
+
+    public int tileCount() {
+        return rankings.size();
+    }
+
+    public RecommendCandidate get(long courseId) {
+        return candidates.get(courseId);
+    }
+
+    // 전체 구성용. 격자 목록은 계산하지 않는다.
+    public void load(RecommendCandidate candidate) {
+        candidates.put(candidate.getCourseId(), candidate);
+        locations.put(candidate.getCourseId(), candidate.getLat(), candidate.getLng());
+    }
+
+    // 코스가 있는 모든 격자의 목록을 pool 에서 병렬로 계산한다.
+    public void rankOccupiedTiles(ForkJoinPool pool, long nowMillis) {
+        long[] tileKeys = candidates.values().stream()
+                .mapToLong(candidate -> tileKey(candidate.getLat(), candidate.getLng()))
+                .distinct()
+                .toArray();
+        pool.invoke(new RankTilesTask(tileKeys, 0, tileKeys.length, nowMillis));
+    }
+
+    // 좌표와 수정 시각이 바뀐 코스. 없던 코스면 추가한다.
+    public synchronized void update(RecommendCandidate candidate, long nowMillis) {
+        RecommendCandidate previous = candidates.put(candidate.getCourseId(), candidate);
+        locations.put(candidate.getCourseId(), candidate.getLat(), candidate.getLng());
+        if (Objects.nonNull(previous)
+                && (previous.getLat() != candidate.getLat() || previous.getLng() != candidate.getLng())) {
+            removeFromTiles(previous);
+        }
+        rankInTiles(candidate, nowMillis);
+    }
+
+    public synchronized void updateLikes(long courseId, int delta, long nowMillis) {
+        RecommendCandidate candidate = candidates.computeIfPresent(
+                courseId, (id, previous) -> scorer.applyLike(previous, delta, nowMillis)
+        );
+        if (Objects.nonNull(candidate)) {
+            rankInTiles(candidate, nowMillis);
+        }
+    }
+
+    public synchronized void remove(long courseId) {
+        RecommendCandidate previous = candidates.remove(courseId);
+        if (Objects.nonNull(previous)) {
+            locations.remove(courseId);
+            removeFromTiles(previous);
+        }
+    }
+
+    // 점수가 높은 순서로 최대 size 개
+    public List<Recommendation> recommend(double lat, double lng, int size, long nowMillis) {
+        long tileKey = tileKey(lat, lng);
+        TileRanking ranking = rankings.get(tileKey);
+        if (Objects.isNull(ranking)) {
+            // 더 저장할 수 없으면 잠금 없이 계산만 한다.
+            ranking = rankings.size() < maxTiles ? rankAndStore(tileKey, nowMillis) : rank(tileKey, nowMillis);
+        }
+
+        List<Recommendation> recommendations = new ArrayList<>(ranking.size());
+        for (int i = 0; i < ranking.size(); i++) {
+            RecommendCandidate candidate = candidates.get(ranking.courseIdAt(i));
+            if (Objects.isNull(candidate)) {
+                continue;
+            }
+            double distanceKm = SpatialGridIndex.distanceKm(lat, lng, candidate.getLat(), candidate.getLng());
+            recommendations.add(
+                    new Recommendation(candidate.getCourseId(), distanceKm, scorer.score(distanceKm, candidate, nowMillis))
+            );
+        }
+        recommendations.sort(
+                Comparator.comparingDouble(Recommendation::getScore).reversed()
+                        .thenComparingLong(Recommendation::getCourseId)
+        );
+        return recommendations.subList(0, Math.min(size, recommendations.size()));
+    }
+
+    // 변경과 겹치지 않도록 하나씩 계산한다. 이미 다른 요청이 저장했으면 그 목록을 사용한다.
+    private synchronized TileRanking rankAndStore(long tileKey, long nowMillis) {
+        TileRanking stored = rankings.get(tileKey);
+        if (Objects.nonNull(stored)) {
+            return stored;
+        }
+        TileRanking ranking = rank(tileKey, nowMillis);
+        if (rankings.size() < maxTiles) {
+            rankings.put(tileKey, ranking);
+        }
+        return ranking;
+    }
+
+    private TileRanking rank(long tileKey, long nowMillis) {
+        double centerLat = centerLat(tileKey);
+        double centerLng = centerLng(tileKey);
+        List<SpatialGridIndex.Neighbor> neighbors = locations.nearest(centerLat, centerLng, poolSize, radiusKm);
+
+        int size = neighbors.size();
+        long[] courseIds = new long[size];
+        double[] scores = new double[size];
+        Integer[] order = new Integer[size];
+        int count = 0;
+        for (SpatialGridIndex.Neighbor neighbor : neighbors) {
+            RecommendCandidate candidate = candidates.get(neighbor.getId());
+            if (Objects.isNull(candidate)) {
+                continue;
+            }
+            courseIds[count] = neighbor.getId();
+            scores[count] = scorer.score(neighbor.getDistanceKm(), candidate, nowMillis);
+            order[count] = count;
+            count++;
+        }
+        Arrays.sort(order, 0, count, (a, b) -> scores[a] != scores[b]
+                ? Double.compare(scores[b], scores[a])
+                : Long.compare(courseIds[a], courseIds[b]));
+
+        int rankedSize = Math.min(count, rankingSize);
+        long[] rankedCourseIds = new long[rankedSize];
+        double[] rankedScores = new double[rankedSize];
+        for (int i = 0; i < rankedSize; i++) {
+            rankedCourseIds[i] = courseIds[order[i]];
+            rankedScores[i] = scores[order[i]];
+        }
+        return TileRanking.ofSorted(rankedCourseIds, rankedScores);
+    }
+
+    private void rankInTiles(RecommendCandidate candidate, long nowMillis) {
+        for (long tileKey : storedTilesAround(candidate)) {
+            double distanceKm = SpatialGridIndex.distanceKm(
+                    centerLat(tileKey), centerLng(tileKey), candidate.getLat(), candidate.getLng()
+            );
+            if (distanceKm > radiusKm) {
+                rankings.computeIfPresent(tileKey, (key, ranking) -> ranking.remove(candidate.getCourseId()));
+                continue;
+            }
+            double score = scorer.score(distanceKm, candidate, nowMillis);
+            rankings.computeIfPresent(tileKey, (key, ranking) -> ranking.upsert(candidate.getCourseId(), score, rankingSize));
+        }
+    }
+
+    private void removeFromTiles(RecommendCandidate candidate) {
+        for (long tileKey : storedTilesAround(candidate)) {
+            rankings.computeIfPresent(tileKey, (key, ranking) -> ranking.remove(candidate.getCourseId()));
+        }
+    }
+
+    // 코스에서 radiusKm 이내에 중심이 있을 수 있는, 저장된 격자들
+    private List<Long> storedTilesAround(RecommendCandidate candidate) {
+        GeoCell.BoundingBox box = GeoCell.boundingBox(candidate.getLat(), candidate.getLng(), radiusKm);
+        if (box.coversAllLng()) {
+            List<Long> tileKeys = new ArrayList<>();
+            for (long tileKey : rankings.keySet()) {
+                double centerLat = centerLat(tileKey);
+                if (centerLat >= box.getMinLat() && centerLat <= box.getMaxLat()) {
+                    tileKeys.add(tileKey);
+                }
+            }
+            return tileKeys;
+        }
+
+        List<Long> tileKeys = new ArrayList<>();
+        int lastLngIndex = lngIndex(box.getMaxLng());
+        for (int latIndex = latIndex(box.getMinLat()); latIndex <= latIndex(box.getMaxLat()); latIndex++) {
+            for (int lngIndex = lngIndex(box.getMinLng()); lngIndex <= lastLngIndex; lngIndex++) {
+                long tileKey = tileKey(latIndex, lngIndex);
+                if (rankings.containsKey(tileKey)) {
+                    tileKeys.add(tileKey);
+                }
+            }
+        }
+        return tileKeys;
+    }
+
+    private long tileKey(double lat, double lng) {
+        return tileKey(latIndex(lat), lngIndex(lng));
+    }
+
+    private int latIndex(double lat) {
+        return Math.max(0, Math.min((int) Math.floor((lat + 90) / tileDegrees), latTiles - 1));
+    }
+
+    private int lngIndex(double lng) {
+        return Math.floorMod((int) Math.floor((lng + 180) / tileDegrees), lngTiles);
+    }
+
+    private double centerLat(long tileKey) {
+        return Math.min((((int) (tileKey >>> 32)) + 0.5) * tileDegrees - 90, 90);
+    }
+
+    private double centerLng(long tileKey) {
+        return (((int) tileKey) + 0.5) * tileDegrees - 180;
+    }
+
+    private static long tileKey(int latIndex, int lngIndex) {
+        return ((long) latIndex << 32) | lngIndex;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Recommendation {
+
+        private final long courseId;
+        private final double distanceKm;
+        private final double score;
+    }
+
+    // 격자 목록을 반씩 나누어 threshold 이하가 되면 순서대로 계산한다.
+    private class RankTilesTask extends RecursiveAction {
+
+        private final long[] tileKeys;
+        private final int from;
+        private final int to;
+        private final long nowMillis;
+
+        RankTilesTask(long[] tileKeys, int from, int to, long nowMillis) {
+            this.tileKeys = tileKeys;
+            this.from = from;
+            this.to = to;
+            this.nowMillis = nowMillis;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= RANK_TASK_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    rankings.put(tileKeys[i], rank(tileKeys[i], nowMillis));
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(
+                    new RankTilesTask(tileKeys, from, middle, nowMillis),
+                    new RankTilesTask(tileKeys, middle, to, nowMillis)
+            );
+        }
+    }
+}
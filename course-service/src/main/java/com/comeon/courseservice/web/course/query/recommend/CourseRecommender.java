@@ -0,0 +1,228 @@
+package com.comeon.courseservice.web.course.query.recommend;
+
+import com.comeon.courseservice.domain.course.event.CourseChangedEvent;
+import com.comeon.courseservice.domain.courselike.event.CourseLikeChangedEvent;
+import com.comeon.courseservice.web.course.query.repository.CourseLikeQueryRepository;
+import com.comeon.courseservice.web.course.query.repository.CourseQueryRepository;
+import com.comeon.courseservice.web.course.query.repository.dto.CourseLikeDateData;
+import com.comeon.courseservice.web.course.query.repository.dto.CourseRecommendData;
+import com.comeon.courseservice.web.course.query.snapshot.LoadedCourseLikes;
+import com.comeon.courseservice.web.course.query.snapshot.ReplayingSnapshot;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/*
+    위치 기반 코스 추천. 거리, 감쇠 좋아요 수, 최신 정도로 계산한 점수가 높은 코스들을 메모리의 CourseRecommendIndex 에서 찾는다.
+    - 시작할 때와 rebuild-interval 마다 DB 에서 코스와 최근 좋아요를 읽어 새 인덱스를 만들고, 격자 목록을 fork/join 으로 병렬 계산한 뒤 바꾼다.
+      다른 인스턴스에서 변경된 코스와 좋아요는 이때 반영된다.
+    - 이 인스턴스에서 변경된 코스와 좋아요는 커밋 직후 이벤트로 해당 코스의 점수만 다시 계산한다.
+      새 인덱스를 만드는 중에 들어온 이벤트는 ReplayingSnapshot 이 모아두었다가, 바꾸기 전에 새 인덱스에도 반영한다.
+    준비되기 전에는 비어있는 값을 반환하여, 호출하는 쪽에서 거리순 코스 리스트를 사용하도록 한다.
+ */
+@Slf4j
+public class CourseRecommender {
+
+    // 반감기의 8배보다 오래된 좋아요는 0.4% 미만만 남으므로 읽지 않는다.
+    private static final int LIKE_WINDOW_HALF_LIVES = 8;
+
+    private final CourseQueryRepository courseQueryRepository;
+    private final CourseLikeQueryRepository courseLikeQueryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RecommendScorer scorer;
+    private final Supplier<CourseRecommendIndex> indexFactory;
+    private final Duration likeWindow;
+    private final int loadBatchSize;
+    private final ForkJoinPool rankPool;
+
+    private final Timer rebuildTimer;
+
+    private final ReplayingSnapshot<CourseRecommendIndex> snapshot = new ReplayingSnapshot<>(this::apply);
+
+    public CourseRecommender(CourseQueryRepository courseQueryRepository,
+                             CourseLikeQueryRepository courseLikeQueryRepository,
+                             TransactionTemplate transactionTemplate,
+                             RecommendScorer scorer,
+                             Supplier<CourseRecommendIndex> indexFactory,
+                             Duration likeHalfLife,
+                             int loadBatchSize,
+                             int parallelism,
+                             MeterRegistry meterRegistry) {
+        this.courseQueryRepository = courseQueryRepository;
+        this.courseLikeQueryRepository = courseLikeQueryRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.scorer = scorer;
+        this.indexFactory = indexFactory;
+        this.likeWindow = likeHalfLife.multipliedBy(LIKE_WINDOW_HALF_LIVES);
+        this.loadBatchSize = loadBatchSize;
+        this.rankPool = new ForkJoinPool(parallelism);
+
+        this.rebuildTimer = Timer.builder("course.recommend.rebuild")
+                .description("추천 인덱스를 새로 만드는 데 걸린 시간")
+                .register(meterRegistry);
+        Gauge.builder("course.recommend.tiles", this, recommender -> recommender.currentSize(CourseRecommendIndex::tileCount))
+                .description("추천 후보 목록이 계산된 격자 수")
+                .register(meterRegistry);
+        Gauge.builder("course.recommend.courses", this, recommender -> recommender.currentSize(CourseRecommendIndex::size))
+                .register(meterRegistry);
+    }
+
+    public boolean isReady() {
+        return snapshot.current() != null;
+    }
+
+    public Optional<List<CourseRecommendIndex.Recommendation>> recommend(double lat, double lng, int size) {
+        CourseRecommendIndex current = snapshot.current();
+        if (current == null) {
+            return Optional.empty();
+        }
+        return Optional.of(current.recommend(lat, lng, size, System.currentTimeMillis()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${course.recommend.rebuild-interval:600000}",
+            initialDelayString = "${course.recommend.rebuild-interval:600000}")
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        CourseRecommendIndex rebuilt;
+        try {
+            rebuilt = rebuildTimer.record(() -> snapshot.rebuild(this::buildIndex));
+        } catch (RuntimeException e) {
+            log.error("[course-recommend] rebuild failed.", e);
+            return;
+        }
+        log.info("[course-recommend] rebuilt. courses : {}, tiles : {}, elapsed : {}ms",
+                rebuilt.size(), rebuilt.tileCount(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseChanged(CourseChangedEvent event) {
+        snapshot.accept(event);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseLikeChanged(CourseLikeChangedEvent event) {
+        snapshot.accept(event);
+    }
+
+    @PreDestroy
+    public void close() {
+        rankPool.shutdownNow();
+    }
+
+    private void apply(CourseRecommendIndex target, Object event) {
+        long nowMillis = System.currentTimeMillis();
+        if (event instanceof CourseLikeChangedEvent) {
+            CourseLikeChangedEvent likeChangedEvent = (CourseLikeChangedEvent) event;
+            target.updateLikes(likeChangedEvent.getCourseId(), likeChangedEvent.getDelta(), nowMillis);
+            return;
+        }
+
+        CourseChangedEvent courseChangedEvent = (CourseChangedEvent) event;
+        if (!courseChangedEvent.isSearchable()) {
+            target.remove(courseChangedEvent.getCourseId());
+            return;
+        }
+        RecommendCandidate previous = target.get(courseChangedEvent.getCourseId());
+        RecommendCandidate candidate = Objects.isNull(previous)
+                ? new RecommendCandidate(courseChangedEvent.getCourseId(), courseChangedEvent.getLat(), courseChangedEvent.getLng(),
+                nowMillis, 0, 0, nowMillis)
+                : previous.withLocation(courseChangedEvent.getLat(), courseChangedEvent.getLng(), nowMillis);
+        target.update(candidate, nowMillis);
+    }
+
+    /*
+        1. 검색 대상 코스들을 식별값 순서로 나누어 읽는다.
+        2. likeWindow 이내에 등록된 좋아요들을 식별값 순서로 나누어 읽고, 코스별 감쇠 좋아요 수를 더한다.
+           읽은 좋아요의 식별값은 loadedLikes 에 추가하여, 모아둔 이벤트가 같은 좋아요를 다시 더하지 않도록 한다.
+        3. 코스가 있는 격자들의 목록을 병렬로 계산한다.
+     */
+    private CourseRecommendIndex buildIndex(LoadedCourseLikes loadedLikes) {
+        long nowMillis = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+
+        Map<Long, CourseRecommendData> courses = new HashMap<>();
+        long lastCourseId = 0L;
+        List<CourseRecommendData> courseDatas;
+        do {
+            long afterId = lastCourseId;
+            courseDatas = transactionTemplate.execute(
+                    status -> courseQueryRepository.findCourseRecommendDataAfter(afterId, loadBatchSize)
+            );
+            for (CourseRecommendData courseData : courseDatas) {
+                courses.put(courseData.getCourseId(), courseData);
+                lastCourseId = courseData.getCourseId();
+            }
+        } while (courseDatas.size() == loadBatchSize);
+
+        Map<Long, Double> decayedLikes = new HashMap<>();
+        Long firstCourseLikeId = transactionTemplate.execute(
+                status -> courseLikeQueryRepository.findFirstCourseLikeIdCreatedSince(now.minus(likeWindow))
+        );
+        if (Objects.nonNull(firstCourseLikeId)) {
+            long lastCourseLikeId = firstCourseLikeId - 1;
+            List<CourseLikeDateData> likeDatas;
+            do {
+                long afterId = lastCourseLikeId;
+                likeDatas = transactionTemplate.execute(
+                        status -> courseLikeQueryRepository.findCourseLikeDatesAfter(afterId, loadBatchSize)
+                );
+                for (CourseLikeDateData likeData : likeDatas) {
+                    loadedLikes.add(likeData.getCourseId(), likeData.getUserId());
+                    if (courses.containsKey(likeData.getCourseId())) {
+                        decayedLikes.merge(likeData.getCourseId(),
+                                scorer.likeWeightAt(toMillis(likeData.getCreatedDate()), nowMillis), Double::sum);
+                    }
+                    lastCourseLikeId = likeData.getCourseLikeId();
+                }
+            } while (likeDatas.size() == loadBatchSize);
+        }
+
+        CourseRecommendIndex built = indexFactory.get();
+        for (CourseRecommendData courseData : courses.values()) {
+            built.load(new RecommendCandidate(
+                    courseData.getCourseId(),
+                    courseData.getLat(),
+                    courseData.getLng(),
+                    toMillis(courseData.getUpdatedDate()),
+                    decayedLikes.getOrDefault(courseData.getCourseId(), 0.0),
+                    courseData.getLikeCount(),
+                    nowMillis
+            ));
+        }
+        built.rankOccupiedTiles(rankPool, nowMillis);
+        return built;
+    }
+
+    private double currentSize(ToIntFunction<CourseRecommendIndex> size) {
+        CourseRecommendIndex current = snapshot.current();
+        return current == null ? 0 : size.applyAsInt(current);
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,28 @@
+package com.comeon.courseservice.web.course.query.recommend;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 추천 점수 계산에 필요한 코스 정보. 변경할 때는 새 객체를 만든다.
+@Getter
+@AllArgsConstructor
+public class RecommendCandidate {
+
+    private final long courseId;
+    private final double lat;
+    private final double lng;
+    private final long updatedAtMillis;
+
+    // likesAtMillis 시점의 감쇠 좋아요 수
+    private final double decayedLikes;
+    private final int likeCount;
+    private final long likesAtMillis;
+
+    public RecommendCandidate withLocation(double lat, double lng, long updatedAtMillis) {
+        return new RecommendCandidate(courseId, lat, lng, updatedAtMillis, decayedLikes, likeCount, likesAtMillis);
+    }
+
+    public RecommendCandidate withLikes(double decayedLikes, int likeCount, long likesAtMillis) {
+        return new RecommendCandidate(courseId, lat, lng, updatedAtMillis, decayedLikes, likeCount, likesAtMillis);
+    }
+}
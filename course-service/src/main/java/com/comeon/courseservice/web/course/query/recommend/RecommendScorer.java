@@ -0,0 +1,75 @@
+package com.comeon.courseservice.web.course.query.recommend;
+
+import java.time.Duration;
+
+/*
+    추천 점수 = 거리 가중치 * 거리 점수 + 좋아요 가중치 * 좋아요 점수 + 최신 가중치 * 최신 점수
+    - 거리 점수 : exp(-거리 / distanceScaleKm). 가까울수록 1 에 가깝다.
+    - 좋아요 점수 : 좋아요마다 등록된 뒤 likeHalfLife 가 지날 때마다 절반으로 줄어든 값을 더하고(감쇠 좋아요 수),
+      1 - exp(-감쇠 좋아요 수 / likeSaturation) 으로 0 ~ 1 사이로 바꾼다.
+    - 최신 점수 : 코스가 수정된 뒤 freshnessHalfLife 가 지날 때마다 절반이 된다.
+    각 점수가 0 ~ 1 사이이므로 가중치로 비중을 정한다.
+ */
+public class RecommendScorer {
+
+    private static final double LN_2 = Math.log(2);
+
+    private final double distanceWeight;
+    private final double likeWeight;
+    private final double freshnessWeight;
+
+    private final double distanceScaleKm;
+    private final double likeDecayPerMilli;
+    private final double likeSaturation;
+    private final double freshnessDecayPerMilli;
+
+    public RecommendScorer(double distanceWeight, double likeWeight, double freshnessWeight,
+                           double distanceScaleKm, Duration likeHalfLife, double likeSaturation,
+                           Duration freshnessHalfLife) {
+        this.distanceWeight = distanceWeight;
+        this.likeWeight = likeWeight;
+        this.freshnessWeight = freshnessWeight;
+        this.distanceScaleKm = distanceScaleKm;
+        this.likeDecayPerMilli = LN_2 / likeHalfLife.toMillis();
+        this.likeSaturation = likeSaturation;
+        this.freshnessDecayPerMilli = LN_2 / freshnessHalfLife.toMillis();
+    }
+
+    public double score(double distanceKm, RecommendCandidate candidate, long nowMillis) {
+        return distanceWeight * Math.exp(-distanceKm / distanceScaleKm)
+                + likeWeight * (1 - Math.exp(-decayedLikesAt(candidate, nowMillis) / likeSaturation))
+                + freshnessWeight * Math.exp(-freshnessDecayPerMilli * Math.max(0, nowMillis - candidate.getUpdatedAtMillis()));
+    }
+
+    // nowMillis 시점의 감쇠 좋아요 수
+    public double decayedLikesAt(RecommendCandidate candidate, long nowMillis) {
+        return decay(candidate.getDecayedLikes(), candidate.getLikesAtMillis(), nowMillis);
+    }
+
+    // likedAtMillis 에 등록된 좋아요 하나가 nowMillis 시점에 더하는 값
+    public double likeWeightAt(long likedAtMillis, long nowMillis) {
+        return decay(1, likedAtMillis, nowMillis);
+    }
+
+    /*
+        좋아요 등록(+1)은 지금 등록된 좋아요 하나를 더한다.
+        취소(-1)는 언제 등록된 좋아요인지 알 수 없으므로, 남은 평균 값만큼 뺀다. 다음 재구성에서 정확한 값으로 바뀐다.
+     */
+    public RecommendCandidate applyLike(RecommendCandidate candidate, int delta, long nowMillis) {
+        int likeCount = candidate.getLikeCount();
+        double decayedLikes = decayedLikesAt(candidate, nowMillis);
+        if (delta > 0) {
+            decayedLikes += delta;
+        } else if (delta < 0 && likeCount > 0) {
+            decayedLikes = Math.max(0, decayedLikes + delta * decayedLikes / likeCount);
+        }
+        return candidate.withLikes(decayedLikes, Math.max(0, likeCount + delta), nowMillis);
+    }
+
+    private double decay(double value, long fromMillis, long toMillis) {
+        if (toMillis <= fromMillis) {
+            return value;
+        }
+        return value * Math.exp(-likeDecayPerMilli * (toMillis - fromMillis));
+    }
+}
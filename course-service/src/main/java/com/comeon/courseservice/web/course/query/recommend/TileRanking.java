@@ -0,0 +1,84 @@
+package com.comeon.courseservice.web.course.query.recommend;
+
+/*
+    격자 하나의 추천 후보 목록. 점수 내림차순으로 식별값과 점수를 primitive 배열에 저장한다.
+    변경하지 않고, 바뀐 목록을 새로 만들어 반환한다. 읽는 쪽은 잠금 없이 사용한다.
+ */
+public final class TileRanking {
+
+    private final long[] courseIds;
+    private final double[] scores;
+
+    private TileRanking(long[] courseIds, double[] scores) {
+        this.courseIds = courseIds;
+        this.scores = scores;
+    }
+
+    // 점수 내림차순으로 정렬된 배열로 만든다.
+    static TileRanking ofSorted(long[] courseIds, double[] scores) {
+        return new TileRanking(courseIds, scores);
+    }
+
+    public int size() {
+        return courseIds.length;
+    }
+
+    public long courseIdAt(int index) {
+        return courseIds[index];
+    }
+
+    public double scoreAt(int index) {
+        return scores[index];
+    }
+
+    // 코스의 점수를 바꾸거나 추가한다. maxSize 밖으로 밀려나면 목록에서 빠진다.
+    public TileRanking upsert(long courseId, double score, int maxSize) {
+        return remove(courseId).insert(courseId, score, maxSize);
+    }
+
+    public TileRanking remove(long courseId) {
+        int existing = indexOf(courseId);
+        if (existing < 0) {
+            return this;
+        }
+        long[] newCourseIds = new long[courseIds.length - 1];
+        double[] newScores = new double[scores.length - 1];
+        System.arraycopy(courseIds, 0, newCourseIds, 0, existing);
+        System.arraycopy(scores, 0, newScores, 0, existing);
+        System.arraycopy(courseIds, existing + 1, newCourseIds, existing, courseIds.length - existing - 1);
+        System.arraycopy(scores, existing + 1, newScores, existing, scores.length - existing - 1);
+        return new TileRanking(newCourseIds, newScores);
+    }
+
+    // 점수가 같으면 식별값이 작은 코스가 앞에 온다.
+    private TileRanking insert(long courseId, double score, int maxSize) {
+        int position = 0;
+        while (position < courseIds.length
+                && (scores[position] > score || (scores[position] == score && courseIds[position] < courseId))) {
+            position++;
+        }
+        if (position >= maxSize) {
+            return this;
+        }
+
+        int newSize = Math.min(courseIds.length + 1, maxSize);
+        long[] newCourseIds = new long[newSize];
+        double[] newScores = new double[newSize];
+        System.arraycopy(courseIds, 0, newCourseIds, 0, position);
+        System.arraycopy(scores, 0, newScores, 0, position);
+        newCourseIds[position] = courseId;
+        newScores[position] = score;
+        System.arraycopy(courseIds, position, newCourseIds, position + 1, newSize - position - 1);
+        System.arraycopy(scores, position, newScores, position + 1, newSize - position - 1);
+        return new TileRanking(newCourseIds, newScores);
+    }
+
+    private int indexOf(long courseId) {
+        for (int i = 0; i < courseIds.length; i++) {
+            if (courseIds[i] == courseId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
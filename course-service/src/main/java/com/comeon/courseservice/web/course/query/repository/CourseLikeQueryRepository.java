@@ -1,12 +1,13 @@
 package com.comeon.courseservice.web.course.query.repository;
 
-import com.comeon.courseservice.domain.course.entity.Course;
-import com.comeon.courseservice.domain.courselike.entity.CourseLike;
+import com.comeon.courseservice.web.course.query.repository.dto.CourseLikeDateData;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.*;
 
 import static com.comeon.courseservice.domain.courselike.entity.QCourseLike.courseLike;
 
@@ -16,14 +17,61 @@ public class CourseLikeQueryRepository {
 
     private final JPAQueryFactory queryFactory;
 
-    public Optional<CourseLike> findByCourseAndUserId(Course course, Long userId) {
-        return Optional.ofNullable(
-                queryFactory.selectFrom(courseLike)
+    public boolean existsByCourseIdAndUserId(Long courseId, Long userId) {
+        return queryFactory.selectOne()
+                .from(courseLike)
+                .where(
+                        courseLike.course.id.eq(courseId),
+                        courseLike.userId.eq(userId)
+                )
+                .fetchFirst() != null;
+    }
+
+    public List<Long> findLikedCourseIdsByUserId(Long userId) {
+        return queryFactory.select(courseLike.course.id)
+                .from(courseLike)
+                .where(courseLike.userId.eq(userId))
+                .fetch();
+    }
+
+    // courseIds 중 유저가 좋아요한 코스 식별값
+    public Set<Long> findLikedCourseIds(Long userId, Collection<Long> courseIds) {
+        if (Objects.isNull(userId) || courseIds.isEmpty()) {
+            return new HashSet<>();
+        }
+        return new HashSet<>(
+                queryFactory.select(courseLike.course.id)
+                        .from(courseLike)
                         .where(
-                                courseLike.course.eq(course)
-                                        .and(courseLike.userId.eq(userId))
+                                courseLike.userId.eq(userId),
+                                courseLike.course.id.in(courseIds)
                         )
-                        .fetchOne()
+                        .fetch()
         );
     }
+
+    // since 이후에 등록된 첫번째 좋아요의 식별값. 없으면 null
+    public Long findFirstCourseLikeIdCreatedSince(LocalDateTime since) {
+        return queryFactory.select(courseLike.id.min())
+                .from(courseLike)
+                .where(courseLike.createdDate.goe(since))
+                .fetchOne();
+    }
+
+    // 추천 인덱스, 인기 코스 목록 구성용. 좋아요가 등록된 시각을 식별값 순서로 조회
+    public List<CourseLikeDateData> findCourseLikeDatesAfter(Long lastCourseLikeId, int limit) {
+        return queryFactory
+                .select(Projections.constructor(CourseLikeDateData.class,
+                                courseLike.id,
+                                courseLike.course.id,
+                                courseLike.userId,
+                                courseLike.createdDate
+                        )
+                )
+                .from(courseLike)
+                .where(courseLike.id.gt(lastCourseLikeId))
+                .orderBy(courseLike.id.asc())
+                .limit(limit)
+                .fetch();
+    }
 }
@@ -1,18 +1,27 @@
 package com.comeon.courseservice.web.course.query.repository;
 
+import com.comeon.courseservice.common.geo.GeoCell;
+import com.comeon.courseservice.common.geo.SpatialGridIndex;
 import com.comeon.courseservice.domain.course.entity.Course;
 import com.comeon.courseservice.domain.course.entity.CourseStatus;
 import com.comeon.courseservice.web.course.query.repository.cond.CourseCondition;
+import com.comeon.courseservice.web.course.query.repository.cond.CourseListCursor;
 import com.comeon.courseservice.web.course.query.repository.cond.MyCourseCondition;
+import com.comeon.courseservice.web.course.query.repository.cond.MyCourseListCursor;
 import com.comeon.courseservice.web.course.query.repository.dto.CourseListData;
+import com.comeon.courseservice.web.course.query.repository.dto.CourseLocationData;
+import com.comeon.courseservice.web.course.query.repository.dto.CourseRecommendData;
+import com.comeon.courseservice.web.course.query.repository.dto.CourseSummaryData;
+import com.comeon.courseservice.web.course.query.repository.dto.CourseTitleData;
 import com.comeon.courseservice.web.course.query.repository.dto.MyPageCourseListData;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.*;
-import com.querydsl.jpa.JPAExpressions;
-import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
@@ -20,13 +29,16 @@ import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.comeon.courseservice.domain.course.entity.QCourse.course;
 import static com.comeon.courseservice.domain.course.entity.QCourseImage.courseImage;
 import static com.comeon.courseservice.domain.courselike.entity.QCourseLike.courseLike;
 import static com.comeon.courseservice.domain.courseplace.entity.QCoursePlace.coursePlace;
+import static com.comeon.courseservice.domain.coursesearch.entity.QCourseSearch.courseSearch;
 import static com.querydsl.core.types.dsl.Expressions.*;
 import static com.querydsl.core.types.dsl.MathExpressions.*;
 
@@ -35,8 +47,10 @@ import static com.querydsl.core.types.dsl.MathExpressions.*;
 public class CourseQueryRepository {
 
     // 서울역 좌표
-    private final static double LAT = 37.555945;
-    private final static double LNG = 126.972331;
+    public final static double LAT = 37.555945;
+    public final static double LNG = 126.972331;
+
+    public final static double DISTANCE_LIMIT_KM = 100;
 
     private final JPAQueryFactory queryFactory;
 
@@ -70,67 +84,220 @@ public class CourseQueryRepository {
         );
     }
 
-    public Slice<CourseListData> findCourseSlice(Long userId,
-                                                 CourseCondition courseCondition,
+    public Slice<CourseListData> findCourseSlice(CourseCondition courseCondition,
+                                                 Pageable pageable) {
+        return findCourseSlice(courseCondition, null, pageable);
+    }
+
+    /*
+        titleMatchedCourseIds 가 있으면 제목 검색 인덱스가 찾은 코스들 중에서만 조회한다.
+        없으면 제목 검색 조건을 LIKE 로 검사한다.
+     */
+    public Slice<CourseListData> findCourseSlice(CourseCondition courseCondition,
+                                                 Collection<Long> titleMatchedCourseIds,
                                                  Pageable pageable) {
-        Expression<Double> userLat = constant(LAT);
-        Expression<Double> userLng = constant(LNG);
+        double lat = LAT;
+        double lng = LNG;
 
         if (Objects.nonNull(courseCondition.getCoordinate())) {
-            userLat = constant(courseCondition.getCoordinate().getLat());
-            userLng = constant(courseCondition.getCoordinate().getLng());
+            lat = courseCondition.getCoordinate().getLat();
+            lng = courseCondition.getCoordinate().getLng();
         }
 
-        // 현재 위치와 코스 첫번째 장소 사이의 거리 구하는 서브쿼리
-        JPQLQuery<Double> distanceSubQuery = JPAExpressions
-                .select(
-                        acos(
-                                cos(radians(userLat))
-                                        .multiply(cos(radians(coursePlace.lat)))
-                                        .multiply(cos(radians(coursePlace.lng)
-                                                .subtract(radians(userLng)))
-                                        )
-                                        .add(sin(radians(userLat))
-                                                .multiply(sin(radians(coursePlace.lat)))
-                                        )
-                        ).multiply(constant(6371))
-                )
-                .from(coursePlace)
-                .where(coursePlace.course.eq(course),
-                        coursePlace.order.eq(1)
-                );
+        Expression<Double> userLat = constant(lat);
+        Expression<Double> userLng = constant(lng);
+
+        // 현재 위치와 코스 첫번째 장소 사이의 거리. 첫번째 장소의 좌표는 읽기 모델에 함께 저장되어 있다.
+        NumberExpression<Double> distance = acos(
+                cos(radians(userLat))
+                        .multiply(cos(radians(courseSearch.firstPlaceLat)))
+                        .multiply(cos(radians(courseSearch.firstPlaceLng)
+                                .subtract(radians(userLng)))
+                        )
+                        .add(sin(radians(userLat))
+                                .multiply(sin(radians(courseSearch.firstPlaceLat)))
+                        )
+        ).multiply(constant(GeoCell.EARTH_RADIUS_KM));
 
         // 결과로 내려주기 위한 컬럼명
         String distanceFieldName = "distance";
 
-        List<CourseListData> courseListDatas = queryFactory
-                .select(Projections.constructor(CourseListData.class,
-                                course,
-                                coursePlace,
-                                ExpressionUtils.as(distanceSubQuery, distanceFieldName),
-                                courseLike.id
-                        )
-                )
-                .from(course)
-                .leftJoin(course.courseImage, courseImage).fetchJoin()
-                .leftJoin(coursePlace).on(coursePlace.course.eq(course))
-                .leftJoin(courseLike).on(courseLike.course.eq(course), userIdEq(userId))
+        // 제목 LIKE 조건이 없으면 조건, 정렬 컬럼이 모두 격자 셀 인덱스에 있으므로 인덱스만 읽고 페이지의 식별값과 거리를 찾는다.
+        List<Tuple> pageTuples = queryFactory
+                .select(courseSearch.courseId, ExpressionUtils.as(distance, distanceFieldName))
+                .from(courseSearch)
                 .where(
-                        coursePlace.order.eq(1), // 코스의 첫번째 장소만 가져온다.
-                        course.courseStatus.eq(CourseStatus.COMPLETE), // 작성 완료된 코스만 가져온다.,
-                        titleContains(courseCondition.getTitle()),
-                        distanceSubQuery.loe(Double.valueOf(100)) // 100km 이내
+                        courseSearch.courseStatus.eq(CourseStatus.COMPLETE), // 작성 완료된 코스만 가져온다.
+                        titleMatches(courseCondition.getTitle(), titleMatchedCourseIds),
+                        withinBoundingBox(lat, lng, DISTANCE_LIMIT_KM), // 인덱스로 반경을 감싸는 격자 셀, 사각형 안의 코스만 남긴다.
+                        distance.loe(DISTANCE_LIMIT_KM), // 남은 코스들만 실제 거리를 계산하여 100km 이내
+                        courseListAfter(courseCondition.getCursor(), distance) // 커서가 있으면 이전 페이지의 마지막 코스 다음부터
                 )
                 .orderBy(
                         numberPath(Double.class, distanceFieldName).asc(), // 거리 컬럼을 오름차순 정렬
-                        course.likeCount.desc(),
-                        course.updatedDate.desc()
+                        courseSearch.likeCount.desc(),
+                        courseSearch.updatedDate.desc(),
+                        courseSearch.courseId.desc() // 커서가 한 코스를 가리키도록 식별값까지 정렬
                 )
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize() + 1)
                 .fetch();
+        boolean hasNext = hasNext(pageable, pageTuples);
+
+        // 응답에 필요한 나머지 컬럼은 페이지의 코스들만 식별값으로 읽는다.
+        Map<Long, CourseSummaryData> courseSummaryMap = findCourseSummaryMap(
+                pageTuples.stream()
+                        .map(tuple -> tuple.get(courseSearch.courseId))
+                        .collect(Collectors.toList())
+        );
+
+        List<CourseListData> courseListDatas = new ArrayList<>();
+        for (Tuple tuple : pageTuples) {
+            CourseSummaryData found = courseSummaryMap.get(tuple.get(courseSearch.courseId));
+            if (Objects.nonNull(found)) {
+                courseListDatas.add(new CourseListData(found, tuple.get(1, Double.class)));
+            }
+        }
+
+        return new SliceImpl<>(courseListDatas, pageable, hasNext);
+    }
+
+    // 공간 인덱스가 찾은 코스들을 식별값으로 조회한다. 인덱스의 거리 순서를 유지하고, 더 이상 검색 대상이 아닌 코스는 제외된다.
+    public List<CourseListData> findCourseListDataByNeighbors(List<SpatialGridIndex.Neighbor> neighbors) {
+        Map<Long, CourseSummaryData> courseSummaryMap = findCourseSummaryMap(
+                neighbors.stream()
+                        .map(SpatialGridIndex.Neighbor::getId)
+                        .collect(Collectors.toList())
+        );
+
+        List<CourseListData> courseListDatas = new ArrayList<>();
+        for (SpatialGridIndex.Neighbor neighbor : neighbors) {
+            CourseSummaryData found = courseSummaryMap.get(neighbor.getId());
+            if (Objects.nonNull(found)) {
+                courseListDatas.add(new CourseListData(found, neighbor.getDistanceKm()));
+            }
+        }
+        return courseListDatas;
+    }
+
+    // 식별값 순서를 유지하여 조회한다. 거리는 계산하지 않고, 더 이상 검색 대상이 아닌 코스는 제외된다.
+    public List<CourseListData> findCourseListDataByIds(List<Long> courseIds) {
+        Map<Long, CourseSummaryData> courseSummaryMap = findCourseSummaryMap(courseIds);
+
+        return courseIds.stream()
+                .map(courseSummaryMap::get)
+                .filter(Objects::nonNull)
+                .map(found -> new CourseListData(found, null))
+                .collect(Collectors.toList());
+    }
+
+    // 작성 완료된 코스들의 리스트 응답 컬럼
+    private Map<Long, CourseSummaryData> findCourseSummaryMap(List<Long> courseIds) {
+        if (courseIds.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        return queryFactory
+                .select(courseSummary())
+                .from(courseSearch)
+                .where(
+                        courseSearch.courseId.in(courseIds),
+                        courseSearch.courseStatus.eq(CourseStatus.COMPLETE)
+                )
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(CourseSummaryData::getCourseId, Function.identity()));
+    }
+
+    // 공간 인덱스 초기 구성용. 검색 대상 코스들의 좌표를 식별값 순서로 조회
+    public List<CourseLocationData> findCourseLocationsAfter(Long lastCourseId, int limit) {
+        return queryFactory
+                .select(Projections.constructor(CourseLocationData.class,
+                                course.id,
+                                course.courseStatus,
+                                course.firstPlaceLat,
+                                course.firstPlaceLng
+                        )
+                )
+                .from(course)
+                .where(
+                        course.id.gt(lastCourseId),
+                        course.courseStatus.eq(CourseStatus.COMPLETE),
+                        course.firstPlaceLat.isNotNull()
+                )
+                .orderBy(course.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 공간 인덱스 동기화용. since 이후 변경된 코스들의 좌표와 상태
+    public List<CourseLocationData> findCourseLocationsModifiedSince(LocalDateTime since) {
+        return queryFactory
+                .select(Projections.constructor(CourseLocationData.class,
+                                course.id,
+                                course.courseStatus,
+                                course.firstPlaceLat,
+                                course.firstPlaceLng
+                        )
+                )
+                .from(course)
+                .where(course.lastModifiedDate.goe(since))
+                .fetch();
+    }
+
+    // 추천 인덱스 구성용. 검색 대상 코스들의 좌표, 좋아요 수, 수정 시각을 식별값 순서로 조회
+    public List<CourseRecommendData> findCourseRecommendDataAfter(Long lastCourseId, int limit) {
+        return queryFactory
+                .select(Projections.constructor(CourseRecommendData.class,
+                                course.id,
+                                course.firstPlaceLat,
+                                course.firstPlaceLng,
+                                course.likeCount,
+                                course.updatedDate
+                        )
+                )
+                .from(course)
+                .where(
+                        course.id.gt(lastCourseId),
+                        course.courseStatus.eq(CourseStatus.COMPLETE),
+                        course.firstPlaceLat.isNotNull()
+                )
+                .orderBy(course.id.asc())
+                .limit(limit)
+                .fetch();
+    }
 
-        return new SliceImpl<>(courseListDatas, pageable, hasNext(pageable, courseListDatas));
+    // 제목 검색 인덱스 초기 구성용. 검색 대상 코스들의 제목을 식별값 순서로 조회
+    public List<CourseTitleData> findCourseTitlesAfter(Long lastCourseId, int limit) {
+        return queryFactory
+                .select(Projections.constructor(CourseTitleData.class,
+                                course.id,
+                                course.courseStatus,
+                                course.title
+                        )
+                )
+                .from(course)
+                .where(
+                        course.id.gt(lastCourseId),
+                        course.courseStatus.eq(CourseStatus.COMPLETE)
+                )
+                .orderBy(course.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 제목 검색 인덱스 동기화용. since 이후 변경된 코스들의 제목과 상태
+    public List<CourseTitleData> findCourseTitlesModifiedSince(LocalDateTime since) {
+        return queryFactory
+                .select(Projections.constructor(CourseTitleData.class,
+                                course.id,
+                                course.courseStatus,
+                                course.title
+                        )
+                )
+                .from(course)
+                .where(course.lastModifiedDate.goe(since))
+                .fetch();
     }
 
     // 사용자가 등록한 코스 리스트 조회
@@ -139,21 +306,20 @@ public class CourseQueryRepository {
                                                          Pageable pageable) {
         List<MyPageCourseListData> myPageCourseList = queryFactory
                 .select(Projections.constructor(MyPageCourseListData.class,
-                                course,
-                                courseLike.id
+                                courseSummary()
                         )
                 )
-                .from(course)
-                .leftJoin(course.courseImage, courseImage).fetchJoin()
-                .leftJoin(courseLike).on(courseLike.course.eq(course), courseLike.userId.eq(userId))
+                .from(courseSearch)
                 .where(
-                        course.userId.eq(userId),
+                        courseSearch.userId.eq(userId),
                         // courseStatus가 null 이면 검증 오류 발생. null로 넘어올 수 없음
-                        course.courseStatus.eq(condition.getCourseStatus())
-                                .or(course.courseStatus.eq(CourseStatus.DISABLED))
+                        courseSearch.courseStatus.eq(condition.getCourseStatus())
+                                .or(courseSearch.courseStatus.eq(CourseStatus.DISABLED)),
+                        myCourseAfter(condition.getCursor())
                 )
                 .orderBy(
-                        course.updatedDate.desc() // 코스 업데이트 최신순
+                        courseSearch.updatedDate.desc(), // 코스 업데이트 최신순
+                        courseSearch.courseId.desc()
                 )
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize() + 1)
@@ -164,22 +330,25 @@ public class CourseQueryRepository {
 
     // 사용자가 좋아요한 코스 리스트 조회
     public Slice<MyPageCourseListData> findMyLikedCourseSlice(Long userId,
+                                                              MyCourseListCursor cursor,
                                                               Pageable pageable) {
         List<MyPageCourseListData> myPageCourseList = queryFactory
                 .select(Projections.constructor(MyPageCourseListData.class,
-                                course,
-                                courseLike.id
+                                courseSummary(),
+                                courseLike.id,
+                                courseLike.lastModifiedDate
                         )
                 )
-                .from(course)
-                .leftJoin(course.courseImage, courseImage).fetchJoin()
-                .leftJoin(courseLike).on(courseLike.course.eq(course))
+                .from(courseLike)
+                .join(courseSearch).on(courseSearch.courseId.eq(courseLike.course.id))
                 .where(
                         courseLike.userId.eq(userId),
-                        course.courseStatus.ne(CourseStatus.WRITING)
+                        courseSearch.courseStatus.ne(CourseStatus.WRITING),
+                        likedCourseAfter(cursor)
                 )
                 .orderBy(
-                        courseLike.lastModifiedDate.desc() // 좋아요 등록일 최신순 정렬
+                        courseLike.lastModifiedDate.desc(), // 좋아요 등록일 최신순 정렬
+                        courseLike.id.desc()
                 )
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize() + 1)
@@ -188,6 +357,24 @@ public class CourseQueryRepository {
         return new SliceImpl<>(myPageCourseList, pageable, hasNext(pageable, myPageCourseList));
     }
 
+    // 리스트 응답에 필요한 컬럼만 읽는다. 설명 등 나머지 컬럼과 엔티티 스냅샷을 만들지 않는다.
+    private ConstructorExpression<CourseSummaryData> courseSummary() {
+        return Projections.constructor(CourseSummaryData.class,
+                courseSearch.courseId,
+                courseSearch.userId,
+                courseSearch.title,
+                courseSearch.courseStatus,
+                courseSearch.likeCount,
+                courseSearch.updatedDate,
+                courseSearch.imageStoredName,
+                courseSearch.firstPlaceId,
+                courseSearch.firstPlaceLat,
+                courseSearch.firstPlaceLng,
+                courseSearch.writerNickname,
+                courseSearch.writerWithdrawn
+        );
+    }
+
     private boolean hasNext(Pageable pageable, List<?> contents) {
         if (contents.size() > pageable.getPageSize()) {
             contents.remove(pageable.getPageSize());
@@ -196,6 +383,58 @@ public class CourseQueryRepository {
         return false;
     }
 
+    /*
+        커서 이후의 코스들. 정렬 기준 값들을 차례로 비교하여 이전 페이지의 마지막 코스 다음부터 조회한다.
+        거리는 조회할 때와 같은 식으로 계산하므로, 커서에 담긴 거리와 같은 코스는 정확히 같은 값이 나온다.
+     */
+    private BooleanExpression courseListAfter(CourseListCursor cursor, NumberExpression<Double> distance) {
+        if (Objects.isNull(cursor)) {
+            return null;
+        }
+
+        return distance.gt(cursor.getDistance())
+                .or(distance.eq(cursor.getDistance())
+                        .and(courseSearch.likeCount.lt(cursor.getLikeCount())
+                                .or(courseSearch.likeCount.eq(cursor.getLikeCount())
+                                        .and(courseSearch.updatedDate.lt(cursor.getUpdatedDate())
+                                                .or(courseSearch.updatedDate.eq(cursor.getUpdatedDate())
+                                                        .and(courseSearch.courseId.lt(cursor.getCourseId()))
+                                                )
+                                        )
+                                )
+                        )
+                );
+    }
+
+    private BooleanExpression myCourseAfter(MyCourseListCursor cursor) {
+        if (Objects.isNull(cursor)) {
+            return null;
+        }
+
+        return courseSearch.updatedDate.lt(cursor.getSortDate())
+                .or(courseSearch.updatedDate.eq(cursor.getSortDate())
+                        .and(courseSearch.courseId.lt(cursor.getId()))
+                );
+    }
+
+    private BooleanExpression likedCourseAfter(MyCourseListCursor cursor) {
+        if (Objects.isNull(cursor)) {
+            return null;
+        }
+
+        return courseLike.lastModifiedDate.lt(cursor.getSortDate())
+                .or(courseLike.lastModifiedDate.eq(cursor.getSortDate())
+                        .and(courseLike.id.lt(cursor.getId()))
+                );
+    }
+
+    private Predicate titleMatches(String title, Collection<Long> titleMatchedCourseIds) {
+        if (Objects.nonNull(titleMatchedCourseIds)) {
+            return courseSearch.courseId.in(titleMatchedCourseIds);
+        }
+        return titleContains(title);
+    }
+
     private BooleanBuilder titleContains(String title) {
         if (Objects.isNull(title) || title.trim().isEmpty()) {
             return null;
@@ -204,7 +443,7 @@ public class CourseQueryRepository {
         Set<String> wordSet = Arrays.stream(title.split(" "))
                 .collect(Collectors.toSet());
 
-        StringTemplate stringTemplate = stringTemplate("replace({0}, ' ', '')", course.title);
+        StringTemplate stringTemplate = stringTemplate("replace({0}, ' ', '')", courseSearch.title);
 
         BooleanBuilder booleanBuilder = new BooleanBuilder();
         for (String word : wordSet) {
@@ -214,8 +453,14 @@ public class CourseQueryRepository {
         return booleanBuilder;
     }
 
-    private BooleanExpression userIdEq(Long userId) {
-        return Objects.isNull(userId) ?
-                courseLike.userId.isNull() : courseLike.userId.eq(userId);
+    private BooleanExpression withinBoundingBox(double lat, double lng, double radiusKm) {
+        GeoCell.BoundingBox boundingBox = GeoCell.boundingBox(lat, lng, radiusKm);
+
+        BooleanExpression withinBoundingBox = courseSearch.firstPlaceLat.between(boundingBox.getMinLat(), boundingBox.getMaxLat())
+                .and(courseSearch.firstPlaceLng.between(boundingBox.getMinLng(), boundingBox.getMaxLng()));
+        if (boundingBox.coversAllLng()) {
+            return withinBoundingBox;
+        }
+        return courseSearch.searchGeoCell.in(boundingBox.cells()).and(withinBoundingBox);
     }
 }
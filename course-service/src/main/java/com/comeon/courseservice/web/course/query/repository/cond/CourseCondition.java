@@ -14,11 +14,27 @@ public class CourseCondition {
     // 사용자 좌표
     private Coordinate coordinate;
 
+    // 커서 기반 페이징 여부. 커서 파라미터가 비어있으면 첫 페이지
+    private boolean cursorPaging;
+
+    // 이전 페이지의 마지막 코스 위치
+    private CourseListCursor cursor;
+
     public CourseCondition(String title, Double lat, Double lng) {
+        this(title, lat, lng, null);
+    }
+
+    public CourseCondition(String title, Double lat, Double lng, String cursor) {
         this.title = title;
         if (Objects.nonNull(lat) && Objects.nonNull(lng)) {
             this.coordinate = new Coordinate(lat, lng);
         }
+        if (Objects.nonNull(cursor)) {
+            this.cursorPaging = true;
+            if (!cursor.isBlank()) {
+                this.cursor = CourseListCursor.decode(cursor);
+            }
+        }
     }
 
     @Getter
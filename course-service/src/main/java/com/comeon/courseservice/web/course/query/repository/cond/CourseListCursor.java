@@ -0,0 +1,33 @@
+package com.comeon.courseservice.web.course.query.repository.cond;
+
+import com.comeon.courseservice.web.common.cursor.CursorCodec;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 코스 리스트의 정렬 순서(거리, 좋아요 수, 수정일, 식별값)에서 마지막으로 조회한 코스의 위치
+@Getter
+@AllArgsConstructor
+public class CourseListCursor {
+
+    private Double distance;
+    private Integer likeCount;
+    private LocalDateTime updatedDate;
+    private Long courseId;
+
+    public static CourseListCursor decode(String cursor) {
+        return CursorCodec.decode(cursor, 4,
+                values -> new CourseListCursor(
+                        Double.valueOf(values[0]),
+                        Integer.valueOf(values[1]),
+                        LocalDateTime.parse(values[2]),
+                        Long.valueOf(values[3])
+                )
+        );
+    }
+
+    public String encode() {
+        return CursorCodec.encode(distance, likeCount, updatedDate, courseId);
+    }
+}
@@ -3,12 +3,30 @@ package com.comeon.courseservice.web.course.query.repository.cond;
 import com.comeon.courseservice.domain.course.entity.CourseStatus;
 import lombok.Getter;
 
+import java.util.Objects;
+
 @Getter
 public class MyCourseCondition {
 
     private CourseStatus courseStatus;
 
+    // 커서 기반 페이징 여부. 커서 파라미터가 비어있으면 첫 페이지
+    private boolean cursorPaging;
+
+    // 이전 페이지의 마지막 코스 위치
+    private MyCourseListCursor cursor;
+
     public MyCourseCondition(CourseStatus courseStatus) {
+        this(courseStatus, null);
+    }
+
+    public MyCourseCondition(CourseStatus courseStatus, String cursor) {
         this.courseStatus = courseStatus;
+        if (Objects.nonNull(cursor)) {
+            this.cursorPaging = true;
+            if (!cursor.isBlank()) {
+                this.cursor = MyCourseListCursor.decode(cursor);
+            }
+        }
     }
 }
@@ -0,0 +1,32 @@
+package com.comeon.courseservice.web.course.query.repository.cond;
+
+import com.comeon.courseservice.web.common.cursor.CursorCodec;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/*
+    마이페이지 코스 리스트의 정렬 순서(일자, 식별값)에서 마지막으로 조회한 위치.
+    등록한 코스 리스트는 코스 수정일과 코스 식별값, 좋아요한 코스 리스트는 좋아요 일자와 좋아요 식별값이다.
+ */
+@Getter
+@AllArgsConstructor
+public class MyCourseListCursor {
+
+    private LocalDateTime sortDate;
+    private Long id;
+
+    public static MyCourseListCursor decode(String cursor) {
+        return CursorCodec.decode(cursor, 2,
+                values -> new MyCourseListCursor(
+                        LocalDateTime.parse(values[0]),
+                        Long.valueOf(values[1])
+                )
+        );
+    }
+
+    public String encode() {
+        return CursorCodec.encode(sortDate, id);
+    }
+}
@@ -0,0 +1,21 @@
+package com.comeon.courseservice.web.course.query.repository.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class CourseLikeDateData {
+
+    private Long courseLikeId;
+    private Long courseId;
+    private Long userId;
+    private LocalDateTime createdDate;
+
+    public CourseLikeDateData(Long courseLikeId, Long courseId, Long userId, LocalDateTime createdDate) {
+        this.courseLikeId = courseLikeId;
+        this.courseId = courseId;
+        this.userId = userId;
+        this.createdDate = createdDate;
+    }
+}
@@ -0,0 +1,27 @@
+package com.comeon.courseservice.web.course.query.repository.dto;
+
+import com.comeon.courseservice.domain.course.entity.CourseStatus;
+import lombok.Getter;
+
+import java.util.Objects;
+
+@Getter
+public class CourseLocationData {
+
+    private Long courseId;
+    private CourseStatus courseStatus;
+    private Double lat;
+    private Double lng;
+
+    public CourseLocationData(Long courseId, CourseStatus courseStatus, Double lat, Double lng) {
+        this.courseId = courseId;
+        this.courseStatus = courseStatus;
+        this.lat = lat;
+        this.lng = lng;
+    }
+
+    // 작성 완료되었고 첫번째 장소 좌표가 있는 코스만 주변 코스 검색 대상이다.
+    public boolean isSearchable() {
+        return courseStatus == CourseStatus.COMPLETE && Objects.nonNull(lat) && Objects.nonNull(lng);
+    }
+}
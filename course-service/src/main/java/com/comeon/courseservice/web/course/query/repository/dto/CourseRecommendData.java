@@ -0,0 +1,23 @@
+package com.comeon.courseservice.web.course.query.repository.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class CourseRecommendData {
+
+    private Long courseId;
+    private Double lat;
+    private Double lng;
+    private Integer likeCount;
+    private LocalDateTime updatedDate;
+
+    public CourseRecommendData(Long courseId, Double lat, Double lng, Integer likeCount, LocalDateTime updatedDate) {
+        this.courseId = courseId;
+        this.lat = lat;
+        this.lng = lng;
+        this.likeCount = likeCount;
+        this.updatedDate = updatedDate;
+    }
+}
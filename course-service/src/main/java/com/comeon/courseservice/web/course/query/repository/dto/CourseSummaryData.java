@@ -0,0 +1,45 @@
+package com.comeon.courseservice.web.course.query.repository.dto;
+
+import com.comeon.courseservice.domain.course.entity.CourseStatus;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/*
+    코스 리스트 응답에 필요한 읽기 모델(course_search)의 컬럼들.
+    엔티티로 조회하지 않으므로 영속성 컨텍스트에 올라가지 않고, 변경 감지용 스냅샷도 만들지 않는다.
+ */
+@Getter
+public class CourseSummaryData {
+
+    private Long courseId;
+    private Long userId;
+    private String title;
+    private CourseStatus courseStatus;
+    private Integer likeCount;
+    private LocalDateTime updatedDate;
+    private String imageStoredName;
+    private Long firstPlaceId;
+    private Double firstPlaceLat;
+    private Double firstPlaceLng;
+    private String writerNickname;
+    private boolean writerWithdrawn;
+
+    public CourseSummaryData(Long courseId, Long userId, String title, CourseStatus courseStatus,
+                             Integer likeCount, LocalDateTime updatedDate, String imageStoredName,
+                             Long firstPlaceId, Double firstPlaceLat, Double firstPlaceLng,
+                             String writerNickname, Boolean writerWithdrawn) {
+        this.courseId = courseId;
+        this.userId = userId;
+        this.title = title;
+        this.courseStatus = courseStatus;
+        this.likeCount = likeCount;
+        this.updatedDate = updatedDate;
+        this.imageStoredName = imageStoredName;
+        this.firstPlaceId = firstPlaceId;
+        this.firstPlaceLat = firstPlaceLat;
+        this.firstPlaceLng = firstPlaceLng;
+        this.writerNickname = writerNickname;
+        this.writerWithdrawn = Boolean.TRUE.equals(writerWithdrawn);
+    }
+}
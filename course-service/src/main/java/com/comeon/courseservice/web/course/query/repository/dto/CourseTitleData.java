@@ -0,0 +1,23 @@
+package com.comeon.courseservice.web.course.query.repository.dto;
+
+import com.comeon.courseservice.domain.course.entity.CourseStatus;
+import lombok.Getter;
+
+@Getter
+public class CourseTitleData {
+
+    private Long courseId;
+    private CourseStatus courseStatus;
+    private String title;
+
+    public CourseTitleData(Long courseId, CourseStatus courseStatus, String title) {
+        this.courseId = courseId;
+        this.courseStatus = courseStatus;
+        this.title = title;
+    }
+
+    // 작성 완료된 코스만 제목 검색 대상이다.
+    public boolean isSearchable() {
+        return courseStatus == CourseStatus.COMPLETE;
+    }
+}
@@ -1,16 +1,25 @@
 package com.comeon.courseservice.web.course.query.repository.dto;
 
-import com.comeon.courseservice.domain.course.entity.Course;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
+
 @Getter
 public class MyPageCourseListData {
 
-    private Course course;
-    private Long userLikeId;
+    private CourseSummaryData courseSummary;
+
+    // 좋아요한 코스 리스트에서만 값이 있다. 커서를 만들 때 사용
+    private Long courseLikeId;
+    private LocalDateTime likedDate;
+
+    public MyPageCourseListData(CourseSummaryData courseSummary) {
+        this.courseSummary = courseSummary;
+    }
 
-    public MyPageCourseListData(Course course, Long userLikeId) {
-        this.course = course;
-        this.userLikeId = userLikeId;
+    public MyPageCourseListData(CourseSummaryData courseSummary, Long courseLikeId, LocalDateTime likedDate) {
+        this.courseSummary = courseSummary;
+        this.courseLikeId = courseLikeId;
+        this.likedDate = likedDate;
     }
 }
@@ -0,0 +1,128 @@
+package com.comeon.courseservice.web.course.query.search;
+
+import com.comeon.courseservice.common.search.NgramIndex;
+import com.comeon.courseservice.domain.course.event.CourseChangedEvent;
+import com.comeon.courseservice.web.course.query.repository.CourseQueryRepository;
+import com.comeon.courseservice.web.course.query.repository.dto.CourseTitleData;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/*
+    작성 완료된 코스들의 제목을 bigram 으로 역색인하여 제목 검색에 사용한다.
+    - 시작할 때 DB 에서 전체를 읽는다.
+    - 이 인스턴스에서 변경된 코스는 커밋 직후 이벤트로 반영한다.
+    - 다른 인스턴스에서 변경된 코스는 주기적으로 lastModifiedDate 기준으로 가져와 반영한다.
+    준비되지 않았거나 찾은 코스가 maxCandidates 개를 넘으면 비어있는 값을 반환하여,
+    호출하는 쪽에서 DB 의 LIKE 검색을 사용하도록 한다.
+ */
+@Slf4j
+public class CourseTitleIndex {
+
+    private final CourseQueryRepository courseQueryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int loadBatchSize;
+    private final Duration syncOverlap;
+    private final int maxCandidates;
+
+    private volatile NgramIndex index;
+    private volatile LocalDateTime lastSyncDate;
+
+    public CourseTitleIndex(CourseQueryRepository courseQueryRepository,
+                            TransactionTemplate transactionTemplate,
+                            int loadBatchSize,
+                            Duration syncOverlap,
+                            int maxCandidates) {
+        this.courseQueryRepository = courseQueryRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.loadBatchSize = loadBatchSize;
+        this.syncOverlap = syncOverlap;
+        this.maxCandidates = maxCandidates;
+    }
+
+    public boolean isReady() {
+        return index != null;
+    }
+
+    // 검색어의 단어를 많이 포함하는 순서로 정렬된 코스 식별값들
+    public Optional<List<Long>> search(String title) {
+        NgramIndex current = index;
+        if (current == null) {
+            return Optional.empty();
+        }
+        List<Long> courseIds = current.search(title, maxCandidates + 1);
+        if (courseIds.size() > maxCandidates) {
+            return Optional.empty();
+        }
+        return Optional.of(courseIds);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.currentTimeMillis();
+
+        LocalDateTime loadStartDate = LocalDateTime.now();
+        NgramIndex loaded = new NgramIndex();
+        long lastCourseId = 0L;
+        List<CourseTitleData> titles;
+        do {
+            long afterId = lastCourseId;
+            titles = transactionTemplate.execute(
+                    status -> courseQueryRepository.findCourseTitlesAfter(afterId, loadBatchSize)
+            );
+            for (CourseTitleData title : titles) {
+                loaded.put(title.getCourseId(), title.getTitle());
+                lastCourseId = title.getCourseId();
+            }
+        } while (titles.size() == loadBatchSize);
+
+        lastSyncDate = loadStartDate;
+        index = loaded;
+        sync();
+        log.info("[course-title-index] loaded from database. courses : {}, elapsed : {}ms",
+                loaded.size(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseChanged(CourseChangedEvent event) {
+        NgramIndex current = index;
+        if (current == null) {
+            return;
+        }
+        if (event.isSearchable()) {
+            current.put(event.getCourseId(), event.getTitle());
+        } else {
+            current.remove(event.getCourseId());
+        }
+    }
+
+    // 커밋 시각과 lastModifiedDate 사이의 차이로 놓치는 변경이 없도록 syncOverlap 만큼 겹쳐서 조회한다.
+    @Scheduled(fixedDelayString = "${course.title-index.sync-interval:5000}")
+    public void sync() {
+        NgramIndex current = index;
+        if (current == null) {
+            return;
+        }
+
+        LocalDateTime syncStartDate = LocalDateTime.now();
+        List<CourseTitleData> titles = transactionTemplate.execute(
+                status -> courseQueryRepository.findCourseTitlesModifiedSince(lastSyncDate.minus(syncOverlap))
+        );
+        for (CourseTitleData title : titles) {
+            if (title.isSearchable()) {
+                current.put(title.getCourseId(), title.getTitle());
+            } else {
+                current.remove(title.getCourseId());
+            }
+        }
+        lastSyncDate = syncStartDate;
+    }
+}
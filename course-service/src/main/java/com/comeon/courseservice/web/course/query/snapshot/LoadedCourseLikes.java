@@ -0,0 +1,87 @@
+package com.comeon.courseservice.web.course.query.snapshot;
+
+import com.comeon.courseservice.domain.courselike.event.CourseLikeChangedEvent;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+    새로 만들 때 DB 에서 읽은 좋아요들과, 모아둔 이벤트를 반영한 뒤의 좋아요 존재 여부.
+    좋아요 취소는 식별값을 조회하지 않고 (코스, 유저)로 삭제하므로, 좋아요를 (코스, 유저)로 구분한다.
+    (코스, 유저)에는 유니크 인덱스가 있어 좋아요가 하나만 존재할 수 있으므로, 존재 여부가 하나로 정해진다.
+    코스마다 읽은 유저 식별값을 배열에 모으고, 처음 찾을 때 정렬하여 이진 탐색으로 찾는다.
+    읽지 않은 범위(창 밖의 오래된 좋아요)는 없는 것으로 본다.
+ */
+public class LoadedCourseLikes {
+
+    private final Map<Long, UserIds> userIdsByCourse = new HashMap<>();
+    private int size;
+
+    // 이벤트를 반영하여 바뀐 존재 여부
+    private final Map<CourseUser, Boolean> replayed = new HashMap<>();
+
+    public void add(long courseId, long userId) {
+        userIdsByCourse.computeIfAbsent(courseId, id -> new UserIds()).add(userId);
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(long courseId, long userId) {
+        Boolean present = replayed.get(new CourseUser(courseId, userId));
+        if (present != null) {
+            return present;
+        }
+        UserIds userIds = userIdsByCourse.get(courseId);
+        return userIds != null && userIds.contains(userId);
+    }
+
+    // 등록은 없는 좋아요일 때만, 취소는 있는 좋아요일 때만 반영한다. 반영하면 존재 여부를 바꾸고 true 를 반환한다.
+    boolean replay(CourseLikeChangedEvent event) {
+        long courseId = event.getCourseId();
+        long userId = event.getUserId();
+        boolean liked = event.getDelta() > 0;
+        if (contains(courseId, userId) == liked) {
+            return false;
+        }
+        replayed.put(new CourseUser(courseId, userId), liked);
+        return true;
+    }
+
+    private static class UserIds {
+
+        private static final int INITIAL_CAPACITY = 4;
+
+        private long[] userIds = new long[INITIAL_CAPACITY];
+        private int size;
+        private boolean sorted = true;
+
+        void add(long userId) {
+            if (size == userIds.length) {
+                userIds = Arrays.copyOf(userIds, size * 2);
+            }
+            userIds[size++] = userId;
+            sorted = false;
+        }
+
+        boolean contains(long userId) {
+            if (!sorted) {
+                Arrays.sort(userIds, 0, size);
+                sorted = true;
+            }
+            return Arrays.binarySearch(userIds, 0, size, userId) >= 0;
+        }
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class CourseUser {
+        private final long courseId;
+        private final long userId;
+    }
+}
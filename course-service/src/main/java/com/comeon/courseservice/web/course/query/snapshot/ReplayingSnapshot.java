@@ -0,0 +1,89 @@
+package com.comeon.courseservice.web.course.query.snapshot;
+
+import com.comeon.courseservice.domain.courselike.event.CourseLikeChangedEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/*
+    DB 에서 주기적으로 새로 만드는 메모리 읽기 모델(추천 인덱스, 인기 코스 목록)과 그 사이에 들어온 변경 이벤트를 함께 관리한다.
+    - 이벤트는 현재 값에 바로 반영한다.
+    - 새로 만드는 중에 들어온 이벤트는 모아두었다가, 바꾸기 전에 새 값에도 순서대로 반영한다.
+      모으기는 DB 를 읽기 전에 시작하므로, 읽은 결과에 이미 들어있는 변경의 이벤트도 모일 수 있다.
+      좋아요 이벤트는 읽은 좋아요(LoadedCourseLikes)와 (코스, 유저)로 비교하여 읽은 결과에 없는 등록, 읽은 결과에 있는 취소만 반영한다.
+      코스 이벤트는 같은 좌표를 다시 쓰므로 두 번 반영되어도 결과가 같다.
+    - 새로 만드는 데 실패하면 이전 값을 계속 사용한다.
+ */
+public class ReplayingSnapshot<T> {
+
+    private final BiConsumer<T, Object> applier;
+
+    private volatile T current;
+
+    private final Object lock = new Object();
+    // 새로 만드는 중이면 읽고 있는 좋아요, 아니면 null
+    private LoadedCourseLikes loadingLikes;
+    private List<Object> pendingEvents = new ArrayList<>();
+
+    public ReplayingSnapshot(BiConsumer<T, Object> applier) {
+        this.applier = applier;
+    }
+
+    // 아직 만들어지지 않았으면 null
+    public T current() {
+        return current;
+    }
+
+    // loader 는 읽은 좋아요의 (코스, 유저)를 전달받은 LoadedCourseLikes 에 추가한다. 실패하면 예외를 그대로 던진다.
+    public synchronized T rebuild(Function<LoadedCourseLikes, T> loader) {
+        LoadedCourseLikes loadedLikes = new LoadedCourseLikes();
+        synchronized (lock) {
+            loadingLikes = loadedLikes;
+        }
+
+        T rebuilt;
+        try {
+            rebuilt = loader.apply(loadedLikes);
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                loadingLikes = null;
+                pendingEvents = new ArrayList<>();
+            }
+            throw e;
+        }
+
+        // 반영하는 중에 들어온 이벤트가 없을 때 바꾼다.
+        while (true) {
+            List<Object> events;
+            synchronized (lock) {
+                if (pendingEvents.isEmpty()) {
+                    current = rebuilt;
+                    loadingLikes = null;
+                    return rebuilt;
+                }
+                events = pendingEvents;
+                pendingEvents = new ArrayList<>();
+            }
+            for (Object event : events) {
+                if (!(event instanceof CourseLikeChangedEvent) || loadedLikes.replay((CourseLikeChangedEvent) event)) {
+                    applier.accept(rebuilt, event);
+                }
+            }
+        }
+    }
+
+    public void accept(Object event) {
+        T target;
+        synchronized (lock) {
+            if (loadingLikes != null) {
+                pendingEvents.add(event);
+            }
+            target = current;
+        }
+        if (target != null) {
+            applier.accept(target, event);
+        }
+    }
+}
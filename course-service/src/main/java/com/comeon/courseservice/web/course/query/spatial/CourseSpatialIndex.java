@@ -0,0 +1,186 @@
+package com.comeon.courseservice.web.course.query.spatial;
+
+import com.comeon.courseservice.common.geo.SpatialGridIndex;
+import com.comeon.courseservice.common.geo.SpatialIndexSnapshot;
+import com.comeon.courseservice.domain.course.event.CourseChangedEvent;
+import com.comeon.courseservice.web.course.query.repository.CourseQueryRepository;
+import com.comeon.courseservice.web.course.query.repository.dto.CourseLocationData;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+/*
+    작성 완료된 코스들의 첫번째 장소 좌표를 메모리에 올려두고 주변 코스를 찾는다.
+    - 시작할 때 스냅샷 파일이 있으면 읽고, 없으면 DB 에서 전체를 읽는다.
+    - 이 인스턴스에서 변경된 코스는 커밋 직후 이벤트로 반영한다.
+    - 다른 인스턴스에서 변경된 코스는 주기적으로 lastModifiedDate 기준으로 가져와 반영한다.
+      삭제된 코스는 조회 시점에 DB 에 없는 것이 확인되면 제거한다.
+    준비되기 전에는 비어있는 값을 반환하여, 호출하는 쪽에서 DB 검색을 사용하도록 한다.
+ */
+@Slf4j
+public class CourseSpatialIndex {
+
+    private final CourseQueryRepository courseQueryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final double cellDegrees;
+    private final int loadBatchSize;
+    private final Duration syncOverlap;
+    private final Path snapshotPath;
+
+    private volatile SpatialGridIndex index;
+    private volatile LocalDateTime lastSyncDate;
+
+    public CourseSpatialIndex(CourseQueryRepository courseQueryRepository,
+                              TransactionTemplate transactionTemplate,
+                              double cellDegrees,
+                              int loadBatchSize,
+                              Duration syncOverlap,
+                              Path snapshotPath) {
+        this.courseQueryRepository = courseQueryRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.cellDegrees = cellDegrees;
+        this.loadBatchSize = loadBatchSize;
+        this.syncOverlap = syncOverlap;
+        this.snapshotPath = snapshotPath;
+    }
+
+    public boolean isReady() {
+        return index != null;
+    }
+
+    public Optional<List<SpatialGridIndex.Neighbor>> nearest(double lat, double lng, int k, double maxDistanceKm) {
+        SpatialGridIndex current = index;
+        if (current == null) {
+            return Optional.empty();
+        }
+        return Optional.of(current.nearest(lat, lng, k, maxDistanceKm));
+    }
+
+    // 인덱스에는 있지만 DB 에서 검색 대상이 아닌 것으로 확인된 코스
+    public void remove(Long courseId) {
+        SpatialGridIndex current = index;
+        if (current != null) {
+            current.remove(courseId);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.currentTimeMillis();
+
+        Optional<SpatialIndexSnapshot.Loaded> snapshot = readSnapshot();
+        if (snapshot.isPresent()) {
+            // 스냅샷 저장 이후의 변경분은 동기화로 채운다.
+            SpatialGridIndex loaded = snapshot.get().getIndex();
+            LocalDateTime savedAt = LocalDateTime.ofInstant(snapshot.get().getSavedAt(), ZoneId.systemDefault());
+            lastSyncDate = savedAt;
+            index = loaded;
+            sync();
+            log.info("[course-spatial-index] loaded from snapshot. courses : {}, elapsed : {}ms",
+                    loaded.size(), System.currentTimeMillis() - start);
+            return;
+        }
+
+        LocalDateTime loadStartDate = LocalDateTime.now();
+        SpatialGridIndex loaded = new SpatialGridIndex(cellDegrees);
+        long lastCourseId = 0L;
+        List<CourseLocationData> locations;
+        do {
+            long afterId = lastCourseId;
+            locations = transactionTemplate.execute(
+                    status -> courseQueryRepository.findCourseLocationsAfter(afterId, loadBatchSize)
+            );
+            for (CourseLocationData location : locations) {
+                loaded.put(location.getCourseId(), location.getLat(), location.getLng());
+                lastCourseId = location.getCourseId();
+            }
+        } while (locations.size() == loadBatchSize);
+
+        lastSyncDate = loadStartDate;
+        index = loaded;
+        sync();
+        log.info("[course-spatial-index] loaded from database. courses : {}, elapsed : {}ms",
+                loaded.size(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseChanged(CourseChangedEvent event) {
+        SpatialGridIndex current = index;
+        if (current == null) {
+            return;
+        }
+        if (event.isSearchable()) {
+            current.put(event.getCourseId(), event.getLat(), event.getLng());
+        } else {
+            current.remove(event.getCourseId());
+        }
+    }
+
+    // 커밋 시각과 lastModifiedDate 사이의 차이로 놓치는 변경이 없도록 syncOverlap 만큼 겹쳐서 조회한다.
+    @Scheduled(fixedDelayString = "${course.spatial-index.sync-interval:5000}")
+    public void sync() {
+        SpatialGridIndex current = index;
+        if (current == null) {
+            return;
+        }
+
+        LocalDateTime syncStartDate = LocalDateTime.now();
+        List<CourseLocationData> locations = transactionTemplate.execute(
+                status -> courseQueryRepository.findCourseLocationsModifiedSince(lastSyncDate.minus(syncOverlap))
+        );
+        for (CourseLocationData location : locations) {
+            if (location.isSearchable()) {
+                current.put(location.getCourseId(), location.getLat(), location.getLng());
+            } else {
+                current.remove(location.getCourseId());
+            }
+        }
+        lastSyncDate = syncStartDate;
+    }
+
+    @Scheduled(fixedDelayString = "${course.spatial-index.snapshot-interval:600000}",
+            initialDelayString = "${course.spatial-index.snapshot-interval:600000}")
+    public void saveSnapshot() {
+        SpatialGridIndex current = index;
+        if (current == null || snapshotPath == null) {
+            return;
+        }
+        // 스냅샷 시각은 마지막 동기화 시각으로 저장하여, 다시 읽을 때 그 이후의 변경분을 동기화한다.
+        Instant savedAt = lastSyncDate.atZone(ZoneId.systemDefault()).toInstant();
+        try {
+            SpatialIndexSnapshot.write(snapshotPath, current, savedAt);
+        } catch (IOException e) {
+            log.warn("[course-spatial-index] snapshot save failed. path : {}", snapshotPath, e);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        saveSnapshot();
+    }
+
+    private Optional<SpatialIndexSnapshot.Loaded> readSnapshot() {
+        if (snapshotPath == null) {
+            return Optional.empty();
+        }
+        try {
+            return SpatialIndexSnapshot.read(snapshotPath, cellDegrees);
+        } catch (IOException e) {
+            log.warn("[course-spatial-index] snapshot read failed. path : {}", snapshotPath, e);
+            return Optional.empty();
+        }
+    }
+}
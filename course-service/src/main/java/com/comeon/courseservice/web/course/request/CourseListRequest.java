@@ -15,7 +15,10 @@ public class CourseListRequest {
     private Double lat;
     private Double lng;
 
+    // 커서 기반 페이징. 첫 페이지는 빈 값, 이후에는 응답의 nextCursor. 없으면 page 파라미터로 조회한다.
+    private String cursor;
+
     public CourseCondition toCondition() {
-        return new CourseCondition(title, lat, lng);
+        return new CourseCondition(title, lat, lng, cursor);
     }
 }
@@ -0,0 +1,25 @@
+package com.comeon.courseservice.web.course.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CoursePopularRequest {
+
+    // 위도와 경도가 모두 있으면 주변 지역, 없으면 전체의 인기 코스를 조회한다.
+    private Double lat;
+    private Double lng;
+
+    @NotNull
+    @Min(1)
+    @Max(50)
+    private Integer size = 10;
+}
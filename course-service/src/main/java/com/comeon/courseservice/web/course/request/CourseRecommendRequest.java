@@ -0,0 +1,27 @@
+package com.comeon.courseservice.web.course.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseRecommendRequest {
+
+    @NotNull
+    private Double lat;
+
+    @NotNull
+    private Double lng;
+
+    @NotNull
+    @Min(1)
+    @Max(50)
+    private Integer size = 10;
+}
@@ -17,8 +17,11 @@ public class MyCourseListRequest {
     @ValidEnum(enumClass = CourseStatus.class, ignoreCase = true)
     private String courseStatus;
 
+    // 커서 기반 페이징. 첫 페이지는 빈 값, 이후에는 응답의 nextCursor. 없으면 page 파라미터로 조회한다.
+    private String cursor;
+
     public MyCourseCondition toCondition() {
-        return new MyCourseCondition(convertCourseStatusAndGet());
+        return new MyCourseCondition(convertCourseStatusAndGet(), cursor);
     }
 
     public CourseStatus convertCourseStatusAndGet() {
@@ -46,6 +46,35 @@ public class CourseDetailResponse {
                 .collect(Collectors.toList());
     }
 
+    // 여러 요청이 함께 사용하는 응답에 요청한 유저의 좋아요 여부를 담은 복사본
+    private CourseDetailResponse(CourseDetailResponse source, Boolean userLiked) {
+        this.courseId = source.courseId;
+        this.title = source.title;
+        this.description = source.description;
+        this.imageUrl = source.imageUrl;
+        this.courseStatus = source.courseStatus;
+        this.updatedDate = source.updatedDate;
+
+        this.writer = source.writer;
+
+        this.likeCount = source.likeCount;
+        this.userLiked = userLiked;
+
+        this.coursePlaces = source.coursePlaces;
+    }
+
+    public CourseDetailResponse withUserLiked(Boolean userLiked) {
+        return new CourseDetailResponse(this, userLiked);
+    }
+
+    public void updateWriter(UserDetailInfo writer) {
+        this.writer = writer;
+    }
+
+    public void updateLikeCount(Integer likeCount) {
+        this.likeCount = likeCount;
+    }
+
     @Getter
     public static class CoursePlaceDetailInfo {
         private Long id;
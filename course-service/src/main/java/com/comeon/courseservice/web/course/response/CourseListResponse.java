@@ -3,6 +3,7 @@ package com.comeon.courseservice.web.course.response;
 import com.comeon.courseservice.domain.course.entity.Course;
 import com.comeon.courseservice.domain.course.entity.CourseStatus;
 import com.comeon.courseservice.domain.courseplace.entity.CoursePlace;
+import com.comeon.courseservice.web.course.query.repository.dto.CourseSummaryData;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -44,6 +45,42 @@ public class CourseListResponse {
                 .build();
     }
 
+    public CourseListResponse(CourseSummaryData courseSummary, Double firstPlaceDistance,
+                              UserDetailInfo writer, String imageUrl, Boolean userLiked) {
+        this.courseId = courseSummary.getCourseId();
+        this.title = courseSummary.getTitle();
+        this.imageUrl = imageUrl;
+        this.courseStatus = courseSummary.getCourseStatus();
+        this.updatedDate = courseSummary.getUpdatedDate().toLocalDate();
+
+        this.writer = writer;
+
+        this.likeCount = courseSummary.getLikeCount();
+        this.userLiked = userLiked;
+
+        this.firstPlace = new FirstPlace(courseSummary, firstPlaceDistance);
+    }
+
+    // 여러 요청이 함께 사용하는 응답에 요청한 유저의 좋아요 여부를 담은 복사본
+    private CourseListResponse(CourseListResponse source, Boolean userLiked) {
+        this.courseId = source.courseId;
+        this.title = source.title;
+        this.imageUrl = source.imageUrl;
+        this.courseStatus = source.courseStatus;
+        this.updatedDate = source.updatedDate;
+
+        this.writer = source.writer;
+
+        this.likeCount = source.likeCount;
+        this.userLiked = userLiked;
+
+        this.firstPlace = source.firstPlace;
+    }
+
+    public CourseListResponse withUserLiked(Boolean userLiked) {
+        return new CourseListResponse(this, userLiked);
+    }
+
     @Getter
     public static class FirstPlace {
 
@@ -59,5 +96,12 @@ public class CourseListResponse {
             this.lng = coursePlace.getLng();
             this.distance = distance;
         }
+
+        public FirstPlace(CourseSummaryData courseSummary, Double distance) {
+            this.id = courseSummary.getFirstPlaceId();
+            this.lat = courseSummary.getFirstPlaceLat();
+            this.lng = courseSummary.getFirstPlaceLng();
+            this.distance = distance;
+        }
     }
 }
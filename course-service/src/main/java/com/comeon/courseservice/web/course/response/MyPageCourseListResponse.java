@@ -2,6 +2,7 @@ package com.comeon.courseservice.web.course.response;
 
 import com.comeon.courseservice.domain.course.entity.Course;
 import com.comeon.courseservice.domain.course.entity.CourseStatus;
+import com.comeon.courseservice.web.course.query.repository.dto.CourseSummaryData;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -34,4 +35,17 @@ public class MyPageCourseListResponse {
         this.likeCount = course.getLikeCount();
         this.userLiked = userLiked;
     }
+
+    public MyPageCourseListResponse(CourseSummaryData courseSummary, UserDetailInfo writer, String imageUrl, Boolean userLiked) {
+        this.courseId = courseSummary.getCourseId();
+        this.title = courseSummary.getTitle();
+        this.imageUrl = imageUrl;
+        this.courseStatus = courseSummary.getCourseStatus();
+        this.updatedDate = courseSummary.getUpdatedDate().toLocalDate();
+
+        this.writer = writer;
+
+        this.likeCount = courseSummary.getLikeCount();
+        this.userLiked = userLiked;
+    }
 }
@@ -0,0 +1,89 @@
+package com.comeon.courseservice.web.courseplace.command;
+
+import com.comeon.courseservice.domain.course.entity.Course;
+import com.comeon.courseservice.domain.courseplace.entity.CoursePlace;
+import com.comeon.courseservice.domain.courseplace.service.CoursePlaceService;
+import com.comeon.courseservice.domain.courseplace.service.dto.CoursePlaceDto;
+import com.comeon.courseservice.web.common.exception.ValidateException;
+import com.comeon.courseservice.web.courseplace.response.CoursePlaceAddResponse;
+import com.comeon.courseservice.web.courseplace.response.CoursePlaceDeleteResponse;
+import com.comeon.courseservice.web.courseplace.response.CoursePlaceModifyResponse;
+import com.comeon.courseservice.web.courseplace.response.CoursePlacesBatchUpdateResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.LinkedMultiValueMap;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/*
+    코스 장소 변경 요청 하나를 한 트랜잭션으로 처리한다.
+    코스와 장소들을 한 번만 읽고, 읽은 코스로 요청 검증, 변경, 응답 생성을 모두 처리한다.
+    변경 내용은 커밋할 때 반영되므로, 응답을 만들기 위해 다시 조회하지 않는다.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class CoursePlaceCommandService {
+
+    private final CoursePlaceService coursePlaceService;
+
+    public CoursePlaceAddResponse coursePlaceAdd(Long courseId, Long userId, CoursePlaceDto coursePlaceDto) {
+        Course course = coursePlaceService.getCourseFetchPlaces(courseId);
+        Long coursePlaceId = coursePlaceService.coursePlaceAdd(course, userId, coursePlaceDto);
+
+        return new CoursePlaceAddResponse(course, coursePlaceId);
+    }
+
+    public CoursePlaceModifyResponse coursePlaceModify(Long courseId, Long userId, Long coursePlaceId, CoursePlaceDto coursePlaceDto) {
+        Course course = coursePlaceService.getCourseFetchPlaces(courseId);
+        coursePlaceService.coursePlaceModify(course, userId, coursePlaceId, coursePlaceDto);
+
+        return new CoursePlaceModifyResponse(course);
+    }
+
+    public CoursePlaceDeleteResponse coursePlaceRemove(Long courseId, Long userId, Long coursePlaceId) {
+        Course course = coursePlaceService.getCourseFetchPlaces(courseId);
+        coursePlaceService.coursePlaceRemove(course, userId, coursePlaceId);
+
+        return new CoursePlaceDeleteResponse(course);
+    }
+
+    public CoursePlacesBatchUpdateResponse batchUpdateCoursePlace(Long courseId, Long userId,
+                                                                  List<CoursePlaceDto> dtosToSave,
+                                                                  List<CoursePlaceDto> dtosToModify,
+                                                                  List<Long> coursePlaceIdsToDelete) {
+        Course course = coursePlaceService.getCourseFetchPlaces(courseId);
+        validateCoursePlaces(course, dtosToModify, coursePlaceIdsToDelete);
+
+        coursePlaceService.batchUpdateCoursePlace(course, userId, dtosToSave, dtosToModify, coursePlaceIdsToDelete);
+
+        return new CoursePlacesBatchUpdateResponse(courseId, course.getCourseStatus());
+    }
+
+
+    /* ==== private method ==== */
+    private void validateCoursePlaces(Course course,
+                                      List<CoursePlaceDto> dtosToModify,
+                                      List<Long> coursePlaceIdsToDelete) {
+        Set<Long> originalCoursePlaceIds = course.getCoursePlaces().stream()
+                .map(CoursePlace::getId)
+                .collect(Collectors.toSet());
+
+        // 수정 및 삭제 데이터에 명시된 placeId 들이 originalCoursePlaceIds 에 하나라도 포함되지 않으면 예외
+        boolean hasPlaceOfOtherCourse = Stream.concat(
+                        dtosToModify.stream().map(CoursePlaceDto::getCoursePlaceId),
+                        coursePlaceIdsToDelete.stream()
+                )
+                .anyMatch(coursePlaceId -> !originalCoursePlaceIds.contains(coursePlaceId));
+
+        if (hasPlaceOfOtherCourse) {
+            LinkedMultiValueMap<String, String> errorResult = new LinkedMultiValueMap<>();
+            errorResult.add("Global", "수정 요청 데이터 혹은, 삭제 요청 데이터에 해당 코스의 장소가 아닌 장소 식별값이 포함되어 있습니다. 확인해주세요.");
+            throw new ValidateException("요청 데이터에 수정하려는 코스에 속하지 않는 장소가 있습니다.", errorResult);
+        }
+    }
+}
@@ -4,17 +4,12 @@ import com.comeon.courseservice.common.exception.CustomException;
 import com.comeon.courseservice.common.exception.ErrorCode;
 import com.comeon.courseservice.domain.common.exception.EntityNotFoundException;
 import com.comeon.courseservice.domain.course.entity.Course;
-import com.comeon.courseservice.domain.courseplace.entity.CoursePlace;
 import com.comeon.courseservice.web.common.response.ListResponse;
-import com.comeon.courseservice.web.courseplace.response.CoursePlaceAddResponse;
-import com.comeon.courseservice.web.courseplace.response.CoursePlaceDeleteResponse;
 import com.comeon.courseservice.web.courseplace.response.CoursePlaceDetails;
-import com.comeon.courseservice.web.courseplace.response.CoursePlaceModifyResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,20 +19,6 @@ public class CoursePlaceQueryService {
 
     private final CoursePlaceQueryRepository coursePlaceQueryRepository;
 
-    public CoursePlaceAddResponse getCoursePlaceAddResponse(Long courseId, Long addedCoursePlaceId) {
-        Course course = getCourse(courseId);
-
-        return new CoursePlaceAddResponse(course, addedCoursePlaceId);
-    }
-
-    public CoursePlaceModifyResponse getCoursePlaceModifyResponse(Long courseId) {
-        return new CoursePlaceModifyResponse(getCourse(courseId));
-    }
-
-    public CoursePlaceDeleteResponse getCoursePlaceDeleteResponse(Long courseId) {
-        return new CoursePlaceDeleteResponse(getCourse(courseId));
-    }
-
     public ListResponse<CoursePlaceDetails> getCoursePlaceListResponse(Long courseId) {
         Course course = getCourse(courseId);
 
@@ -53,12 +34,6 @@ public class CoursePlaceQueryService {
         );
     }
 
-    public List<Long> getCoursePlaceIds(Long courseId) {
-        return getCourse(courseId).getCoursePlaces().stream()
-                .map(CoursePlace::getId)
-                .collect(Collectors.toList());
-    }
-
     public Integer getCoursePlaceOrder(Long coursePlaceId) {
         return coursePlaceQueryRepository.findById(coursePlaceId)
                 .orElseThrow(
@@ -5,6 +5,7 @@ import com.comeon.courseservice.domain.course.entity.CourseStatus;
 import com.comeon.courseservice.domain.courseplace.entity.CoursePlace;
 import lombok.Getter;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -27,6 +28,7 @@ public class CoursePlaceAddResponse {
                         .orElseThrow()
         );
         this.coursePlaces = places.stream()
+                .sorted(Comparator.comparing(CoursePlace::getOrder))
                 .map(CoursePlaceDetails::new)
                 .collect(Collectors.toList());
     }
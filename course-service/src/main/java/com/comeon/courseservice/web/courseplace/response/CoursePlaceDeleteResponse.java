@@ -2,8 +2,10 @@ package com.comeon.courseservice.web.courseplace.response;
 
 import com.comeon.courseservice.domain.course.entity.Course;
 import com.comeon.courseservice.domain.course.entity.CourseStatus;
+import com.comeon.courseservice.domain.courseplace.entity.CoursePlace;
 import lombok.Getter;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -17,6 +19,9 @@ public class CoursePlaceDeleteResponse {
     public CoursePlaceDeleteResponse(Course course) {
         this.targetCourseId = course.getId();
         this.courseStatus = course.getCourseStatus();
-        this.coursePlaces = course.getCoursePlaces().stream().map(CoursePlaceDetails::new).collect(Collectors.toList());
+        this.coursePlaces = course.getCoursePlaces().stream()
+                .sorted(Comparator.comparing(CoursePlace::getOrder))
+                .map(CoursePlaceDetails::new)
+                .collect(Collectors.toList());
     }
 }
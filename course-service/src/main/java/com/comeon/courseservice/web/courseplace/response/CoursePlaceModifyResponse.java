@@ -1,8 +1,10 @@
 package com.comeon.courseservice.web.courseplace.response;
 
 import com.comeon.courseservice.domain.course.entity.Course;
+import com.comeon.courseservice.domain.courseplace.entity.CoursePlace;
 import lombok.Getter;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -14,6 +16,9 @@ public class CoursePlaceModifyResponse {
 
     public CoursePlaceModifyResponse(Course course) {
         this.targetCourseId = course.getId();
-        this.coursePlaces = course.getCoursePlaces().stream().map(CoursePlaceDetails::new).collect(Collectors.toList());
+        this.coursePlaces = course.getCoursePlaces().stream()
+                .sorted(Comparator.comparing(CoursePlace::getOrder))
+                .map(CoursePlaceDetails::new)
+                .collect(Collectors.toList());
     }
 }
@@ -0,0 +1,34 @@
+package com.comeon.courseservice.web.feign.userservice;
+
+import com.comeon.courseservice.domain.coursesearch.event.CourseSearchWriterMissingEvent;
+import com.comeon.courseservice.domain.coursesearch.repository.CourseSearchRepository;
+import com.comeon.courseservice.web.feign.userservice.response.UserStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 처음 코스를 작성한 유저처럼 작성자 정보를 알 수 없는 경우, 커밋 후 user-service 에서 조회하여 채운다.
+// 이후 작성자 정보는 유저 변경 메시지로 갱신된다.
+@Component
+@RequiredArgsConstructor
+public class CourseSearchWriterLoader {
+
+    private final UserFeignService userFeignService;
+    private final CourseSearchRepository courseSearchRepository;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onWriterMissing(CourseSearchWriterMissingEvent event) {
+        userFeignService.getUserDetails(event.getUserId())
+                .ifPresent(userDetails -> {
+                    boolean withdrawn = userDetails.getStatus() == UserStatus.WITHDRAWN;
+                    courseSearchRepository.updateWriterIfNoVersion(
+                            event.getUserId(),
+                            withdrawn ? null : userDetails.getNickname(),
+                            withdrawn
+                    );
+                });
+    }
+}
@@ -1,5 +1,6 @@
 package com.comeon.courseservice.web.feign.userservice;
 
+import com.comeon.common.usercache.UserNearCache;
 import com.comeon.courseservice.web.common.response.ApiResponse;
 import com.comeon.courseservice.web.feign.userservice.response.ListResponse;
 import com.comeon.courseservice.web.feign.userservice.response.UserDetailsResponse;
@@ -12,6 +13,7 @@ import org.springframework.stereotype.Component;
 import java.util.*;
 import java.util.stream.Collectors;
 
+// 유저 정보는 UserNearCache 에서 먼저 찾고, 없는 식별값만 user-service 에서 조회한다.
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -19,8 +21,24 @@ public class UserFeignService {
 
     private final UserServiceFeignClient userServiceFeignClient;
     private final CircuitBreakerFactory circuitBreakerFactory;
+    private final UserNearCache<UserDetailsResponse> userNearCache;
 
     public Map<Long, UserDetailsResponse> getUserDetailsMap(List<Long> userIds) {
+        return userNearCache.getAll(userIds, this::fetchUserDetails);
+    }
+
+    public Optional<UserDetailsResponse> getUserDetails(Long userId) {
+        return Optional.ofNullable(
+                userNearCache.getAll(List.of(userId), this::fetchUserDetails).get(userId)
+        );
+    }
+
+    // 실패하면 null 을 반환한다.
+    private Map<Long, UserDetailsResponse> fetchUserDetails(List<Long> userIds) {
+        if (userIds.size() == 1) {
+            return fetchUserDetails(userIds.get(0));
+        }
+
         CircuitBreaker getUserDetailsMapCb = circuitBreakerFactory.create("getUserDetailsMap");
         ApiResponse<ListResponse<UserDetailsResponse>> userDetailsListApiResponse =
                 getUserDetailsMapCb.run(
@@ -32,7 +50,7 @@ public class UserFeignService {
                 );
 
         if (Objects.isNull(userDetailsListApiResponse)) {
-            return new HashMap<>();
+            return null;
         }
 
         return userDetailsListApiResponse.getData()
@@ -45,7 +63,7 @@ public class UserFeignService {
                 );
     }
 
-    public Optional<UserDetailsResponse> getUserDetails(Long userId) {
+    private Map<Long, UserDetailsResponse> fetchUserDetails(Long userId) {
         CircuitBreaker getUserDetailsMapCb = circuitBreakerFactory.create("getUserDetails");
         ApiResponse<UserDetailsResponse> userDetailsApiResponse =
                 getUserDetailsMapCb.run(
@@ -56,9 +74,14 @@ public class UserFeignService {
                         }
                 );
 
-        if (Objects.nonNull(userDetailsApiResponse)) {
-            return Optional.of(userDetailsApiResponse.getData());
+        if (Objects.isNull(userDetailsApiResponse)) {
+            return null;
+        }
+
+        Map<Long, UserDetailsResponse> userDetailsMap = new HashMap<>();
+        if (Objects.nonNull(userDetailsApiResponse.getData())) {
+            userDetailsMap.put(userId, userDetailsApiResponse.getData());
         }
-        return Optional.empty();
+        return userDetailsMap;
     }
 }
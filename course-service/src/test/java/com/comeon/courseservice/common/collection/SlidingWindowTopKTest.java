@@ -0,0 +1,95 @@
+package com.comeon.courseservice.common.collection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlidingWindowTopKTest {
+
+    private static List<Long> keys(SlidingWindowTopK.Ranking ranking) {
+        List<Long> keys = new ArrayList<>();
+        for (int i = 0; i < ranking.size(); i++) {
+            keys.add(ranking.keyAt(i));
+        }
+        return keys;
+    }
+
+    @Test
+    @DisplayName("횟수가 많은 순서로 정렬하고, 취소된 횟수를 뺀다.")
+    void ranking() {
+        // given
+        SlidingWindowTopK topK = new SlidingWindowTopK(7, 10, 4, 1024, 100);
+
+        // when
+        topK.add(1, 1, 100);
+        topK.add(2, 1, 100);
+        topK.add(2, 1, 99);
+        topK.add(3, 1, 98);
+        topK.add(3, 1, 98);
+        topK.add(3, 1, 100);
+        topK.add(3, -1, 100);
+
+        // then
+        assertThat(keys(topK.ranking())).containsExactly(2L, 3L, 1L);
+        assertThat(topK.ranking().countAt(0)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("구간이 바뀌면 창에서 빠진 구간의 횟수만 빠지고, 횟수가 없는 후보는 제거된다.")
+    void advance() {
+        // given
+        SlidingWindowTopK topK = new SlidingWindowTopK(3, 10, 4, 1024, 10);
+        topK.add(1, 1, 8);
+        topK.add(1, 1, 8);
+        topK.add(2, 1, 9);
+        topK.add(3, 1, 10);
+
+        // when
+        topK.advanceTo(11);
+
+        // then
+        assertThat(keys(topK.ranking())).containsExactly(2L, 3L);
+
+        // 창보다 오래된 구간은 더하지 않는다.
+        topK.add(1, 1, 8);
+        assertThat(keys(topK.ranking())).containsExactly(2L, 3L);
+
+        topK.advanceTo(20);
+        assertThat(topK.ranking().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("후보 수보다 많은 키가 있어도 횟수가 많은 키들을 찾는다.")
+    void heavyHitters() {
+        // given
+        SlidingWindowTopK topK = new SlidingWindowTopK(7, 20, 4, 2048, 0);
+        Random random = new Random(42);
+
+        // when : 1 ~ 5 번 키는 100번씩, 나머지 키 5000개는 한두 번씩 무작위 순서로 더한다.
+        List<Long> events = new ArrayList<>();
+        for (long key = 1; key <= 5; key++) {
+            for (int i = 0; i < 100; i++) {
+                events.add(key);
+            }
+        }
+        for (long key = 6; key <= 5005; key++) {
+            events.add(key);
+            if (random.nextBoolean()) {
+                events.add(key);
+            }
+        }
+        Collections.shuffle(events, random);
+        for (int i = 0; i < events.size(); i++) {
+            topK.add(events.get(i), 1, i % 7 - 6);
+        }
+
+        // then
+        assertThat(keys(topK.ranking()).subList(0, 5)).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L);
+    }
+}
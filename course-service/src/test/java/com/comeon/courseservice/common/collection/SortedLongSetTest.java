@@ -0,0 +1,56 @@
+package com.comeon.courseservice.common.collection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SortedLongSetTest {
+
+    @Test
+    @DisplayName("중복을 제거하여 저장하고, 추가와 삭제는 새 집합을 반환한다.")
+    void withAndWithout() {
+        // given
+        SortedLongSet set = SortedLongSet.of(new long[]{5, 1, 3, 3});
+
+        // when
+        SortedLongSet added = set.with(2).with(5);
+        SortedLongSet removed = added.without(3).without(4);
+
+        // then
+        assertThat(set.size()).isEqualTo(3);
+        assertThat(set.contains(2)).isFalse();
+        assertThat(added.size()).isEqualTo(4);
+        assertThat(added.contains(2)).isTrue();
+        assertThat(removed.size()).isEqualTo(3);
+        assertThat(removed.contains(3)).isFalse();
+        assertThat(removed.contains(5)).isTrue();
+    }
+
+    @Test
+    @DisplayName("임의로 추가, 삭제해도 TreeSet 과 같은 원소를 가진다.")
+    void sameAsTreeSet() {
+        Random random = new Random(45);
+        SortedLongSet set = SortedLongSet.empty();
+        TreeSet<Long> expected = new TreeSet<>();
+
+        for (int i = 0; i < 10_000; i++) {
+            long value = random.nextInt(500);
+            if (random.nextBoolean()) {
+                set = set.with(value);
+                expected.add(value);
+            } else {
+                set = set.without(value);
+                expected.remove(value);
+            }
+        }
+
+        assertThat(set.size()).isEqualTo(expected.size());
+        for (long value = 0; value < 500; value++) {
+            assertThat(set.contains(value)).isEqualTo(expected.contains(value));
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.comeon.courseservice.common.geo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpatialGridIndexTest {
+
+    private static List<Long> bruteForceNearest(Map<Long, double[]> points, double lat, double lng, int k, double maxDistanceKm) {
+        return points.entrySet().stream()
+                .filter(entry -> SpatialGridIndex.distanceKm(lat, lng, entry.getValue()[0], entry.getValue()[1]) <= maxDistanceKm)
+                .sorted(Comparator.comparingDouble(
+                        entry -> SpatialGridIndex.distanceKm(lat, lng, entry.getValue()[0], entry.getValue()[1])
+                ))
+                .limit(k)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    private static List<Long> ids(List<SpatialGridIndex.Neighbor> neighbors) {
+        return neighbors.stream()
+                .map(SpatialGridIndex.Neighbor::getId)
+                .collect(Collectors.toList());
+    }
+
+    @Nested
+    @DisplayName("k 최근접 검색")
+    class nearest {
+
+        @Test
+        @DisplayName("반경 이내에서 가까운 순으로 k 개를 찾고, 결과는 전체 탐색 결과와 같다.")
+        void sameAsBruteForce() {
+            // given
+            Random random = new Random(42);
+            SpatialGridIndex index = new SpatialGridIndex(0.05);
+            Map<Long, double[]> points = new HashMap<>();
+            for (long id = 1; id <= 20_000; id++) {
+                double lat = 33 + random.nextDouble() * 5;
+                double lng = 125 + random.nextDouble() * 5;
+                index.put(id, lat, lng);
+                points.put(id, new double[]{lat, lng});
+            }
+
+            for (int i = 0; i < 50; i++) {
+                double lat = 33 + random.nextDouble() * 5;
+                double lng = 125 + random.nextDouble() * 5;
+                int k = 1 + random.nextInt(50);
+                double maxDistanceKm = 1 + random.nextInt(100);
+
+                // when
+                List<SpatialGridIndex.Neighbor> neighbors = index.nearest(lat, lng, k, maxDistanceKm);
+
+                // then
+                assertThat(ids(neighbors)).isEqualTo(bruteForceNearest(points, lat, lng, k, maxDistanceKm));
+            }
+        }
+
+        @Test
+        @DisplayName("경도 180도 경계를 넘어 가까운 좌표도 찾는다.")
+        void acrossAntimeridian() {
+            // given
+            SpatialGridIndex index = new SpatialGridIndex(0.05);
+            index.put(1L, 10, 179.99);
+            index.put(2L, 10, -179.99);
+            index.put(3L, 10, 179);
+
+            // when
+            List<SpatialGridIndex.Neighbor> neighbors = index.nearest(10, -179.999, 2, 100);
+
+            // then
+            assertThat(ids(neighbors)).containsExactly(2L, 1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("좌표 변경")
+    class putAndRemove {
+
+        @Test
+        @DisplayName("같은 식별값으로 다시 저장하면 좌표가 바뀌고, 삭제하면 검색되지 않는다.")
+        void moveAndRemove() {
+            // given
+            SpatialGridIndex index = new SpatialGridIndex(0.05);
+            index.put(1L, 37.5, 127.0);
+            index.put(2L, 37.6, 127.0);
+
+            // when
+            index.put(1L, 35.1, 129.0);
+            boolean removed = index.remove(2L);
+
+            // then
+            assertThat(removed).isTrue();
+            assertThat(index.size()).isEqualTo(1);
+            assertThat(index.nearest(37.5, 127.0, 10, 50)).isEmpty();
+            assertThat(ids(index.nearest(35.1, 129.0, 10, 50))).containsExactly(1L);
+            assertThat(index.remove(2L)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("스냅샷")
+    class snapshot {
+
+        @TempDir
+        Path tempDir;
+
+        @Test
+        @DisplayName("저장한 스냅샷을 읽으면 같은 좌표와 저장 시각이 복원된다.")
+        void writeAndRead() throws IOException {
+            // given
+            SpatialGridIndex index = new SpatialGridIndex(0.05);
+            for (long id = 1; id <= 1000; id++) {
+                index.put(id, 37 + id * 0.001, 127 + id * 0.001);
+            }
+            Path path = tempDir.resolve("course-spatial-index.snap");
+            Instant savedAt = Instant.ofEpochMilli(1_700_000_000_000L);
+
+            // when
+            SpatialIndexSnapshot.write(path, index, savedAt);
+            Optional<SpatialIndexSnapshot.Loaded> loaded = SpatialIndexSnapshot.read(path, 0.05);
+
+            // then
+            assertThat(loaded).isPresent();
+            assertThat(loaded.get().getSavedAt()).isEqualTo(savedAt);
+            assertThat(loaded.get().getIndex().size()).isEqualTo(1000);
+            assertThat(ids(loaded.get().getIndex().nearest(37.5, 127.5, 5, 10)))
+                    .isEqualTo(ids(index.nearest(37.5, 127.5, 5, 10)));
+        }
+
+        @Test
+        @DisplayName("셀 크기가 다르면 스냅샷을 사용하지 않는다.")
+        void differentCellDegrees() throws IOException {
+            // given
+            SpatialGridIndex index = new SpatialGridIndex(0.05);
+            index.put(1L, 37.5, 127.0);
+            Path path = tempDir.resolve("course-spatial-index.snap");
+            SpatialIndexSnapshot.write(path, index, Instant.now());
+
+            // when
+            Optional<SpatialIndexSnapshot.Loaded> loaded = SpatialIndexSnapshot.read(path, 0.1);
+
+            // then
+            assertThat(loaded).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.comeon.courseservice.common.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NgramIndexTest {
+
+    private static final String[] WORDS = {
+            "서울", "데이트", "코스", "맛집", "카페", "산책", "한강", "야경", "홍대", "성수", "전시", "Date", "Course"
+    };
+
+    private static String randomTitle(Random random) {
+        int wordCount = 1 + random.nextInt(4);
+        StringBuilder title = new StringBuilder();
+        for (int i = 0; i < wordCount; i++) {
+            if (i > 0) {
+                title.append(' ');
+            }
+            title.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return title.toString();
+    }
+
+    // LIKE 검색과 같은 조건. 공백을 제거한 제목이 단어 중 하나라도 포함하는지
+    private static Set<Long> bruteForceSearch(Map<Long, String> titles, String query) {
+        List<String> words = Arrays.stream(query.split(" "))
+                .filter(word -> !word.isEmpty())
+                .map(word -> word.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toList());
+        return titles.entrySet().stream()
+                .filter(entry -> words.stream().anyMatch(NgramIndex.normalize(entry.getValue())::contains))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+    }
+
+    @Nested
+    @DisplayName("검색")
+    class search {
+
+        @Test
+        @DisplayName("단어 중 하나라도 포함하는 문서를 찾고, 결과는 전체 탐색 결과와 같다.")
+        void sameAsBruteForce() {
+            // given
+            Random random = new Random(42);
+            NgramIndex index = new NgramIndex();
+            Map<Long, String> titles = new HashMap<>();
+            for (long id = 1; id <= 5_000; id++) {
+                String title = randomTitle(random);
+                index.put(id, title);
+                titles.put(id, title);
+            }
+
+            List<String> queries = List.of("서울", "데이트 코스", "울데", "강야경", "카", "date", "COURSE 맛집", "없는단어", "서울데이트코스");
+            for (String query : queries) {
+                // when
+                List<Long> result = index.search(query, Integer.MAX_VALUE);
+
+                // then
+                assertThat(result).doesNotHaveDuplicates();
+                assertThat(new HashSet<>(result)).isEqualTo(bruteForceSearch(titles, query));
+            }
+        }
+
+        @Test
+        @DisplayName("포함하는 단어가 많은 문서가 먼저 오고, 같으면 식별값 내림차순이다.")
+        void ranking() {
+            // given
+            NgramIndex index = new NgramIndex();
+            index.put(1L, "서울 데이트");
+            index.put(2L, "서울 산책");
+            index.put(3L, "서울 데이트 맛집");
+            index.put(4L, "부산 데이트");
+
+            // when
+            List<Long> result = index.search("서울 데이트", 10);
+            List<Long> limited = index.search("서울 데이트", 2);
+
+            // then
+            assertThat(result).containsExactly(3L, 1L, 4L, 2L);
+            assertThat(limited).containsExactly(3L, 1L);
+        }
+
+        @Test
+        @DisplayName("bigram 이 모두 있어도 순서대로 이어지지 않으면 찾지 않는다.")
+        void verifyContains() {
+            // given
+            NgramIndex index = new NgramIndex();
+            index.put(1L, "가나 다가");
+
+            // when, then
+            assertThat(index.search("가나다가", 10)).containsExactly(1L);
+            assertThat(index.search("나다가", 10)).containsExactly(1L);
+            assertThat(index.search("다가나", 10)).isEmpty();
+            assertThat(index.search("나다가나", 10)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("변경, 삭제")
+    class putAndRemove {
+
+        @Test
+        @DisplayName("문자열을 바꾸면 이전 문자열로는 찾을 수 없고, 삭제하면 찾을 수 없다.")
+        void updateAndRemove() {
+            // given
+            NgramIndex index = new NgramIndex();
+            index.put(1L, "서울 데이트");
+            index.put(2L, "서울 산책");
+
+            // when
+            index.put(1L, "부산 맛집");
+            index.remove(2L);
+
+            // then
+            assertThat(index.search("서울", 10)).isEmpty();
+            assertThat(index.search("부산", 10)).containsExactly(1L);
+            assertThat(index.size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("많이 변경되어 다시 만들어진 뒤에도 결과는 전체 탐색 결과와 같다.")
+        void compact() {
+            // given
+            Random random = new Random(7);
+            NgramIndex index = new NgramIndex();
+            Map<Long, String> titles = new HashMap<>();
+            for (int round = 0; round < 5; round++) {
+                for (long id = 1; id <= 3_000; id++) {
+                    if (random.nextInt(10) == 0) {
+                        index.remove(id);
+                        titles.remove(id);
+                        continue;
+                    }
+                    String title = randomTitle(random);
+                    index.put(id, title);
+                    titles.put(id, title);
+                }
+            }
+
+            // when
+            List<Long> result = index.search("데이트 한강", Integer.MAX_VALUE);
+
+            // then
+            assertThat(index.size()).isEqualTo(titles.size());
+            assertThat(new HashSet<>(result)).isEqualTo(bruteForceSearch(titles, "데이트 한강"));
+        }
+    }
+}
@@ -154,7 +154,8 @@ public class CommonResponseRestDocsTest extends CommonRestDocsSupport {
                                 fieldWithPath("hasNext").type(JsonFieldType.BOOLEAN).description("다음 페이지의 존재 여부"),
                                 fieldWithPath("first").type(JsonFieldType.BOOLEAN).description("처음 페이지인지 여부"),
                                 fieldWithPath("last").type(JsonFieldType.BOOLEAN).description("마지막 페이지인지 여부"),
-                                fieldWithPath("contents").type(JsonFieldType.ARRAY).description("요청에 대한 실제 응답 데이터 필드")
+                                fieldWithPath("contents").type(JsonFieldType.ARRAY).description("요청에 대한 실제 응답 데이터 필드"),
+                                fieldWithPath("nextCursor").type(JsonFieldType.STRING).description("다음 페이지 조회에 사용할 커서. 커서 기반 페이징으로 조회했고 다음 페이지가 있을 때만 값이 있다.").optional()
                         )
                 )
         );
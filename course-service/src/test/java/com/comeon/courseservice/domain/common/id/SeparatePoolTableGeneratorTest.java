@@ -0,0 +1,96 @@
+package com.comeon.courseservice.domain.common.id;
+
+import com.comeon.courseservice.config.PlaceIdPoolConfig;
+import com.comeon.courseservice.domain.course.entity.Course;
+import com.comeon.courseservice.domain.course.entity.CourseImage;
+import com.comeon.courseservice.domain.course.repository.CourseRepository;
+import com.comeon.courseservice.domain.courseplace.entity.CoursePlace;
+import com.comeon.courseservice.domain.courseplace.entity.CoursePlaceCategory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.persistence.EntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    요청용 커넥션 풀의 커넥션을 모두 사용하는 중에도 장소 식별값을 할당할 수 있는지 확인한다.
+    요청용 풀의 크기를 1로 두고, 커넥션을 붙잡은 테스트 트랜잭션 안에서 장소를 저장한다.
+ */
+@ActiveProfiles("test")
+@Import(PlaceIdPoolConfig.class)
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:separate-pool-table-generator-test;DB_CLOSE_DELAY=-1",
+        "spring.datasource.hikari.maximum-pool-size=1",
+        "spring.datasource.hikari.connection-timeout=1000"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class SeparatePoolTableGeneratorTest {
+
+    static final int PLACE_COUNT = 3;
+
+    @TestConfiguration
+    static class MeterRegistryConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    CourseRepository courseRepository;
+
+    @Test
+    @DisplayName("요청용 풀의 커넥션이 모두 사용 중이어도 전용 풀로 식별값을 할당하여 장소를 저장한다.")
+    void allocateWhileRequestPoolExhausted() {
+        // given
+        Course course = Course.builder()
+                .userId(1L)
+                .title("title")
+                .description("description")
+                .courseImage(
+                        CourseImage.builder()
+                                .originalName("originalName")
+                                .storedName("storedName")
+                                .build()
+                )
+                .build();
+        for (int order = 1; order <= PLACE_COUNT; order++) {
+            CoursePlace.builder()
+                    .course(course)
+                    .name("placeName" + order)
+                    .description("placeDescription" + order)
+                    .lat(37.555)
+                    .lng(126.972)
+                    .address("address")
+                    .order(order)
+                    .kakaoPlaceId((long) order)
+                    .placeCategory(CoursePlaceCategory.ETC)
+                    .build();
+        }
+
+        // when
+        courseRepository.save(course);
+        em.flush();
+
+        // then
+        assertThat(course.getCoursePlaces())
+                .extracting(CoursePlace::getId)
+                .doesNotContainNull()
+                .doesNotHaveDuplicates()
+                .hasSize(PLACE_COUNT);
+    }
+}
@@ -229,6 +229,7 @@ public class CourseServiceTest {
                         .userId((long) i)
                         .build();
                 courseLikeRepository.save(courseLike);
+                course.increaseLikeCount();
             }
         }
 
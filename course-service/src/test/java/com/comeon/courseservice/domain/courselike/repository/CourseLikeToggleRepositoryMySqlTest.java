@@ -0,0 +1,144 @@
+package com.comeon.courseservice.domain.courselike.repository;
+
+import com.comeon.courseservice.domain.course.entity.Course;
+import com.comeon.courseservice.domain.course.entity.CourseImage;
+import com.comeon.courseservice.domain.course.repository.CourseRepository;
+import com.comeon.courseservice.domain.courseplace.entity.CoursePlace;
+import com.comeon.courseservice.domain.courseplace.entity.CoursePlaceCategory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    MySQL 의 좋아요 저장 문장을 실제 MySQL 에서 실행한다. 드라이버 설정은 기본값(CLIENT_FOUND_ROWS 사용)을 그대로 둔다.
+    H2 는 MERGE 로 처리하므로 CourseLikeServiceConcurrencyTest 등에서는 이 분기를 실행하지 않는다.
+ */
+@Testcontainers
+@ActiveProfiles("test")
+@Import(CourseLikeToggleRepository.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest
+class CourseLikeToggleRepositoryMySqlTest {
+
+    @Container
+    static final MySQLContainer<?> MYSQL_CONTAINER = new MySQLContainer<>("mysql:8.0.30");
+
+    @DynamicPropertySource
+    static void overrideProps(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL_CONTAINER::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL_CONTAINER::getUsername);
+        registry.add("spring.datasource.password", MYSQL_CONTAINER::getPassword);
+        registry.add("spring.datasource.driver-class-name", MYSQL_CONTAINER::getDriverClassName);
+    }
+
+    @Autowired
+    CourseLikeToggleRepository courseLikeToggleRepository;
+
+    @Autowired
+    CourseLikeRepository courseLikeRepository;
+
+    @Autowired
+    CourseRepository courseRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    Long saveCourse(boolean complete) {
+        Course course = Course.builder()
+                .userId(1L)
+                .title("title")
+                .description("description")
+                .courseImage(
+                        CourseImage.builder()
+                                .originalName("originalName")
+                                .storedName("storedName")
+                                .build()
+                )
+                .build();
+        if (complete) {
+            CoursePlace.builder()
+                    .course(course)
+                    .name("placeName")
+                    .description("placeDescription")
+                    .lat(37.555)
+                    .lng(126.972)
+                    .address("address")
+                    .order(1)
+                    .kakaoPlaceId(10000L)
+                    .placeCategory(CoursePlaceCategory.ETC)
+                    .build();
+            course.updateCourseState();
+        }
+        return courseRepository.save(course).getId();
+    }
+
+    Long countLikes(Long courseId) {
+        return jdbcTemplate.queryForObject("select count(*) from course_like where course_id = ?", Long.class, courseId);
+    }
+
+    @Test
+    @DisplayName("처음 등록한 좋아요는 저장하고, 저장한 좋아요의 식별값을 반환한다.")
+    void firstLike() {
+        Long courseId = saveCourse(true);
+
+        Optional<Long> courseLikeId = courseLikeToggleRepository.insertIfAbsent(courseId, 2L);
+
+        assertThat(courseLikeId).hasValue(
+                jdbcTemplate.queryForObject(
+                        "select course_like_id from course_like where course_id = ? and user_id = ?",
+                        Long.class, courseId, 2L
+                )
+        );
+    }
+
+    @Test
+    @DisplayName("이미 등록된 좋아요면 저장하지 않고, 비어있는 값을 반환한다.")
+    void repeatLike() {
+        Long courseId = saveCourse(true);
+        courseLikeToggleRepository.insertIfAbsent(courseId, 2L);
+
+        Optional<Long> courseLikeId = courseLikeToggleRepository.insertIfAbsent(courseId, 2L);
+
+        assertThat(courseLikeId).isEmpty();
+        assertThat(countLikes(courseId)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("좋아요를 취소한 뒤 다시 등록하면 새 좋아요의 식별값을 반환한다.")
+    void likeAfterUnlike() {
+        Long courseId = saveCourse(true);
+        Long firstLikeId = courseLikeToggleRepository.insertIfAbsent(courseId, 2L).orElseThrow();
+        courseLikeRepository.deleteByCourseIdAndUserId(courseId, 2L);
+
+        Optional<Long> courseLikeId = courseLikeToggleRepository.insertIfAbsent(courseId, 2L);
+
+        assertThat(courseLikeId).isPresent();
+        assertThat(courseLikeId.get()).isNotEqualTo(firstLikeId);
+        assertThat(countLikes(courseId)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("작성 완료되지 않은 코스면 저장하지 않고, 비어있는 값을 반환한다.")
+    void writingCourse() {
+        Long courseId = saveCourse(false);
+
+        Optional<Long> courseLikeId = courseLikeToggleRepository.insertIfAbsent(courseId, 2L);
+
+        assertThat(courseLikeId).isEmpty();
+        assertThat(countLikes(courseId)).isZero();
+    }
+}
@@ -0,0 +1,238 @@
+package com.comeon.courseservice.domain.courselike.service;
+
+import com.comeon.courseservice.domain.course.entity.Course;
+import com.comeon.courseservice.domain.course.repository.CourseRepository;
+import com.comeon.courseservice.domain.course.service.CourseService;
+import com.comeon.courseservice.domain.course.service.dto.CourseDto;
+import com.comeon.courseservice.domain.course.service.dto.CourseImageDto;
+import com.comeon.courseservice.domain.courselike.entity.CourseLike;
+import com.comeon.courseservice.domain.courselike.repository.CourseLikeRepository;
+import com.comeon.courseservice.domain.coursesearch.repository.CourseSearchRepository;
+import com.comeon.courseservice.domain.coursesearch.service.CourseSearchProjector;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({
+        CourseSearchProjector.class,
+        CourseService.class
+})
+class CourseLikeCounterTest {
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    CourseService courseService;
+
+    @Autowired
+    CourseRepository courseRepository;
+
+    @Autowired
+    CourseLikeRepository courseLikeRepository;
+
+    @Autowired
+    CourseSearchRepository courseSearchRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    MeterRegistry meterRegistry;
+    CourseLikeCounter courseLikeCounter;
+
+    @BeforeEach
+    void initCounter() {
+        meterRegistry = new SimpleMeterRegistry();
+        courseLikeCounter = new CourseLikeCounter(
+                courseRepository,
+                courseSearchRepository,
+                new TransactionTemplate(transactionManager),
+                meterRegistry
+        );
+    }
+
+    Long saveCourse() {
+        Long courseId = courseService.saveCourse(
+                new CourseDto(1L, "title", "description", new CourseImageDto("originalName", "storedName"))
+        );
+        em.flush();
+        em.clear();
+        return courseId;
+    }
+
+    @Nested
+    @DisplayName("좋아요 증감 반영")
+    class flush {
+
+        @Test
+        @DisplayName("반영하기 전에는 코스를 변경하지 않고, 반영하면 모아둔 증감을 코스와 읽기 모델에 더한다.")
+        void flushPendingDelta() {
+            // given
+            Long courseId = saveCourse();
+            courseLikeCounter.add(courseId, 1);
+            courseLikeCounter.add(courseId, 1);
+            courseLikeCounter.add(courseId, 1);
+            courseLikeCounter.add(courseId, -1);
+
+            Integer likeCountBeforeFlush = courseRepository.findById(courseId).orElseThrow().getLikeCount();
+            double pendingBeforeFlush = meterRegistry.get("course.like.counter.pending").gauge().value();
+            em.clear();
+
+            // when
+            courseLikeCounter.flush();
+
+            // then
+            em.clear();
+            assertThat(likeCountBeforeFlush).isEqualTo(0);
+            assertThat(pendingBeforeFlush).isEqualTo(1);
+            assertThat(courseRepository.findById(courseId).orElseThrow().getLikeCount()).isEqualTo(2);
+            assertThat(courseSearchRepository.findById(courseId).orElseThrow().getLikeCount()).isEqualTo(2);
+            assertThat(courseLikeCounter.getPendingDelta(courseId)).isZero();
+            assertThat(courseLikeCounter.getFlushLagSeconds()).isZero();
+        }
+
+        @Test
+        @DisplayName("코스 정보를 수정해도 반영된 좋아요 수를 덮어쓰지 않는다.")
+        void courseUpdateKeepsLikeCount() {
+            // given
+            Long courseId = saveCourse();
+            Course course = courseRepository.findById(courseId).orElseThrow();
+            courseLikeCounter.add(courseId, 1);
+            courseLikeCounter.flush();
+
+            // when
+            course.updateCourseInfo("changedTitle", "changedDescription");
+            em.flush();
+
+            // then
+            em.clear();
+            Course updated = courseRepository.findById(courseId).orElseThrow();
+            assertThat(updated.getTitle()).isEqualTo("changedTitle");
+            assertThat(updated.getLikeCount()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("좋아요 수 보정")
+    class reconcile {
+
+        CourseLikeCountReconciler reconciler() {
+            return new CourseLikeCountReconciler(
+                    courseLikeRepository,
+                    courseRepository,
+                    courseSearchRepository,
+                    courseLikeCounter,
+                    new TransactionTemplate(transactionManager),
+                    1,
+                    meterRegistry
+            );
+        }
+
+        @Test
+        @DisplayName("차이를 기록하고, 다음 확인까지 그대로인 코스의 좋아요 수를 실제 좋아요 수로 바로잡는다.")
+        void reconcileLikeCount() {
+            // given
+            Long courseId = saveCourse();
+            Long otherCourseId = saveCourse();
+            Course course = courseRepository.findById(courseId).orElseThrow();
+            for (long userId = 1; userId <= 3; userId++) {
+                courseLikeRepository.save(CourseLike.builder().course(course).userId(userId).build());
+            }
+            courseSearchRepository.updateLikeCount(otherCourseId, 0, 5);
+            em.flush();
+            em.clear();
+
+            CourseLikeCountReconciler reconciler = reconciler();
+
+            // when
+            reconciler.reconcile();
+            em.clear();
+            Integer likeCountAfterFirstCheck = courseRepository.findById(courseId).orElseThrow().getLikeCount();
+            reconciler.reconcile();
+
+            // then
+            em.clear();
+            assertThat(likeCountAfterFirstCheck).isZero();
+            assertThat(courseRepository.findById(courseId).orElseThrow().getLikeCount()).isEqualTo(3);
+            assertThat(courseSearchRepository.findById(courseId).orElseThrow().getLikeCount()).isEqualTo(3);
+            assertThat(courseSearchRepository.findById(otherCourseId).orElseThrow().getLikeCount()).isZero();
+            assertThat(meterRegistry.get("course.like.count.drift").tag("table", "course").gauge().value())
+                    .isEqualTo(3);
+            assertThat(meterRegistry.get("course.like.count.drift").tag("table", "course_search").gauge().value())
+                    .isEqualTo(8);
+            assertThat(meterRegistry.get("course.like.count.corrected").counter().count()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("다른 인스턴스에 남아있던 증감이 두 확인 사이에 반영되면 바로잡지 않아, 두 번 세지 않는다.")
+        void pendingDeltaOfOtherInstance() {
+            // given
+            Long courseId = saveCourse();
+            Course course = courseRepository.findById(courseId).orElseThrow();
+            // 커밋되었지만 다른 인스턴스가 아직 반영하지 않은 좋아요
+            courseLikeRepository.save(CourseLike.builder().course(course).userId(1L).build());
+            em.flush();
+            em.clear();
+
+            CourseLikeCountReconciler reconciler = reconciler();
+
+            // when
+            reconciler.reconcile();
+            // 다른 인스턴스가 모아둔 증감을 반영한다.
+            courseRepository.addLikeCount(courseId, 1);
+            courseSearchRepository.addLikeCount(courseId, 1);
+            em.clear();
+            reconciler.reconcile();
+
+            // then
+            em.clear();
+            assertThat(courseRepository.findById(courseId).orElseThrow().getLikeCount()).isEqualTo(1);
+            assertThat(courseSearchRepository.findById(courseId).orElseThrow().getLikeCount()).isEqualTo(1);
+            assertThat(meterRegistry.get("course.like.count.corrected").counter().count()).isZero();
+        }
+
+        @Test
+        @DisplayName("두 확인 사이에 좋아요 수가 바뀐 코스는 다음 확인까지 바로잡지 않는다.")
+        void changedBetweenChecks() {
+            // given
+            Long courseId = saveCourse();
+            Course course = courseRepository.findById(courseId).orElseThrow();
+            courseLikeRepository.save(CourseLike.builder().course(course).userId(1L).build());
+            em.flush();
+            em.clear();
+
+            CourseLikeCountReconciler reconciler = reconciler();
+
+            // when
+            reconciler.reconcile();
+            course = courseRepository.findById(courseId).orElseThrow();
+            courseLikeRepository.save(CourseLike.builder().course(course).userId(2L).build());
+            em.flush();
+            em.clear();
+            reconciler.reconcile();
+            em.clear();
+            Integer likeCountAfterChange = courseRepository.findById(courseId).orElseThrow().getLikeCount();
+            reconciler.reconcile();
+
+            // then
+            em.clear();
+            assertThat(likeCountAfterChange).isZero();
+            assertThat(courseRepository.findById(courseId).orElseThrow().getLikeCount()).isEqualTo(2);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.comeon.courseservice.domain.courselike.service;
+
+import com.comeon.courseservice.domain.course.entity.Course;
+import com.comeon.courseservice.domain.course.entity.CourseImage;
+import com.comeon.courseservice.domain.course.repository.CourseRepository;
+import com.comeon.courseservice.domain.courselike.entity.CourseLike;
+import com.comeon.courseservice.domain.courselike.repository.CourseLikeRepository;
+import com.comeon.courseservice.domain.courseplace.entity.CoursePlace;
+import com.comeon.courseservice.domain.courseplace.entity.CoursePlaceCategory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.*;
+
+// 각 요청이 별도의 트랜잭션으로 동시에 수행되어야 하므로, 테스트 트랜잭션 없이 수행한다.
+@SpringBootTest
+@ActiveProfiles("test")
+class CourseLikeServiceConcurrencyTest {
+
+    static final int THREADS = 16;
+
+    @Autowired
+    CourseLikeService courseLikeService;
+
+    @Autowired
+    CourseRepository courseRepository;
+
+    @Autowired
+    CourseLikeRepository courseLikeRepository;
+
+    Long courseId;
+
+    @BeforeEach
+    void initCourse() {
+        Course course = Course.builder()
+                .userId(1L)
+                .title("title")
+                .description("description")
+                .courseImage(
+                        CourseImage.builder()
+                                .originalName("originalName")
+                                .storedName("storedName")
+                                .build()
+                )
+                .build();
+        CoursePlace.builder()
+                .course(course)
+                .name("placeName")
+                .description("placeDescription")
+                .lat(37.555)
+                .lng(126.972)
+                .address("address")
+                .order(1)
+                .kakaoPlaceId(10000L)
+                .placeCategory(CoursePlaceCategory.ETC)
+                .build();
+        course.updateCourseState();
+
+        courseId = courseRepository.save(course).getId();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        courseLikeRepository.deleteAll();
+        courseRepository.deleteAll();
+    }
+
+    List<Long> runConcurrently(IntFunction<Long> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<Long>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            int index = i;
+            results.add(executor.submit(() -> {
+                ready.countDown();
+                start.await();
+                return task.apply(index);
+            }));
+        }
+        ready.await();
+        start.countDown();
+
+        List<Long> courseLikeIds = new ArrayList<>();
+        for (Future<Long> result : results) {
+            courseLikeIds.add(result.get(10, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+        return courseLikeIds;
+    }
+
+    List<CourseLike> findCourseLikes() {
+        return courseLikeRepository.findAll();
+    }
+
+    Integer findLikeCount() {
+        return courseRepository.findById(courseId).orElseThrow().getLikeCount();
+    }
+
+    @Test
+    @DisplayName("같은 유저가 동시에 여러 번 좋아요를 눌러도 좋아요는 하나 이하로 저장되고, 코스의 좋아요 수는 저장된 좋아요 수와 같다.")
+    void concurrentToggleSameUser() throws Exception {
+        // given
+        Long userId = 10L;
+
+        // when
+        runConcurrently(index -> courseLikeService.updateCourseLike(courseId, userId));
+
+        // then
+        List<CourseLike> courseLikes = findCourseLikes();
+        assertThat(courseLikes).hasSizeLessThanOrEqualTo(1);
+        assertThat(findLikeCount()).isEqualTo(courseLikes.size());
+    }
+
+    @Test
+    @DisplayName("여러 유저가 동시에 좋아요를 등록하면, 좋아요 수가 유실되지 않는다.")
+    void concurrentLikeManyUsers() throws Exception {
+        // when
+        List<Long> courseLikeIds = runConcurrently(index -> courseLikeService.updateCourseLike(courseId, (long) index));
+
+        // then
+        assertThat(courseLikeIds).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(findCourseLikes()).hasSize(THREADS);
+        assertThat(findLikeCount()).isEqualTo(THREADS);
+    }
+}
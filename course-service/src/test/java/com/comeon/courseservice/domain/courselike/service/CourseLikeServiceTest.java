@@ -8,6 +8,7 @@ import com.comeon.courseservice.domain.course.entity.CourseImage;
 import com.comeon.courseservice.domain.course.repository.CourseRepository;
 import com.comeon.courseservice.domain.courselike.entity.CourseLike;
 import com.comeon.courseservice.domain.courselike.repository.CourseLikeRepository;
+import com.comeon.courseservice.domain.courselike.repository.CourseLikeToggleRepository;
 import com.comeon.courseservice.domain.courseplace.entity.CoursePlace;
 import com.comeon.courseservice.domain.courseplace.entity.CoursePlaceCategory;
 import lombok.extern.slf4j.Slf4j;
@@ -18,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
 import javax.persistence.EntityManager;
@@ -29,6 +31,7 @@ import static org.assertj.core.api.Assertions.*;
 @Slf4j
 @DataJpaTest
 @ActiveProfiles("test")
+@Import(CourseLikeToggleRepository.class)
 class CourseLikeServiceTest {
 
     @Autowired
@@ -128,6 +131,7 @@ class CourseLikeServiceTest {
                             .userId(likeUserId)
                             .build()
             );
+            course.increaseLikeCount();
 
             Integer likeCountBeforeLikeDelete = course.getLikeCount();
 
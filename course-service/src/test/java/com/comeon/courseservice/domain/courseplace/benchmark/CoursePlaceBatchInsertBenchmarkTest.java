@@ -0,0 +1,149 @@
+package com.comeon.courseservice.domain.courseplace.benchmark;
+
+import com.comeon.courseservice.domain.course.entity.Course;
+import com.comeon.courseservice.domain.course.entity.CourseImage;
+import com.comeon.courseservice.domain.course.repository.CourseRepository;
+import com.comeon.courseservice.domain.courseplace.entity.CoursePlaceCategory;
+import com.comeon.courseservice.domain.courseplace.service.CoursePlaceService;
+import com.comeon.courseservice.domain.courseplace.service.dto.CoursePlaceDto;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    장소 20개인 코스를 등록할 때, 장소마다 INSERT 를 보낼 때(JDBC 배치 크기 1)와
+    배치로 묶어 보낼 때의 JDBC 문장 수와 응답 시간 비교.
+    실행 : ./gradlew benchmark
+ */
+@Slf4j
+@Tag("benchmark")
+@ActiveProfiles("test")
+@Import(CoursePlaceService.class)
+@DataJpaTest(
+        properties = {
+                "spring.jpa.show-sql=false",
+                "spring.jpa.properties.hibernate.show_sql=false",
+                "spring.jpa.properties.hibernate.generate_statistics=true",
+                "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+                "spring.jpa.properties.hibernate.order_inserts=true",
+                "logging.level.org.hibernate=warn"
+        }
+)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CoursePlaceBatchInsertBenchmarkTest {
+
+    static final int PLACE_COUNT = 20;
+    static final int WARM_UP_ITERATIONS = 50;
+    static final int ITERATIONS = 500;
+
+    static final Long USER_ID = 1L;
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    EntityManagerFactory emf;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    CourseRepository courseRepository;
+
+    @Autowired
+    CoursePlaceService coursePlaceService;
+
+    @Test
+    void compareRowByRowAndBatchInsert() {
+        StringBuilder report = new StringBuilder("\n=== course place insert benchmark (" + PLACE_COUNT + " places) ===\n")
+                .append(String.format("%-14s %16s %12s%n", "insert", "statements/course", "avg(ms)"));
+        report.append(measure("row by row", 1));
+        report.append(measure("batch", 50));
+
+        log.info(report.toString());
+    }
+
+    private String measure(String name, int jdbcBatchSize) {
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            saveCourseWithPlaces(jdbcBatchSize);
+        }
+
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        long elapsedNanos = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            elapsedNanos += saveCourseWithPlaces(jdbcBatchSize);
+        }
+        assertThat(statistics.getEntityInsertCount()).isGreaterThanOrEqualTo((long) ITERATIONS * PLACE_COUNT);
+
+        return String.format("%-14s %16.1f %12.3f%n", name,
+                (double) statistics.getPrepareStatementCount() / ITERATIONS,
+                elapsedNanos / 1_000_000.0 / ITERATIONS);
+    }
+
+    // 장소 등록 트랜잭션에 걸린 시간(ns). 코스 저장은 측정하지 않는다.
+    private long saveCourseWithPlaces(int jdbcBatchSize) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Long courseId = transactionTemplate.execute(status -> courseRepository.save(createCourse()).getId());
+        List<CoursePlaceDto> dtosToSave = createPlaceDtos();
+
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            em.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+            coursePlaceService.batchUpdateCoursePlace(courseId, USER_ID, dtosToSave, new ArrayList<>(), new ArrayList<>());
+        });
+        return System.nanoTime() - start;
+    }
+
+    private Course createCourse() {
+        return Course.builder()
+                .userId(USER_ID)
+                .title("courseTitle")
+                .description("courseDescription")
+                .courseImage(
+                        CourseImage.builder()
+                                .originalName("originalFileName")
+                                .storedName("storedFileName")
+                                .build()
+                )
+                .build();
+    }
+
+    private List<CoursePlaceDto> createPlaceDtos() {
+        List<CoursePlaceDto> dtos = new ArrayList<>();
+        for (int order = 1; order <= PLACE_COUNT; order++) {
+            dtos.add(
+                    CoursePlaceDto.builder()
+                            .name("placeName" + order)
+                            .description("placeDescription" + order)
+                            .lat(37.555945 + order * 0.001)
+                            .lng(126.972331 + order * 0.001)
+                            .address("address" + order)
+                            .order(order)
+                            .kakaoPlaceId((long) order)
+                            .placeCategory(CoursePlaceCategory.ETC)
+                            .build()
+            );
+        }
+        return dtos;
+    }
+}
@@ -0,0 +1,113 @@
+package com.comeon.courseservice.domain.courseplace.repository;
+
+import com.comeon.courseservice.domain.course.entity.Course;
+import com.comeon.courseservice.domain.course.entity.CourseImage;
+import com.comeon.courseservice.domain.course.repository.CourseRepository;
+import com.comeon.courseservice.domain.courseplace.entity.CoursePlace;
+import com.comeon.courseservice.domain.courseplace.entity.CoursePlaceCategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.persistence.EntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class CoursePlaceIdSequenceInitializerTest {
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    CourseRepository courseRepository;
+
+    CoursePlaceIdSequenceInitializer initializer;
+
+    @BeforeEach
+    void setUp() {
+        initializer = new CoursePlaceIdSequenceInitializer(jdbcTemplate);
+        ReflectionTestUtils.setField(initializer, "rolloutGap", 100L);
+
+        // H2 는 DDL 을 실행하면 트랜잭션을 커밋하므로 이전 테스트의 장소가 남아있을 수 있다.
+        jdbcTemplate.update("delete from course_place");
+
+        // IDENTITY 로 저장된 것처럼 식별값이 500인 장소를 만든다.
+        Course course = Course.builder()
+                .userId(1L)
+                .title("title")
+                .description("description")
+                .courseImage(
+                        CourseImage.builder()
+                                .originalName("originalName")
+                                .storedName("storedName")
+                                .build()
+                )
+                .build();
+        CoursePlace.builder()
+                .course(course)
+                .name("placeName")
+                .description("placeDescription")
+                .lat(37.555)
+                .lng(126.972)
+                .address("address")
+                .order(1)
+                .kakaoPlaceId(10000L)
+                .placeCategory(CoursePlaceCategory.ETC)
+                .build();
+        courseRepository.save(course);
+        em.flush();
+        em.clear();
+        jdbcTemplate.update("update course_place set course_place_id = 500");
+        jdbcTemplate.update("delete from id_sequences");
+    }
+
+    Long nextVal() {
+        return jdbcTemplate.queryForObject(
+                "select next_val from id_sequences where sequence_name = ?", Long.class, CoursePlace.ID_SEQUENCE_NAME
+        );
+    }
+
+    void setNextVal(long nextVal) {
+        jdbcTemplate.update(
+                "insert into id_sequences (sequence_name, next_val) values (?, ?)", CoursePlace.ID_SEQUENCE_NAME, nextVal
+        );
+    }
+
+    @Test
+    @DisplayName("시퀀스가 없으면 기존 장소의 최대 식별값에 할당 크기와 배포 여유분을 더한 값으로 만든다.")
+    void createAboveMaxId() {
+        initializer.afterPropertiesSet();
+
+        assertThat(nextVal()).isEqualTo(500 + CoursePlace.ID_ALLOCATION_SIZE + 100);
+    }
+
+    @Test
+    @DisplayName("시퀀스가 기존 장소의 최대 식별값보다 작으면 최대 식별값에 할당 크기를 더한 값으로 올린다.")
+    void raiseBelowMaxId() {
+        setNextVal(10);
+
+        initializer.afterPropertiesSet();
+
+        assertThat(nextVal()).isEqualTo(500 + CoursePlace.ID_ALLOCATION_SIZE);
+    }
+
+    @Test
+    @DisplayName("시퀀스가 이미 충분히 크면 바꾸지 않는다.")
+    void keepAboveMaxId() {
+        setNextVal(10000);
+
+        initializer.afterPropertiesSet();
+
+        assertThat(nextVal()).isEqualTo(10000);
+    }
+}
@@ -2,6 +2,7 @@ package com.comeon.courseservice.domain.courseplace.service;
 
 import com.comeon.courseservice.common.exception.CustomException;
 import com.comeon.courseservice.common.exception.ErrorCode;
+import com.comeon.courseservice.common.geo.GeoCell;
 import com.comeon.courseservice.domain.common.exception.EntityNotFoundException;
 import com.comeon.courseservice.domain.course.entity.Course;
 import com.comeon.courseservice.domain.course.entity.CourseImage;
@@ -809,6 +810,30 @@ public class CoursePlaceServiceTest {
             assertThat(targetPlace.getOrder()).isEqualTo(firstPlaceOrder);
         }
 
+        @Test
+        @DisplayName("첫번째 장소의 순서가 바뀌면, 코스에 저장된 첫번째 장소의 좌표와 격자 셀도 바뀐다.")
+        void swapFirstPlaceUpdatesCourseFirstPlace() {
+            em.flush();
+            em.clear();
+
+            // given
+            CoursePlaceDto coursePlaceDto = CoursePlaceDto.modifyBuilder()
+                    .order(2)
+                    .build();
+
+            // when
+            coursePlaceService.coursePlaceModify(courseId, userId, firstPlaceId, coursePlaceDto);
+            em.flush();
+            em.clear();
+
+            // then
+            Course course = courseRepository.findById(courseId).orElseThrow();
+            CoursePlace newFirstPlace = coursePlaceRepository.findByCourseIdAndOrder(courseId, 1).orElseThrow();
+            assertThat(course.getFirstPlaceLat()).isEqualTo(newFirstPlace.getLat());
+            assertThat(course.getFirstPlaceLng()).isEqualTo(newFirstPlace.getLng());
+            assertThat(course.getFirstPlaceGeoCell()).isEqualTo(GeoCell.of(newFirstPlace.getLat(), newFirstPlace.getLng()));
+        }
+
         @Test
         @DisplayName("순서를 변경할 때 dto로 넘어온 순서가 장소 리스트의 개수보다 크면, ErrorCode.NOT_EXIST_PLACE_ORDER를 가진 예외가 발생한다.")
         void notExistOrder() {
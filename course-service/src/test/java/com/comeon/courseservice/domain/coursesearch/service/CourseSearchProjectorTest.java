@@ -0,0 +1,203 @@
+package com.comeon.courseservice.domain.coursesearch.service;
+
+import com.comeon.courseservice.common.geo.GeoCell;
+import com.comeon.courseservice.domain.course.entity.CourseStatus;
+import com.comeon.courseservice.domain.course.service.CourseService;
+import com.comeon.courseservice.domain.course.service.dto.CourseDto;
+import com.comeon.courseservice.domain.course.service.dto.CourseImageDto;
+import com.comeon.courseservice.domain.courselike.repository.CourseLikeToggleRepository;
+import com.comeon.courseservice.domain.courselike.service.CourseLikeService;
+import com.comeon.courseservice.domain.courseplace.entity.CoursePlaceCategory;
+import com.comeon.courseservice.domain.courseplace.service.CoursePlaceService;
+import com.comeon.courseservice.domain.courseplace.service.dto.CoursePlaceDto;
+import com.comeon.courseservice.domain.coursesearch.entity.CourseSearch;
+import com.comeon.courseservice.domain.coursesearch.repository.CourseSearchRepository;
+import com.comeon.courseservice.domain.coursesearch.service.dto.UserChangedMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({
+        CourseSearchProjector.class,
+        CourseService.class,
+        CoursePlaceService.class,
+        CourseLikeService.class,
+        CourseLikeToggleRepository.class
+})
+class CourseSearchProjectorTest {
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    CourseService courseService;
+
+    @Autowired
+    CoursePlaceService coursePlaceService;
+
+    @Autowired
+    CourseLikeService courseLikeService;
+
+    @Autowired
+    CourseSearchRepository courseSearchRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    Long saveCourse(Long userId) {
+        return courseService.saveCourse(
+                new CourseDto(userId, "title", "description", new CourseImageDto("originalName", "storedName"))
+        );
+    }
+
+    CoursePlaceDto coursePlaceDto(double lat, double lng) {
+        return CoursePlaceDto.builder()
+                .name("placeName")
+                .description("placeDescription")
+                .lat(lat)
+                .lng(lng)
+                .address("address")
+                .kakaoPlaceId(1L)
+                .placeCategory(CoursePlaceCategory.ETC)
+                .build();
+    }
+
+    CourseSearch findCourseSearch(Long courseId) {
+        em.flush();
+        em.clear();
+        return courseSearchRepository.findById(courseId).orElseThrow();
+    }
+
+    @Nested
+    @DisplayName("코스 변경 반영")
+    class onCourseChanged {
+
+        @Test
+        @DisplayName("코스 저장, 장소 등록, 좋아요가 같은 트랜잭션에서 읽기 모델에 반영된다.")
+        void courseWritePaths() {
+            // given
+            Long userId = 1L;
+            Long courseId = saveCourse(userId);
+
+            // when
+            CourseSearch writing = findCourseSearch(courseId);
+            CourseStatus writingStatus = writing.getCourseStatus();
+            Integer writingGeoCell = writing.getSearchGeoCell();
+            coursePlaceService.coursePlaceAdd(courseId, userId, coursePlaceDto(37.555, 126.972));
+            courseLikeService.updateCourseLike(courseId, 2L);
+
+            // then
+            assertThat(writingStatus).isEqualTo(CourseStatus.WRITING);
+            assertThat(writingGeoCell).isNull();
+
+            CourseSearch complete = findCourseSearch(courseId);
+            assertThat(complete.getCourseStatus()).isEqualTo(CourseStatus.COMPLETE);
+            assertThat(complete.getTitle()).isEqualTo("title");
+            assertThat(complete.getImageStoredName()).isEqualTo("storedName");
+            assertThat(complete.getFirstPlaceId()).isNotNull();
+            assertThat(complete.getFirstPlaceLat()).isEqualTo(37.555);
+            assertThat(complete.getSearchGeoCell()).isEqualTo(GeoCell.of(37.555, 126.972));
+            assertThat(complete.getLikeCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("코스 변경을 반영할 때 따로 반영된 좋아요 수를 읽어둔 값으로 덮어쓰지 않는다.")
+        void keepLikeCountOnCourseModify() {
+            // given
+            Long userId = 1L;
+            Long courseId = saveCourse(userId);
+            findCourseSearch(courseId);
+
+            // 읽기 모델을 읽어둔 뒤에 다른 트랜잭션의 좋아요 증감이 반영된 상황
+            courseSearchRepository.findById(courseId).orElseThrow();
+            courseSearchRepository.addLikeCount(courseId, 3);
+
+            // when
+            courseService.modifyCourse(
+                    courseId,
+                    new CourseDto(userId, "modifiedTitle", "description", new CourseImageDto("originalName", "storedName"))
+            );
+
+            // then
+            CourseSearch modified = findCourseSearch(courseId);
+            assertThat(modified.getTitle()).isEqualTo("modifiedTitle");
+            assertThat(modified.getLikeCount()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("코스를 삭제하면 읽기 모델도 삭제된다.")
+        void removeCourse() {
+            // given
+            Long userId = 1L;
+            Long courseId = saveCourse(userId);
+
+            // when
+            courseService.removeCourse(courseId, userId);
+
+            // then
+            em.flush();
+            assertThat(courseSearchRepository.findById(courseId)).isNotPresent();
+        }
+
+        @Test
+        @DisplayName("같은 작성자의 다른 코스가 있으면 작성자 정보를 복사한다.")
+        void copyWriterFromOtherCourse() {
+            // given
+            Long userId = 1L;
+            Long firstCourseId = saveCourse(userId);
+            findCourseSearch(firstCourseId);
+            courseSearchRepository.updateWriter(userId, "nickname", false, 3L);
+
+            // when
+            Long secondCourseId = saveCourse(userId);
+
+            // then
+            CourseSearch courseSearch = findCourseSearch(secondCourseId);
+            assertThat(courseSearch.getWriterNickname()).isEqualTo("nickname");
+            assertThat(courseSearch.getWriterVersion()).isEqualTo(3L);
+        }
+    }
+
+    @Nested
+    @DisplayName("작성자 정보 반영")
+    class writerChanged {
+
+        @Test
+        @DisplayName("더 최신 version 의 유저 변경 메시지만 반영하고, 탈퇴한 유저는 닉네임이 없다.")
+        void applyNewerVersionOnly() {
+            // given
+            Long userId = 1L;
+            Long courseId = saveCourse(userId);
+            em.flush();
+            CourseSearchWriterUpdater updater = new CourseSearchWriterUpdater(
+                    courseSearchRepository, new TransactionTemplate(transactionManager)
+            );
+
+            // when
+            updater.accept(new UserChangedMessage(userId, "nickname2", "ACTIVATE", null, 2L));
+            updater.accept(new UserChangedMessage(userId, "nickname1", "ACTIVATE", null, 1L));
+            CourseSearch afterStale = findCourseSearch(courseId);
+
+            updater.accept(new UserChangedMessage(userId, null, UserChangedMessage.WITHDRAWN, null, 3L));
+            CourseSearch afterWithdrawn = findCourseSearch(courseId);
+
+            // then
+            assertThat(afterStale.getWriterNickname()).isEqualTo("nickname2");
+            assertThat(afterStale.getWriterVersion()).isEqualTo(2L);
+            assertThat(afterWithdrawn.getWriterNickname()).isNull();
+            assertThat(afterWithdrawn.isWriterWithdrawn()).isTrue();
+        }
+    }
+}
@@ -213,6 +213,7 @@ public abstract class AbstractControllerTest {
                                     .course(course)
                                     .userId(userId)
                                     .build();
+                            course.increaseLikeCount();
 //                            ReflectionTestUtils.setField(courseLike, "id", courseLikeIdGenerater.incrementAndGet());
                             ReflectionTestUtils.setField(courseLike, "id", courseLikeIdStore++);
                             int randomHours = nextInt(30);
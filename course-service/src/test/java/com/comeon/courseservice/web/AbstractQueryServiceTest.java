@@ -1,5 +1,6 @@
 package com.comeon.courseservice.web;
 
+import com.comeon.courseservice.config.CourseQueryExecutorConfig;
 import com.comeon.courseservice.config.QuerydslConfig;
 import com.comeon.courseservice.config.S3MockConfig;
 import com.comeon.courseservice.domain.course.entity.Course;
@@ -9,6 +10,8 @@ import com.comeon.courseservice.domain.courselike.entity.CourseLike;
 import com.comeon.courseservice.domain.courselike.repository.CourseLikeRepository;
 import com.comeon.courseservice.domain.courseplace.entity.CoursePlace;
 import com.comeon.courseservice.domain.courseplace.entity.CoursePlaceCategory;
+import com.comeon.courseservice.domain.coursesearch.service.CourseSearchBackfill;
+import com.comeon.courseservice.domain.coursesearch.service.CourseSearchProjector;
 import com.comeon.courseservice.web.common.file.FileManager;
 import com.comeon.courseservice.web.common.file.S3FileManager;
 import com.comeon.courseservice.web.common.file.UploadedFileInfo;
@@ -37,7 +40,10 @@ import static org.apache.commons.lang.math.RandomUtils.nextInt;
 @Import({
         S3MockConfig.class,
         S3FileManager.class,
-        QuerydslConfig.class
+        QuerydslConfig.class,
+        CourseQueryExecutorConfig.class,
+        CourseSearchProjector.class,
+        CourseSearchBackfill.class
 })
 @DataJpaTest(includeFilters = {@ComponentScan.Filter(Repository.class)})
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -58,6 +64,12 @@ public abstract class AbstractQueryServiceTest {
     @Autowired
     protected CourseLikeRepository courseLikeRepository;
 
+    @Autowired
+    protected CourseSearchProjector courseSearchProjector;
+
+    @Autowired
+    protected CourseSearchBackfill courseSearchBackfill;
+
     @BeforeAll
     void initData() {
         int userCount = 1;
@@ -91,6 +103,7 @@ public abstract class AbstractQueryServiceTest {
                                 .userId((long) k)
                                 .build();
                         courseLikeRepository.save(courseLike);
+                        course.increaseLikeCount();
                     }
                     course.disabledCourse();
                 }
@@ -139,6 +152,7 @@ public abstract class AbstractQueryServiceTest {
                                 .userId((long) k)
                                 .build();
                         courseLikeRepository.save(courseLike);
+                        course.increaseLikeCount();
                     }
                 } else if (c % 7 == 0) {
                     for (int k = 1; k <= 7; k++) {
@@ -147,6 +161,7 @@ public abstract class AbstractQueryServiceTest {
                                 .userId((long) k)
                                 .build();
                         courseLikeRepository.save(courseLike);
+                        course.increaseLikeCount();
                     }
                 } else if (c % 10 == 0) {
                     for (int k = 1; k <= 10; k++) {
@@ -155,6 +170,7 @@ public abstract class AbstractQueryServiceTest {
                                 .userId((long) k)
                                 .build();
                         courseLikeRepository.save(courseLike);
+                        course.increaseLikeCount();
                     }
                 } else {
                     for (int k = 1; k <= 4; k++) {
@@ -163,11 +179,15 @@ public abstract class AbstractQueryServiceTest {
                                 .userId((long) k)
                                 .build();
                         courseLikeRepository.save(courseLike);
+                        course.increaseLikeCount();
                     }
                 }
                 courseRepository.save(course);
             }
         }
+
+        // 코스 리스트 읽기 모델 생성
+        courseSearchBackfill.run(null);
     }
 
     private MockMultipartFile getMockMultipartFile(String fileNameWithExt) throws IOException {
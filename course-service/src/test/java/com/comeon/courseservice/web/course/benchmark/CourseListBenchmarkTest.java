@@ -0,0 +1,194 @@
+package com.comeon.courseservice.web.course.benchmark;
+
+import com.comeon.courseservice.common.geo.GeoCell;
+import com.comeon.courseservice.config.QuerydslConfig;
+import com.comeon.courseservice.web.course.query.repository.CourseQueryRepository;
+import com.comeon.courseservice.web.course.query.repository.cond.CourseCondition;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/*
+    주변 코스 리스트 조회에서 격자 셀, bounding box 로 먼저 걸러낼 때와
+    모든 작성 완료 코스의 거리를 계산할 때(기존 방식)의 조회 row 수와 응답 시간 비교.
+    첫 페이지 조회는 코스, 이미지, 장소, 좋아요를 조인할 때와 읽기 모델(course_search) 한 테이블을 읽을 때를 비교한다.
+    실행 : ./gradlew benchmark
+ */
+@Slf4j
+@Tag("benchmark")
+@ActiveProfiles("test")
+@Import(QuerydslConfig.class)
+@DataJpaTest(
+        includeFilters = {@ComponentScan.Filter(Repository.class)},
+        properties = {
+                "spring.jpa.show-sql=false",
+                "spring.jpa.properties.hibernate.show_sql=false",
+                "logging.level.org.hibernate=warn"
+        }
+)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CourseListBenchmarkTest {
+
+    static final int COURSE_COUNT = 1_000_000;
+    static final int WARM_UP_ITERATIONS = 3;
+    static final int ITERATIONS = 10;
+
+    // 서울역 좌표
+    static final double LAT = 37.555945;
+    static final double LNG = 126.972331;
+
+    static final Pattern SCAN_COUNT = Pattern.compile("scanCount: (\\d+)");
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    CourseQueryRepository courseQueryRepository;
+
+    // 한반도 주변(위도 33 ~ 38.5, 경도 125 ~ 130)에 고르게 퍼진 코스와 첫번째 장소를 저장한다.
+    @BeforeAll
+    void initCourses() {
+        String lat = "(33 + mod(x * 7919, 55000) / 10000.0)";
+        String lng = "(125 + mod(x * 104729, 50000) / 10000.0)";
+
+        jdbcTemplate.update("insert into course_image (course_image_id, original_name, stored_name, created_date, last_modified_date) " +
+                "select x, 'originalName', 'storedName', now(), now() from system_range(1, " + COURSE_COUNT + ")");
+        jdbcTemplate.update("insert into course (course_id, user_id, title, description, course_image_id, course_status, like_count, updated_date, " +
+                "first_place_lat, first_place_lng, first_place_geo_cell, created_date, last_modified_date) " +
+                "select x, mod(x, 1000), concat('title', x), 'description', x, 'COMPLETE', mod(x, 100), now(), " +
+                lat + ", " + lng + ", " +
+                "(floor(" + lat + ") + 90) * 360 + mod(floor(" + lng + ") + 180, 360), now(), now() " +
+                "from system_range(1, " + COURSE_COUNT + ")");
+        jdbcTemplate.update("insert into course_place (course_place_id, course_id, name, description, lat, lng, address, orders, kakao_place_id, category, created_date, last_modified_date) " +
+                "select x, x, concat('place', x), 'description', " + lat + ", " + lng + ", 'address', 1, x, 'ETC', now(), now() " +
+                "from system_range(1, " + COURSE_COUNT + ")");
+        jdbcTemplate.update("insert into course_search (course_id, user_id, title, course_status, like_count, updated_date, image_stored_name, " +
+                "first_place_id, first_place_lat, first_place_lng, search_geo_cell, writer_nickname, writer_withdrawn) " +
+                "select c.course_id, c.user_id, c.title, c.course_status, c.like_count, c.updated_date, 'storedName', " +
+                "c.course_id, c.first_place_lat, c.first_place_lng, c.first_place_geo_cell, concat('writer', c.user_id), false " +
+                "from course c");
+        jdbcTemplate.execute("analyze");
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("delete from course_search");
+        jdbcTemplate.update("delete from course_place");
+        jdbcTemplate.update("delete from course");
+        jdbcTemplate.update("delete from course_image");
+    }
+
+    @Test
+    void compareFullScanAndGeoCellPrefilter() {
+        GeoCell.BoundingBox boundingBox = GeoCell.boundingBox(LAT, LNG, 100);
+        String distance = "acos(cos(radians(%1$s)) * cos(radians(%3$s)) * cos(radians(%4$s) - radians(%2$s)) " +
+                "+ sin(radians(%1$s)) * sin(radians(%3$s))) * 6371";
+
+        // 기존 방식 : 작성 완료된 모든 코스에 대해 첫번째 장소와의 거리를 상관 서브쿼리로 계산
+        String fullScan = "select count(*) from course c " +
+                "where c.course_status = 'COMPLETE' " +
+                "and (select " + String.format(distance, LAT, LNG, "p.lat", "p.lng") + " from course_place p " +
+                "where p.course_id = c.course_id and p.orders = 1) <= 100";
+
+        // 격자 셀, bounding box 로 먼저 걸러낸 코스들만 거리 계산
+        String prefiltered = "select count(*) from course c " +
+                "where c.first_place_geo_cell in (" + boundingBox.cells().stream().map(String::valueOf).collect(Collectors.joining(",")) + ") " +
+                "and c.first_place_lat between " + boundingBox.getMinLat() + " and " + boundingBox.getMaxLat() + " " +
+                "and c.first_place_lng between " + boundingBox.getMinLng() + " and " + boundingBox.getMaxLng() + " " +
+                "and c.course_status = 'COMPLETE' " +
+                "and " + String.format(distance, LAT, LNG, "c.first_place_lat", "c.first_place_lng") + " <= 100";
+
+        StringBuilder report = new StringBuilder("\n=== course list benchmark (" + COURSE_COUNT + " courses) ===\n")
+                .append(String.format("%-14s %10s %14s %12s%n", "query", "matched", "rows scanned", "avg(ms)"));
+        report.append(measure("full scan", fullScan));
+        report.append(measure("geo prefilter", prefiltered));
+
+        // 첫 페이지 조회 : 조인 vs 읽기 모델
+        String prefilter = "%1$s.%2$s in (" + boundingBox.cells().stream().map(String::valueOf).collect(Collectors.joining(",")) + ") " +
+                "and %1$s.first_place_lat between " + boundingBox.getMinLat() + " and " + boundingBox.getMaxLat() + " " +
+                "and %1$s.first_place_lng between " + boundingBox.getMinLng() + " and " + boundingBox.getMaxLng() + " " +
+                "and %1$s.course_status = 'COMPLETE' ";
+        String joinPage = "select c.course_id, c.title, i.stored_name, p.course_place_id, p.lat, p.lng, l.course_like_id, " +
+                String.format(distance, LAT, LNG, "p.lat", "p.lng") + " as distance from course c " +
+                "join course_image i on i.course_image_id = c.course_image_id " +
+                "join course_place p on p.course_id = c.course_id and p.orders = 1 " +
+                "left join course_like l on l.course_id = c.course_id and l.user_id = 1 " +
+                "where " + String.format(prefilter, "c", "first_place_geo_cell") +
+                "order by distance asc, c.like_count desc, c.updated_date desc limit 11";
+        String searchPage = "select cs.course_id, cs.title, cs.image_stored_name, cs.first_place_id, cs.first_place_lat, cs.first_place_lng, cs.writer_nickname, " +
+                String.format(distance, LAT, LNG, "cs.first_place_lat", "cs.first_place_lng") + " as distance from course_search cs " +
+                "where " + String.format(prefilter, "cs", "search_geo_cell") +
+                "order by distance asc, cs.like_count desc, cs.updated_date desc limit 11";
+        report.append(measurePage("join page", joinPage));
+        report.append(measurePage("search page", searchPage));
+
+        CourseCondition courseCondition = new CourseCondition(null, LAT, LNG);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            courseQueryRepository.findCourseSlice(courseCondition, PageRequest.of(0, 10));
+        }
+        report.append(String.format("findCourseSlice first page avg(ms) : %.3f%n", (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS));
+
+        log.info(report.toString());
+    }
+
+    private String measure(String name, String sql) {
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            jdbcTemplate.queryForObject(sql, Long.class);
+        }
+
+        Long matched = null;
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            matched = jdbcTemplate.queryForObject(sql, Long.class);
+        }
+        double avgMillis = (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+
+        return String.format("%-14s %10d %14d %12.3f%n", name, matched, scannedRows(sql), avgMillis);
+    }
+
+    private String measurePage(String name, String sql) {
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            jdbcTemplate.queryForList(sql);
+        }
+
+        int rows = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            rows = jdbcTemplate.queryForList(sql).size();
+        }
+        double avgMillis = (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+
+        return String.format("%-14s %10d %14d %12.3f%n", name, rows, scannedRows(sql), avgMillis);
+    }
+
+    // H2 의 EXPLAIN ANALYZE 결과에서 테이블별 scanCount 를 합한다.
+    private long scannedRows(String sql) {
+        List<String> plan = jdbcTemplate.queryForList("explain analyze " + sql, String.class);
+        long scanned = 0;
+        Matcher matcher = SCAN_COUNT.matcher(String.join("\n", plan));
+        while (matcher.find()) {
+            scanned += Long.parseLong(matcher.group(1));
+        }
+        return scanned;
+    }
+}
@@ -0,0 +1,281 @@
+package com.comeon.courseservice.web.course.benchmark;
+
+import com.comeon.courseservice.common.geo.GeoCell;
+import com.comeon.courseservice.config.QuerydslConfig;
+import com.comeon.courseservice.domain.course.entity.CourseStatus;
+import com.comeon.courseservice.domain.coursesearch.repository.CourseSearchRepository;
+import com.comeon.courseservice.web.course.query.repository.CourseQueryRepository;
+import com.comeon.courseservice.web.course.query.repository.cond.CourseCondition;
+import com.comeon.courseservice.web.course.query.repository.cond.MyCourseCondition;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+import static com.comeon.courseservice.domain.courselike.entity.QCourseLike.courseLike;
+import static com.comeon.courseservice.domain.coursesearch.entity.QCourseSearch.courseSearch;
+import static com.querydsl.core.types.dsl.Expressions.constant;
+import static com.querydsl.core.types.dsl.Expressions.numberPath;
+import static com.querydsl.core.types.dsl.MathExpressions.*;
+
+/*
+    코스 리스트 조회에서 읽기 모델(course_search) 엔티티를 조회할 때(기존 방식)와
+    응답에 필요한 컬럼만 생성자로 조회할 때의 요청당 할당 바이트와 응답 시간 비교.
+    엔티티 조회는 읽기 전용이 아닌 트랜잭션(스냅샷 생성, 커밋시 변경 감지)과 읽기 전용 트랜잭션을 함께 측정한다.
+    인덱스는 기존 정의와 조건, 정렬 컬럼을 모두 담은 정의(커버링 인덱스)를 차례로 만들어 측정한다.
+    커버링 인덱스의 쓰기 비용을 보기 위해 CourseLikeCounter 의 반영과 같은 like_count UPDATE 도 함께 측정한다.
+    실행 : ./gradlew benchmark
+    내장 H2 에서 실행하므로 MySQL(InnoDB)의 실행 계획, 정렬 비용, 인덱스 쓰기 비용과 다를 수 있다.
+    MySQL 에서 측정한 결과는 아직 없으므로, 이 결과만으로 프로젝션과 커버링 인덱스의 효과를 판단하지 않는다.
+ */
+@Slf4j
+@Tag("benchmark")
+@ActiveProfiles("test")
+@Import(QuerydslConfig.class)
+@DataJpaTest(
+        includeFilters = {@ComponentScan.Filter(Repository.class)},
+        properties = {
+                "spring.jpa.show-sql=false",
+                "spring.jpa.properties.hibernate.show_sql=false",
+                "logging.level.org.hibernate=warn"
+        }
+)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CourseListProjectionBenchmarkTest {
+
+    static final int COURSE_COUNT = 200_000;
+    static final int LIKE_COUNT = 2_000;
+    static final int PAGE_SIZE = 10;
+    static final int WARM_UP_ITERATIONS = 200;
+    static final int ITERATIONS = 1_000;
+    // 한 번의 좋아요 수 반영에서 갱신하는 코스 수
+    static final int FLUSH_COURSE_COUNT = 100;
+
+    static final Long USER_ID = 1L;
+
+    // 서울역 좌표
+    static final double LAT = 37.555945;
+    static final double LNG = 126.972331;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    JPAQueryFactory queryFactory;
+
+    @Autowired
+    CourseQueryRepository courseQueryRepository;
+
+    @Autowired
+    CourseSearchRepository courseSearchRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    // 좋아요 수를 반영할 다음 코스 식별값
+    long nextFlushCourseId = 1;
+
+    // 한반도 주변(위도 33 ~ 38.5, 경도 125 ~ 130)에 고르게 퍼진 코스와, 유저 1 이 좋아요한 코스들을 저장한다.
+    @BeforeAll
+    void initCourses() {
+        String lat = "(33 + mod(x * 7919, 55000) / 10000.0)";
+        String lng = "(125 + mod(x * 104729, 50000) / 10000.0)";
+
+        jdbcTemplate.update("insert into course_image (course_image_id, original_name, stored_name, created_date, last_modified_date) " +
+                "select x, 'originalName', 'storedName', now(), now() from system_range(1, " + COURSE_COUNT + ")");
+        jdbcTemplate.update("insert into course (course_id, user_id, title, description, course_image_id, course_status, like_count, updated_date, " +
+                "first_place_lat, first_place_lng, first_place_geo_cell, created_date, last_modified_date) " +
+                "select x, mod(x, 1000), concat('title', x), repeat('d', 1000), x, 'COMPLETE', mod(x, 100), " +
+                "dateadd('SECOND', -x, now()), " + lat + ", " + lng + ", " +
+                "(floor(" + lat + ") + 90) * 360 + mod(floor(" + lng + ") + 180, 360), now(), now() " +
+                "from system_range(1, " + COURSE_COUNT + ")");
+        jdbcTemplate.update("insert into course_search (course_id, user_id, title, course_status, like_count, updated_date, image_stored_name, " +
+                "first_place_id, first_place_lat, first_place_lng, search_geo_cell, writer_nickname, writer_withdrawn) " +
+                "select c.course_id, c.user_id, c.title, c.course_status, c.like_count, c.updated_date, 'storedName', " +
+                "c.course_id, c.first_place_lat, c.first_place_lng, c.first_place_geo_cell, concat('writer', c.user_id), false " +
+                "from course c");
+        jdbcTemplate.update("insert into course_like (course_like_id, course_id, user_id, created_date, last_modified_date) " +
+                "select x, x * 7, " + USER_ID + ", dateadd('SECOND', -x, now()), dateadd('SECOND', -x, now()) " +
+                "from system_range(1, " + LIKE_COUNT + ")");
+        jdbcTemplate.execute("analyze");
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("delete from course_like");
+        jdbcTemplate.update("delete from course_search");
+        jdbcTemplate.update("delete from course");
+        jdbcTemplate.update("delete from course_image");
+    }
+
+    @Test
+    void compareEntityAndProjection() {
+        StringBuilder report = new StringBuilder("\n=== course list projection benchmark (" + COURSE_COUNT + " courses, page " + PAGE_SIZE + ") ===\n")
+                .append(String.format("%-10s %-8s %-24s %12s %14s%n", "list", "index", "select", "avg(ms)", "alloc(KB)/req"));
+
+        useIndexes(false);
+        report.append(measureAll("before"));
+        useIndexes(true);
+        report.append(measureAll("covering"));
+
+        log.info(report.toString());
+    }
+
+    private String measureAll(String index) {
+        CourseCondition courseCondition = new CourseCondition(null, LAT, LNG);
+        MyCourseCondition myCourseCondition = new MyCourseCondition(CourseStatus.COMPLETE);
+        PageRequest pageRequest = PageRequest.of(0, PAGE_SIZE);
+
+        StringBuilder report = new StringBuilder();
+        report.append(measure("nearby", index, "entity (read-write tx)", false, this::nearbyEntityPage));
+        report.append(measure("nearby", index, "entity (read-only tx)", true, this::nearbyEntityPage));
+        report.append(measure("nearby", index, "projection", true,
+                () -> courseQueryRepository.findCourseSlice(courseCondition, pageRequest)));
+
+        report.append(measure("my", index, "entity (read-write tx)", false, this::myEntityPage));
+        report.append(measure("my", index, "entity (read-only tx)", true, this::myEntityPage));
+        report.append(measure("my", index, "projection", true,
+                () -> courseQueryRepository.findMyCourseSlice(USER_ID, myCourseCondition, pageRequest)));
+
+        report.append(measure("liked", index, "entity (read-write tx)", false, this::likedEntityPage));
+        report.append(measure("liked", index, "entity (read-only tx)", true, this::likedEntityPage));
+        report.append(measure("liked", index, "projection", true,
+                () -> courseQueryRepository.findMyLikedCourseSlice(USER_ID, null, pageRequest)));
+
+        report.append(measure("like-flush", index, "add like_count x" + FLUSH_COURSE_COUNT, false, this::flushLikeCounts));
+        return report.toString();
+    }
+
+    // 트랜잭션 시작부터 커밋(변경 감지 포함)까지의 시간과, 요청 스레드가 할당한 바이트
+    private String measure(String list, String index, String select, boolean readOnly, Supplier<Object> query) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            transactionTemplate.execute(status -> query.get());
+        }
+
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            transactionTemplate.execute(status -> query.get());
+        }
+        double avgMillis = (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+        double allocatedKb = (threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore) / 1024.0 / ITERATIONS;
+
+        return String.format("%-10s %-8s %-24s %12.3f %14.1f%n", list, index, select, avgMillis, allocatedKb);
+    }
+
+    // 기존 정의 : 격자 셀과 위도, 유저와 정렬 컬럼만 담은 인덱스
+    private void useIndexes(boolean covering) {
+        jdbcTemplate.execute("drop index if exists idx_course_search_geo_cell");
+        jdbcTemplate.execute("drop index if exists idx_course_search_user_updated_date");
+        jdbcTemplate.execute("drop index if exists idx_course_like_user_last_modified_date");
+        if (covering) {
+            jdbcTemplate.execute("create index idx_course_search_geo_cell on course_search " +
+                    "(search_geo_cell, first_place_lat, first_place_lng, course_status, like_count, updated_date, course_id)");
+            jdbcTemplate.execute("create index idx_course_search_user_updated_date on course_search " +
+                    "(user_id, updated_date, course_id, course_status)");
+            jdbcTemplate.execute("create index idx_course_like_user_last_modified_date on course_like " +
+                    "(user_id, last_modified_date, course_like_id, course_id)");
+        } else {
+            jdbcTemplate.execute("create index idx_course_search_geo_cell on course_search (search_geo_cell, first_place_lat)");
+            jdbcTemplate.execute("create index idx_course_search_user_updated_date on course_search (user_id, updated_date, course_id)");
+            jdbcTemplate.execute("create index idx_course_like_user_last_modified_date on course_like " +
+                    "(user_id, last_modified_date, course_like_id)");
+        }
+        jdbcTemplate.execute("analyze");
+    }
+
+    // 기존 방식 : 거리와 함께 course_search 엔티티를 조회
+    private Object nearbyEntityPage() {
+        GeoCell.BoundingBox boundingBox = GeoCell.boundingBox(LAT, LNG, CourseQueryRepository.DISTANCE_LIMIT_KM);
+        Expression<Double> userLat = constant(LAT);
+        Expression<Double> userLng = constant(LNG);
+        NumberExpression<Double> distance = acos(
+                cos(radians(userLat))
+                        .multiply(cos(radians(courseSearch.firstPlaceLat)))
+                        .multiply(cos(radians(courseSearch.firstPlaceLng).subtract(radians(userLng))))
+                        .add(sin(radians(userLat)).multiply(sin(radians(courseSearch.firstPlaceLat))))
+        ).multiply(constant(GeoCell.EARTH_RADIUS_KM));
+
+        return queryFactory
+                .select(courseSearch, distance.as("distance"))
+                .from(courseSearch)
+                .where(
+                        courseSearch.courseStatus.eq(CourseStatus.COMPLETE),
+                        courseSearch.searchGeoCell.in(boundingBox.cells()),
+                        courseSearch.firstPlaceLat.between(boundingBox.getMinLat(), boundingBox.getMaxLat()),
+                        courseSearch.firstPlaceLng.between(boundingBox.getMinLng(), boundingBox.getMaxLng()),
+                        distance.loe(CourseQueryRepository.DISTANCE_LIMIT_KM)
+                )
+                .orderBy(
+                        numberPath(Double.class, "distance").asc(),
+                        courseSearch.likeCount.desc(),
+                        courseSearch.updatedDate.desc(),
+                        courseSearch.courseId.desc()
+                )
+                .limit(PAGE_SIZE + 1)
+                .fetch();
+    }
+
+    // CourseLikeCounter 가 한 주기에 모아둔 코스별 증감을 반영하는 것과 같다. 매번 다른 코스들을 갱신한다.
+    private Object flushLikeCounts() {
+        int updated = 0;
+        for (int i = 0; i < FLUSH_COURSE_COUNT; i++) {
+            updated += courseSearchRepository.addLikeCount(nextFlushCourseId, 1);
+            nextFlushCourseId = nextFlushCourseId % COURSE_COUNT + 1;
+        }
+        return updated;
+    }
+
+    private Object myEntityPage() {
+        return queryFactory
+                .selectFrom(courseSearch)
+                .where(
+                        courseSearch.userId.eq(USER_ID),
+                        courseSearch.courseStatus.eq(CourseStatus.COMPLETE)
+                                .or(courseSearch.courseStatus.eq(CourseStatus.DISABLED))
+                )
+                .orderBy(courseSearch.updatedDate.desc(), courseSearch.courseId.desc())
+                .limit(PAGE_SIZE + 1)
+                .fetch();
+    }
+
+    private Object likedEntityPage() {
+        return queryFactory
+                .select(courseSearch, courseLike.id, courseLike.lastModifiedDate)
+                .from(courseLike)
+                .join(courseSearch).on(courseSearch.courseId.eq(courseLike.course.id))
+                .where(
+                        courseLike.userId.eq(USER_ID),
+                        courseSearch.courseStatus.ne(CourseStatus.WRITING)
+                )
+                .orderBy(courseLike.lastModifiedDate.desc(), courseLike.id.desc())
+                .limit(PAGE_SIZE + 1)
+                .fetch();
+    }
+}
@@ -15,14 +15,15 @@ import com.comeon.courseservice.domain.courselike.service.CourseLikeService;
 import com.comeon.courseservice.domain.courseplace.entity.CoursePlace;
 import com.comeon.courseservice.web.AbstractControllerTest;
 import com.comeon.courseservice.web.common.aop.ValidationAspect;
+import com.comeon.courseservice.web.common.response.ListResponse;
 import com.comeon.courseservice.web.common.response.SliceResponse;
 import com.comeon.courseservice.web.course.query.CourseQueryService;
 import com.comeon.courseservice.web.course.query.repository.cond.CourseCondition;
 import com.comeon.courseservice.web.course.query.repository.cond.MyCourseCondition;
-import com.comeon.courseservice.web.course.query.repository.dto.CourseListData;
-import com.comeon.courseservice.web.course.query.repository.dto.MyPageCourseListData;
 import com.comeon.courseservice.web.course.request.CourseListRequestValidator;
 import com.comeon.courseservice.web.course.response.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -519,11 +520,11 @@ public class CourseControllerTest extends AbstractControllerTest {
 
             int pageSize = 10;
 
-            Comparator<CourseListData> placeComparator = Comparator.comparing(CourseListData::getDistance);
-            Comparator<CourseListData> lastModifyDateComparator = Comparator.comparing(o -> o.getCourse().getUpdatedDate(), Comparator.reverseOrder());
-            Comparator<CourseListData> likeCountComparator = Comparator.comparing(o -> o.getCourse().getLikeCount(), Comparator.reverseOrder());
+            Comparator<CourseListRow> placeComparator = Comparator.comparing(CourseListRow::getDistance);
+            Comparator<CourseListRow> lastModifyDateComparator = Comparator.comparing(o -> o.getCourse().getUpdatedDate(), Comparator.reverseOrder());
+            Comparator<CourseListRow> likeCountComparator = Comparator.comparing(o -> o.getCourse().getLikeCount(), Comparator.reverseOrder());
 
-            List<CourseListData> dataList = getCourseList().stream()
+            List<CourseListRow> dataList = getCourseList().stream()
                     .filter(course -> !course.getCoursePlaces().isEmpty())
                     .filter(Course::isWritingComplete)
                     .map(course -> {
@@ -536,7 +537,7 @@ public class CourseControllerTest extends AbstractControllerTest {
                                 .findFirst()
                                 .map(CourseLike::getId)
                                 .orElse(null);
-                        return new CourseListData(course, place, getDistance(place), courseLikeId);
+                        return new CourseListRow(course, place, getDistance(place), courseLikeId);
                     })
                     .filter(courseListData -> courseListData.getDistance() <= 100)
                     .sorted(placeComparator.thenComparing(likeCountComparator).thenComparing(lastModifyDateComparator))
@@ -544,7 +545,7 @@ public class CourseControllerTest extends AbstractControllerTest {
                     .collect(Collectors.toList());
 
             List<CourseListResponse> courseListResponses = new ArrayList<>();
-            for (CourseListData courseListData : dataList) {
+            for (CourseListRow courseListData : dataList) {
                 Course course = courseListData.getCourse();
                 CourseListResponse courseListResponse = CourseListResponse.builder()
                         .course(course)
@@ -607,7 +608,8 @@ public class CourseControllerTest extends AbstractControllerTest {
                                     parameterWithName("size").description("페이지당 조회할 데이터 개수. 기본값 10").optional(),
                                     parameterWithName("title").description("코스 제목 검색어. 검색어가 코스의 제목에 포함되는 코스들만 조회.").optional(),
                                     parameterWithName("lat").description("사용자의 위도값. 위도, 경도 중 하나만 보내면 오류 발생.").optional(),
-                                    parameterWithName("lng").description("사용자의 경도값. 위도, 경도 중 하나만 보내면 오류 발생.").optional()
+                                    parameterWithName("lng").description("사용자의 경도값. 위도, 경도 중 하나만 보내면 오류 발생.").optional(),
+                                    parameterWithName("cursor").description("커서 기반 페이징. 첫 페이지는 빈 값, 이후에는 응답의 nextCursor 값. 보내지 않으면 page 파라미터로 조회").optional()
                             ),
                             responseFields(
                                     beneathPath("data.contents").withSubsectionId("contents"),
@@ -649,11 +651,11 @@ public class CourseControllerTest extends AbstractControllerTest {
             int pageNum = 0;
             int pageSize = 10;
 
-            Comparator<CourseListData> placeComparator = Comparator.comparing(CourseListData::getDistance);
-            Comparator<CourseListData> lastModifyDateComparator = Comparator.comparing(o -> o.getCourse().getUpdatedDate(), Comparator.reverseOrder());
-            Comparator<CourseListData> likeCountComparator = Comparator.comparing(o -> o.getCourse().getLikeCount(), Comparator.reverseOrder());
+            Comparator<CourseListRow> placeComparator = Comparator.comparing(CourseListRow::getDistance);
+            Comparator<CourseListRow> lastModifyDateComparator = Comparator.comparing(o -> o.getCourse().getUpdatedDate(), Comparator.reverseOrder());
+            Comparator<CourseListRow> likeCountComparator = Comparator.comparing(o -> o.getCourse().getLikeCount(), Comparator.reverseOrder());
 
-            List<CourseListData> dataList = getCourseList().stream()
+            List<CourseListRow> dataList = getCourseList().stream()
                     .filter(course -> !course.getCoursePlaces().isEmpty())
                     .filter(Course::isWritingComplete)
                     .filter(course -> course.getTitle().toUpperCase().contains(searchWords.toUpperCase()))
@@ -667,7 +669,7 @@ public class CourseControllerTest extends AbstractControllerTest {
                                 .findFirst()
                                 .map(CourseLike::getId)
                                 .orElse(null);
-                        return new CourseListData(course, place, getDistance(userLat, userLng, place), courseLikeId);
+                        return new CourseListRow(course, place, getDistance(userLat, userLng, place), courseLikeId);
                     })
                     .filter(courseListData -> courseListData.getDistance() <= 100)
                     .sorted(placeComparator.thenComparing(likeCountComparator).thenComparing(lastModifyDateComparator))
@@ -675,7 +677,7 @@ public class CourseControllerTest extends AbstractControllerTest {
                     .collect(Collectors.toList());
 
             List<CourseListResponse> courseListResponses = new ArrayList<>();
-            for (CourseListData courseListData : dataList) {
+            for (CourseListRow courseListData : dataList) {
                 Course course = courseListData.getCourse();
                 CourseListResponse courseListResponse = CourseListResponse.builder()
                         .course(course)
@@ -742,7 +744,8 @@ public class CourseControllerTest extends AbstractControllerTest {
                                     parameterWithName("size").description("페이지당 조회할 데이터 개수. 기본값 10").optional(),
                                     parameterWithName("title").description("코스 제목 검색어").optional(),
                                     parameterWithName("lat").description("사용자의 위도값").optional(),
-                                    parameterWithName("lng").description("사용자의 경도값").optional()
+                                    parameterWithName("lng").description("사용자의 경도값").optional(),
+                                    parameterWithName("cursor").description("커서 기반 페이징. 첫 페이지는 빈 값, 이후에는 응답의 nextCursor 값. 보내지 않으면 page 파라미터로 조회").optional()
                             ),
                             responseFields(
                                     beneathPath("data.contents").withSubsectionId("contents"),
@@ -835,6 +838,291 @@ public class CourseControllerTest extends AbstractControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("위치 기반 추천 코스 리스트 조회")
+    class courseRecommendationList {
+
+        @Test
+        @DisplayName("위도와 경도를 입력하면 추천 코스 리스트 조회에 성공한다.")
+        void success() throws Exception {
+            //given
+            initData();
+            Long currentUserId = 1L;
+            double userLat = 37.555945;
+            double userLng = 126.972331;
+            int size = 10;
+
+            List<CourseListResponse> courseListResponses = getCourseList().stream()
+                    .filter(course -> !course.getCoursePlaces().isEmpty())
+                    .filter(Course::isWritingComplete)
+                    .limit(size)
+                    .map(course -> {
+                        CoursePlace place = course.getCoursePlaces().stream()
+                                .filter(coursePlace -> coursePlace.getOrder().equals(1))
+                                .findFirst()
+                                .orElseThrow();
+                        boolean userLiked = getCourseLikeList().stream()
+                                .anyMatch(courseLike -> courseLike.getCourse().equals(course) && courseLike.getUserId().equals(currentUserId));
+                        return CourseListResponse.builder()
+                                .course(course)
+                                .imageUrl(fileManager.getFileUrl(course.getCourseImage().getStoredName(), dirName))
+                                .coursePlace(place)
+                                .firstPlaceDistance(DistanceUtils.distance(userLat, userLng, place.getLat(), place.getLng()))
+                                .writer(new UserDetailInfo(course.getUserId(), "writerNickname" + course.getUserId()))
+                                .userLiked(userLiked)
+                                .build();
+                    })
+                    .collect(Collectors.toList());
+
+            // mocking
+            given(courseQueryService.getRecommendedCourseList(currentUserId, userLat, userLng, size))
+                    .willReturn(ListResponse.toListResponse(courseListResponses));
+
+            //when
+            String accessToken = generateUserAccessToken(currentUserId);
+            String path = "/courses/recommendations";
+            ResultActions perform = mockMvc.perform(
+                    RestDocumentationRequestBuilders.get(path)
+                            .header(HttpHeaders.AUTHORIZATION, BEARER_TOKEN_TYPE + accessToken)
+                            .contentType(MediaType.APPLICATION_JSON_VALUE)
+                            .characterEncoding(StandardCharsets.UTF_8)
+                            .param("lat", String.valueOf(userLat))
+                            .param("lng", String.valueOf(userLng))
+                            .param("size", String.valueOf(size))
+            );
+
+            //then
+            perform.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.count").value(courseListResponses.size()))
+                    .andExpect(jsonPath("$.data.contents[*].courseId").exists())
+                    .andExpect(jsonPath("$.data.contents[*].title").exists())
+                    .andExpect(jsonPath("$.data.contents[*].imageUrl").exists())
+                    .andExpect(jsonPath("$.data.contents[*].likeCount").exists())
+                    .andExpect(jsonPath("$.data.contents[*].userLiked").exists())
+                    .andExpect(jsonPath("$.data.contents[*].writer.id").exists())
+                    .andExpect(jsonPath("$.data.contents[*].firstPlace.distance").exists());
+
+            // docs
+            perform.andDo(
+                    restDocs.document(
+                            requestHeaders(
+                                    attributes(key("title").value("요청 헤더")),
+                                    headerWithName(HttpHeaders.AUTHORIZATION).description("로그인 및 토큰 재발급을 통해 발급받은 Bearer AccessToken").optional()
+                            ),
+                            requestParameters(
+                                    attributes(key("title").value("요청 파라미터")),
+                                    parameterWithName("lat").description("사용자의 위도값"),
+                                    parameterWithName("lng").description("사용자의 경도값"),
+                                    parameterWithName("size").description("조회할 코스 개수. 1 ~ 50, 기본값 10").optional()
+                            ),
+                            responseFields(
+                                    beneathPath("data").withSubsectionId("data"),
+                                    attributes(key("title").value("응답 필드")),
+                                    fieldWithPath("count").type(JsonFieldType.NUMBER).description("조회된 코스 개수"),
+                                    subsectionWithPath("contents").type(JsonFieldType.ARRAY).description("추천 점수가 높은 순서의 코스 목록")
+                            ),
+                            responseFields(
+                                    beneathPath("data.contents").withSubsectionId("contents"),
+                                    attributes(key("title").value("코스 목록 필드")),
+                                    fieldWithPath("courseId").type(JsonFieldType.NUMBER).description("저장된 코스의 식별값"),
+                                    fieldWithPath("title").type(JsonFieldType.STRING).description("코스의 제목 정보"),
+                                    fieldWithPath("imageUrl").type(JsonFieldType.STRING).description("코스의 이미지 URL"),
+                                    fieldWithPath("courseStatus").type(JsonFieldType.STRING).description(RestDocsUtil.generateLinkCode(RestDocsUtil.DocUrl.COURSE_STATUS)),
+                                    fieldWithPath("updatedDate").type(JsonFieldType.STRING).description("해당 코스가 마지막으로 수정된 일자"),
+
+                                    fieldWithPath("likeCount").type(JsonFieldType.NUMBER).description("해당 코스의 좋아요 수"),
+                                    fieldWithPath("userLiked").type(JsonFieldType.BOOLEAN).description("현재 유저가 좋아요 했는지 여부"),
+
+                                    fieldWithPath("writer").type(JsonFieldType.OBJECT).description("해당 코스 작성자"),
+                                    fieldWithPath("writer.id").type(JsonFieldType.NUMBER).description("해당 코스 작성자 식별값"),
+                                    fieldWithPath("writer.nickname").type(JsonFieldType.STRING).description("해당 코스 작성자 닉네임"),
+
+                                    fieldWithPath("firstPlace").type(JsonFieldType.OBJECT).description("코스에 등록된 첫번째 장소"),
+                                    fieldWithPath("firstPlace.id").type(JsonFieldType.NUMBER).description("장소의 식별값"),
+                                    fieldWithPath("firstPlace.lat").type(JsonFieldType.NUMBER).description("장소의 위도값"),
+                                    fieldWithPath("firstPlace.lng").type(JsonFieldType.NUMBER).description("장소의 경도값"),
+                                    fieldWithPath("firstPlace.distance").type(JsonFieldType.NUMBER).description("유저 위치와 해당 장소와의 거리. 단위는 `km`")
+                            )
+                    )
+            );
+        }
+
+        @Test
+        @DisplayName("위도와 경도 중 하나라도 입력하지 않으면 검증 오류가 발생하고 http status 400 반환한다.")
+        void validationFailByNoLatLng() throws Exception {
+            //given
+
+            //when
+            String path = "/courses/recommendations";
+            ResultActions perform = mockMvc.perform(
+                    RestDocumentationRequestBuilders.get(path)
+                            .contentType(MediaType.APPLICATION_JSON_VALUE)
+                            .characterEncoding(StandardCharsets.UTF_8)
+                            .param("lat", String.valueOf(37.0))
+            );
+
+            //then
+            perform.andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.data.errorCode").value(ErrorCode.VALIDATION_FAIL.getCode()))
+                    .andExpect(jsonPath("$.data.message").exists());
+
+            // docs
+            perform.andDo(
+                    restDocs.document(
+                            responseFields(
+                                    beneathPath("data").withSubsectionId("data"),
+                                    attributes(key("title").value("예외 응답 필드")),
+                                    fieldWithPath("errorCode").type(JsonFieldType.NUMBER).description(RestDocsUtil.generateLinkCode(RestDocsUtil.DocUrl.ERROR_CODE)),
+                                    subsectionWithPath("message").type(JsonFieldType.OBJECT).description("예외 메시지")
+                            )
+                    )
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("인기 코스 리스트 조회")
+    class coursePopularList {
+
+        @Test
+        @DisplayName("위도와 경도를 입력하면 주변 지역의 인기 코스 리스트 조회에 성공한다.")
+        void success() throws Exception {
+            //given
+            initData();
+            Long currentUserId = 1L;
+            double userLat = 37.555945;
+            double userLng = 126.972331;
+            int size = 10;
+
+            List<CourseListResponse> courseListResponses = getCourseList().stream()
+                    .filter(course -> !course.getCoursePlaces().isEmpty())
+                    .filter(Course::isWritingComplete)
+                    .sorted(Comparator.comparing(Course::getLikeCount, Comparator.reverseOrder()))
+                    .limit(size)
+                    .map(course -> {
+                        CoursePlace place = course.getCoursePlaces().stream()
+                                .filter(coursePlace -> coursePlace.getOrder().equals(1))
+                                .findFirst()
+                                .orElseThrow();
+                        boolean userLiked = getCourseLikeList().stream()
+                                .anyMatch(courseLike -> courseLike.getCourse().equals(course) && courseLike.getUserId().equals(currentUserId));
+                        return CourseListResponse.builder()
+                                .course(course)
+                                .imageUrl(fileManager.getFileUrl(course.getCourseImage().getStoredName(), dirName))
+                                .coursePlace(place)
+                                .firstPlaceDistance(DistanceUtils.distance(userLat, userLng, place.getLat(), place.getLng()))
+                                .writer(new UserDetailInfo(course.getUserId(), "writerNickname" + course.getUserId()))
+                                .userLiked(userLiked)
+                                .build();
+                    })
+                    .collect(Collectors.toList());
+
+            // mocking
+            given(courseQueryService.getPopularCourseList(currentUserId, userLat, userLng, size))
+                    .willReturn(ListResponse.toListResponse(courseListResponses));
+
+            //when
+            String accessToken = generateUserAccessToken(currentUserId);
+            String path = "/courses/popular";
+            ResultActions perform = mockMvc.perform(
+                    RestDocumentationRequestBuilders.get(path)
+                            .header(HttpHeaders.AUTHORIZATION, BEARER_TOKEN_TYPE + accessToken)
+                            .contentType(MediaType.APPLICATION_JSON_VALUE)
+                            .characterEncoding(StandardCharsets.UTF_8)
+                            .param("lat", String.valueOf(userLat))
+                            .param("lng", String.valueOf(userLng))
+                            .param("size", String.valueOf(size))
+            );
+
+            //then
+            perform.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.count").value(courseListResponses.size()))
+                    .andExpect(jsonPath("$.data.contents[*].courseId").exists())
+                    .andExpect(jsonPath("$.data.contents[*].title").exists())
+                    .andExpect(jsonPath("$.data.contents[*].imageUrl").exists())
+                    .andExpect(jsonPath("$.data.contents[*].likeCount").exists())
+                    .andExpect(jsonPath("$.data.contents[*].userLiked").exists())
+                    .andExpect(jsonPath("$.data.contents[*].writer.id").exists())
+                    .andExpect(jsonPath("$.data.contents[*].firstPlace.distance").exists());
+
+            // docs
+            perform.andDo(
+                    restDocs.document(
+                            requestHeaders(
+                                    attributes(key("title").value("요청 헤더")),
+                                    headerWithName(HttpHeaders.AUTHORIZATION).description("로그인 및 토큰 재발급을 통해 발급받은 Bearer AccessToken").optional()
+                            ),
+                            requestParameters(
+                                    attributes(key("title").value("요청 파라미터")),
+                                    parameterWithName("lat").description("사용자의 위도값. 위도, 경도를 모두 보내면 주변 지역의 인기 코스를 조회").optional(),
+                                    parameterWithName("lng").description("사용자의 경도값. 위도, 경도를 모두 보내면 주변 지역의 인기 코스를 조회").optional(),
+                                    parameterWithName("size").description("조회할 코스 개수. 1 ~ 50, 기본값 10").optional()
+                            ),
+                            responseFields(
+                                    beneathPath("data").withSubsectionId("data"),
+                                    attributes(key("title").value("응답 필드")),
+                                    fieldWithPath("count").type(JsonFieldType.NUMBER).description("조회된 코스 개수"),
+                                    subsectionWithPath("contents").type(JsonFieldType.ARRAY).description("최근 등록된 좋아요가 많은 순서의 코스 목록")
+                            ),
+                            responseFields(
+                                    beneathPath("data.contents").withSubsectionId("contents"),
+                                    attributes(key("title").value("코스 목록 필드")),
+                                    fieldWithPath("courseId").type(JsonFieldType.NUMBER).description("저장된 코스의 식별값"),
+                                    fieldWithPath("title").type(JsonFieldType.STRING).description("코스의 제목 정보"),
+                                    fieldWithPath("imageUrl").type(JsonFieldType.STRING).description("코스의 이미지 URL"),
+                                    fieldWithPath("courseStatus").type(JsonFieldType.STRING).description(RestDocsUtil.generateLinkCode(RestDocsUtil.DocUrl.COURSE_STATUS)),
+                                    fieldWithPath("updatedDate").type(JsonFieldType.STRING).description("해당 코스가 마지막으로 수정된 일자"),
+
+                                    fieldWithPath("likeCount").type(JsonFieldType.NUMBER).description("해당 코스의 좋아요 수"),
+                                    fieldWithPath("userLiked").type(JsonFieldType.BOOLEAN).description("현재 유저가 좋아요 했는지 여부"),
+
+                                    fieldWithPath("writer").type(JsonFieldType.OBJECT).description("해당 코스 작성자"),
+                                    fieldWithPath("writer.id").type(JsonFieldType.NUMBER).description("해당 코스 작성자 식별값"),
+                                    fieldWithPath("writer.nickname").type(JsonFieldType.STRING).description("해당 코스 작성자 닉네임"),
+
+                                    fieldWithPath("firstPlace").type(JsonFieldType.OBJECT).description("코스에 등록된 첫번째 장소"),
+                                    fieldWithPath("firstPlace.id").type(JsonFieldType.NUMBER).description("장소의 식별값"),
+                                    fieldWithPath("firstPlace.lat").type(JsonFieldType.NUMBER).description("장소의 위도값"),
+                                    fieldWithPath("firstPlace.lng").type(JsonFieldType.NUMBER).description("장소의 경도값"),
+                                    fieldWithPath("firstPlace.distance").type(JsonFieldType.NUMBER).description("유저 위치와 해당 장소와의 거리. 단위는 `km`. 위도, 경도를 보내지 않으면 null").optional()
+                            )
+                    )
+            );
+        }
+
+        @Test
+        @DisplayName("조회할 코스 개수가 범위를 벗어나면 검증 오류가 발생하고 http status 400 반환한다.")
+        void validationFailBySize() throws Exception {
+            //given
+
+            //when
+            String path = "/courses/popular";
+            ResultActions perform = mockMvc.perform(
+                    RestDocumentationRequestBuilders.get(path)
+                            .contentType(MediaType.APPLICATION_JSON_VALUE)
+                            .characterEncoding(StandardCharsets.UTF_8)
+                            .param("size", String.valueOf(0))
+            );
+
+            //then
+            perform.andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.data.errorCode").value(ErrorCode.VALIDATION_FAIL.getCode()))
+                    .andExpect(jsonPath("$.data.message").exists());
+
+            // docs
+            perform.andDo(
+                    restDocs.document(
+                            responseFields(
+                                    beneathPath("data").withSubsectionId("data"),
+                                    attributes(key("title").value("예외 응답 필드")),
+                                    fieldWithPath("errorCode").type(JsonFieldType.NUMBER).description(RestDocsUtil.generateLinkCode(RestDocsUtil.DocUrl.ERROR_CODE)),
+                                    subsectionWithPath("message").type(JsonFieldType.OBJECT).description("예외 메시지")
+                            )
+                    )
+            );
+        }
+    }
+
     @Nested
     @DisplayName("내가 등록한 코스 리스트 조회")
     class myCourseList {
@@ -851,7 +1139,7 @@ public class CourseControllerTest extends AbstractControllerTest {
             getCourseList().addAll(setCourses(currentUserId, 10)); // 작성 완료되지 않은 코스 추가
             CourseStatus courseStatus = CourseStatus.COMPLETE;
 
-            List<MyPageCourseListData> listData = getCourseList().stream()
+            List<MyPageCourseListRow> listData = getCourseList().stream()
                     .filter(course -> course.getUserId().equals(currentUserId))
                     .filter(course -> course.getCourseStatus().equals(courseStatus)) // 코스 상태 일치하는 것 만 필터링
                     .map(course -> {
@@ -860,14 +1148,14 @@ public class CourseControllerTest extends AbstractControllerTest {
                                 .findFirst()
                                 .map(CourseLike::getId)
                                 .orElse(null);
-                        return new MyPageCourseListData(course, courseLikeId);
+                        return new MyPageCourseListRow(course, courseLikeId);
                     })
-                    .sorted(Comparator.comparing(myPageCourseListData -> myPageCourseListData.getCourse().getUpdatedDate(), Comparator.reverseOrder()))
+                    .sorted(Comparator.comparing(myPageCourseListRow -> myPageCourseListRow.getCourse().getUpdatedDate(), Comparator.reverseOrder()))
                     .limit(pageSize)
                     .collect(Collectors.toList());
 
             List<MyPageCourseListResponse> myPageCourseListResponses = new ArrayList<>();
-            for (MyPageCourseListData courseListData : listData) {
+            for (MyPageCourseListRow courseListData : listData) {
                 Course course = courseListData.getCourse();
                 MyPageCourseListResponse myPageCourseListResponse = MyPageCourseListResponse.builder()
                         .course(course)
@@ -926,7 +1214,8 @@ public class CourseControllerTest extends AbstractControllerTest {
                                     attributes(key("title").value("요청 파라미터")),
                                     parameterWithName("courseStatus").description(RestDocsUtil.generateLinkCode(RestDocsUtil.DocUrl.COURSE_STATUS)),
                                     parameterWithName("page").description("조회할 페이지 번호. 기본값 0").optional(),
-                                    parameterWithName("size").description("페이지당 조회할 데이터 개수. 기본값 10").optional()
+                                    parameterWithName("size").description("페이지당 조회할 데이터 개수. 기본값 10").optional(),
+                                    parameterWithName("cursor").description("커서 기반 페이징. 첫 페이지는 빈 값, 이후에는 응답의 nextCursor 값. 보내지 않으면 page 파라미터로 조회").optional()
                             ),
                             responseFields(
                                     beneathPath("data.contents").withSubsectionId("contents"),
@@ -960,7 +1249,7 @@ public class CourseControllerTest extends AbstractControllerTest {
             getCourseList().addAll(setCourses(currentUserId, 10)); // 작성 완료되지 않은 코스 추가
             CourseStatus courseStatus = CourseStatus.WRITING;
 
-            List<MyPageCourseListData> listData = getCourseList().stream()
+            List<MyPageCourseListRow> listData = getCourseList().stream()
                     .filter(course -> course.getUserId().equals(currentUserId))
                     .filter(course -> course.getCourseStatus().equals(courseStatus)) // 코스 상태 일치하는 것 만 필터링
                     .map(course -> {
@@ -969,14 +1258,14 @@ public class CourseControllerTest extends AbstractControllerTest {
                                 .findFirst()
                                 .map(CourseLike::getId)
                                 .orElse(null);
-                        return new MyPageCourseListData(course, courseLikeId);
+                        return new MyPageCourseListRow(course, courseLikeId);
                     })
-                    .sorted(Comparator.comparing(myPageCourseListData -> myPageCourseListData.getCourse().getUpdatedDate(), Comparator.reverseOrder()))
+                    .sorted(Comparator.comparing(myPageCourseListRow -> myPageCourseListRow.getCourse().getUpdatedDate(), Comparator.reverseOrder()))
                     .limit(pageSize)
                     .collect(Collectors.toList());
 
             List<MyPageCourseListResponse> myPageCourseListResponses = new ArrayList<>();
-            for (MyPageCourseListData courseListData : listData) {
+            for (MyPageCourseListRow courseListData : listData) {
                 Course course = courseListData.getCourse();
                 MyPageCourseListResponse myPageCourseListResponse = MyPageCourseListResponse.builder()
                         .course(course)
@@ -1035,7 +1324,8 @@ public class CourseControllerTest extends AbstractControllerTest {
                                     attributes(key("title").value("요청 파라미터")),
                                     parameterWithName("courseStatus").description(RestDocsUtil.generateLinkCode(RestDocsUtil.DocUrl.COURSE_STATUS)),
                                     parameterWithName("page").description("조회할 페이지 번호. 기본값 0").optional(),
-                                    parameterWithName("size").description("페이지당 조회할 데이터 개수. 기본값 10").optional()
+                                    parameterWithName("size").description("페이지당 조회할 데이터 개수. 기본값 10").optional(),
+                                    parameterWithName("cursor").description("커서 기반 페이징. 첫 페이지는 빈 값, 이후에는 응답의 nextCursor 값. 보내지 않으면 page 파라미터로 조회").optional()
                             ),
                             responseFields(
                                     beneathPath("data.contents").withSubsectionId("contents"),
@@ -1130,7 +1420,8 @@ public class CourseControllerTest extends AbstractControllerTest {
                                     attributes(key("title").value("요청 파라미터")),
                                     parameterWithName("courseStatus").description(RestDocsUtil.generateLinkCode(RestDocsUtil.DocUrl.COURSE_STATUS)),
                                     parameterWithName("page").description("조회할 페이지 번호. 기본값 0").optional(),
-                                    parameterWithName("size").description("페이지당 조회할 데이터 개수. 기본값 10").optional()
+                                    parameterWithName("size").description("페이지당 조회할 데이터 개수. 기본값 10").optional(),
+                                    parameterWithName("cursor").description("커서 기반 페이징. 첫 페이지는 빈 값, 이후에는 응답의 nextCursor 값. 보내지 않으면 page 파라미터로 조회").optional()
                             ),
                             responseFields(
                                     beneathPath("data").withSubsectionId("data"),
@@ -1155,7 +1446,7 @@ public class CourseControllerTest extends AbstractControllerTest {
             int pageSize = 10;
             Long currentUserId = 1L;
             initData();
-            List<MyPageCourseListData> listData = getCourseLikeList().stream()
+            List<MyPageCourseListRow> listData = getCourseLikeList().stream()
                     .filter(courseLike -> courseLike.getUserId().equals(currentUserId))
                     .sorted(Comparator.comparing(BaseTimeEntity::getLastModifiedDate, Comparator.reverseOrder()))
                     .map(CourseLike::getCourse)
@@ -1166,13 +1457,13 @@ public class CourseControllerTest extends AbstractControllerTest {
                                 .findFirst()
                                 .map(CourseLike::getId)
                                 .orElse(null);
-                        return new MyPageCourseListData(course, courseLikeId);
+                        return new MyPageCourseListRow(course, courseLikeId);
                     })
                     .limit(pageSize)
                     .collect(Collectors.toList());
 
             List<MyPageCourseListResponse> myPageCourseListResponses = new ArrayList<>();
-            for (MyPageCourseListData courseListData : listData) {
+            for (MyPageCourseListRow courseListData : listData) {
                 Course course = courseListData.getCourse();
                 MyPageCourseListResponse myPageCourseListResponse = MyPageCourseListResponse.builder()
                         .course(course)
@@ -1189,7 +1480,7 @@ public class CourseControllerTest extends AbstractControllerTest {
             String accessToken = generateUserAccessToken(currentUserId);
 
             // mocking
-            given(courseQueryService.getMyLikedCourseList(eq(currentUserId), any(Pageable.class)))
+            given(courseQueryService.getMyLikedCourseList(eq(currentUserId), isNull(), any(Pageable.class)))
                     .willReturn(courseListResponseSliceResponse);
 
             //when
@@ -1225,7 +1516,8 @@ public class CourseControllerTest extends AbstractControllerTest {
                             requestParameters(
                                     attributes(key("title").value("요청 파라미터")),
                                     parameterWithName("page").description("조회할 페이지 번호. 기본값 0").optional(),
-                                    parameterWithName("size").description("페이지당 조회할 데이터 개수. 기본값 10").optional()
+                                    parameterWithName("size").description("페이지당 조회할 데이터 개수. 기본값 10").optional(),
+                                    parameterWithName("cursor").description("커서 기반 페이징. 첫 페이지는 빈 값, 이후에는 응답의 nextCursor 값. 보내지 않으면 page 파라미터로 조회").optional()
                             ),
                             responseFields(
                                     beneathPath("data.contents").withSubsectionId("contents"),
@@ -1829,4 +2121,21 @@ public class CourseControllerTest extends AbstractControllerTest {
 
         // TODO 로그인하지 않은 유저는 사용 불가
     }
+
+    // 응답을 만들기 위해 코스와 함께 필요한 값들
+    @Getter
+    @AllArgsConstructor
+    static class CourseListRow {
+        private Course course;
+        private CoursePlace coursePlace;
+        private Double distance;
+        private Long userLikeId;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    static class MyPageCourseListRow {
+        private Course course;
+        private Long userLikeId;
+    }
 }
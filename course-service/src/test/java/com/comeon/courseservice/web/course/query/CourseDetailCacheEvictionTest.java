@@ -0,0 +1,140 @@
+package com.comeon.courseservice.web.course.query;
+
+import com.comeon.courseservice.config.CourseDetailCacheConfig;
+import com.comeon.courseservice.config.CourseQueryExecutorConfig;
+import com.comeon.courseservice.config.QuerydslConfig;
+import com.comeon.courseservice.domain.course.entity.Course;
+import com.comeon.courseservice.domain.course.entity.CourseImage;
+import com.comeon.courseservice.domain.course.repository.CourseRepository;
+import com.comeon.courseservice.domain.courseplace.entity.CoursePlace;
+import com.comeon.courseservice.domain.courseplace.entity.CoursePlaceCategory;
+import com.comeon.courseservice.domain.courseplace.service.CoursePlaceService;
+import com.comeon.courseservice.domain.courseplace.service.dto.CoursePlaceDto;
+import com.comeon.courseservice.web.common.file.FileManager;
+import com.comeon.courseservice.web.course.response.CourseDetailResponse;
+import com.comeon.courseservice.web.feign.userservice.UserFeignService;
+import com.comeon.courseservice.web.feign.userservice.response.UserDetailsResponse;
+import com.comeon.courseservice.web.feign.userservice.response.UserStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Import;
+import org.springframework.stereotype.Repository;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+
+/*
+    코스 장소를 수정한 뒤 코스 상세 조회가 캐시에 남은 이전 내용을 반환하지 않는지 확인한다.
+    캐시는 커밋 후에 지워지므로 테스트는 트랜잭션 없이 실행한다.
+ */
+@ActiveProfiles("test")
+@Import({
+        QuerydslConfig.class,
+        CourseQueryExecutorConfig.class,
+        CourseDetailCacheConfig.class,
+        CourseQueryService.class,
+        CoursePlaceService.class
+})
+@DataJpaTest(
+        includeFilters = {@ComponentScan.Filter(Repository.class)},
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:course-detail-cache-eviction-test",
+                "course.detail-cache.enabled=true"
+        }
+)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CourseDetailCacheEvictionTest {
+
+    @TestConfiguration
+    static class MeterRegistryConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    CourseRepository courseRepository;
+
+    @Autowired
+    CoursePlaceService coursePlaceService;
+
+    @Autowired
+    CourseQueryService courseQueryService;
+
+    @MockBean
+    UserFeignService userFeignService;
+
+    @MockBean
+    FileManager fileManager;
+
+    @Test
+    @DisplayName("장소의 설명만 수정해도 코스 상세 조회에 수정한 설명이 반영된다.")
+    void modifyDescriptionOnly() {
+        // given
+        Long userId = 1L;
+        Course course = Course.builder()
+                .userId(userId)
+                .title("title")
+                .description("description")
+                .courseImage(
+                        CourseImage.builder()
+                                .originalName("originalName")
+                                .storedName("storedName")
+                                .build()
+                )
+                .build();
+        CoursePlace coursePlace = CoursePlace.builder()
+                .course(course)
+                .name("placeName")
+                .description("placeDescription")
+                .lat(37.555)
+                .lng(126.972)
+                .address("address")
+                .order(1)
+                .kakaoPlaceId(10000L)
+                .placeCategory(CoursePlaceCategory.ETC)
+                .build();
+        course.updateCourseState();
+        courseRepository.save(course);
+
+        given(userFeignService.getUserDetails(anyLong()))
+                .willReturn(Optional.of(
+                        new UserDetailsResponse(userId, "userNickname", "userProfileImgUrl", UserStatus.ACTIVATE)
+                ));
+
+        // 수정 전에 조회하여 캐시에 저장해둔다.
+        courseQueryService.getCourseDetails(course.getId(), userId);
+
+        // when
+        coursePlaceService.coursePlaceModify(
+                course.getId(), userId, coursePlace.getId(),
+                CoursePlaceDto.modifyBuilder()
+                        .description("changedDescription")
+                        .build()
+        );
+        CourseDetailResponse courseDetails = courseQueryService.getCourseDetails(course.getId(), userId);
+
+        // then
+        assertThat(courseDetails.getCoursePlaces())
+                .extracting(CourseDetailResponse.CoursePlaceDetailInfo::getDescription)
+                .containsExactly("changedDescription");
+    }
+}
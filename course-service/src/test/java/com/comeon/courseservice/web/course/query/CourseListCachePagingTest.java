@@ -0,0 +1,91 @@
+package com.comeon.courseservice.web.course.query;
+
+import com.comeon.courseservice.config.CourseListCacheConfig;
+import com.comeon.courseservice.web.AbstractQueryServiceTest;
+import com.comeon.courseservice.web.common.response.SliceResponse;
+import com.comeon.courseservice.web.course.query.repository.cond.CourseCondition;
+import com.comeon.courseservice.web.course.response.CourseListResponse;
+import com.comeon.courseservice.web.feign.userservice.UserFeignService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+
+/*
+    코스 리스트 캐시를 사용할 때, 좌표가 있는 요청의 페이지들이 겹치거나 빠지는 코스 없이 이어지는지 확인한다.
+ */
+@Import({
+        CourseListCacheConfig.class,
+        CourseQueryService.class
+})
+@TestPropertySource(properties = "course.list-cache.enabled=true")
+class CourseListCachePagingTest extends AbstractQueryServiceTest {
+
+    @TestConfiguration
+    static class MeterRegistryConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    CourseQueryService courseQueryService;
+
+    @MockBean
+    UserFeignService userFeignService;
+
+    List<Long> courseIds(SliceResponse<CourseListResponse> courseList) {
+        return courseList.getContents().stream()
+                .map(CourseListResponse::getCourseId)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("격자 중심에서 벗어난 좌표로 조회한 첫 페이지와 다음 페이지는 겹치지 않고 이어진다.")
+    void offCenterPagesContiguous() {
+        // given
+        given(userFeignService.getUserDetailsMap(anyList())).willReturn(new HashMap<>());
+        CourseCondition courseCondition = new CourseCondition(null, 37.5591, 126.9762);
+
+        // 다른 좌표의 첫 페이지가 캐시에 저장되어 있다.
+        courseQueryService.getCourseList(null, new CourseCondition(null, 37.555, 126.975), PageRequest.of(0, 10));
+        courseQueryService.getCourseList(null, new CourseCondition(null, null, null), PageRequest.of(0, 10));
+
+        // when
+        SliceResponse<CourseListResponse> firstPage = courseQueryService.getCourseList(null, courseCondition, PageRequest.of(0, 10));
+        SliceResponse<CourseListResponse> secondPage = courseQueryService.getCourseList(null, courseCondition, PageRequest.of(1, 10));
+        SliceResponse<CourseListResponse> wholePage = courseQueryService.getCourseList(null, courseCondition, PageRequest.of(0, 20));
+
+        // then
+        List<Long> pagedIds = new ArrayList<>(courseIds(firstPage));
+        pagedIds.addAll(courseIds(secondPage));
+
+        assertThat(pagedIds).hasSize(20).doesNotHaveDuplicates();
+        assertThat(pagedIds).containsExactlyElementsOf(courseIds(wholePage));
+        assertThat(firstPage.getContents())
+                .extracting(courseListResponse -> courseListResponse.getFirstPlace().getDistance())
+                .containsExactlyElementsOf(
+                        wholePage.getContents().subList(0, 10).stream()
+                                .map(courseListResponse -> courseListResponse.getFirstPlace().getDistance())
+                                .collect(Collectors.toList())
+                );
+    }
+}
@@ -0,0 +1,116 @@
+package com.comeon.courseservice.web.course.query;
+
+import com.comeon.courseservice.config.CourseQueryExecutorConfig;
+import com.comeon.courseservice.config.QuerydslConfig;
+import com.comeon.courseservice.domain.course.entity.Course;
+import com.comeon.courseservice.domain.course.entity.CourseImage;
+import com.comeon.courseservice.domain.course.repository.CourseRepository;
+import com.comeon.courseservice.web.common.file.FileManager;
+import com.comeon.courseservice.web.course.response.CourseDetailResponse;
+import com.comeon.courseservice.web.feign.userservice.UserFeignService;
+import com.comeon.courseservice.web.feign.userservice.response.UserDetailsResponse;
+import com.comeon.courseservice.web.feign.userservice.response.UserStatus;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Import;
+import org.springframework.stereotype.Repository;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+/*
+    코스 단건 조회가 user-service 를 호출하는 동안 커넥션을 붙잡고 있지 않은지 확인한다.
+    커넥션 풀의 사용중인 커넥션 수를 확인하기 위해 테스트용 내장 DB 대신 Hikari 커넥션 풀을 사용한다.
+ */
+@ActiveProfiles("test")
+@Import({
+        QuerydslConfig.class,
+        CourseQueryExecutorConfig.class,
+        CourseQueryService.class
+})
+@DataJpaTest(
+        includeFilters = {@ComponentScan.Filter(Repository.class)},
+        properties = "spring.datasource.url=jdbc:h2:mem:course-query-connection-test"
+)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CourseQueryServiceConnectionTest {
+
+    static final long WAIT_MILLIS = 2000;
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    CourseRepository courseRepository;
+
+    @Autowired
+    CourseQueryService courseQueryService;
+
+    @MockBean
+    UserFeignService userFeignService;
+
+    @MockBean
+    FileManager fileManager;
+
+    // 사용중인 커넥션이 없어질 때까지 기다린다. 시간이 지나도 남아있으면 사용중인 커넥션 수를 반환한다.
+    int awaitNoActiveConnections() throws InterruptedException {
+        HikariDataSource hikariDataSource = (HikariDataSource) dataSource;
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        int activeConnections = hikariDataSource.getHikariPoolMXBean().getActiveConnections();
+        while (activeConnections > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            activeConnections = hikariDataSource.getHikariPoolMXBean().getActiveConnections();
+        }
+        return activeConnections;
+    }
+
+    @Test
+    @DisplayName("user-service 를 호출하는 동안 사용중인 커넥션이 없다.")
+    void noConnectionHeldDuringUserLookup() {
+        // given
+        Long userId = 1L;
+        Course course = Course.builder()
+                .userId(userId)
+                .title("title")
+                .description("description")
+                .courseImage(
+                        CourseImage.builder()
+                                .originalName("originalName")
+                                .storedName("storedName")
+                                .build()
+                )
+                .build();
+        courseRepository.save(course);
+
+        // mocking
+        AtomicInteger activeConnectionsDuringUserLookup = new AtomicInteger(-1);
+        given(userFeignService.getUserDetails(userId))
+                .willAnswer(invocation -> {
+                    activeConnectionsDuringUserLookup.set(awaitNoActiveConnections());
+                    return Optional.of(
+                            new UserDetailsResponse(userId, "userNickname", "userProfileImgUrl", UserStatus.ACTIVATE)
+                    );
+                });
+
+        // when
+        CourseDetailResponse courseDetails = courseQueryService.getCourseDetails(course.getId(), userId);
+
+        // then
+        assertThat(activeConnectionsDuringUserLookup.get()).isZero();
+        assertThat(courseDetails.getWriter().getNickname()).isEqualTo("userNickname");
+    }
+}
@@ -2,6 +2,8 @@ package com.comeon.courseservice.web.course.query;
 
 import com.comeon.courseservice.common.exception.CustomException;
 import com.comeon.courseservice.common.exception.ErrorCode;
+import com.comeon.courseservice.common.geo.SpatialGridIndex;
+import com.comeon.courseservice.common.search.NgramIndex;
 import com.comeon.courseservice.domain.common.exception.EntityNotFoundException;
 import com.comeon.courseservice.domain.course.entity.Course;
 import com.comeon.courseservice.domain.course.entity.CourseImage;
@@ -14,6 +16,11 @@ import com.comeon.courseservice.web.course.query.repository.CourseLikeQueryRepos
 import com.comeon.courseservice.web.course.query.repository.CourseQueryRepository;
 import com.comeon.courseservice.web.course.query.repository.cond.CourseCondition;
 import com.comeon.courseservice.web.course.query.repository.cond.MyCourseCondition;
+import com.comeon.courseservice.web.course.query.repository.dto.CourseListData;
+import com.comeon.courseservice.web.course.query.repository.dto.CourseLocationData;
+import com.comeon.courseservice.web.course.query.repository.dto.CourseTitleData;
+import com.comeon.courseservice.web.course.query.search.CourseTitleIndex;
+import com.comeon.courseservice.web.course.query.spatial.CourseSpatialIndex;
 import com.comeon.courseservice.web.course.response.CourseDetailResponse;
 import com.comeon.courseservice.web.course.response.CourseListResponse;
 import com.comeon.courseservice.web.course.response.MyPageCourseListResponse;
@@ -26,16 +33,25 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
 
 @Slf4j
 class CourseQueryServiceTest extends AbstractQueryServiceTest {
@@ -43,12 +59,18 @@ class CourseQueryServiceTest extends AbstractQueryServiceTest {
     @Autowired
     CourseQueryRepository courseQueryRepository;
 
-    @Autowired
+    @SpyBean
     CourseLikeQueryRepository courseLikeQueryRepository;
 
     @MockBean
     UserFeignService userFeignService;
 
+    @MockBean
+    CourseSpatialIndex courseSpatialIndex;
+
+    @MockBean
+    CourseTitleIndex courseTitleIndex;
+
     @SpyBean
     CourseQueryService courseQueryService;
 
@@ -202,6 +224,79 @@ class CourseQueryServiceTest extends AbstractQueryServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("코스 단건 조회 - user-service 지연")
+    class getCourseDetailsWithSlowUserService {
+
+        static final long DELAY_MILLIS = 500;
+
+        void mockSlowUserDetails(Long userId, long delayMillis) {
+            given(userFeignService.getUserDetails(userId))
+                    .willAnswer(invocation -> {
+                        Thread.sleep(delayMillis);
+                        return Optional.of(
+                                new UserDetailsResponse(userId, "userNickname", "userProfileImgUrl", UserStatus.ACTIVATE)
+                        );
+                    });
+        }
+
+        void mockSlowCourseLike() {
+            willAnswer(invocation -> {
+                Thread.sleep(DELAY_MILLIS);
+                return invocation.callRealMethod();
+            }).given(courseLikeQueryRepository).existsByCourseIdAndUserId(anyLong(), anyLong());
+        }
+
+        @Test
+        @DisplayName("작성자 정보 조회와 좋아요 조회를 함께 진행하여, 두 조회 시간의 합보다 빨리 응답한다.")
+        void fanOut() {
+            // given
+            Long courseId = 1L;
+            Long userId = 1L;
+
+            // mocking
+            mockSlowUserDetails(userId, DELAY_MILLIS);
+            mockSlowCourseLike();
+
+            // when
+            long start = System.nanoTime();
+            CourseDetailResponse courseDetails = courseQueryService.getCourseDetails(courseId, userId);
+            long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+            // then
+            log.info("[course-details] elapsed : {}ms", elapsedMillis);
+            assertThat(elapsedMillis).isLessThan(DELAY_MILLIS * 2);
+            assertThat(courseDetails.getWriter().getNickname()).isEqualTo("userNickname");
+        }
+
+        @Test
+        @DisplayName("작성자 정보 조회 시간이 초과되면 기다리지 않고 닉네임 없이 응답한다.")
+        void userLookupTimeout() {
+            // given
+            Long courseId = 1L;
+            Long userId = 1L;
+            Duration timeout = Duration.ofMillis(300);
+            ReflectionTestUtils.setField(courseQueryService, "userLookupTimeout", timeout);
+
+            // mocking
+            mockSlowUserDetails(userId, DELAY_MILLIS * 4);
+
+            try {
+                // when
+                long start = System.nanoTime();
+                CourseDetailResponse courseDetails = courseQueryService.getCourseDetails(courseId, userId);
+                long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+                // then
+                assertThat(elapsedMillis).isLessThan(DELAY_MILLIS * 4);
+                assertThat(courseDetails.getWriter().getId()).isEqualTo(userId);
+                assertThat(courseDetails.getWriter().getNickname()).isNull();
+            } finally {
+                ReflectionTestUtils.setField(courseQueryService, "userLookupTimeout", Duration.ofSeconds(3));
+            }
+        }
+    }
+
     @Nested
     @DisplayName("코스 리스트 조회")
     class getCourseList {
@@ -300,6 +395,21 @@ class CourseQueryServiceTest extends AbstractQueryServiceTest {
                     .isTrue();
         }
 
+        @Test
+        @DisplayName("사용자 좌표에서 100km 이내에 코스가 없으면, 인접한 격자 셀의 코스들도 조회되지 않는다.")
+        void noCourseWithin100km() {
+            // given
+            // 서울역에서 약 150km 떨어진 좌표. 반경을 감싸는 격자 셀에는 서울역 주변 코스들이 포함된다.
+            CourseCondition courseCondition = new CourseCondition(null, 36.2, 127.0);
+            Long userId = 5L;
+
+            // when
+            SliceResponse<CourseListResponse> courseList = courseQueryService.getCourseList(userId, courseCondition, PageRequest.of(0, 10));
+
+            // then
+            assertThat(courseList.getContents()).isEmpty();
+        }
+
         @Test
         @DisplayName("유저 식별값이 null이면 조회 결과의 userLiked 필드는 모두 false 이다.")
         void successNoUserId() {
@@ -349,6 +459,151 @@ class CourseQueryServiceTest extends AbstractQueryServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("공간 인덱스로 코스 리스트 조회")
+    class getCourseListBySpatialIndex {
+
+        SpatialGridIndex spatialGridIndex = new SpatialGridIndex(0.05);
+
+        @BeforeEach
+        void initIndex() {
+            for (CourseLocationData location : courseQueryRepository.findCourseLocationsAfter(0L, 1000)) {
+                spatialGridIndex.put(location.getCourseId(), location.getLat(), location.getLng());
+            }
+            given(courseSpatialIndex.nearest(anyDouble(), anyDouble(), anyInt(), anyDouble()))
+                    .will(invocation -> Optional.of(
+                            spatialGridIndex.nearest(
+                                    invocation.getArgument(0),
+                                    invocation.getArgument(1),
+                                    invocation.getArgument(2),
+                                    invocation.getArgument(3)
+                            )
+                    ));
+        }
+
+        @Test
+        @DisplayName("검색어가 없으면 공간 인덱스가 찾은 코스들을 조회하고, 결과는 DB 검색 결과와 같다.")
+        void sameAsDatabaseSearch() {
+            // given
+            CourseCondition courseCondition = new CourseCondition(null, 37.555, 126.972);
+            Long userId = 1L;
+            mockUserDetailsMap();
+
+            // when
+            SliceResponse<CourseListResponse> indexResult = courseQueryService.getCourseList(userId, courseCondition, PageRequest.of(0, 50));
+            SliceResponse<CourseListResponse> firstPage = courseQueryService.getCourseList(userId, courseCondition, PageRequest.of(0, 10));
+            List<CourseListData> databaseResult = courseQueryRepository.findCourseSlice(courseCondition, PageRequest.of(0, 50))
+                    .getContent();
+            Set<Long> likedCourseIds = courseLikeQueryRepository.findLikedCourseIds(
+                    userId,
+                    databaseResult.stream().map(courseListData -> courseListData.getCourseSummary().getCourseId()).collect(Collectors.toList())
+            );
+
+            // then
+            assertThat(indexResult.getContents())
+                    .extracting(CourseListResponse::getCourseId)
+                    .containsExactlyInAnyOrderElementsOf(
+                            databaseResult.stream().map(courseListData -> courseListData.getCourseSummary().getCourseId()).collect(Collectors.toList())
+                    );
+            assertThat(indexResult.getContents())
+                    .extracting(CourseListResponse::getUserLiked)
+                    .containsExactlyInAnyOrderElementsOf(
+                            databaseResult.stream().map(courseListData -> likedCourseIds.contains(courseListData.getCourseSummary().getCourseId())).collect(Collectors.toList())
+                    );
+            assertThat(indexResult.isHasNext()).isFalse();
+            assertThat(firstPage.getNumberOfElements()).isEqualTo(10);
+            assertThat(firstPage.isHasNext()).isTrue();
+        }
+
+        @Test
+        @DisplayName("인덱스에 검색 대상이 아닌 코스가 있으면 인덱스에서 제거하고 DB 에서 검색한다.")
+        void removeStaleCourse() {
+            // given
+            Long staleCourseId = 100_000L;
+            spatialGridIndex.put(staleCourseId, 37.555, 126.972);
+            CourseCondition courseCondition = new CourseCondition(null, 37.555, 126.972);
+            mockUserDetailsMap();
+
+            // when
+            SliceResponse<CourseListResponse> courseList = courseQueryService.getCourseList(1L, courseCondition, PageRequest.of(0, 10));
+
+            // then
+            then(courseSpatialIndex).should().remove(staleCourseId);
+            assertThat(courseList.getContents())
+                    .extracting(CourseListResponse::getCourseId)
+                    .doesNotContain(staleCourseId);
+            assertThat(courseList.getNumberOfElements()).isEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("검색어가 있으면 공간 인덱스를 사용하지 않는다.")
+        void titleConditionSkipsIndex() {
+            // given
+            CourseCondition courseCondition = new CourseCondition("3", 37.555, 126.972);
+            mockUserDetailsMap();
+
+            // when
+            courseQueryService.getCourseList(1L, courseCondition, PageRequest.of(0, 10));
+
+            // then
+            then(courseSpatialIndex).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("제목 검색 인덱스로 코스 리스트 조회")
+    class getCourseListByTitleIndex {
+
+        NgramIndex ngramIndex = new NgramIndex();
+
+        @BeforeEach
+        void initIndex() {
+            for (CourseTitleData title : courseQueryRepository.findCourseTitlesAfter(0L, 1000)) {
+                ngramIndex.put(title.getCourseId(), title.getTitle());
+            }
+            given(courseTitleIndex.search(anyString()))
+                    .will(invocation -> Optional.of(ngramIndex.search(invocation.getArgument(0), 1000)));
+        }
+
+        @Test
+        @DisplayName("검색어가 있으면 제목 검색 인덱스가 찾은 코스들을 조회하고, 결과는 LIKE 검색 결과와 같다.")
+        void sameAsLikeSearch() {
+            for (String title : List.of("3", "1 5", "title1", "TITLE 2", "없는제목")) {
+                // given
+                CourseCondition courseCondition = new CourseCondition(title, 37.555, 126.972);
+
+                // when
+                SliceResponse<CourseListResponse> indexResult = courseQueryService.getCourseList(1L, courseCondition, PageRequest.of(0, 50));
+                List<CourseListData> likeResult = courseQueryRepository.findCourseSlice(courseCondition, PageRequest.of(0, 50))
+                        .getContent();
+
+                // then
+                assertThat(indexResult.getContents())
+                        .extracting(CourseListResponse::getCourseId)
+                        .containsExactlyElementsOf(
+                                likeResult.stream().map(courseListData -> courseListData.getCourseSummary().getCourseId()).collect(Collectors.toList())
+                        );
+            }
+            then(courseTitleIndex).should(times(5)).search(anyString());
+        }
+
+        @Test
+        @DisplayName("제목 검색 인덱스를 사용할 수 없으면 LIKE 검색을 사용한다.")
+        void fallbackToLikeSearch() {
+            // given
+            given(courseTitleIndex.search(anyString())).willReturn(Optional.empty());
+            CourseCondition courseCondition = new CourseCondition("3", 37.555, 126.972);
+
+            // when
+            SliceResponse<CourseListResponse> courseList = courseQueryService.getCourseList(1L, courseCondition, PageRequest.of(0, 50));
+
+            // then
+            assertThat(courseList.getContents()).isNotEmpty();
+            assertThat(courseList.getContents())
+                    .allMatch(courseListResponse -> courseListResponse.getTitle().contains("3"));
+        }
+    }
+
     @Nested
     @DisplayName("현재 사용자가 등록한 코스 리스트 조회")
     class getMyRegisteredCourseList {
@@ -374,6 +629,7 @@ class CourseQueryServiceTest extends AbstractQueryServiceTest {
                         )
                         .build();
                 courseRepository.save(course);
+                courseSearchProjector.project(course.getId());
             }
 
             // mocking
@@ -433,6 +689,7 @@ class CourseQueryServiceTest extends AbstractQueryServiceTest {
                         )
                         .build();
                 courseRepository.save(course);
+                courseSearchProjector.project(course.getId());
             }
 
             // mocking
@@ -485,7 +742,7 @@ class CourseQueryServiceTest extends AbstractQueryServiceTest {
             mockUserDetailsMap();
 
             // when
-            SliceResponse<MyPageCourseListResponse> myRegisteredCourseList = courseQueryService.getMyLikedCourseList(userId, PageRequest.of(0, 10));
+            SliceResponse<MyPageCourseListResponse> myRegisteredCourseList = courseQueryService.getMyLikedCourseList(userId, null, PageRequest.of(0, 10));
 
             // then
             log.info("content\n============");
@@ -509,4 +766,85 @@ class CourseQueryServiceTest extends AbstractQueryServiceTest {
                     .isTrue();
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("커서 기반 코스 리스트 조회")
+    class cursorPaging {
+
+        @Test
+        @DisplayName("nextCursor 로 끝까지 조회한 결과는 한번에 조회한 결과와 순서까지 같다.")
+        void courseListByCursor() {
+            // given
+            Long userId = 5L;
+            List<Long> expected = courseQueryService.getCourseList(userId, new CourseCondition(null, null, null), PageRequest.of(0, 1000))
+                    .getContents().stream()
+                    .map(CourseListResponse::getCourseId)
+                    .collect(Collectors.toList());
+
+            // when
+            List<Long> result = new ArrayList<>();
+            String cursor = "";
+            do {
+                SliceResponse<CourseListResponse> slice = courseQueryService.getCourseList(
+                        userId, new CourseCondition(null, null, null, cursor), PageRequest.of(3, 3)
+                );
+                slice.getContents().forEach(content -> result.add(content.getCourseId()));
+                assertThat(slice.getCurrentSlice()).isZero();
+                assertThat(Objects.isNull(slice.getNextCursor())).isEqualTo(!slice.isHasNext());
+                cursor = slice.getNextCursor();
+            } while (Objects.nonNull(cursor));
+
+            // then
+            assertThat(expected).isNotEmpty();
+            assertThat(result).containsExactlyElementsOf(expected);
+        }
+
+        @Test
+        @DisplayName("좋아요한 코스 리스트도 nextCursor 로 끝까지 조회하면 한번에 조회한 결과와 같다.")
+        void likedCourseListByCursor() {
+            // given
+            Long userId = 5L;
+            List<Long> expected = courseQueryService.getMyLikedCourseList(userId, null, PageRequest.of(0, 1000))
+                    .getContents().stream()
+                    .map(MyPageCourseListResponse::getCourseId)
+                    .collect(Collectors.toList());
+
+            // when
+            List<Long> result = new ArrayList<>();
+            String cursor = "";
+            do {
+                SliceResponse<MyPageCourseListResponse> slice = courseQueryService.getMyLikedCourseList(
+                        userId, cursor, PageRequest.of(0, 2)
+                );
+                slice.getContents().forEach(content -> result.add(content.getCourseId()));
+                cursor = slice.getNextCursor();
+            } while (Objects.nonNull(cursor));
+
+            // then
+            assertThat(result).containsExactlyElementsOf(expected);
+        }
+
+        @Test
+        @DisplayName("페이지 번호로 조회하면 nextCursor 는 null 이다.")
+        void offsetPagingHasNoCursor() {
+            // when
+            SliceResponse<CourseListResponse> slice = courseQueryService.getCourseList(
+                    5L, new CourseCondition(null, null, null), PageRequest.of(0, 1)
+            );
+
+            // then
+            assertThat(slice.isHasNext()).isTrue();
+            assertThat(slice.getNextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("형식이 맞지 않는 커서가 들어오면 CustomException 발생한다.")
+        void invalidCursor() {
+            // when, then
+            assertThatThrownBy(() -> new CourseCondition(null, null, null, "invalid-cursor"))
+                    .isInstanceOf(CustomException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.comeon.courseservice.web.course.query.cache;
+
+import com.comeon.courseservice.domain.course.entity.Course;
+import com.comeon.courseservice.domain.course.entity.CourseImage;
+import com.comeon.courseservice.domain.course.event.CourseChangedEvent;
+import com.comeon.courseservice.domain.courselike.event.CourseLikeChangedEvent;
+import com.comeon.courseservice.web.course.response.CourseDetailResponse;
+import com.comeon.courseservice.web.course.response.UserDetailInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CourseDetailCacheTest {
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    CourseDetailCache courseDetailCache = new CourseDetailCache(100, Duration.ofMinutes(1), meterRegistry);
+
+    AtomicInteger loadCount = new AtomicInteger();
+
+    private CourseDetailResponse load(Long courseId, String writerNickname) {
+        loadCount.incrementAndGet();
+        Course course = Course.builder()
+                .userId(1L)
+                .title("title" + courseId)
+                .description("description")
+                .courseImage(
+                        CourseImage.builder()
+                                .originalName("originalName")
+                                .storedName("storedName")
+                                .build()
+                )
+                .build();
+        return new CourseDetailResponse(course, new UserDetailInfo(1L, writerNickname), "imageUrl", null);
+    }
+
+    @Test
+    @DisplayName("저장된 코스는 다시 읽지 않고, 적중률을 기록한다.")
+    void hit() {
+        // given
+        courseDetailCache.get(1L, courseId -> load(courseId, "nickname"));
+
+        // when
+        CourseDetailResponse cached = courseDetailCache.get(1L, courseId -> load(courseId, "nickname"));
+
+        // then
+        assertThat(cached.getTitle()).isEqualTo("title1");
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("course.detail-cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("코스나 좋아요 수가 변경되면 다시 읽는다.")
+    void evictOnChange() {
+        // given
+        courseDetailCache.get(1L, courseId -> load(courseId, "nickname"));
+
+        // when
+        courseDetailCache.onCourseChanged(CourseChangedEvent.removed(1L));
+        courseDetailCache.get(1L, courseId -> load(courseId, "nickname"));
+        courseDetailCache.onCourseLikeChanged(new CourseLikeChangedEvent(1L, 1L, 1));
+        courseDetailCache.get(1L, courseId -> load(courseId, "nickname"));
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("읽는 중에 변경된 코스는 저장하지 않는다.")
+    void evictWhileLoading() {
+        // given
+        courseDetailCache.get(1L, courseId -> {
+            CourseDetailResponse loaded = load(courseId, "nickname");
+            courseDetailCache.evict(courseId);
+            return loaded;
+        });
+
+        // when
+        courseDetailCache.get(1L, courseId -> load(courseId, "nickname"));
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("작성자 닉네임을 가져오지 못한 코스는 저장하지 않는다.")
+    void skipWithoutWriterNickname() {
+        // given
+        courseDetailCache.get(1L, courseId -> load(courseId, null));
+
+        // when
+        courseDetailCache.get(1L, courseId -> load(courseId, "nickname"));
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,66 @@
+package com.comeon.courseservice.web.course.query.cache;
+
+import com.comeon.courseservice.domain.course.event.CourseChangedEvent;
+import com.comeon.courseservice.web.common.response.SliceResponse;
+import com.comeon.courseservice.web.course.query.repository.cond.CourseCondition;
+import com.comeon.courseservice.web.course.query.repository.cond.CourseListCursor;
+import com.comeon.courseservice.web.course.response.CourseListResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CourseListCacheTest {
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    CourseListCache courseListCache = new CourseListCache(100, Duration.ofMinutes(1), meterRegistry);
+
+    AtomicInteger loadCount = new AtomicInteger();
+
+    private SliceResponse<CourseListResponse> load(CourseListCache.Key key) {
+        loadCount.incrementAndGet();
+        return SliceResponse.toSliceResponse(new SliceImpl<>(new ArrayList<>(), PageRequest.of(0, key.getPageSize()), false));
+    }
+
+    @Test
+    @DisplayName("제목 검색 조건과 좌표가 없는 첫 페이지만 저장한다.")
+    void keyOf() {
+        String cursor = new CourseListCursor(1.0, 1, LocalDateTime.now(), 1L).encode();
+
+        assertThat(courseListCache.keyOf(new CourseCondition(null, null, null), PageRequest.of(0, 10))).isPresent();
+        assertThat(courseListCache.keyOf(new CourseCondition(null, null, null, ""), PageRequest.of(0, 10))).isPresent();
+
+        assertThat(courseListCache.keyOf(new CourseCondition("title", null, null), PageRequest.of(0, 10))).isEmpty();
+        assertThat(courseListCache.keyOf(new CourseCondition(null, null, null), PageRequest.of(1, 10))).isEmpty();
+        assertThat(courseListCache.keyOf(new CourseCondition(null, null, null, cursor), PageRequest.of(0, 10))).isEmpty();
+        assertThat(courseListCache.keyOf(new CourseCondition(null, 37.55, 126.97), PageRequest.of(0, 10))).isEmpty();
+        assertThat(courseListCache.keyOf(new CourseCondition(null, 37.55, 126.97, ""), PageRequest.of(0, 10))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("저장된 첫 페이지는 다시 만들지 않고, 적중률과 줄인 DB 조회 수를 기록한다. 코스가 변경되면 모두 지운다.")
+    void hitAndInvalidate() {
+        // given
+        CourseListCache.Key key = courseListCache.keyOf(new CourseCondition(null, null, null), PageRequest.of(0, 10)).orElseThrow();
+        courseListCache.get(key, this::load);
+
+        // when
+        courseListCache.get(key, this::load);
+        courseListCache.get(key, this::load);
+        courseListCache.onCourseChanged(CourseChangedEvent.removed(1L));
+        courseListCache.get(key, this::load);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+        assertThat(meterRegistry.get("course.list-cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+        assertThat(meterRegistry.get("course.list-cache.lookups").tag("result", "hit").counter().count()).isEqualTo(2);
+    }
+}
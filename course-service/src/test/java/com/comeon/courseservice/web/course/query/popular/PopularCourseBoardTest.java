@@ -0,0 +1,83 @@
+package com.comeon.courseservice.web.course.query.popular;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PopularCourseBoardTest {
+
+    static final long TODAY = 19000;
+
+    PopularCourseBoard board = new PopularCourseBoard(7, 100, 4, 1024, TODAY);
+
+    private static List<Long> ids(List<PopularCourseBoard.PopularCourse> popularCourses) {
+        return popularCourses.stream()
+                .map(PopularCourseBoard.PopularCourse::getCourseId)
+                .collect(Collectors.toList());
+    }
+
+    private void like(long courseId, int count, long day) {
+        for (int i = 0; i < count; i++) {
+            board.addLike(courseId, 1, day);
+        }
+    }
+
+    @Test
+    @DisplayName("주변 인기 코스는 반경이 걸치는 지역들의 목록을 합쳐서 정렬하고, 전체 인기 코스는 모든 지역을 포함한다.")
+    void popularNear() {
+        // given : 1, 2 는 서울, 3 은 1도 격자 경계 건너편의 경기도, 4 는 부산
+        board.putCourse(1, 37.55, 126.97);
+        board.putCourse(2, 37.56, 126.98);
+        board.putCourse(3, 37.55, 127.01);
+        board.putCourse(4, 35.17, 129.07);
+        like(1, 1, TODAY);
+        like(2, 2, TODAY);
+        like(3, 3, TODAY - 1);
+        like(4, 5, TODAY);
+
+        // when, then
+        assertThat(ids(board.popularNear(37.55, 126.99, 30, 10))).containsExactly(3L, 2L, 1L);
+        assertThat(ids(board.popularNear(37.55, 126.99, 30, 2))).containsExactly(3L, 2L);
+        assertThat(ids(board.popular(10))).containsExactly(4L, 3L, 2L, 1L);
+        assertThat(board.popular(10).get(0).getLikeCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("날짜가 바뀌면 창에서 빠진 날짜의 좋아요가 빠진다.")
+    void advance() {
+        // given
+        board.putCourse(1, 37.55, 126.97);
+        board.putCourse(2, 37.56, 126.98);
+        like(1, 3, TODAY - 6);
+        like(2, 1, TODAY);
+
+        // when
+        board.advanceTo(TODAY + 1);
+
+        // then
+        assertThat(ids(board.popular(10))).containsExactly(2L);
+        assertThat(ids(board.popularNear(37.55, 126.97, 30, 10))).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("검색 대상이 아닌 코스의 좋아요는 무시하고, 검색 대상에서 빠진 코스는 목록에서 제거한다.")
+    void removeCourse() {
+        // given
+        board.putCourse(1, 37.55, 126.97);
+        board.putCourse(2, 37.56, 126.98);
+        like(1, 2, TODAY);
+        like(2, 1, TODAY);
+        like(3, 5, TODAY);
+
+        // when
+        board.removeCourse(1);
+
+        // then
+        assertThat(ids(board.popular(10))).containsExactly(2L);
+        assertThat(ids(board.popularNear(37.55, 126.97, 30, 10))).containsExactly(2L);
+    }
+}
@@ -0,0 +1,161 @@
+package com.comeon.courseservice.web.course.query.popular;
+
+import com.comeon.courseservice.domain.course.entity.CourseStatus;
+import com.comeon.courseservice.domain.course.event.CourseChangedEvent;
+import com.comeon.courseservice.domain.courselike.event.CourseLikeChangedEvent;
+import com.comeon.courseservice.web.course.query.repository.CourseLikeQueryRepository;
+import com.comeon.courseservice.web.course.query.repository.CourseQueryRepository;
+import com.comeon.courseservice.web.course.query.repository.dto.CourseLikeDateData;
+import com.comeon.courseservice.web.course.query.repository.dto.CourseLocationData;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+
+class PopularCourseTrackerTest {
+
+    static final int BATCH_SIZE = 100;
+
+    CourseQueryRepository courseQueryRepository = mock(CourseQueryRepository.class);
+    CourseLikeQueryRepository courseLikeQueryRepository = mock(CourseLikeQueryRepository.class);
+
+    PopularCourseTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new PopularCourseTracker(
+                courseQueryRepository,
+                courseLikeQueryRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                currentDay -> new PopularCourseBoard(7, 100, 4, 1024, currentDay),
+                7,
+                30,
+                BATCH_SIZE,
+                new SimpleMeterRegistry()
+        );
+    }
+
+    void givenCourses(long... courseIds) {
+        given(courseQueryRepository.findCourseLocationsAfter(eq(0L), anyInt())).willReturn(
+                Arrays.stream(courseIds)
+                        .mapToObj(courseId -> new CourseLocationData(courseId, CourseStatus.COMPLETE, 37.55, 126.97))
+                        .collect(Collectors.toList())
+        );
+    }
+
+    void givenLikes(CourseLikeDateData... likes) {
+        given(courseLikeQueryRepository.findFirstCourseLikeIdCreatedSince(any())).willReturn(likes[0].getCourseLikeId());
+        given(courseLikeQueryRepository.findCourseLikeDatesAfter(eq(likes[0].getCourseLikeId() - 1), anyInt()))
+                .willReturn(List.of(likes));
+    }
+
+    // 좋아요마다 다른 유저가 등록한 것으로, 유저 식별값은 좋아요 식별값과 같게 한다.
+    CourseLikeDateData like(long courseLikeId, long courseId) {
+        return new CourseLikeDateData(courseLikeId, courseId, courseLikeId, LocalDateTime.now());
+    }
+
+    List<PopularCourseBoard.PopularCourse> popular() {
+        return tracker.popular(null, null, 10).orElseThrow();
+    }
+
+    List<Long> popularIds() {
+        return popular().stream()
+                .map(PopularCourseBoard.PopularCourse::getCourseId)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("DB 에서 읽은 코스와 창 안의 좋아요로 인기 코스 목록을 만든다.")
+    void reload() {
+        // given
+        givenCourses(1L, 2L);
+        givenLikes(like(10L, 1L), like(11L, 2L), like(12L, 2L));
+
+        // when
+        tracker.reload();
+
+        // then
+        assertThat(tracker.isReady()).isTrue();
+        assertThat(popularIds()).containsExactly(2L, 1L);
+        assertThat(tracker.popular(37.55, 126.97, 10).orElseThrow()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("만드는 중에 들어온 좋아요 이벤트는 읽은 결과에 없는 등록, 읽은 결과에 있는 취소만 새 목록에 반영한다.")
+    void replay() {
+        // given
+        givenCourses(1L);
+        given(courseLikeQueryRepository.findFirstCourseLikeIdCreatedSince(any())).willReturn(10L);
+        willAnswer(invocation -> {
+            // 유저 11, 12 의 좋아요는 커밋된 뒤에 읽혔고, 만들기 전에 등록된 유저 13 의 좋아요는 읽히기 전에 취소되었다.
+            tracker.onCourseLikeChanged(new CourseLikeChangedEvent(1L, 11L, 1));
+            tracker.onCourseLikeChanged(new CourseLikeChangedEvent(1L, 12L, 1));
+            tracker.onCourseLikeChanged(new CourseLikeChangedEvent(1L, 13L, -1));
+            // 유저 14 의 좋아요는 읽은 뒤에 커밋되었다.
+            tracker.onCourseLikeChanged(new CourseLikeChangedEvent(1L, 14L, 1));
+            return List.of(like(10L, 1L), like(11L, 1L), like(12L, 1L));
+        }).given(courseLikeQueryRepository).findCourseLikeDatesAfter(eq(9L), anyInt());
+
+        // when
+        tracker.reload();
+
+        // then
+        assertThat(popular().get(0).getLikeCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("새로 만든 목록으로 바꾸고, 이후의 이벤트는 바뀐 목록에 반영한다.")
+    void swap() {
+        // given
+        givenCourses(1L);
+        givenLikes(like(10L, 1L));
+        tracker.reload();
+        givenCourses(2L, 3L);
+        givenLikes(like(20L, 2L), like(21L, 3L), like(22L, 3L));
+
+        // when
+        tracker.reload();
+        tracker.onCourseChanged(CourseChangedEvent.removed(3L));
+        tracker.onCourseLikeChanged(new CourseLikeChangedEvent(2L, 23L, 1));
+
+        // then
+        assertThat(popularIds()).containsExactly(2L);
+        assertThat(popular().get(0).getLikeCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("준비되기 전에는 비어있는 값을 반환하고, 다시 만드는 데 실패하면 이전 목록을 계속 사용한다.")
+    void fallback() {
+        // given
+        assertThat(tracker.isReady()).isFalse();
+        assertThat(tracker.popular(null, null, 10)).isEmpty();
+
+        givenCourses(1L);
+        givenLikes(like(10L, 1L));
+        tracker.reload();
+        given(courseQueryRepository.findCourseLocationsAfter(eq(0L), anyInt()))
+                .willThrow(new IllegalStateException("db down"));
+
+        // when
+        tracker.reload();
+
+        // then
+        assertThat(tracker.isReady()).isTrue();
+        assertThat(popularIds()).containsExactly(1L);
+    }
+}
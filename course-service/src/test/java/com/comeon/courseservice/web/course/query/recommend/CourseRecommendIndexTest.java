@@ -0,0 +1,181 @@
+package com.comeon.courseservice.web.course.query.recommend;
+
+import com.comeon.courseservice.common.geo.SpatialGridIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CourseRecommendIndexTest {
+
+    static final long NOW = Duration.ofDays(20000).toMillis();
+    static final double RADIUS_KM = 20;
+
+    RecommendScorer scorer = new RecommendScorer(0.5, 0.3, 0.2, 5, Duration.ofDays(7), 10, Duration.ofDays(30));
+
+    private CourseRecommendIndex createIndex(int rankingSize) {
+        return new CourseRecommendIndex(scorer, 0.05, RADIUS_KM, 10000, rankingSize, 1000);
+    }
+
+    private RecommendCandidate candidate(long courseId, double lat, double lng, long updatedDaysAgo, double decayedLikes) {
+        return new RecommendCandidate(courseId, lat, lng, NOW - Duration.ofDays(updatedDaysAgo).toMillis(),
+                decayedLikes, (int) Math.ceil(decayedLikes), NOW);
+    }
+
+    private static List<Long> ids(List<CourseRecommendIndex.Recommendation> recommendations) {
+        return recommendations.stream()
+                .map(CourseRecommendIndex.Recommendation::getCourseId)
+                .collect(Collectors.toList());
+    }
+
+    @Nested
+    @DisplayName("추천")
+    class recommend {
+
+        @Test
+        @DisplayName("격자 중심에서는 반경 이내의 모든 코스의 점수를 계산해서 정렬한 결과와 같다.")
+        void sameAsBruteForce() {
+            CourseRecommendIndex index = createIndex(50);
+            Random random = new Random(42);
+            List<RecommendCandidate> candidates = new ArrayList<>();
+            for (long courseId = 1; courseId <= 2000; courseId++) {
+                RecommendCandidate candidate = candidate(courseId,
+                        37.3 + random.nextDouble() * 0.5, 126.8 + random.nextDouble() * 0.5,
+                        random.nextInt(90), random.nextDouble() * 30);
+                candidates.add(candidate);
+                index.load(candidate);
+            }
+            index.rankOccupiedTiles(ForkJoinPool.commonPool(), NOW);
+
+            // 격자 중심 좌표
+            double[][] centers = {{37.525, 126.975}, {37.425, 127.025}, {37.725, 126.825}};
+            for (double[] center : centers) {
+                List<Long> expected = candidates.stream()
+                        .filter(candidate -> distanceKm(center, candidate) <= RADIUS_KM)
+                        .sorted(Comparator.comparingDouble(
+                                (RecommendCandidate candidate) -> scorer.score(distanceKm(center, candidate), candidate, NOW)
+                        ).reversed())
+                        .limit(20)
+                        .map(RecommendCandidate::getCourseId)
+                        .collect(Collectors.toList());
+
+                assertThat(ids(index.recommend(center[0], center[1], 20, NOW))).isEqualTo(expected);
+            }
+        }
+
+        @Test
+        @DisplayName("코스가 없는 격자는 처음 조회할 때 계산해서 저장한다.")
+        void rankOnDemand() {
+            CourseRecommendIndex index = createIndex(50);
+            index.load(candidate(1, 37.55, 126.97, 1, 0));
+            index.rankOccupiedTiles(ForkJoinPool.commonPool(), NOW);
+            assertThat(index.tileCount()).isEqualTo(1);
+
+            assertThat(ids(index.recommend(37.6, 127.05, 10, NOW))).containsExactly(1L);
+            assertThat(index.tileCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("반경 밖의 코스는 추천하지 않는다.")
+        void outOfRadius() {
+            CourseRecommendIndex index = createIndex(50);
+            index.load(candidate(1, 37.55, 126.97, 1, 0));
+            index.load(candidate(2, 35.17, 129.07, 1, 100));
+            index.rankOccupiedTiles(ForkJoinPool.commonPool(), NOW);
+
+            assertThat(ids(index.recommend(37.55, 126.97, 10, NOW))).containsExactly(1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("변경 반영")
+    class update {
+
+        @Test
+        @DisplayName("좋아요가 늘어난 코스의 점수만 다시 계산해서 순서를 바꾼다.")
+        void updateLikes() {
+            CourseRecommendIndex index = createIndex(50);
+            index.load(candidate(1, 37.55, 126.97, 1, 1));
+            index.load(candidate(2, 37.55, 126.97, 1, 0));
+            index.rankOccupiedTiles(ForkJoinPool.commonPool(), NOW);
+            assertThat(ids(index.recommend(37.55, 126.97, 10, NOW))).containsExactly(1L, 2L);
+
+            index.updateLikes(2, 1, NOW);
+            index.updateLikes(2, 1, NOW);
+
+            assertThat(ids(index.recommend(37.55, 126.97, 10, NOW))).containsExactly(2L, 1L);
+            assertThat(index.get(2).getLikeCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("좌표가 바뀐 코스는 이전 위치의 격자에서 빠지고 새 위치의 격자에 들어간다.")
+        void move() {
+            CourseRecommendIndex index = createIndex(50);
+            index.load(candidate(1, 37.55, 126.97, 1, 0));
+            index.load(candidate(2, 35.17, 129.07, 1, 0));
+            index.rankOccupiedTiles(ForkJoinPool.commonPool(), NOW);
+
+            index.update(index.get(1).withLocation(35.18, 129.08, NOW), NOW);
+
+            assertThat(ids(index.recommend(37.55, 126.97, 10, NOW))).isEmpty();
+            assertThat(ids(index.recommend(35.17, 129.07, 10, NOW))).containsExactlyInAnyOrder(1L, 2L);
+        }
+
+        @Test
+        @DisplayName("삭제되거나 검색 대상이 아닌 코스는 추천하지 않는다.")
+        void remove() {
+            CourseRecommendIndex index = createIndex(50);
+            index.load(candidate(1, 37.55, 126.97, 1, 0));
+            index.load(candidate(2, 37.56, 126.98, 1, 0));
+            index.rankOccupiedTiles(ForkJoinPool.commonPool(), NOW);
+
+            index.remove(1);
+
+            assertThat(ids(index.recommend(37.55, 126.97, 10, NOW))).containsExactly(2L);
+            assertThat(index.size()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("격자 후보 목록")
+    class tileRanking {
+
+        @Test
+        @DisplayName("점수 내림차순을 유지하고, 최대 개수를 넘으면 점수가 낮은 코스가 빠진다.")
+        void upsert() {
+            TileRanking ranking = TileRanking.ofSorted(new long[]{1, 2, 3}, new double[]{0.9, 0.5, 0.1});
+
+            TileRanking upserted = ranking.upsert(4, 0.7, 3);
+            assertThat(courseIds(upserted)).containsExactly(1L, 4L, 2L);
+
+            TileRanking moved = upserted.upsert(1, 0.6, 3);
+            assertThat(courseIds(moved)).containsExactly(4L, 1L, 2L);
+
+            assertThat(moved.upsert(5, 0.05, 3)).isSameAs(moved);
+            assertThat(courseIds(moved.upsert(2, 0.01, 3))).containsExactly(4L, 1L, 2L);
+            assertThat(courseIds(moved.remove(1))).containsExactly(4L, 2L);
+            assertThat(courseIds(ranking)).containsExactly(1L, 2L, 3L);
+        }
+
+        private List<Long> courseIds(TileRanking ranking) {
+            List<Long> courseIds = new ArrayList<>();
+            for (int i = 0; i < ranking.size(); i++) {
+                courseIds.add(ranking.courseIdAt(i));
+            }
+            return courseIds;
+        }
+    }
+
+    private static double distanceKm(double[] center, RecommendCandidate candidate) {
+        return SpatialGridIndex.distanceKm(center[0], center[1], candidate.getLat(), candidate.getLng());
+    }
+}
@@ -0,0 +1,197 @@
+package com.comeon.courseservice.web.course.query.recommend;
+
+import com.comeon.courseservice.domain.course.event.CourseChangedEvent;
+import com.comeon.courseservice.domain.courselike.event.CourseLikeChangedEvent;
+import com.comeon.courseservice.web.course.query.repository.CourseLikeQueryRepository;
+import com.comeon.courseservice.web.course.query.repository.CourseQueryRepository;
+import com.comeon.courseservice.web.course.query.repository.dto.CourseLikeDateData;
+import com.comeon.courseservice.web.course.query.repository.dto.CourseRecommendData;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+
+class CourseRecommenderTest {
+
+    static final int BATCH_SIZE = 100;
+    static final double LAT = 37.555;
+    static final double LNG = 126.972;
+
+    CourseQueryRepository courseQueryRepository = mock(CourseQueryRepository.class);
+    CourseLikeQueryRepository courseLikeQueryRepository = mock(CourseLikeQueryRepository.class);
+
+    RecommendScorer scorer = new RecommendScorer(0.5, 0.3, 0.2, 5, Duration.ofDays(7), 10, Duration.ofDays(30));
+
+    // 만들어진 인덱스들
+    List<CourseRecommendIndex> indexes = new ArrayList<>();
+
+    CourseRecommender recommender;
+
+    @BeforeEach
+    void setUp() {
+        recommender = new CourseRecommender(
+                courseQueryRepository,
+                courseLikeQueryRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                scorer,
+                () -> {
+                    CourseRecommendIndex index = new CourseRecommendIndex(scorer, 0.05, 20, 1000, 100, 1000);
+                    indexes.add(index);
+                    return index;
+                },
+                Duration.ofDays(7),
+                BATCH_SIZE,
+                1,
+                new SimpleMeterRegistry()
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        recommender.close();
+    }
+
+    void givenCourses(CourseRecommendData... courses) {
+        given(courseQueryRepository.findCourseRecommendDataAfter(eq(0L), anyInt())).willReturn(List.of(courses));
+    }
+
+    void givenLikes(CourseLikeDateData... likes) {
+        given(courseLikeQueryRepository.findFirstCourseLikeIdCreatedSince(any())).willReturn(likes[0].getCourseLikeId());
+        given(courseLikeQueryRepository.findCourseLikeDatesAfter(eq(likes[0].getCourseLikeId() - 1), anyInt()))
+                .willReturn(List.of(likes));
+    }
+
+    CourseRecommendData course(long courseId, int likeCount) {
+        return new CourseRecommendData(courseId, LAT, LNG, likeCount, LocalDateTime.now());
+    }
+
+    // 좋아요마다 다른 유저가 등록한 것으로, 유저 식별값은 좋아요 식별값과 같게 한다.
+    CourseLikeDateData like(long courseLikeId, long courseId) {
+        return new CourseLikeDateData(courseLikeId, courseId, courseLikeId, LocalDateTime.now());
+    }
+
+    List<Long> recommendedIds() {
+        return recommender.recommend(LAT, LNG, 10).orElseThrow().stream()
+                .map(CourseRecommendIndex.Recommendation::getCourseId)
+                .collect(Collectors.toList());
+    }
+
+    RecommendCandidate lastBuilt(long courseId) {
+        return indexes.get(indexes.size() - 1).get(courseId);
+    }
+
+    @Test
+    @DisplayName("DB 에서 읽은 코스와 좋아요로 인덱스를 만든다.")
+    void rebuild() {
+        // given
+        givenCourses(course(1L, 2), course(2L, 0));
+        givenLikes(like(10L, 1L), like(11L, 1L));
+
+        // when
+        recommender.rebuild();
+
+        // then
+        assertThat(recommender.isReady()).isTrue();
+        assertThat(recommendedIds()).containsExactly(1L, 2L);
+        assertThat(scorer.decayedLikesAt(lastBuilt(1L), System.currentTimeMillis())).isCloseTo(2, within(0.01));
+    }
+
+    @Test
+    @DisplayName("만드는 중에 들어온 좋아요 이벤트는 읽은 결과에 없는 등록, 읽은 결과에 있는 취소만 새 인덱스에 반영한다.")
+    void replay() {
+        // given
+        givenCourses(course(1L, 2));
+        given(courseLikeQueryRepository.findFirstCourseLikeIdCreatedSince(any())).willReturn(10L);
+        willAnswer(invocation -> {
+            // 유저 11, 12 의 좋아요는 커밋된 뒤에 읽혔고, 만들기 전에 등록된 유저 13 의 좋아요는 읽히기 전에 취소되었다.
+            recommender.onCourseLikeChanged(new CourseLikeChangedEvent(1L, 11L, 1));
+            recommender.onCourseLikeChanged(new CourseLikeChangedEvent(1L, 12L, 1));
+            recommender.onCourseLikeChanged(new CourseLikeChangedEvent(1L, 13L, -1));
+            // 유저 14 의 좋아요는 읽은 뒤에 커밋되었다.
+            recommender.onCourseLikeChanged(new CourseLikeChangedEvent(1L, 14L, 1));
+            return List.of(like(10L, 1L), like(11L, 1L), like(12L, 1L));
+        }).given(courseLikeQueryRepository).findCourseLikeDatesAfter(eq(9L), anyInt());
+
+        // when
+        recommender.rebuild();
+
+        // then
+        assertThat(scorer.decayedLikesAt(lastBuilt(1L), System.currentTimeMillis())).isCloseTo(4, within(0.01));
+        assertThat(lastBuilt(1L).getLikeCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("만드는 중에 읽은 결과에 없는 유저가 좋아요를 등록했다가 취소하면, 등록과 취소를 모두 새 인덱스에 반영한다.")
+    void replayLikeThenUnlike() {
+        // given
+        givenCourses(course(1L, 1));
+        given(courseLikeQueryRepository.findFirstCourseLikeIdCreatedSince(any())).willReturn(10L);
+        willAnswer(invocation -> {
+            // 유저 20 의 좋아요는 읽은 뒤에 등록되고 취소되었다.
+            recommender.onCourseLikeChanged(new CourseLikeChangedEvent(1L, 20L, 1));
+            recommender.onCourseLikeChanged(new CourseLikeChangedEvent(1L, 20L, -1));
+            return List.of(like(10L, 1L));
+        }).given(courseLikeQueryRepository).findCourseLikeDatesAfter(eq(9L), anyInt());
+
+        // when
+        recommender.rebuild();
+
+        // then
+        assertThat(lastBuilt(1L).getLikeCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("새로 만든 인덱스로 바꾸고, 이후의 이벤트는 바뀐 인덱스에 반영한다.")
+    void swap() {
+        // given
+        givenCourses(course(1L, 0));
+        recommender.rebuild();
+        givenCourses(course(2L, 0), course(3L, 0));
+
+        // when
+        recommender.rebuild();
+        recommender.onCourseChanged(CourseChangedEvent.removed(3L));
+
+        // then
+        assertThat(indexes).hasSize(2);
+        assertThat(recommendedIds()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("준비되기 전에는 비어있는 값을 반환하고, 다시 만드는 데 실패하면 이전 인덱스를 계속 사용한다.")
+    void fallback() {
+        // given
+        assertThat(recommender.isReady()).isFalse();
+        assertThat(recommender.recommend(LAT, LNG, 10)).isEmpty();
+
+        givenCourses(course(1L, 0));
+        recommender.rebuild();
+        given(courseQueryRepository.findCourseRecommendDataAfter(eq(0L), anyInt()))
+                .willThrow(new IllegalStateException("db down"));
+
+        // when
+        recommender.rebuild();
+
+        // then
+        assertThat(recommender.isReady()).isTrue();
+        assertThat(recommendedIds()).containsExactly(1L);
+    }
+}
@@ -0,0 +1,214 @@
+package com.comeon.courseservice.web.courseplace.command;
+
+import com.comeon.courseservice.domain.course.entity.Course;
+import com.comeon.courseservice.domain.course.entity.CourseImage;
+import com.comeon.courseservice.domain.course.entity.CourseStatus;
+import com.comeon.courseservice.domain.course.repository.CourseRepository;
+import com.comeon.courseservice.domain.courseplace.entity.CoursePlace;
+import com.comeon.courseservice.domain.courseplace.entity.CoursePlaceCategory;
+import com.comeon.courseservice.domain.courseplace.service.CoursePlaceService;
+import com.comeon.courseservice.domain.courseplace.service.dto.CoursePlaceDto;
+import com.comeon.courseservice.web.common.exception.ValidateException;
+import com.comeon.courseservice.web.courseplace.response.CoursePlaceAddResponse;
+import com.comeon.courseservice.web.courseplace.response.CoursePlaceDeleteResponse;
+import com.comeon.courseservice.web.courseplace.response.CoursePlaceDetails;
+import com.comeon.courseservice.web.courseplace.response.CoursePlaceModifyResponse;
+import com.comeon.courseservice.web.courseplace.response.CoursePlacesBatchUpdateResponse;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/*
+    코스 장소 변경 요청 하나가 코스와 장소들을 한 번만 조회하는지 확인한다.
+    변경 내용을 반영하는 INSERT, UPDATE, DELETE 는 세지 않고, 실행된 SELECT 문만 센다.
+ */
+@ActiveProfiles("test")
+@Import({
+        CoursePlaceService.class,
+        CoursePlaceCommandService.class
+})
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+        "com.comeon.courseservice.web.courseplace.command.CoursePlaceCommandServiceTest$SelectCounter")
+class CoursePlaceCommandServiceTest {
+
+    static final int PLACE_COUNT = 3;
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    CourseRepository courseRepository;
+
+    @Autowired
+    CoursePlaceCommandService coursePlaceCommandService;
+
+    Long userId = 1L;
+    Long courseId;
+    List<Long> coursePlaceIds;
+
+    @BeforeEach
+    void initCourse() {
+        Course course = Course.builder()
+                .userId(userId)
+                .title("courseTitle")
+                .description("courseDescription")
+                .courseImage(
+                        CourseImage.builder()
+                                .originalName("originalFileName")
+                                .storedName("storedFileName")
+                                .build()
+                )
+                .build();
+        for (int order = 1; order <= PLACE_COUNT; order++) {
+            createPlaceDto(order).toEntity(course);
+        }
+        course.updateCourseState();
+        courseRepository.save(course);
+        em.flush();
+        em.clear();
+
+        courseId = course.getId();
+        coursePlaceIds = course.getCoursePlaces().stream()
+                .map(CoursePlace::getId)
+                .collect(Collectors.toList());
+        SelectCounter.reset();
+    }
+
+    @Test
+    @DisplayName("장소 리스트 등록/수정/삭제 요청은 코스를 한 번만 조회한다.")
+    void batchUpdateCoursePlaceReadsOnce() {
+        // given
+        List<CoursePlaceDto> dtosToSave = List.of(createPlaceDto(2));
+        List<CoursePlaceDto> dtosToModify = List.of(
+                CoursePlaceDto.modifyBuilder()
+                        .coursePlaceId(coursePlaceIds.get(1))
+                        .order(1)
+                        .build()
+        );
+        List<Long> coursePlaceIdsToDelete = List.of(coursePlaceIds.get(0));
+
+        // when
+        CoursePlacesBatchUpdateResponse response = coursePlaceCommandService.batchUpdateCoursePlace(
+                courseId, userId, new ArrayList<>(dtosToSave), new ArrayList<>(dtosToModify), new ArrayList<>(coursePlaceIdsToDelete)
+        );
+        em.flush();
+
+        // then
+        assertThat(SelectCounter.count()).isEqualTo(1);
+        assertThat(response.getCourseId()).isEqualTo(courseId);
+        assertThat(response.getCourseStatus()).isEqualTo(CourseStatus.COMPLETE);
+    }
+
+    @Test
+    @DisplayName("다른 코스의 장소 식별값이 있으면 검증에 실패하고, 검증에도 코스를 한 번만 조회한다.")
+    void batchUpdateCoursePlaceValidationReadsOnce() {
+        // given
+        List<Long> coursePlaceIdsToDelete = new ArrayList<>(List.of(1000L));
+
+        // when, then
+        assertThatThrownBy(
+                () -> coursePlaceCommandService.batchUpdateCoursePlace(
+                        courseId, userId, new ArrayList<>(), new ArrayList<>(), coursePlaceIdsToDelete
+                )
+        ).isInstanceOf(ValidateException.class);
+        assertThat(SelectCounter.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("장소 등록 요청은 코스를 한 번만 조회하고, 등록한 장소가 포함된 응답을 만든다.")
+    void coursePlaceAddReadsOnce() {
+        // when
+        CoursePlaceAddResponse response = coursePlaceCommandService.coursePlaceAdd(courseId, userId, createPlaceDto(null));
+        em.flush();
+
+        // then
+        assertThat(SelectCounter.count()).isEqualTo(1);
+        assertThat(response.getCourseStatus()).isEqualTo(CourseStatus.COMPLETE);
+        assertThat(response.getCoursePlaces().stream().map(CoursePlaceDetails::getOrder))
+                .containsExactly(1, 2, 3, 4);
+    }
+
+    @Test
+    @DisplayName("장소 수정 요청은 코스를 한 번만 조회하고, 바뀐 순서대로 정렬된 응답을 만든다.")
+    void coursePlaceModifyReadsOnce() {
+        // given
+        Long targetPlaceId = coursePlaceIds.get(PLACE_COUNT - 1);
+        CoursePlaceDto coursePlaceDto = CoursePlaceDto.modifyBuilder()
+                .order(1)
+                .build();
+
+        // when
+        CoursePlaceModifyResponse response = coursePlaceCommandService.coursePlaceModify(courseId, userId, targetPlaceId, coursePlaceDto);
+        em.flush();
+
+        // then
+        assertThat(SelectCounter.count()).isEqualTo(1);
+        assertThat(response.getCoursePlaces().get(0).getId()).isEqualTo(targetPlaceId);
+        assertThat(response.getCoursePlaces().stream().map(CoursePlaceDetails::getOrder))
+                .containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @DisplayName("장소 삭제 요청은 코스를 한 번만 조회하고, 남은 장소들로 응답을 만든다.")
+    void coursePlaceRemoveReadsOnce() {
+        // when
+        CoursePlaceDeleteResponse response = coursePlaceCommandService.coursePlaceRemove(courseId, userId, coursePlaceIds.get(0));
+        em.flush();
+
+        // then
+        assertThat(SelectCounter.count()).isEqualTo(1);
+        assertThat(response.getCourseStatus()).isEqualTo(CourseStatus.COMPLETE);
+        assertThat(response.getCoursePlaces().stream().map(CoursePlaceDetails::getOrder))
+                .containsExactly(1, 2);
+    }
+
+    private CoursePlaceDto createPlaceDto(Integer order) {
+        return CoursePlaceDto.builder()
+                .name("placeName")
+                .description("placeDescription")
+                .lat(37.555945)
+                .lng(126.972331)
+                .address("address")
+                .order(order)
+                .kakaoPlaceId(12345L)
+                .placeCategory(CoursePlaceCategory.ETC)
+                .build();
+    }
+
+    // 세션이 실행하는 SELECT 문의 수를 센다. 식별값 시퀀스 테이블 조회는 세지 않는다.
+    public static class SelectCounter implements StatementInspector {
+
+        private static final AtomicInteger SELECT_COUNT = new AtomicInteger();
+
+        static void reset() {
+            SELECT_COUNT.set(0);
+        }
+
+        static int count() {
+            return SELECT_COUNT.get();
+        }
+
+        @Override
+        public String inspect(String sql) {
+            String lowerSql = sql.trim().toLowerCase();
+            if (lowerSql.startsWith("select") && !lowerSql.contains("id_sequences")) {
+                SELECT_COUNT.incrementAndGet();
+            }
+            return sql;
+        }
+    }
+}
@@ -8,17 +8,18 @@ import com.comeon.courseservice.domain.course.entity.Course;
 import com.comeon.courseservice.domain.course.entity.CourseStatus;
 import com.comeon.courseservice.domain.courseplace.entity.CoursePlace;
 import com.comeon.courseservice.domain.courseplace.entity.CoursePlaceCategory;
-import com.comeon.courseservice.domain.courseplace.service.CoursePlaceService;
 import com.comeon.courseservice.web.AbstractControllerTest;
 import com.comeon.courseservice.web.common.aop.ValidationAspect;
+import com.comeon.courseservice.web.common.exception.ValidateException;
 import com.comeon.courseservice.web.common.response.ListResponse;
-import com.comeon.courseservice.web.course.query.CourseQueryService;
+import com.comeon.courseservice.web.courseplace.command.CoursePlaceCommandService;
 import com.comeon.courseservice.web.courseplace.query.CoursePlaceQueryService;
 import com.comeon.courseservice.web.courseplace.request.*;
 import com.comeon.courseservice.web.courseplace.response.CoursePlaceAddResponse;
 import com.comeon.courseservice.web.courseplace.response.CoursePlaceDeleteResponse;
 import com.comeon.courseservice.web.courseplace.response.CoursePlaceDetails;
 import com.comeon.courseservice.web.courseplace.response.CoursePlaceModifyResponse;
+import com.comeon.courseservice.web.courseplace.response.CoursePlacesBatchUpdateResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
@@ -35,6 +36,7 @@ import org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders;
 import org.springframework.restdocs.payload.JsonFieldType;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.util.LinkedMultiValueMap;
 
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
@@ -68,14 +70,11 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 public class CoursePlaceControllerTest extends AbstractControllerTest {
 
     @MockBean
-    CoursePlaceService coursePlaceService;
+    CoursePlaceCommandService coursePlaceCommandService;
 
     @MockBean
     CoursePlaceQueryService coursePlaceQueryService;
 
-    @MockBean
-    CourseQueryService courseQueryService;
-
     @Nested
     @DisplayName("코스 장소 리스트 등록/수정/삭제")
     class coursePlaceUpdateBatch {
@@ -143,12 +142,8 @@ public class CoursePlaceControllerTest extends AbstractControllerTest {
             String accessToken = generateUserAccessToken(currentUserId);
 
             // mocking
-            given(coursePlaceQueryService.getCoursePlaceIds(courseId))
-                    .willReturn(course.getCoursePlaces().stream().map(CoursePlace::getId).collect(Collectors.toList()));
-            willDoNothing().given(coursePlaceService)
-                    .batchUpdateCoursePlace(eq(courseId), eq(currentUserId), anyList(), anyList(), anyList());
-            given(courseQueryService.getCourseStatus(courseId))
-                    .willReturn(CourseStatus.COMPLETE);
+            given(coursePlaceCommandService.batchUpdateCoursePlace(eq(courseId), eq(currentUserId), anyList(), anyList(), anyList()))
+                    .willReturn(new CoursePlacesBatchUpdateResponse(courseId, CourseStatus.COMPLETE));
 
             // when
             String path = "/courses/{courseId}/course-places/batch";
@@ -336,12 +331,8 @@ public class CoursePlaceControllerTest extends AbstractControllerTest {
             String accessToken = generateUserAccessToken(currentUserId);
 
             // mocking
-            given(coursePlaceQueryService.getCoursePlaceIds(courseId))
-                    .willReturn(course.getCoursePlaces().stream().map(CoursePlace::getId).collect(Collectors.toList()));
-            willDoNothing().given(coursePlaceService)
-                    .batchUpdateCoursePlace(eq(courseId), eq(currentUserId), anyList(), anyList(), anyList());
-            given(courseQueryService.getCourseStatus(courseId))
-                    .willReturn(CourseStatus.COMPLETE);
+            given(coursePlaceCommandService.batchUpdateCoursePlace(eq(courseId), eq(currentUserId), anyList(), anyList(), anyList()))
+                    .willReturn(new CoursePlacesBatchUpdateResponse(courseId, CourseStatus.COMPLETE));
 
             // when
             String path = "/courses/{courseId}/course-places/batch";
@@ -430,7 +421,7 @@ public class CoursePlaceControllerTest extends AbstractControllerTest {
 
             // mocking
             willThrow(new EntityNotFoundException("해당 식별자를 가진 Course가 없습니다. 요청한 Course 식별값 : " + courseId))
-                    .given(coursePlaceService)
+                    .given(coursePlaceCommandService)
                     .batchUpdateCoursePlace(eq(courseId), eq(currentUserId), anyList(), anyList(), anyList());
 
             // when
@@ -480,7 +471,7 @@ public class CoursePlaceControllerTest extends AbstractControllerTest {
 
             // mocking
             willThrow(new CustomException("해당 코스에 장소를 등록 할 권한이 없습니다. 요청한 유저 식별값 : " + userId, ErrorCode.NO_AUTHORITIES))
-                    .given(coursePlaceService)
+                    .given(coursePlaceCommandService)
                     .batchUpdateCoursePlace(eq(courseId), eq(currentUserId), anyList(), anyList(), anyList());
 
             // when
@@ -804,8 +795,11 @@ public class CoursePlaceControllerTest extends AbstractControllerTest {
             String accessToken = generateUserAccessToken(currentUserId);
 
             // mocking
-            given(coursePlaceQueryService.getCoursePlaceIds(courseId))
-                    .willReturn(course.getCoursePlaces().stream().map(CoursePlace::getId).collect(Collectors.toList()));
+            LinkedMultiValueMap<String, String> errorResult = new LinkedMultiValueMap<>();
+            errorResult.add("Global", "수정 요청 데이터 혹은, 삭제 요청 데이터에 해당 코스의 장소가 아닌 장소 식별값이 포함되어 있습니다. 확인해주세요.");
+            willThrow(new ValidateException("요청 데이터에 수정하려는 코스에 속하지 않는 장소가 있습니다.", errorResult))
+                    .given(coursePlaceCommandService)
+                    .batchUpdateCoursePlace(eq(courseId), eq(currentUserId), anyList(), anyList(), anyList());
 
             // when
             String path = "/courses/{courseId}/course-places/batch";
@@ -875,10 +869,8 @@ public class CoursePlaceControllerTest extends AbstractControllerTest {
             String accessToken = generateUserAccessToken(currentUserId);
 
             // mocking
-            given(coursePlaceQueryService.getCoursePlaceIds(courseId))
-                    .willReturn(course.getCoursePlaces().stream().map(CoursePlace::getId).collect(Collectors.toList()));
             willThrow(new CustomException("장소의 순서가 중복되었습니다.", ErrorCode.PLACE_ORDER_DUPLICATE))
-                    .given(coursePlaceService)
+                    .given(coursePlaceCommandService)
                     .batchUpdateCoursePlace(eq(courseId), eq(currentUserId), anyList(), anyList(), anyList());
 
             // when
@@ -949,10 +941,8 @@ public class CoursePlaceControllerTest extends AbstractControllerTest {
             String accessToken = generateUserAccessToken(currentUserId);
 
             // mocking
-            given(coursePlaceQueryService.getCoursePlaceIds(courseId))
-                    .willReturn(course.getCoursePlaces().stream().map(CoursePlace::getId).collect(Collectors.toList()));
             willThrow(new CustomException("장소의 순서가 1부터 시작하지 않습니다.", ErrorCode.PLACE_ORDER_NOT_START_ONE))
-                    .given(coursePlaceService)
+                    .given(coursePlaceCommandService)
                     .batchUpdateCoursePlace(eq(courseId), eq(currentUserId), anyList(), anyList(), anyList());
 
             // when
@@ -1023,10 +1013,8 @@ public class CoursePlaceControllerTest extends AbstractControllerTest {
             String accessToken = generateUserAccessToken(currentUserId);
 
             // mocking
-            given(coursePlaceQueryService.getCoursePlaceIds(courseId))
-                    .willReturn(course.getCoursePlaces().stream().map(CoursePlace::getId).collect(Collectors.toList()));
             willThrow(new CustomException("장소의 순서가 연속적인 값들이 아닙니다.", ErrorCode.PLACE_ORDER_NOT_CONSECUTIVE))
-                    .given(coursePlaceService)
+                    .given(coursePlaceCommandService)
                     .batchUpdateCoursePlace(eq(courseId), eq(currentUserId), anyList(), anyList(), anyList());
 
             // when
@@ -1078,10 +1066,6 @@ public class CoursePlaceControllerTest extends AbstractControllerTest {
             Long currentUserId = userId;
             String accessToken = generateUserAccessToken(currentUserId);
 
-            // mocking
-            given(coursePlaceQueryService.getCoursePlaceIds(courseId))
-                    .willReturn(course.getCoursePlaces().stream().map(CoursePlace::getId).collect(Collectors.toList()));
-
             // when
             String path = "/courses/{courseId}/course-places/batch";
             ResultActions perform = mockMvc.perform(
@@ -1288,9 +1272,6 @@ public class CoursePlaceControllerTest extends AbstractControllerTest {
 
             // mocking
             long savedCoursePlaceId = getCoursePlaceId();
-            given(coursePlaceService.coursePlaceAdd(anyLong(), anyLong(), any()))
-                    .willReturn(savedCoursePlaceId);
-
             CoursePlace coursePlace = CoursePlace.builder()
                     .course(course)
                     .name(request.getName())
@@ -1306,7 +1287,7 @@ public class CoursePlaceControllerTest extends AbstractControllerTest {
             ReflectionTestUtils.setField(coursePlace, "createdDate", LocalDateTime.now());
             ReflectionTestUtils.setField(coursePlace, "lastModifiedDate", LocalDateTime.now());
 
-            given(coursePlaceQueryService.getCoursePlaceAddResponse(anyLong(), anyLong()))
+            given(coursePlaceCommandService.coursePlaceAdd(anyLong(), anyLong(), any()))
                     .willReturn(new CoursePlaceAddResponse(course, savedCoursePlaceId));
 
             // when
@@ -1403,7 +1384,7 @@ public class CoursePlaceControllerTest extends AbstractControllerTest {
             );
 
             // mocking
-            given(coursePlaceService.coursePlaceAdd(anyLong(), anyLong(), any()))
+            given(coursePlaceCommandService.coursePlaceAdd(anyLong(), anyLong(), any()))
                     .willThrow(new EntityNotFoundException());
 
             // when
@@ -1452,7 +1433,7 @@ public class CoursePlaceControllerTest extends AbstractControllerTest {
             );
 
             // mocking
-            given(coursePlaceService.coursePlaceAdd(anyLong(), anyLong(), any()))
+            given(coursePlaceCommandService.coursePlaceAdd(anyLong(), anyLong(), any()))
                     .willThrow(new CustomException("해당 코스의 작성자가 아닙니다. 요청한 유저 식별값 : " + userId, ErrorCode.NO_AUTHORITIES));
 
             // when
@@ -1543,8 +1524,6 @@ public class CoursePlaceControllerTest extends AbstractControllerTest {
             );
 
             // mocking
-            willDoNothing().given(coursePlaceService).coursePlaceModify(anyLong(), anyLong(), anyLong(), any());
-
             CoursePlace originalCoursePlace = course.getCoursePlaces().stream().filter(coursePlace -> coursePlace.getId().equals(coursePlaceId)).findFirst().orElseThrow();
             // 순서를 지정하면 지정한 순서의 장소를 대상의 순서로 번경 (5 -> 2)
             course.getCoursePlaces().stream().filter(coursePlace -> coursePlace.getOrder().equals(request.getOrder())).findFirst().ifPresent(coursePlace -> coursePlace.updateOrder(originalCoursePlace.getOrder()));
@@ -1554,7 +1533,7 @@ public class CoursePlaceControllerTest extends AbstractControllerTest {
             originalCoursePlace.updatePlaceCategory(request.convertPlaceCategoryAndGet());
             course.getCoursePlaces().sort(Comparator.comparing(CoursePlace::getOrder));
 
-            given(coursePlaceQueryService.getCoursePlaceModifyResponse(anyLong()))
+            given(coursePlaceCommandService.coursePlaceModify(anyLong(), anyLong(), anyLong(), any()))
                     .willReturn(new CoursePlaceModifyResponse(course));
 
             // when
@@ -1638,7 +1617,7 @@ public class CoursePlaceControllerTest extends AbstractControllerTest {
 
             // mocking
             willThrow(new CustomException(ErrorCode.NOT_EXIST_PLACE_ORDER))
-                    .given(coursePlaceService).coursePlaceModify(anyLong(), anyLong(), anyLong(), any());
+                    .given(coursePlaceCommandService).coursePlaceModify(anyLong(), anyLong(), anyLong(), any());
 
             // when
             String path = "/courses/{courseId}/course-places/{coursePlaceId}";
@@ -1684,7 +1663,7 @@ public class CoursePlaceControllerTest extends AbstractControllerTest {
 
             // mocking
             willThrow(new CustomException(ErrorCode.NO_AUTHORITIES))
-                    .given(coursePlaceService).coursePlaceModify(anyLong(), anyLong(), anyLong(), any());
+                    .given(coursePlaceCommandService).coursePlaceModify(anyLong(), anyLong(), anyLong(), any());
 
             // when
             String path = "/courses/{courseId}/course-places/{coursePlaceId}";
@@ -1730,7 +1709,7 @@ public class CoursePlaceControllerTest extends AbstractControllerTest {
 
             // mocking
             willThrow(new EntityNotFoundException())
-                    .given(coursePlaceService).coursePlaceModify(anyLong(), anyLong(), anyLong(), any());
+                    .given(coursePlaceCommandService).coursePlaceModify(anyLong(), anyLong(), anyLong(), any());
 
             // when
             String path = "/courses/{courseId}/course-places/{coursePlaceId}";
@@ -1823,9 +1802,6 @@ public class CoursePlaceControllerTest extends AbstractControllerTest {
             Long coursePlaceId = toDelete.getId();
 
             // mocking
-            willDoNothing().given(coursePlaceService)
-                    .coursePlaceRemove(anyLong(), anyLong(), anyLong());
-
             Integer toDeleteOrder = toDelete.getOrder();
             course.getCoursePlaces().stream()
                     .filter(coursePlace -> coursePlace.getOrder() > toDeleteOrder)
@@ -1833,7 +1809,7 @@ public class CoursePlaceControllerTest extends AbstractControllerTest {
             course.getCoursePlaces().remove(toDelete);
             course.getCoursePlaces().sort(Comparator.comparing(CoursePlace::getOrder));
 
-            given(coursePlaceQueryService.getCoursePlaceDeleteResponse(courseId))
+            given(coursePlaceCommandService.coursePlaceRemove(anyLong(), anyLong(), anyLong()))
                     .willReturn(new CoursePlaceDeleteResponse(course));
 
             // when
@@ -1907,7 +1883,7 @@ public class CoursePlaceControllerTest extends AbstractControllerTest {
 
             // mocking
             willThrow(new CustomException(ErrorCode.NO_AUTHORITIES))
-                    .given(coursePlaceService).coursePlaceRemove(anyLong(), anyLong(), anyLong());
+                    .given(coursePlaceCommandService).coursePlaceRemove(anyLong(), anyLong(), anyLong());
 
             // when
             String path = "/courses/{courseId}/course-places/{coursePlaceId}";
@@ -1947,7 +1923,7 @@ public class CoursePlaceControllerTest extends AbstractControllerTest {
 
             // mocking
             willThrow(new EntityNotFoundException())
-                    .given(coursePlaceService).coursePlaceRemove(anyLong(), anyLong(), anyLong());
+                    .given(coursePlaceCommandService).coursePlaceRemove(anyLong(), anyLong(), anyLong());
 
             // when
             String path = "/courses/{courseId}/course-places/{coursePlaceId}";
@@ -0,0 +1,57 @@
+package com.comeon.meetingservice.common.config;
+
+import com.comeon.meetingservice.domain.common.id.SeparatePoolTableGenerator;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/*
+    장소 식별값 할당 전용 커넥션 풀. 요청이 쓰는 풀과 같은 DB 에 연결한다.
+    요청들이 요청용 풀을 모두 차지해도 식별값 할당은 이 풀에서 커넥션을 받는다.
+    DataSource 빈으로 등록하면 기본 DataSource 가 만들어지지 않으므로, Hibernate 설정으로만 전달한다.
+    대기 스레드 수는 hikaricp.connections.pending{pool=place-id-pool} 로 확인한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "meeting-place.id-pool.enabled", havingValue = "true", matchIfMissing = true)
+public class PlaceIdPoolConfig implements DisposableBean {
+
+    // 식별값 할당은 인스턴스 안에서 시퀀스마다 한 번에 한 스레드만 한다.
+    @Value("${meeting-place.id-pool.maximum-pool-size:2}")
+    private int maximumPoolSize;
+
+    @Value("${meeting-place.id-pool.connection-timeout:5s}")
+    private Duration connectionTimeout;
+
+    private HikariDataSource placeIdDataSource;
+
+    @Bean
+    public HibernatePropertiesCustomizer placeIdPoolCustomizer(DataSourceProperties dataSourceProperties,
+                                                               MeterRegistry meterRegistry) {
+        placeIdDataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        placeIdDataSource.setPoolName("place-id-pool");
+        placeIdDataSource.setMaximumPoolSize(maximumPoolSize);
+        placeIdDataSource.setMinimumIdle(1);
+        placeIdDataSource.setConnectionTimeout(connectionTimeout.toMillis());
+        placeIdDataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+        return hibernateProperties -> hibernateProperties.put(SeparatePoolTableGenerator.DATA_SOURCE, placeIdDataSource);
+    }
+
+    @Override
+    public void destroy() {
+        if (placeIdDataSource != null) {
+            placeIdDataSource.close();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.comeon.meetingservice.common.config;
+
+import com.comeon.common.usercache.UserNearCache;
+import com.comeon.meetingservice.web.common.feign.userservice.response.UserListResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class UserNearCacheConfig {
+
+    @Value("${user.near-cache.maximum-size:10000}")
+    private long maximumSize;
+
+    @Value("${user.near-cache.fresh-ttl:1m}")
+    private Duration freshTtl;
+
+    // User Service 조회에 실패하면 이 시간이 지나지 않은 이전 정보를 사용한다.
+    @Value("${user.near-cache.stale-ttl:1h}")
+    private Duration staleTtl;
+
+    @Value("${user.near-cache.in-flight-wait:3s}")
+    private Duration inFlightWait;
+
+    @Bean
+    public UserNearCache<UserListResponse> userNearCache(MeterRegistry meterRegistry) {
+        return new UserNearCache<>(meterRegistry, maximumSize, freshTtl, staleTtl, inFlightWait);
+    }
+}
@@ -0,0 +1,131 @@
+package com.comeon.meetingservice.domain.common.id;
+
+import org.hibernate.HibernateException;
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.id.enhanced.AccessCallback;
+import org.hibernate.id.enhanced.TableGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import javax.sql.DataSource;
+import java.io.Serializable;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Properties;
+
+/*
+    Hibernate 의 TableGenerator 와 같은 테이블, 같은 pooled 방식으로 식별값을 받는다.
+    Hibernate 는 시퀀스 테이블을 갱신할 때 요청이 쓰는 커넥션 풀에서 커넥션을 하나 더 꺼내므로,
+    장소를 등록하는 요청들이 풀을 모두 차지하면 식별값을 받지 못하고 기다린다.
+    DATA_SOURCE 설정으로 식별값 할당 전용 DataSource 가 주어지면 그 커넥션으로 시퀀스 테이블을 갱신한다.
+    주어지지 않으면(테스트 등) Hibernate 와 같이 요청이 쓰는 풀의 별도 커넥션을 사용한다.
+ */
+public class SeparatePoolTableGenerator extends TableGenerator {
+
+    public static final String DATA_SOURCE = "comeon.id-generator.data-source";
+
+    private DataSource dataSource;
+
+    private String selectSql;
+    private String insertSql;
+    private String updateSql;
+
+    @Override
+    public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) throws MappingException {
+        super.configure(type, params, serviceRegistry);
+
+        Object configured = serviceRegistry.getService(ConfigurationService.class).getSettings().get(DATA_SOURCE);
+        if (configured instanceof DataSource) {
+            this.dataSource = (DataSource) configured;
+        }
+
+        String table = getTableName();
+        String segmentColumn = getSegmentColumnName();
+        String valueColumn = getValueColumnName();
+        this.selectSql = "select " + valueColumn + " from " + table + " where " + segmentColumn + " = ? for update";
+        this.insertSql = "insert into " + table + " (" + segmentColumn + ", " + valueColumn + ") values (?, ?)";
+        this.updateSql = "update " + table + " set " + valueColumn + " = ? where " + valueColumn + " = ? and " + segmentColumn + " = ?";
+    }
+
+    @Override
+    public Serializable generate(SharedSessionContractImplementor session, Object obj) {
+        if (dataSource == null) {
+            return super.generate(session, obj);
+        }
+
+        return getOptimizer().generate(
+                new AccessCallback() {
+                    @Override
+                    public IntegralDataTypeHolder getNextValue() {
+                        IntegralDataTypeHolder value = IdentifierGeneratorHelper.getIntegralDataTypeHolder(Long.class);
+                        value.initialize(nextValue());
+                        return value;
+                    }
+
+                    @Override
+                    public String getTenantIdentifier() {
+                        return session.getTenantIdentifier();
+                    }
+                }
+        );
+    }
+
+    // 읽은 next_val 을 반환하고 할당 크기만큼 올린다. 행이 없으면 초기값으로 만든다.
+    private long nextValue() {
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                long value = nextValue(connection);
+                connection.commit();
+                return value;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new HibernateException("식별값을 할당하지 못했습니다. sequence : " + getSegmentValue(), e);
+        }
+    }
+
+    private long nextValue(Connection connection) throws SQLException {
+        int updated;
+        long value;
+        do {
+            value = selectValue(connection);
+            try (PreparedStatement update = connection.prepareStatement(updateSql)) {
+                update.setLong(1, value + getIncrementSize());
+                update.setLong(2, value);
+                update.setString(3, getSegmentValue());
+                updated = update.executeUpdate();
+            }
+        } while (updated == 0);
+        return value;
+    }
+
+    private long selectValue(Connection connection) throws SQLException {
+        try (PreparedStatement select = connection.prepareStatement(selectSql)) {
+            select.setString(1, getSegmentValue());
+            try (ResultSet resultSet = select.executeQuery()) {
+                if (resultSet.next()) {
+                    return resultSet.getLong(1);
+                }
+            }
+        }
+
+        try (PreparedStatement insert = connection.prepareStatement(insertSql)) {
+            insert.setString(1, getSegmentValue());
+            insert.setLong(2, getInitialValue());
+            insert.executeUpdate();
+        }
+        return getInitialValue();
+    }
+}
@@ -5,21 +5,40 @@ import com.comeon.meetingservice.domain.meeting.entity.MeetingEntity;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.TableGenerator;
 
 import javax.persistence.*;
 
 import static javax.persistence.EnumType.*;
 import static javax.persistence.FetchType.*;
-import static javax.persistence.GenerationType.*;
 import static lombok.AccessLevel.PROTECTED;
 
+// 여러 장소를 한 번의 배치 INSERT 로 저장할 수 있도록 식별값을 시퀀스 테이블에서 50개씩 미리 받는다.
+// 시퀀스 테이블은 요청이 쓰는 커넥션 풀과 별도인 식별값 할당 전용 풀로 갱신한다. (SeparatePoolTableGenerator)
 @Entity
 @Getter
 @Table(name = "meeting_place")
 @NoArgsConstructor(access = PROTECTED)
 public class MeetingPlaceEntity extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = IDENTITY)
+    // 시퀀스 테이블의 값은 MeetingPlaceIdSequenceInitializer 가 시작할 때 기존 장소의 식별값보다 크게 맞춘다.
+    public static final String ID_SEQUENCE_TABLE = "id_sequences";
+    public static final String ID_SEQUENCE_NAME = "meeting_place";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    @Id
+    @GeneratedValue(generator = "meeting_place_id_generator")
+    @GenericGenerator(
+            name = "meeting_place_id_generator",
+            strategy = "com.comeon.meetingservice.domain.common.id.SeparatePoolTableGenerator",
+            parameters = {
+                    @Parameter(name = TableGenerator.TABLE_PARAM, value = ID_SEQUENCE_TABLE),
+                    @Parameter(name = TableGenerator.SEGMENT_VALUE_PARAM, value = ID_SEQUENCE_NAME),
+                    @Parameter(name = TableGenerator.INCREMENT_PARAM, value = "" + ID_ALLOCATION_SIZE)
+            }
+    )
     private Long id;
 
     @ManyToOne(fetch = LAZY)
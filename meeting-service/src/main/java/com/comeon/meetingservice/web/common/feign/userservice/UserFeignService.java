@@ -1,5 +1,6 @@
 package com.comeon.meetingservice.web.common.feign.userservice;
 
+import com.comeon.common.usercache.UserNearCache;
 import com.comeon.meetingservice.web.common.feign.userservice.response.UserListResponse;
 import com.comeon.meetingservice.web.common.feign.userservice.response.UserServiceApiResponse;
 import com.comeon.meetingservice.web.common.feign.userservice.response.UserServiceListResponse;
@@ -13,6 +14,7 @@ import org.springframework.stereotype.Component;
 import java.util.*;
 import java.util.stream.Collectors;
 
+// 회원 정보는 UserNearCache 에서 먼저 찾고, 없는 식별값만 User Service 에서 조회한다.
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -20,26 +22,33 @@ public class UserFeignService {
 
     private final UserServiceFeignClient userServiceFeignClient;
     private final CircuitBreakerFactory circuitBreakerFactory;
+    private final UserNearCache<UserListResponse> userNearCache;
 
     // User Service와 통신하여 id: userInfo 형식의 Map으로 정보를 변환해주는 메서드
     public Map<Long, UserListResponse> getUserInfoMap(Set<Long> userIds) {
+        Map<Long, UserListResponse> userInfoMap = new HashMap<>(userNearCache.getAll(userIds, this::fetchUserInfo));
+
+        // 캐시에도 없고 조회도 되지 않았다면 우선 id 필드만 있는 ListResponse를 넣어 반환 (NPE에 취약할 수 있기 때문)
+        userIds.forEach(id -> userInfoMap.computeIfAbsent(id, i -> UserListResponse.builder().userId(i).build()));
+        return userInfoMap;
+    }
+
+    // UserService가 장애가 발생하여 응답이 없다면 null 을 반환한다.
+    private Map<Long, UserListResponse> fetchUserInfo(List<Long> userIds) {
         CircuitBreaker userListCb = circuitBreakerFactory.create("userList");
         UserServiceApiResponse<UserServiceListResponse<UserListResponse>> userResponse
-                = userListCb.run(() -> userServiceFeignClient.getUsers(userIds),
+                = userListCb.run(() -> userServiceFeignClient.getUsers(new HashSet<>(userIds)),
                 throwable -> {
                     log.error("[User Service Error]", throwable);
                     return null;
                 });
 
-        if (Objects.nonNull(userResponse)) {
-            // 응답이 왔다면, 받아온 회원 정보를 id: response 형식의 Map으로 만들기
-            return userResponse.getData().getContents().stream()
-                    .collect(Collectors.toMap(UserListResponse::getUserId, ul -> ul));
-        } else {
-            // UserService가 장애가 발생하여 응답이 없다면 우선 id 필드만 있는 ListResponse를 넣어 반환 (NPE에 취약할 수 있기 때문)
-            return userIds.stream()
-                    .collect(Collectors.toMap(id -> id,
-                            id -> UserListResponse.builder().userId(id).build()));
+        if (Objects.isNull(userResponse)) {
+            return null;
         }
+
+        // 응답이 왔다면, 받아온 회원 정보를 id: response 형식의 Map으로 만들기
+        return userResponse.getData().getContents().stream()
+                .collect(Collectors.toMap(UserListResponse::getUserId, ul -> ul));
     }
 }
@@ -20,7 +20,9 @@ import org.springframework.core.env.Environment;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.util.*;
@@ -28,9 +30,9 @@ import java.util.stream.Collectors;
 
 import static com.comeon.meetingservice.common.exception.ErrorCode.*;
 
+// DB 조회는 읽기 전용 트랜잭션에서 끝내고, User Service 에서 조회하는 회원 정보는 트랜잭션이 끝난 후에 채운다.
 @Service
 @Slf4j
-@Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class MeetingQueryService {
 
@@ -38,54 +40,81 @@ public class MeetingQueryService {
     private final UserFeignService userFeignService;
     private final FileManager fileManager;
     private final Environment env;
+    private final PlatformTransactionManager transactionManager;
 
     public SliceResponse<MeetingListResponse> getList(Long userId,
                                                    Pageable pageable,
                                                    MeetingCondition meetingCondition) {
 
-        Slice<MeetingEntity> resultSlice
-                = meetingQueryRepository.findSliceByUserId(userId, pageable, meetingCondition);
+        // 모임 ID: 호스트 회원 ID
+        Map<Long, Long> hostUserIds = new HashMap<>();
 
-        List<MeetingListResponse> meetingListResponses = convertToListResponse(resultSlice.getContent(), userId);
+        SliceResponse<MeetingListResponse> sliceResponse = readOnlyTransactionTemplate().execute(status -> {
+            Slice<MeetingEntity> resultSlice
+                    = meetingQueryRepository.findSliceByUserId(userId, pageable, meetingCondition);
 
-        return SliceResponse.toSliceResponse(resultSlice, meetingListResponses);
+            List<MeetingListResponse> meetingListResponses
+                    = convertToListResponse(resultSlice.getContent(), userId, hostUserIds);
+
+            return SliceResponse.toSliceResponse(resultSlice, meetingListResponses);
+        });
+
+        // User Service로 부터 Host회원의 정보 리스트로 가져오기
+        Map<Long, UserListResponse> hostUserInfoMap
+                = userFeignService.getUserInfoMap(new HashSet<>(hostUserIds.values()));
+
+        sliceResponse.getContents().forEach(meetingListResponse -> {
+            UserListResponse hostUserInfo = hostUserInfoMap.get(hostUserIds.get(meetingListResponse.getId()));
+            meetingListResponse.setHostNickname(hostUserInfo.getNickname());
+        });
+
+        return sliceResponse;
     }
 
     public MeetingDetailResponse getDetail(Long id, Long userId) {
-        MeetingEntity meetingEntity = meetingQueryRepository.findById(id)
-                .orElseThrow(() -> new CustomException("해당 ID와 일치하는 모임이 없습니다.", ENTITY_NOT_FOUND));
+        // 모임 회원 ID: 회원 ID
+        Map<Long, Long> meetingUserIds = new HashMap<>();
+
+        MeetingDetailResponse meetingDetailResponse = readOnlyTransactionTemplate().execute(status -> {
+            MeetingEntity meetingEntity = meetingQueryRepository.findById(id)
+                    .orElseThrow(() -> new CustomException("해당 ID와 일치하는 모임이 없습니다.", ENTITY_NOT_FOUND));
+
+            MeetingUserEntity currentUser = meetingEntity.getMeetingUserEntities().stream()
+                    .filter(mu -> mu.getUserId().equals(userId))
+                    .findAny()
+                    .orElseThrow(() -> new CustomException("해당 회원은 가입되어있지 않습니다.", MEETING_USER_NOT_INCLUDE));
+
+            return MeetingDetailResponse.toResponse(
+                    meetingEntity,
+                    currentUser,
+                    convertUserResponse(meetingEntity.getMeetingUserEntities(), meetingUserIds),
+                    convertDateResponse(meetingEntity.getMeetingDateEntities(), userId),
+                    convertPlaceResponse(meetingEntity.getMeetingPlaceEntities()));
+        });
 
-        MeetingUserEntity currentUser = meetingEntity.getMeetingUserEntities().stream()
-                .filter(mu -> mu.getUserId().equals(userId))
-                .findAny()
-                .orElseThrow(() -> new CustomException("해당 회원은 가입되어있지 않습니다.", MEETING_USER_NOT_INCLUDE));
-
-        return MeetingDetailResponse.toResponse(
-                meetingEntity,
-                currentUser,
-                convertUserResponse(meetingEntity.getMeetingUserEntities()),
-                convertDateResponse(meetingEntity.getMeetingDateEntities(), userId),
-                convertPlaceResponse(meetingEntity.getMeetingPlaceEntities()));
+        // User Service와 통신하여 회원 정보 Map을 받아오기
+        Map<Long, UserListResponse> userInfoMap
+                = userFeignService.getUserInfoMap(new HashSet<>(meetingUserIds.values()));
+
+        meetingDetailResponse.getMeetingUsers().forEach(meetingDetailUserResponse -> {
+            UserListResponse userInfo = userInfoMap.get(meetingUserIds.get(meetingDetailUserResponse.getId()));
+            meetingDetailUserResponse.setNickname(userInfo.getNickname());
+            meetingDetailUserResponse.setImageLink(userInfo.getProfileImgUrl());
+        });
+
+        return meetingDetailResponse;
     }
 
+    @Transactional(readOnly = true)
     public String getStoredFileName(Long id) {
         return meetingQueryRepository.findStoredNameById(id)
                 .orElseThrow(() -> new CustomException("해당 ID와 일치하는 모임이 없습니다.", ENTITY_NOT_FOUND));
     }
 
-    private List<MeetingListResponse> convertToListResponse(List<MeetingEntity> meetingEntities, Long userId) {
-
-        // 조회된 모임 리스트의 호스트 Id만 리스트로 모으기
-        Set<Long> hostUserIds = new HashSet<>();
-        meetingEntities.stream().forEach(meetingEntity -> {
-            meetingEntity.getMeetingUserEntities().stream()
-                    .filter(meetingUserEntity -> meetingUserEntity.getMeetingRole() == MeetingRole.HOST)
-                    .forEach((meetingUserEntity) -> hostUserIds.add(meetingUserEntity.getUserId()));
-        });
-
-        // User Service로 부터 Host회원의 정보 리스트로 가져오기
-        Map<Long, UserListResponse> hostUserInfoMap = userFeignService.getUserInfoMap(hostUserIds);
-
+    // 호스트 닉네임은 비워두고, 조회된 모임의 호스트 Id를 hostUserIds에 모은다.
+    private List<MeetingListResponse> convertToListResponse(List<MeetingEntity> meetingEntities,
+                                                            Long userId,
+                                                            Map<Long, Long> hostUserIds) {
         return meetingEntities.stream()
                 .map(meetingEntity -> {
                     // 해당 모임의 확정 날짜들을 구하기
@@ -98,12 +127,12 @@ public class MeetingQueryService {
                     Set<MeetingUserEntity> meetingUserEntities = meetingEntity.getMeetingUserEntities();
                     MeetingRole userMeetingRole = getRequestUserMeetingRole(meetingUserEntities, userId);
 
-                    // 해당 모임에서 HOST인 회원의 정보를 추출하기 (위에서 User Service로부터 정보를 얻어옴)
-                    UserListResponse hostUserInfo = hostUserInfoMap.get(getHostUserId(meetingUserEntities));
+                    // 해당 모임에서 HOST인 회원의 Id 모으기
+                    hostUserIds.put(meetingEntity.getId(), getHostUserId(meetingUserEntities));
 
                     return MeetingListResponse.toResponse(
                             meetingEntity,
-                            hostUserInfo.getNickname(),
+                            null,
                             meetingUserEntities.size(),
                             userMeetingRole,
                             getFileUrl(meetingEntity.getMeetingFileEntity().getStoredName()),
@@ -151,26 +180,24 @@ public class MeetingQueryService {
                 fileName);
     }
 
-    private List<MeetingDetailUserResponse> convertUserResponse(Set<MeetingUserEntity> meetingUserEntities) {
-        // User Service와 통신하여 회원 정보 Map을 받아오기
-        Set<Long> userIds = meetingUserEntities.stream()
-                .map(MeetingUserEntity::getUserId)
-                .collect(Collectors.toSet());
-
-        Map<Long, UserListResponse> userInfoMap = userFeignService.getUserInfoMap(userIds);
-
+    // 회원 정보는 비워두고, 모임 회원 Id: 회원 Id를 meetingUserIds에 모은다.
+    private List<MeetingDetailUserResponse> convertUserResponse(Set<MeetingUserEntity> meetingUserEntities,
+                                                                Map<Long, Long> meetingUserIds) {
         return meetingUserEntities.stream()
                 .sorted(Comparator.comparing(BaseEntity::getCreatedDateTime))
                 .map((meetingUserEntity) -> {
-                    UserListResponse userInfo = userInfoMap.get(meetingUserEntity.getUserId());
-                    return MeetingDetailUserResponse.toResponse(
-                            meetingUserEntity,
-                            userInfo.getNickname(),
-                            userInfo.getProfileImgUrl());
+                    meetingUserIds.put(meetingUserEntity.getId(), meetingUserEntity.getUserId());
+                    return MeetingDetailUserResponse.toResponse(meetingUserEntity, null, null);
                 })
                 .collect(Collectors.toList());
     }
 
+    private TransactionTemplate readOnlyTransactionTemplate() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate;
+    }
+
     private List<MeetingDetailPlaceResponse> convertPlaceResponse(Set<MeetingPlaceEntity> meetingPlaceEntities) {
         return meetingPlaceEntities.stream()
                 .sorted(Comparator.comparing(MeetingPlaceEntity::getOrder))
@@ -4,7 +4,6 @@ import com.comeon.meetingservice.common.exception.CustomException;
 import com.comeon.meetingservice.common.exception.ErrorCode;
 import com.comeon.meetingservice.domain.meetingdate.entity.DateUserEntity;
 import com.comeon.meetingservice.domain.meetingdate.entity.MeetingDateEntity;
-import com.comeon.meetingservice.domain.meetinguser.entity.MeetingUserEntity;
 import com.comeon.meetingservice.web.common.feign.userservice.UserFeignService;
 import com.comeon.meetingservice.web.common.feign.userservice.response.UserListResponse;
 import com.comeon.meetingservice.web.meetingdate.response.MeetingDateDetailResponse;
@@ -12,53 +11,65 @@ import com.comeon.meetingservice.web.meetingdate.response.MeetingDateDetailUserR
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.*;
 import java.util.stream.Collectors;
 
+// DB 조회는 읽기 전용 트랜잭션에서 끝내고, User Service 에서 조회하는 회원 정보는 트랜잭션이 끝난 후에 채운다.
 @Service
 @Slf4j
-@Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class MeetingDateQueryService {
 
     private final MeetingDateQueryRepository meetingDateQueryRepository;
     private final UserFeignService userFeignService;
+    private final PlatformTransactionManager transactionManager;
 
     public MeetingDateDetailResponse getDetail(Long meetingId, Long id) {
-        MeetingDateEntity meetingDateEntity = meetingDateQueryRepository.findByIdFetchDateUser(meetingId, id)
-                .orElseThrow(() -> new CustomException("해당 ID와 일치하는 모임 날짜를 찾을 수 없습니다.",
-                        ErrorCode.ENTITY_NOT_FOUND));
+        // 모임 회원 ID: 회원 ID
+        Map<Long, Long> meetingUserIds = new HashMap<>();
 
-        List<MeetingDateDetailUserResponse> meetingDateDetailUserResponses
-                = convertUserResponse(meetingDateEntity.getDateUserEntities());
+        MeetingDateDetailResponse meetingDateDetailResponse = readOnlyTransactionTemplate().execute(status -> {
+            MeetingDateEntity meetingDateEntity = meetingDateQueryRepository.findByIdFetchDateUser(meetingId, id)
+                    .orElseThrow(() -> new CustomException("해당 ID와 일치하는 모임 날짜를 찾을 수 없습니다.",
+                            ErrorCode.ENTITY_NOT_FOUND));
 
-        return MeetingDateDetailResponse.toResponse(meetingDateEntity, meetingDateDetailUserResponses);
-    }
-
-    private List<MeetingDateDetailUserResponse> convertUserResponse(List<DateUserEntity> dateUserEntities) {
+            List<MeetingDateDetailUserResponse> meetingDateDetailUserResponses
+                    = convertUserResponse(meetingDateEntity.getDateUserEntities(), meetingUserIds);
 
-        // DateUser로 부터 MeetingUser엔티티를 꺼내 UserId 리스트 만들기
-        Set<Long> userIds = dateUserEntities.stream()
-                .map(DateUserEntity::getMeetingUserEntity)
-                .map(MeetingUserEntity::getUserId)
-                .collect(Collectors.toSet());
+            return MeetingDateDetailResponse.toResponse(meetingDateEntity, meetingDateDetailUserResponses);
+        });
 
         // User Service에서 유저 정보들 조회해오기
-        Map<Long, UserListResponse> userInfoMap = userFeignService.getUserInfoMap(userIds);
+        Map<Long, UserListResponse> userInfoMap
+                = userFeignService.getUserInfoMap(new HashSet<>(meetingUserIds.values()));
+
+        meetingDateDetailResponse.getDateUsers().forEach(meetingDateDetailUserResponse -> {
+            UserListResponse userInfo = userInfoMap.get(meetingUserIds.get(meetingDateDetailUserResponse.getId()));
+            meetingDateDetailUserResponse.setNickname(userInfo.getNickname());
+            meetingDateDetailUserResponse.setImageLink(userInfo.getProfileImgUrl());
+        });
+
+        return meetingDateDetailResponse;
+    }
 
+    // 회원 정보는 비워두고, 모임 회원 Id: 회원 Id를 meetingUserIds에 모은다.
+    private List<MeetingDateDetailUserResponse> convertUserResponse(List<DateUserEntity> dateUserEntities,
+                                                                    Map<Long, Long> meetingUserIds) {
         return dateUserEntities.stream()
                 .map(DateUserEntity::getMeetingUserEntity)
                 .map(meetingUserEntity -> {
-
-                    UserListResponse userInfo = userInfoMap.get(meetingUserEntity.getUserId());
-
-                    return MeetingDateDetailUserResponse.toResponse(
-                            meetingUserEntity,
-                            userInfo.getNickname(),
-                            userInfo.getProfileImgUrl());
+                    meetingUserIds.put(meetingUserEntity.getId(), meetingUserEntity.getUserId());
+                    return MeetingDateDetailUserResponse.toResponse(meetingUserEntity, null, null);
                 })
                 .collect(Collectors.toList());
     }
+
+    private TransactionTemplate readOnlyTransactionTemplate() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate;
+    }
 }
@@ -0,0 +1,106 @@
+package com.comeon.meetingservice.web.common.feign.userservice;
+
+import com.comeon.common.usercache.UserNearCache;
+import com.comeon.meetingservice.web.common.feign.userservice.response.UserListResponse;
+import com.comeon.meetingservice.web.common.feign.userservice.response.UserServiceApiResponse;
+import com.comeon.meetingservice.web.common.feign.userservice.response.UserServiceListResponse;
+import com.comeon.meetingservice.web.common.feign.userservice.response.UserStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.circuitbreaker.CircuitBreaker;
+import org.springframework.cloud.client.circuitbreaker.CircuitBreakerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+class UserFeignServiceTest {
+
+    UserServiceFeignClient userServiceFeignClient = mock(UserServiceFeignClient.class);
+    CircuitBreakerFactory circuitBreakerFactory = mock(CircuitBreakerFactory.class);
+
+    // 서킷 브레이커는 요청을 그대로 실행하고, 실패하면 fallback 을 실행한다.
+    CircuitBreaker circuitBreaker = new CircuitBreaker() {
+        @Override
+        public <T> T run(Supplier<T> toRun, Function<Throwable, T> fallback) {
+            try {
+                return toRun.get();
+            } catch (RuntimeException e) {
+                return fallback.apply(e);
+            }
+        }
+    };
+
+    UserFeignService userFeignService(Duration freshTtl) {
+        given(circuitBreakerFactory.create(anyString())).willReturn(circuitBreaker);
+        UserNearCache<UserListResponse> userNearCache = new UserNearCache<>(
+                new SimpleMeterRegistry(), 100, freshTtl, Duration.ofHours(1), Duration.ofSeconds(3)
+        );
+        return new UserFeignService(userServiceFeignClient, circuitBreakerFactory, userNearCache);
+    }
+
+    UserServiceApiResponse<UserServiceListResponse<UserListResponse>> usersResponse(Set<Long> userIds) {
+        List<UserListResponse> contents = userIds.stream()
+                .map(userId -> UserListResponse.builder()
+                        .userId(userId)
+                        .nickname("nickname" + userId)
+                        .status(UserStatus.ACTIVATE)
+                        .build())
+                .collect(Collectors.toList());
+        return UserServiceApiResponse.<UserServiceListResponse<UserListResponse>>builder()
+                .data(UserServiceListResponse.<UserListResponse>builder()
+                        .count(contents.size())
+                        .contents(contents)
+                        .build())
+                .build();
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 회원만 User Service 에서 조회한다.")
+    void fetchOnlyMisses() {
+        // given
+        UserFeignService userFeignService = userFeignService(Duration.ofMinutes(1));
+        given(userServiceFeignClient.getUsers(Set.of(1L, 2L))).willReturn(usersResponse(Set.of(1L, 2L)));
+        given(userServiceFeignClient.getUsers(Set.of(3L))).willReturn(usersResponse(Set.of(3L)));
+        userFeignService.getUserInfoMap(Set.of(1L, 2L));
+
+        // when
+        Map<Long, UserListResponse> userInfoMap = userFeignService.getUserInfoMap(Set.of(1L, 2L, 3L));
+
+        // then
+        assertThat(userInfoMap).containsOnlyKeys(1L, 2L, 3L);
+        assertThat(userInfoMap.get(3L).getNickname()).isEqualTo("nickname3");
+        then(userServiceFeignClient).should().getUsers(Set.of(1L, 2L));
+        then(userServiceFeignClient).should().getUsers(Set.of(3L));
+    }
+
+    @Test
+    @DisplayName("User Service 조회에 실패하면 이전에 조회한 회원 정보를 사용하고, 없는 회원은 식별값만 채워 반환한다.")
+    void serveStaleOnFailure() {
+        // given
+        UserFeignService userFeignService = userFeignService(Duration.ZERO);
+        given(userServiceFeignClient.getUsers(Set.of(1L))).willReturn(usersResponse(Set.of(1L)));
+        userFeignService.getUserInfoMap(Set.of(1L));
+        given(userServiceFeignClient.getUsers(any())).willThrow(new IllegalStateException("user-service down"));
+
+        // when
+        Map<Long, UserListResponse> userInfoMap = userFeignService.getUserInfoMap(Set.of(1L, 2L));
+
+        // then
+        assertThat(userInfoMap.get(1L).getNickname()).isEqualTo("nickname1");
+        assertThat(userInfoMap.get(2L).getUserId()).isEqualTo(2L);
+        assertThat(userInfoMap.get(2L).getNickname()).isNull();
+    }
+}
@@ -0,0 +1,278 @@
+package com.comeon.meetingservice.web.meeting.query;
+
+import com.comeon.meetingservice.common.config.DatabaseConfig;
+import com.comeon.meetingservice.domain.meeting.entity.MeetingEntity;
+import com.comeon.meetingservice.domain.meeting.entity.MeetingFileEntity;
+import com.comeon.meetingservice.domain.meeting.entity.MeetingRole;
+import com.comeon.meetingservice.domain.meetingcode.entity.MeetingCodeEntity;
+import com.comeon.meetingservice.domain.meetingdate.entity.DateUserEntity;
+import com.comeon.meetingservice.domain.meetingdate.entity.MeetingDateEntity;
+import com.comeon.meetingservice.domain.meetingplace.entity.MeetingPlaceEntity;
+import com.comeon.meetingservice.domain.meetingplace.entity.PlaceCategory;
+import com.comeon.meetingservice.domain.meetinguser.entity.MeetingUserEntity;
+import com.comeon.meetingservice.web.common.feign.userservice.UserFeignService;
+import com.comeon.meetingservice.web.common.feign.userservice.response.UserListResponse;
+import com.comeon.meetingservice.web.common.feign.userservice.response.UserStatus;
+import com.comeon.meetingservice.web.common.response.SliceResponse;
+import com.comeon.meetingservice.web.common.util.fileutils.FileManager;
+import com.comeon.meetingservice.web.meeting.response.MeetingDetailDateResponse;
+import com.comeon.meetingservice.web.meeting.response.MeetingDetailPlaceResponse;
+import com.comeon.meetingservice.web.meeting.response.MeetingDetailResponse;
+import com.comeon.meetingservice.web.meeting.response.MeetingDetailUserResponse;
+import com.comeon.meetingservice.web.meeting.response.MeetingListResponse;
+import com.comeon.meetingservice.web.meetingdate.query.MeetingDateQueryService;
+import com.comeon.meetingservice.web.meetingdate.response.MeetingDateDetailResponse;
+import com.comeon.meetingservice.web.meetingdate.response.MeetingDateDetailUserResponse;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.BDDMockito.given;
+
+/*
+    모임 조회, 모임 날짜 조회가 user-service 를 호출하는 동안 커넥션을 붙잡고 있지 않은지 확인한다.
+    OSIV 가 꺼져 있고 테스트에도 트랜잭션이 없으므로, 지연 로딩 연관관계를 트랜잭션 밖에서 읽으면 예외가 발생한다.
+    응답에 모임 회원, 날짜, 장소가 채워져 있으면 읽기 전용 트랜잭션 안에서 모두 초기화한 것이다.
+    커넥션 풀의 사용중인 커넥션 수를 확인하기 위해 테스트용 내장 DB 대신 Hikari 커넥션 풀을 사용한다.
+ */
+@ActiveProfiles("test")
+@Import({
+        DatabaseConfig.class,
+        MeetingQueryService.class,
+        MeetingDateQueryService.class
+})
+@DataJpaTest(
+        includeFilters = {@ComponentScan.Filter(Repository.class)},
+        properties = "spring.datasource.url=jdbc:h2:mem:meeting-query-connection-test"
+)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MeetingQueryServiceConnectionTest {
+
+    static final long WAIT_MILLIS = 2000;
+
+    static final Long HOST_USER_ID = 1L;
+    static final Long PARTICIPANT_USER_ID = 2L;
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    MeetingQueryService meetingQueryService;
+
+    @Autowired
+    MeetingDateQueryService meetingDateQueryService;
+
+    @MockBean
+    UserFeignService userFeignService;
+
+    @MockBean
+    FileManager fileManager;
+
+    // 사용중인 커넥션이 없어질 때까지 기다린다. 시간이 지나도 남아있으면 사용중인 커넥션 수를 반환한다.
+    int awaitNoActiveConnections() throws InterruptedException {
+        HikariDataSource hikariDataSource = (HikariDataSource) dataSource;
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        int activeConnections = hikariDataSource.getHikariPoolMXBean().getActiveConnections();
+        while (activeConnections > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            activeConnections = hikariDataSource.getHikariPoolMXBean().getActiveConnections();
+        }
+        return activeConnections;
+    }
+
+    // 호스트와 참여자, 두 회원이 모두 선택한 날짜 하나, 장소 하나를 가진 모임을 저장한다.
+    // 날짜는 유니크 제약이 있으므로 테스트마다 다른 날짜를 사용한다.
+    MeetingDateEntity saveMeeting(LocalDate date) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        return transactionTemplate.execute(status -> {
+            MeetingEntity meetingEntity = MeetingEntity.builder()
+                    .startDate(date.minusDays(10))
+                    .endDate(date.plusDays(10))
+                    .title("title")
+                    .build();
+            meetingEntity.addMeetingFileEntity(MeetingFileEntity.builder()
+                    .originalName("original")
+                    .storedName("stored")
+                    .build());
+            meetingEntity.addMeetingCodeEntity(MeetingCodeEntity.builder()
+                    .inviteCode("ABCDEF")
+                    .expiredDay(7)
+                    .build());
+            MeetingUserEntity host = MeetingUserEntity.builder()
+                    .userId(HOST_USER_ID)
+                    .meetingRole(MeetingRole.HOST)
+                    .build();
+            MeetingUserEntity participant = MeetingUserEntity.builder()
+                    .userId(PARTICIPANT_USER_ID)
+                    .meetingRole(MeetingRole.PARTICIPANT)
+                    .build();
+            meetingEntity.addMeetingUserEntity(host);
+            meetingEntity.addMeetingUserEntity(participant);
+            em.persist(meetingEntity);
+
+            MeetingDateEntity meetingDateEntity = MeetingDateEntity.builder()
+                    .date(date)
+                    .build();
+            meetingDateEntity.addMeetingEntity(meetingEntity);
+            for (MeetingUserEntity meetingUserEntity : Set.of(host, participant)) {
+                DateUserEntity dateUserEntity = DateUserEntity.builder().build();
+                dateUserEntity.addMeetingUserEntity(meetingUserEntity);
+                meetingDateEntity.addDateUserEntity(dateUserEntity);
+            }
+            em.persist(meetingDateEntity);
+
+            MeetingPlaceEntity meetingPlaceEntity = MeetingPlaceEntity.builder()
+                    .apiId(1000L)
+                    .category(PlaceCategory.CAFE)
+                    .name("placeName")
+                    .address("address")
+                    .memo("memo")
+                    .lat(10.1)
+                    .lng(20.1)
+                    .order(1)
+                    .build();
+            meetingPlaceEntity.addMeetingEntity(meetingEntity);
+            em.persist(meetingPlaceEntity);
+
+            return meetingDateEntity;
+        });
+    }
+
+    // 회원 정보를 조회하는 동안 사용중인 커넥션 수와 트랜잭션 여부를 기록한다.
+    void mockUserLookup(AtomicInteger activeConnectionsDuringUserLookup,
+                        AtomicBoolean transactionActiveDuringUserLookup) {
+        given(userFeignService.getUserInfoMap(anySet()))
+                .willAnswer(invocation -> {
+                    activeConnectionsDuringUserLookup.set(awaitNoActiveConnections());
+                    transactionActiveDuringUserLookup.set(TransactionSynchronizationManager.isActualTransactionActive());
+                    Set<Long> userIds = invocation.getArgument(0);
+                    return userIds.stream()
+                            .map(userId -> UserListResponse.builder()
+                                    .userId(userId)
+                                    .nickname("nickname" + userId)
+                                    .profileImgUrl("profileImgUrl" + userId)
+                                    .status(UserStatus.ACTIVATE)
+                                    .build())
+                            .collect(Collectors.toMap(UserListResponse::getUserId, Function.identity()));
+                });
+    }
+
+    @Test
+    @DisplayName("모임 리스트 조회는 user-service 를 호출하는 동안 사용중인 커넥션이 없고, 모임 회원과 날짜를 트랜잭션 안에서 읽는다.")
+    void getListNoConnectionHeldDuringUserLookup() {
+        // given
+        saveMeeting(LocalDate.of(2022, 9, 1));
+
+        // mocking
+        AtomicInteger activeConnectionsDuringUserLookup = new AtomicInteger(-1);
+        AtomicBoolean transactionActiveDuringUserLookup = new AtomicBoolean(true);
+        mockUserLookup(activeConnectionsDuringUserLookup, transactionActiveDuringUserLookup);
+
+        // when
+        SliceResponse<MeetingListResponse> sliceResponse = meetingQueryService.getList(
+                PARTICIPANT_USER_ID,
+                PageRequest.of(0, 10),
+                MeetingCondition.builder().title("title").build()
+        );
+
+        // then
+        assertThat(activeConnectionsDuringUserLookup.get()).isZero();
+        assertThat(transactionActiveDuringUserLookup.get()).isFalse();
+        assertThat(sliceResponse.getContents()).isNotEmpty();
+        assertThat(sliceResponse.getContents())
+                .allSatisfy(meetingListResponse -> {
+                    assertThat(meetingListResponse.getHostNickname()).isEqualTo("nickname" + HOST_USER_ID);
+                    assertThat(meetingListResponse.getUserCount()).isEqualTo(2);
+                    assertThat(meetingListResponse.getMyMeetingRole()).isEqualTo(MeetingRole.PARTICIPANT);
+                });
+    }
+
+    @Test
+    @DisplayName("모임 단건 조회는 user-service 를 호출하는 동안 사용중인 커넥션이 없고, 모임 회원, 날짜, 장소를 트랜잭션 안에서 읽는다.")
+    void getDetailNoConnectionHeldDuringUserLookup() {
+        // given
+        MeetingDateEntity meetingDateEntity = saveMeeting(LocalDate.of(2022, 9, 2));
+        Long meetingId = meetingDateEntity.getMeetingEntity().getId();
+
+        // mocking
+        AtomicInteger activeConnectionsDuringUserLookup = new AtomicInteger(-1);
+        AtomicBoolean transactionActiveDuringUserLookup = new AtomicBoolean(true);
+        mockUserLookup(activeConnectionsDuringUserLookup, transactionActiveDuringUserLookup);
+
+        // when
+        MeetingDetailResponse meetingDetailResponse = meetingQueryService.getDetail(meetingId, HOST_USER_ID);
+
+        // then
+        assertThat(activeConnectionsDuringUserLookup.get()).isZero();
+        assertThat(transactionActiveDuringUserLookup.get()).isFalse();
+        assertThat(meetingDetailResponse.getMeetingUsers())
+                .extracting(MeetingDetailUserResponse::getNickname)
+                .containsExactlyInAnyOrder("nickname" + HOST_USER_ID, "nickname" + PARTICIPANT_USER_ID);
+        assertThat(meetingDetailResponse.getMeetingDates())
+                .extracting(MeetingDetailDateResponse::getUserCount, MeetingDetailDateResponse::getIsSelected)
+                .containsExactly(tuple(2, true));
+        assertThat(meetingDetailResponse.getMeetingPlaces())
+                .extracting(MeetingDetailPlaceResponse::getName)
+                .containsExactly("placeName");
+    }
+
+    @Test
+    @DisplayName("모임 날짜 단건 조회는 user-service 를 호출하는 동안 사용중인 커넥션이 없고, 날짜를 선택한 회원을 트랜잭션 안에서 읽는다.")
+    void getDateDetailNoConnectionHeldDuringUserLookup() {
+        // given
+        MeetingDateEntity meetingDateEntity = saveMeeting(LocalDate.of(2022, 9, 3));
+        Long meetingId = meetingDateEntity.getMeetingEntity().getId();
+
+        // mocking
+        AtomicInteger activeConnectionsDuringUserLookup = new AtomicInteger(-1);
+        AtomicBoolean transactionActiveDuringUserLookup = new AtomicBoolean(true);
+        mockUserLookup(activeConnectionsDuringUserLookup, transactionActiveDuringUserLookup);
+
+        // when
+        MeetingDateDetailResponse meetingDateDetailResponse
+                = meetingDateQueryService.getDetail(meetingId, meetingDateEntity.getId());
+
+        // then
+        assertThat(activeConnectionsDuringUserLookup.get()).isZero();
+        assertThat(transactionActiveDuringUserLookup.get()).isFalse();
+        assertThat(meetingDateDetailResponse.getDateUsers())
+                .extracting(MeetingDateDetailUserResponse::getNickname, MeetingDateDetailUserResponse::getMeetingRole)
+                .containsExactlyInAnyOrder(
+                        tuple("nickname" + HOST_USER_ID, MeetingRole.HOST),
+                        tuple("nickname" + PARTICIPANT_USER_ID, MeetingRole.PARTICIPANT)
+                );
+    }
+}
@@ -0,0 +1,197 @@
+package com.comeon.common.usercache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+/*
+    user-service 에서 조회한 유저 정보를 이 인스턴스의 메모리에 보관하는 캐시.
+    - fresh-ttl 이 지나지 않은 정보는 user-service 를 호출하지 않고 사용한다.
+    - 없거나 fresh-ttl 이 지난 식별값들만 모아서 한 번에 조회한다.
+    - 다른 요청이 이미 조회중인 식별값은 다시 조회하지 않고 그 결과를 기다린다.
+    - 조회에 실패하면(서킷 브레이커가 열린 경우 포함) stale-ttl 이 지나지 않은 이전 정보를 사용한다.
+    course-service 와 meeting-service 가 함께 사용하며, 유저 정보의 타입은 각 서비스의 응답 타입(V)이다.
+ */
+@Slf4j
+public class UserNearCache<V> {
+
+    private static final String METRIC_LOOKUPS = "user.near-cache.lookups";
+    private static final String METRIC_REMOTE_CALLS = "user.near-cache.remote.calls";
+
+    private final Cache<Long, CachedUser<V>> cache;
+    private final Map<Long, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Ticker ticker;
+    private final long freshTtlNanos;
+    private final Duration inFlightWait;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter staleCounter;
+    private final Counter remoteSuccessCounter;
+    private final Counter remoteFailureCounter;
+    private final Counter savedCallCounter;
+
+    public UserNearCache(MeterRegistry meterRegistry,
+                         long maximumSize,
+                         Duration freshTtl,
+                         Duration staleTtl,
+                         Duration inFlightWait) {
+        this(meterRegistry, maximumSize, freshTtl, staleTtl, inFlightWait, Ticker.systemTicker());
+    }
+
+    UserNearCache(MeterRegistry meterRegistry,
+                  long maximumSize,
+                  Duration freshTtl,
+                  Duration staleTtl,
+                  Duration inFlightWait,
+                  Ticker ticker) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(staleTtl)
+                .ticker(ticker)
+                .build();
+        this.ticker = ticker;
+        this.freshTtlNanos = freshTtl.toNanos();
+        this.inFlightWait = inFlightWait;
+
+        this.hitCounter = Counter.builder(METRIC_LOOKUPS).tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder(METRIC_LOOKUPS).tag("result", "miss").register(meterRegistry);
+        this.staleCounter = Counter.builder(METRIC_LOOKUPS).tag("result", "stale").register(meterRegistry);
+        this.remoteSuccessCounter = Counter.builder(METRIC_REMOTE_CALLS).tag("result", "success").register(meterRegistry);
+        this.remoteFailureCounter = Counter.builder(METRIC_REMOTE_CALLS).tag("result", "failure").register(meterRegistry);
+        this.savedCallCounter = Counter.builder("user.near-cache.remote.calls.saved")
+                .description("캐시 또는 다른 요청의 조회 결과로 처리하여 user-service 를 호출하지 않은 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("user.near-cache.hit.ratio", this, UserNearCache::getHitRatio)
+                .description("user-service 를 호출하지 않고 캐시에서 찾은 식별값의 비율")
+                .register(meterRegistry);
+        Gauge.builder("user.near-cache.size", cache, Cache::estimatedSize)
+                .register(meterRegistry);
+    }
+
+    public double getHitRatio() {
+        double lookups = hitCounter.count() + missCounter.count() + staleCounter.count();
+        return lookups == 0 ? 0 : hitCounter.count() / lookups;
+    }
+
+    /*
+        식별값들의 유저 정보. 조회되지 않은 식별값은 결과에서 제외된다.
+        loader 는 식별값 목록을 한 번에 조회하고, 실패하면 null 을 반환한다.
+     */
+    public Map<Long, V> getAll(Collection<Long> userIds,
+                               Function<List<Long>, Map<Long, V>> loader) {
+        Map<Long, V> result = new HashMap<>();
+        Map<Long, CachedUser<V>> staleUsers = new HashMap<>();
+        Map<Long, CompletableFuture<V>> ownFetches = new LinkedHashMap<>();
+        Map<Long, CompletableFuture<V>> otherFetches = new HashMap<>();
+
+        long now = ticker.read();
+        for (Long userId : new LinkedHashSet<>(userIds)) {
+            CachedUser<V> cachedUser = cache.getIfPresent(userId);
+            if (cachedUser != null && now - cachedUser.cachedAt < freshTtlNanos) {
+                result.put(userId, cachedUser.user);
+                hitCounter.increment();
+                continue;
+            }
+            if (cachedUser != null) {
+                staleUsers.put(userId, cachedUser);
+            }
+
+            CompletableFuture<V> fetch = new CompletableFuture<>();
+            CompletableFuture<V> otherFetch = inFlight.putIfAbsent(userId, fetch);
+            if (otherFetch == null) {
+                ownFetches.put(userId, fetch);
+            } else {
+                otherFetches.put(userId, otherFetch);
+            }
+        }
+
+        if (ownFetches.isEmpty()) {
+            savedCallCounter.increment();
+        } else {
+            fetch(ownFetches, loader);
+        }
+
+        Map<Long, CompletableFuture<V>> fetches = new HashMap<>(otherFetches);
+        fetches.putAll(ownFetches);
+        fetches.forEach((userId, fetch) -> {
+            try {
+                V user = fetch.get(inFlightWait.toMillis(), TimeUnit.MILLISECONDS);
+                if (user != null) {
+                    result.put(userId, user);
+                }
+                missCounter.increment();
+            } catch (ExecutionException | TimeoutException e) {
+                // 조회에 실패했으면 이전 정보를 사용한다.
+                CachedUser<V> staleUser = staleUsers.get(userId);
+                if (staleUser != null) {
+                    result.put(userId, staleUser.user);
+                    staleCounter.increment();
+                } else {
+                    missCounter.increment();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        return result;
+    }
+
+    // 유저 정보가 바뀌었다는 메시지를 받으면 지워서, 다음 조회에서 user-service 의 정보를 새로 가져온다.
+    public void evict(Long userId) {
+        cache.invalidate(userId);
+    }
+
+    // 조회되지 않은 식별값은 null 로 완료하고, 조회에 실패하면 예외로 완료한다.
+    private void fetch(Map<Long, CompletableFuture<V>> ownFetches,
+                       Function<List<Long>, Map<Long, V>> loader) {
+        Map<Long, V> fetched = null;
+        try {
+            fetched = loader.apply(new ArrayList<>(ownFetches.keySet()));
+        } catch (RuntimeException e) {
+            log.error("[user-near-cache] fetch failed. userIds : {}", ownFetches.keySet(), e);
+        }
+
+        if (Objects.isNull(fetched)) {
+            remoteFailureCounter.increment();
+        } else {
+            remoteSuccessCounter.increment();
+        }
+
+        long cachedAt = ticker.read();
+        for (Map.Entry<Long, CompletableFuture<V>> entry : ownFetches.entrySet()) {
+            Long userId = entry.getKey();
+            CompletableFuture<V> fetch = entry.getValue();
+            if (Objects.isNull(fetched)) {
+                fetch.completeExceptionally(new IllegalStateException("user-service 조회 실패"));
+            } else {
+                V user = fetched.get(userId);
+                if (user != null) {
+                    cache.put(userId, new CachedUser<>(user, cachedAt));
+                }
+                fetch.complete(user);
+            }
+            inFlight.remove(userId, fetch);
+        }
+    }
+
+    private static class CachedUser<V> {
+
+        private final V user;
+        private final long cachedAt;
+
+        CachedUser(V user, long cachedAt) {
+            this.user = user;
+            this.cachedAt = cachedAt;
+        }
+    }
+}
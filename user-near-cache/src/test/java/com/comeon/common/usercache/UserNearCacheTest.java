@@ -0,0 +1,117 @@
+package com.comeon.common.usercache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+class UserNearCacheTest {
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    AtomicLong nanos = new AtomicLong();
+    UserNearCache<String> userNearCache = new UserNearCache<>(
+            meterRegistry, 100, Duration.ofMinutes(1), Duration.ofHours(1), Duration.ofSeconds(3), nanos::get
+    );
+
+    List<List<Long>> requestedUserIds = new CopyOnWriteArrayList<>();
+
+    private Map<Long, String> load(List<Long> userIds) {
+        requestedUserIds.add(userIds);
+        return userIds.stream()
+                .collect(Collectors.toMap(
+                        userId -> userId,
+                        userId -> "nickname" + userId
+                ));
+    }
+
+    private Map<Long, String> fail(List<Long> userIds) {
+        requestedUserIds.add(userIds);
+        return null;
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 식별값들만 한 번에 조회하고, 적중률과 절약한 호출 수를 기록한다.")
+    void fetchOnlyMisses() {
+        // given
+        userNearCache.getAll(List.of(1L, 2L), this::load);
+
+        // when
+        Map<Long, String> result = userNearCache.getAll(List.of(1L, 2L, 3L, 3L), this::load);
+        userNearCache.getAll(List.of(1L, 3L), this::load);
+
+        // then
+        assertThat(result).containsOnlyKeys(1L, 2L, 3L);
+        assertThat(requestedUserIds).containsExactly(List.of(1L, 2L), List.of(3L));
+        assertThat(meterRegistry.get("user.near-cache.hit.ratio").gauge().value()).isEqualTo(4.0 / 7);
+        assertThat(meterRegistry.get("user.near-cache.remote.calls.saved").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("fresh-ttl 이 지나면 다시 조회하고, 조회에 실패하면 이전 정보를 사용한다.")
+    void serveStaleOnFailure() {
+        // given
+        userNearCache.getAll(List.of(1L), this::load);
+        nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+
+        // when
+        Map<Long, String> result = userNearCache.getAll(List.of(1L, 2L), this::fail);
+
+        // then
+        assertThat(requestedUserIds).containsExactly(List.of(1L), List.of(1L, 2L));
+        assertThat(result).containsOnlyKeys(1L);
+        assertThat(result.get(1L)).isEqualTo("nickname1");
+        assertThat(meterRegistry.get("user.near-cache.lookups").tag("result", "stale").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("user.near-cache.remote.calls").tag("result", "failure").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("지운 식별값은 fresh-ttl 이 지나지 않았어도 다시 조회한다.")
+    void evict() {
+        // given
+        userNearCache.getAll(List.of(1L, 2L), this::load);
+
+        // when
+        userNearCache.evict(1L);
+        userNearCache.getAll(List.of(1L, 2L), this::load);
+
+        // then
+        assertThat(requestedUserIds).containsExactly(List.of(1L, 2L), List.of(1L));
+    }
+
+    @Test
+    @DisplayName("동시에 같은 식별값을 조회하면 user-service 는 한 번만 호출한다.")
+    void deduplicateConcurrentMisses() throws Exception {
+        // given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // when
+        Future<Map<Long, String>> first = executor.submit(() -> userNearCache.getAll(List.of(1L), userIds -> {
+            loading.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return load(userIds);
+        }));
+        loading.await();
+        Future<Map<Long, String>> second = executor.submit(() -> userNearCache.getAll(List.of(1L), this::load));
+        Thread.sleep(100);
+        release.countDown();
+
+        // then
+        assertThat(first.get(3, TimeUnit.SECONDS)).containsOnlyKeys(1L);
+        assertThat(second.get(3, TimeUnit.SECONDS)).containsOnlyKeys(1L);
+        assertThat(requestedUserIds).containsExactly(List.of(1L));
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,30 @@
+package com.comeon.userreplica;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.function.Consumer;
+
+// spring cloud stream 의 userChanged-in-0 바인딩으로 수신한 메시지를 복제본에 반영한다.
+public class UserChangedConsumer implements Consumer<UserChangedMessage> {
+
+    private final UserSummaryReplica replica;
+    private final Counter appliedCounter;
+    private final Counter staleCounter;
+
+    public UserChangedConsumer(UserSummaryReplica replica, MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.appliedCounter = meterRegistry.counter("user.replica.messages", "result", "applied");
+        this.staleCounter = meterRegistry.counter("user.replica.messages", "result", "stale");
+        meterRegistry.gauge("user.replica.size", replica, UserSummaryReplica::size);
+    }
+
+    @Override
+    public void accept(UserChangedMessage message) {
+        if (replica.apply(message)) {
+            appliedCounter.increment();
+        } else {
+            staleCounter.increment();
+        }
+    }
+}
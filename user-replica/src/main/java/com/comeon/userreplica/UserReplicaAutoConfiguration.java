@@ -0,0 +1,36 @@
+package com.comeon.userreplica;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/*
+    유저 요약 정보 복제본 자동 설정.
+    사용하는 서비스는 다음과 같이 user-service 의 유저 변경 메시지를 바인딩한다.
+
+    spring.cloud.function.definition: userChanged
+    spring.cloud.stream.bindings.userChanged-in-0:
+      destination: user-changed
+      group: {서비스 이름}
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "user-replica.enabled", havingValue = "true", matchIfMissing = true)
+public class UserReplicaAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public UserSummaryReplica userSummaryReplica() {
+        return new UserSummaryReplica();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public UserChangedConsumer userChanged(UserSummaryReplica userSummaryReplica,
+                                           ObjectProvider<MeterRegistry> meterRegistry) {
+        return new UserChangedConsumer(userSummaryReplica, meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+}
@@ -0,0 +1,28 @@
+package com.comeon.userreplica;
+
+import lombok.Getter;
+
+// 로컬에 보관하는 유저 요약 정보. 탈퇴한 유저는 닉네임, 이미지 정보 없이 상태만 가진다.
+@Getter
+public class UserSummary {
+
+    public static final String ACTIVATE = "ACTIVATE";
+
+    private final Long userId;
+    private final String nickname;
+    private final String status;
+    private final String imageKey;
+    private final long version;
+
+    public UserSummary(UserChangedMessage message) {
+        this.userId = message.getUserId();
+        this.nickname = message.getNickname();
+        this.status = message.getStatus();
+        this.imageKey = message.getImageKey();
+        this.version = message.getVersion();
+    }
+
+    public boolean isActivateUser() {
+        return ACTIVATE.equals(status);
+    }
+}
@@ -0,0 +1,46 @@
+package com.comeon.userreplica;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// user-service 의 유저 요약 정보 복제본.
+// 메시지는 중복되거나 순서가 바뀌어 도착할 수 있으므로, 가지고 있는 version 보다 큰 메시지만 반영한다.
+// 탈퇴한 유저도 version 을 유지하기 위해 제거하지 않고 보관한다.
+public class UserSummaryReplica {
+
+    private final Map<Long, UserSummary> summaries = new ConcurrentHashMap<>();
+
+    // 메시지가 반영되었으면 true, 이미 같거나 더 최신 버전을 가지고 있으면 false
+    public boolean apply(UserChangedMessage message) {
+        UserSummary incoming = new UserSummary(message);
+        UserSummary result = summaries.merge(
+                incoming.getUserId(),
+                incoming,
+                (current, next) -> next.getVersion() > current.getVersion() ? next : current
+        );
+        return result == incoming;
+    }
+
+    public Optional<UserSummary> find(Long userId) {
+        return Optional.ofNullable(summaries.get(userId));
+    }
+
+    // 복제본에 없는 유저는 결과에서 제외된다.
+    public Map<Long, UserSummary> findAll(Collection<Long> userIds) {
+        Map<Long, UserSummary> result = new HashMap<>();
+        for (Long userId : userIds) {
+            UserSummary summary = summaries.get(userId);
+            if (summary != null) {
+                result.put(userId, summary);
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return summaries.size();
+    }
+}
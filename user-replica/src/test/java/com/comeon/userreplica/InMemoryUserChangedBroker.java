@@ -0,0 +1,44 @@
+package com.comeon.userreplica;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+
+// 메시지 브로커 대용. 발행된 메시지를 JSON 으로 직렬화해 보관하고,
+// 중복 전달과 순서 뒤바뀜을 흉내내어 구독자에게 전달한다.
+class InMemoryUserChangedBroker {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<String> queue = new ArrayList<>();
+
+    void publish(UserChangedMessage message) {
+        try {
+            queue.add(objectMapper.writeValueAsString(message));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void deliverShuffledWithDuplicates(Consumer<UserChangedMessage> consumer, long seed) {
+        List<String> deliveries = new ArrayList<>(queue);
+        deliveries.addAll(queue);
+        Collections.shuffle(deliveries, new Random(seed));
+
+        deliveries.parallelStream().forEach(json -> consumer.accept(read(json)));
+        queue.clear();
+    }
+
+    private UserChangedMessage read(String json) {
+        try {
+            return objectMapper.readValue(json, UserChangedMessage.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
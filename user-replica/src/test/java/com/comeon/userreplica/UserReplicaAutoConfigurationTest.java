@@ -0,0 +1,32 @@
+package com.comeon.userreplica;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+
+class UserReplicaAutoConfigurationTest {
+
+    ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(UserReplicaAutoConfiguration.class));
+
+    @Test
+    @DisplayName("복제본과 userChanged 컨슈머를 등록한다.")
+    void registerBeans() {
+        contextRunner.run(context -> {
+            assertThat(context).hasSingleBean(UserSummaryReplica.class);
+            assertThat(context.getBean("userChanged")).isInstanceOf(Consumer.class);
+        });
+    }
+
+    @Test
+    @DisplayName("user-replica.enabled=false 이면 등록하지 않는다.")
+    void disabled() {
+        contextRunner.withPropertyValues("user-replica.enabled=false")
+                .run(context -> assertThat(context).doesNotHaveBean(UserSummaryReplica.class));
+    }
+}
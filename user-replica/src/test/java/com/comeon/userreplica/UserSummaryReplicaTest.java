@@ -0,0 +1,110 @@
+package com.comeon.userreplica;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class UserSummaryReplicaTest {
+
+    UserSummaryReplica replica = new UserSummaryReplica();
+
+    @Nested
+    @DisplayName("메시지 반영")
+    class apply {
+
+        @Test
+        @DisplayName("가지고 있는 version 보다 큰 메시지만 반영한다.")
+        void applyOnlyNewerVersion() {
+            // given
+            replica.apply(new UserChangedMessage(1L, "nickname2", "ACTIVATE", "image2", 2L));
+
+            // when
+            boolean staleApplied = replica.apply(new UserChangedMessage(1L, "nickname1", "ACTIVATE", "image1", 1L));
+            boolean duplicateApplied = replica.apply(new UserChangedMessage(1L, "nickname2", "ACTIVATE", "image2", 2L));
+            boolean newerApplied = replica.apply(new UserChangedMessage(1L, "nickname3", "ACTIVATE", null, 3L));
+
+            // then
+            assertThat(staleApplied).isFalse();
+            assertThat(duplicateApplied).isFalse();
+            assertThat(newerApplied).isTrue();
+
+            UserSummary summary = replica.find(1L).orElseThrow();
+            assertThat(summary.getNickname()).isEqualTo("nickname3");
+            assertThat(summary.getImageKey()).isNull();
+            assertThat(summary.getVersion()).isEqualTo(3L);
+        }
+
+        @Test
+        @DisplayName("탈퇴한 유저는 제거하지 않고 보관하여, 늦게 도착한 이전 메시지로 되살아나지 않는다.")
+        void withdrawnUserIsKept() {
+            // given
+            replica.apply(new UserChangedMessage(1L, null, "WITHDRAWN", null, 5L));
+
+            // when
+            replica.apply(new UserChangedMessage(1L, "nickname", "ACTIVATE", "image", 4L));
+
+            // then
+            UserSummary summary = replica.find(1L).orElseThrow();
+            assertThat(summary.isActivateUser()).isFalse();
+            assertThat(summary.getNickname()).isNull();
+        }
+
+        @Test
+        @DisplayName("여러 유저를 조회하면 복제본에 없는 유저는 제외된다.")
+        void findAll() {
+            // given
+            replica.apply(new UserChangedMessage(1L, "nickname1", "ACTIVATE", null, 1L));
+            replica.apply(new UserChangedMessage(2L, "nickname2", "ACTIVATE", null, 1L));
+
+            // when
+            Map<Long, UserSummary> summaries = replica.findAll(List.of(1L, 2L, 3L));
+
+            // then
+            assertThat(summaries).containsOnlyKeys(1L, 2L);
+        }
+    }
+
+    @Nested
+    @DisplayName("메시지 수신")
+    class consume {
+
+        @Test
+        @DisplayName("메시지가 중복되거나 순서가 바뀌어 동시에 도착해도, 유저별 최신 버전의 정보를 가진다.")
+        void convergeToLatestVersion() {
+            // given
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            UserChangedConsumer consumer = new UserChangedConsumer(replica, meterRegistry);
+            InMemoryUserChangedBroker broker = new InMemoryUserChangedBroker();
+
+            int userCount = 50;
+            int versionCount = 20;
+            for (long userId = 1; userId <= userCount; userId++) {
+                for (long version = 1; version <= versionCount; version++) {
+                    broker.publish(new UserChangedMessage(userId, "nickname" + version, "ACTIVATE", "image" + version, version));
+                }
+            }
+
+            // when
+            broker.deliverShuffledWithDuplicates(consumer, 42L);
+
+            // then
+            assertThat(replica.size()).isEqualTo(userCount);
+            for (long userId = 1; userId <= userCount; userId++) {
+                UserSummary summary = replica.find(userId).orElseThrow();
+                assertThat(summary.getVersion()).isEqualTo(versionCount);
+                assertThat(summary.getNickname()).isEqualTo("nickname" + versionCount);
+            }
+
+            double applied = meterRegistry.get("user.replica.messages").tag("result", "applied").counter().count();
+            double stale = meterRegistry.get("user.replica.messages").tag("result", "stale").counter().count();
+            assertThat(applied + stale).isEqualTo(userCount * versionCount * 2);
+            assertThat(meterRegistry.get("user.replica.size").gauge().value()).isEqualTo(userCount);
+        }
+    }
+}
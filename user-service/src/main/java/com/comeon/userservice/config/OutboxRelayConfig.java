@@ -0,0 +1,28 @@
+package com.comeon.userservice.config;
+
+import com.comeon.userservice.domain.user.outbox.UserChangedPublisher;
+import com.comeon.userservice.domain.user.outbox.UserOutboxRelay;
+import com.comeon.userservice.domain.user.outbox.UserOutboxRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "user.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelayConfig {
+
+    @Value("${user.outbox.relay.batch-size:100}")
+    private int batchSize;
+
+    @Bean
+    public UserOutboxRelay userOutboxRelay(UserOutboxRepository userOutboxRepository,
+                                           UserChangedPublisher userChangedPublisher,
+                                           PlatformTransactionManager transactionManager) {
+        return new UserOutboxRelay(userOutboxRepository, userChangedPublisher, new TransactionTemplate(transactionManager), batchSize);
+    }
+}
@@ -0,0 +1,48 @@
+package com.comeon.userservice.config;
+
+import com.comeon.userservice.domain.user.withdrawal.UserWithdrawalDispatcher;
+import com.comeon.userservice.domain.user.withdrawal.UserWithdrawalTaskHandler;
+import com.comeon.userservice.domain.user.withdrawal.UserWithdrawalTaskRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "user.withdrawal.dispatcher.enabled", havingValue = "true", matchIfMissing = true)
+public class WithdrawalDispatcherConfig {
+
+    @Value("${user.withdrawal.dispatcher.batch-size:100}")
+    private int batchSize;
+
+    @Value("${user.withdrawal.dispatcher.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${user.withdrawal.dispatcher.initial-backoff:1s}")
+    private Duration initialBackoff;
+
+    @Value("${user.withdrawal.dispatcher.max-backoff:10m}")
+    private Duration maxBackoff;
+
+    @Bean
+    public UserWithdrawalDispatcher userWithdrawalDispatcher(UserWithdrawalTaskRepository userWithdrawalTaskRepository,
+                                                             List<UserWithdrawalTaskHandler> handlers,
+                                                             PlatformTransactionManager transactionManager) {
+        return new UserWithdrawalDispatcher(
+                userWithdrawalTaskRepository,
+                handlers,
+                new TransactionTemplate(transactionManager),
+                batchSize,
+                maxAttempts,
+                initialBackoff,
+                maxBackoff
+        );
+    }
+}
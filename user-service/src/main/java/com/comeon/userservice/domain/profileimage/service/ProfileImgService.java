@@ -5,8 +5,10 @@ import com.comeon.userservice.domain.profileimage.service.dto.ProfileImgDto;
 import com.comeon.userservice.domain.profileimage.entity.ProfileImg;
 import com.comeon.userservice.domain.profileimage.repository.ProfileImgRepository;
 import com.comeon.userservice.domain.user.entity.User;
+import com.comeon.userservice.domain.user.event.UserChangedEvent;
 import com.comeon.userservice.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,15 +19,17 @@ public class ProfileImgService {
 
     private final ProfileImgRepository profileImgRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Long saveProfileImg(ProfileImgDto profileImgDto, Long userId) {
+        // 프로필 이미지를 조회하기 전에 유저 row 에 락을 건다. 같은 유저의 프로필 이미지를 동시에 저장해도 순서대로 처리된다.
+        User user = userRepository.findByIdForUpdate(userId)
+                .orElseThrow(
+                        () -> new EntityNotFoundException("해당 식별자를 가진 User가 없습니다. 요청한 User 식별값 : " + userId)
+                );
         ProfileImg profileImg = profileImgRepository.findByUserId(userId).orElse(null);
 
         if (profileImg == null) {
-            User user = userRepository.findById(userId)
-                    .orElseThrow(
-                            () -> new EntityNotFoundException("해당 식별자를 가진 User가 없습니다. 요청한 User 식별값 : " + userId)
-                    );
             profileImg = profileImgRepository.save(
                     ProfileImg.builder()
                             .user(user)
@@ -37,6 +41,7 @@ public class ProfileImgService {
             profileImg.updateOriginalName(profileImgDto.getOriginalName());
             profileImg.updateStoredName(profileImgDto.getStoredName());
         }
+        eventPublisher.publishEvent(new UserChangedEvent(userId));
 
         return profileImg.getId();
     }
@@ -46,7 +51,13 @@ public class ProfileImgService {
                 .orElseThrow(
                         () -> new EntityNotFoundException("해당 식별자를 가진 ProfileImg가 없습니다. 요청한 ProfileImg 식별값 : " + profileImgId)
                 );
-        profileImg.getUser().updateProfileImg(null);
+        // 프록시의 식별값으로 유저 row 에 락을 걸고 조회한다.
+        User user = userRepository.findByIdForUpdate(profileImg.getUser().getId())
+                .orElseThrow(
+                        () -> new EntityNotFoundException("해당 식별자를 가진 User가 없습니다. 요청한 User 식별값 : " + profileImg.getUser().getId())
+                );
+        user.updateProfileImg(null);
         profileImgRepository.delete(profileImg);
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId()));
     }
 }
@@ -10,7 +10,9 @@ import lombok.NoArgsConstructor;
 import javax.persistence.*;
 
 @Entity @Getter
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_users_account_id", columnNames = {"account_id"})
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User extends BaseTimeEntity {
 
@@ -34,6 +36,11 @@ public class User extends BaseTimeEntity {
     @Enumerated(EnumType.STRING)
     private UserStatus status;
 
+    // 유저 변경 이벤트의 순서를 구분하기 위한 버전
+    @Version
+    @Column(columnDefinition = "bigint default 0")
+    private Long version;
+
     public void authorize(UserRole role) {
         this.role = role;
     }
@@ -9,6 +9,9 @@ import lombok.NoArgsConstructor;
 import javax.persistence.*;
 
 @Entity @Getter
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_account_oauth_id_provider", columnNames = {"oauthId", "provider"})
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class UserAccount extends BaseTimeEntity {
 
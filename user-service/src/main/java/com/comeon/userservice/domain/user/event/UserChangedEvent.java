@@ -0,0 +1,14 @@
+package com.comeon.userservice.domain.user.event;
+
+import lombok.Getter;
+
+// 유저의 닉네임, 상태, 프로필 이미지 등 다른 서비스에 노출되는 정보가 변경되면 발행한다.
+@Getter
+public class UserChangedEvent {
+
+    private final Long userId;
+
+    public UserChangedEvent(Long userId) {
+        this.userId = userId;
+    }
+}
@@ -0,0 +1,31 @@
+package com.comeon.userservice.domain.user.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+
+// spring-cloud-bus-amqp 가 사용하는 RabbitMQ 바인더로 유저 변경 메시지를 발행한다.
+@Component
+@RequiredArgsConstructor
+public class StreamUserChangedPublisher implements UserChangedPublisher {
+
+    private final StreamBridge streamBridge;
+
+    @Value("${user.outbox.destination:user-changed}")
+    private String destination;
+
+    @Override
+    public void publish(UserChangedMessage message) {
+        boolean sent = streamBridge.send(
+                destination,
+                MessageBuilder.withPayload(message)
+                        .setHeader("userId", message.getUserId())
+                        .build()
+        );
+        if (!sent) {
+            throw new IllegalStateException("유저 변경 메시지 발행에 실패했습니다. userId : " + message.getUserId());
+        }
+    }
+}
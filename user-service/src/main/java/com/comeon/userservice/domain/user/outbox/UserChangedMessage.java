@@ -0,0 +1,18 @@
+package com.comeon.userservice.domain.user.outbox;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 다른 서비스로 발행되는 유저 변경 메시지. 같은 유저의 메시지는 version 이 클수록 최신이다.
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserChangedMessage {
+
+    private Long userId;
+    private String nickname;
+    private String status;
+    private String imageKey;
+    private Long version;
+}
@@ -0,0 +1,6 @@
+package com.comeon.userservice.domain.user.outbox;
+
+public interface UserChangedPublisher {
+
+    void publish(UserChangedMessage message);
+}
@@ -0,0 +1,50 @@
+package com.comeon.userservice.domain.user.outbox;
+
+import com.comeon.userservice.domain.user.entity.User;
+import com.comeon.userservice.domain.user.entity.UserStatus;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+// 유저 변경 이벤트 outbox. 유저 정보를 변경한 트랜잭션 안에서 함께 저장되고, 발행된 후 삭제된다.
+@Entity @Getter
+@Table(name = "user_outbox")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "user_outbox_id")
+    private Long id;
+
+    private Long userId;
+
+    private String nickname;
+
+    @Enumerated(EnumType.STRING)
+    private UserStatus status;
+
+    private String imageKey;
+
+    private Long version;
+
+    private LocalDateTime createdDate;
+
+    public UserOutbox(User user) {
+        this.userId = user.getId();
+        this.status = user.getStatus();
+        if (user.isActivateUser()) {
+            this.nickname = user.getNickname();
+            this.imageKey = user.getProfileImg() != null ? user.getProfileImg().getStoredName() : null;
+        }
+        this.version = user.getVersion();
+        this.createdDate = LocalDateTime.now();
+    }
+
+    public UserChangedMessage toMessage() {
+        return new UserChangedMessage(userId, nickname, status.name(), imageKey, version);
+    }
+}
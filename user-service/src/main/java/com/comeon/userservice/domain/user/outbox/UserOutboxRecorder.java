@@ -0,0 +1,36 @@
+package com.comeon.userservice.domain.user.outbox;
+
+import com.comeon.userservice.domain.user.entity.User;
+import com.comeon.userservice.domain.user.event.UserChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+
+// 유저 정보를 변경한 트랜잭션이 커밋되기 직전에 변경된 유저 정보를 outbox 에 저장한다.
+@Component
+@RequiredArgsConstructor
+public class UserOutboxRecorder {
+
+    private final EntityManager em;
+    private final UserOutboxRepository userOutboxRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void record(UserChangedEvent event) {
+        User user = em.find(User.class, event.getUserId());
+        if (user == null) {
+            return;
+        }
+
+        // 변경 내용을 먼저 반영하고 version 을 증가시킨다.
+        // 유저를 변경하는 서비스는 변경 전에 UserRepository.findByIdForUpdate 로 유저 row 에 락을 걸고 조회하므로,
+        // 같은 유저를 동시에 변경하는 트랜잭션은 충돌 없이 순서대로 더 큰 version 을 갖는다.
+        em.flush();
+        em.lock(user, LockModeType.PESSIMISTIC_FORCE_INCREMENT);
+
+        userOutboxRepository.save(new UserOutbox(user));
+    }
+}
@@ -0,0 +1,39 @@
+package com.comeon.userservice.domain.user.outbox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// outbox 에 저장된 유저 변경 이벤트를 저장된 순서대로 발행하고, 발행한 이벤트는 삭제한다.
+// 발행에 실패하면 다음 주기에 실패한 이벤트부터 다시 발행한다. (at-least-once)
+@Slf4j
+@RequiredArgsConstructor
+public class UserOutboxRelay {
+
+    private final UserOutboxRepository userOutboxRepository;
+    private final UserChangedPublisher userChangedPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    @Scheduled(fixedDelayString = "${user.outbox.relay.poll-interval:1000}")
+    public void relay() {
+        List<UserOutbox> outboxes;
+        do {
+            outboxes = userOutboxRepository.findOldest(PageRequest.of(0, batchSize));
+            for (UserOutbox outbox : outboxes) {
+                try {
+                    userChangedPublisher.publish(outbox.toMessage());
+                } catch (RuntimeException e) {
+                    log.warn("[user-outbox] publish failed. outboxId : {}, userId : {}", outbox.getId(), outbox.getUserId(), e);
+                    return;
+                }
+                transactionTemplate.executeWithoutResult(status -> userOutboxRepository.deleteById(outbox.getId()));
+            }
+        } while (outboxes.size() == batchSize);
+    }
+}
@@ -0,0 +1,14 @@
+package com.comeon.userservice.domain.user.outbox;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface UserOutboxRepository extends JpaRepository<UserOutbox, Long> {
+
+    @Query("select uo from UserOutbox uo " +
+            "order by uo.id asc")
+    List<UserOutbox> findOldest(Pageable pageable);
+}
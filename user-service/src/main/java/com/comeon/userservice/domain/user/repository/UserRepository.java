@@ -4,9 +4,11 @@ import com.comeon.userservice.domain.user.entity.OAuthProvider;
 import com.comeon.userservice.domain.user.entity.User;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import javax.persistence.LockModeType;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -18,4 +20,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
             @Param("oauthId") String oauthId,
             @Param("provider") OAuthProvider provider
     );
-}
\ No newline at end of file
+
+    // 유저 정보를 변경하기 전에 유저 row 에 락을 걸고 조회한다.
+    // 같은 유저를 동시에 변경하는 트랜잭션은 순서대로 처리되므로, 커밋 시점의 version 증가가 충돌하지 않는다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select u from User u where u.id = :userId")
+    Optional<User> findByIdForUpdate(@Param("userId") Long userId);
+}
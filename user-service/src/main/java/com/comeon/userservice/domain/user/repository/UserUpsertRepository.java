@@ -0,0 +1,172 @@
+package com.comeon.userservice.domain.user.repository;
+
+import com.comeon.userservice.domain.user.entity.UserRole;
+import com.comeon.userservice.domain.user.entity.UserStatus;
+import com.comeon.userservice.domain.user.service.dto.UserAccountDto;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/*
+    로그인 할 때마다 호출되는 유저 저장 로직을 조회 없이 upsert 로 처리한다.
+    - user_account 의 (oauth_id, provider) 유니크 인덱스로 계정을 저장하거나 수정하고, 계정 식별값을 얻는다.
+    - users 의 account_id 유니크 인덱스로 계정에 연결된 유저가 없을 때만 유저를 저장하고, 유저 식별값을 얻는다.
+    MySQL 은 계정을 INSERT ... ON DUPLICATE KEY UPDATE 와 LAST_INSERT_ID(expr) 로 저장과 식별값 조회를 한 번에 처리하고,
+    유저는 INSERT IGNORE 로 저장한다. Connector/J 는 기본으로 CLIENT_FOUND_ROWS 를 사용하므로, ON DUPLICATE KEY UPDATE 가
+    아무 값도 바꾸지 않아도 영향받은 row 수가 1 이다. 새로 저장되었는지는 INSERT IGNORE 의 영향받은 row 수로만 판단한다.
+    테스트에 사용하는 H2 는 MERGE 로 처리한다.
+ */
+@Repository
+public class UserUpsertRepository {
+
+    // UserAccount.provider 는 @Enumerated 가 없으므로 ordinal 로 저장된다.
+    private static final String MYSQL_UPSERT_ACCOUNT =
+            "insert into user_account (oauth_id, provider, email, name, profile_img_url, created_date, last_modified_date) " +
+            "values (?, ?, ?, ?, ?, ?, ?) " +
+            "on duplicate key update " +
+            "email = values(email), name = values(name), profile_img_url = values(profile_img_url), " +
+            "last_modified_date = values(last_modified_date), " +
+            "account_id = last_insert_id(account_id)";
+
+    // 이미 유저가 있으면 아무것도 저장하지 않고 영향받은 row 수가 0 이다.
+    // IGNORE 는 다른 오류도 경고로 바꾸지만, 바인딩하는 값은 저장된 계정 식별값과 상수, nullable 인 닉네임뿐이다.
+    private static final String MYSQL_INSERT_USER_IF_ABSENT =
+            "insert ignore into users (account_id, nickname, role, status, version, created_date, last_modified_date) " +
+            "values (?, ?, ?, ?, 0, ?, ?)";
+
+    private static final String H2_MERGE_ACCOUNT =
+            "merge into user_account a using dual " +
+            "on a.oauth_id = ? and a.provider = ? " +
+            "when matched then update set " +
+            "a.email = ?, a.name = ?, a.profile_img_url = ?, a.last_modified_date = ? " +
+            "when not matched then insert " +
+            "(oauth_id, provider, email, name, profile_img_url, created_date, last_modified_date) " +
+            "values (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String H2_MERGE_USER_IF_ABSENT =
+            "merge into users u using dual " +
+            "on u.account_id = ? " +
+            "when not matched then insert " +
+            "(account_id, nickname, role, status, version, created_date, last_modified_date) " +
+            "values (?, ?, ?, ?, 0, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager em;
+    private final boolean mysql;
+
+    public UserUpsertRepository(JdbcTemplate jdbcTemplate, EntityManager em) throws MetaDataAccessException {
+        this.jdbcTemplate = jdbcTemplate;
+        this.em = em;
+        this.mysql = "MySQL".equals(
+                JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(), DatabaseMetaData::getDatabaseProductName)
+        );
+    }
+
+    // 영속성 컨텍스트를 거치지 않고 저장하므로, 저장 전에 flush 하고 저장 후에 비운다.
+    public UserUpsertResult upsert(UserAccountDto accountDto) {
+        em.flush();
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Long accountId = retryOnDuplicateKey(() -> upsertAccount(accountDto, now));
+        UserUpsertResult result = retryOnDuplicateKey(() -> insertUserIfAbsent(accountId, accountDto.getName(), now));
+
+        em.clear();
+        return result;
+    }
+
+    private Long upsertAccount(UserAccountDto accountDto, Timestamp now) {
+        String oauthId = accountDto.getOauthId();
+        int provider = accountDto.getProvider().ordinal();
+
+        if (mysql) {
+            GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(con -> {
+                PreparedStatement ps = con.prepareStatement(MYSQL_UPSERT_ACCOUNT, Statement.RETURN_GENERATED_KEYS);
+                ps.setString(1, oauthId);
+                ps.setInt(2, provider);
+                ps.setString(3, accountDto.getEmail());
+                ps.setString(4, accountDto.getName());
+                ps.setString(5, accountDto.getProfileImgUrl());
+                ps.setTimestamp(6, now);
+                ps.setTimestamp(7, now);
+                return ps;
+            }, keyHolder);
+            return firstGeneratedKey(keyHolder);
+        }
+
+        jdbcTemplate.update(H2_MERGE_ACCOUNT,
+                oauthId, provider,
+                accountDto.getEmail(), accountDto.getName(), accountDto.getProfileImgUrl(), now,
+                oauthId, provider, accountDto.getEmail(), accountDto.getName(), accountDto.getProfileImgUrl(), now, now);
+        return jdbcTemplate.queryForObject(
+                "select account_id from user_account where oauth_id = ? and provider = ?",
+                Long.class, oauthId, provider
+        );
+    }
+
+    private UserUpsertResult insertUserIfAbsent(Long accountId, String nickname, Timestamp now) {
+        String role = UserRole.USER.name();
+        String status = UserStatus.ACTIVATE.name();
+
+        if (mysql) {
+            GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+            int affectedRows = jdbcTemplate.update(con -> {
+                PreparedStatement ps = con.prepareStatement(MYSQL_INSERT_USER_IF_ABSENT, Statement.RETURN_GENERATED_KEYS);
+                ps.setLong(1, accountId);
+                ps.setString(2, nickname);
+                ps.setString(3, role);
+                ps.setString(4, status);
+                ps.setTimestamp(5, now);
+                ps.setTimestamp(6, now);
+                return ps;
+            }, keyHolder);
+            if (affectedRows == 1) {
+                return new UserUpsertResult(keyHolder.getKey().longValue(), true);
+            }
+            return new UserUpsertResult(findUserIdByAccountId(accountId), false);
+        }
+
+        int affectedRows = jdbcTemplate.update(H2_MERGE_USER_IF_ABSENT,
+                accountId,
+                accountId, nickname, role, status, now, now);
+        return new UserUpsertResult(findUserIdByAccountId(accountId), affectedRows == 1);
+    }
+
+    private Long findUserIdByAccountId(Long accountId) {
+        return jdbcTemplate.queryForObject(
+                "select user_id from users where account_id = ?",
+                Long.class, accountId
+        );
+    }
+
+    // 동시에 같은 키로 저장하면 한 쪽은 유니크 인덱스 위반으로 실패할 수 있다. 다시 시도하면 이미 저장된 값을 사용한다.
+    private <T> T retryOnDuplicateKey(Supplier<T> upsert) {
+        try {
+            return upsert.get();
+        } catch (DuplicateKeyException e) {
+            return upsert.get();
+        }
+    }
+
+    // ON DUPLICATE KEY UPDATE 로 수정된 경우, 드라이버가 두 개의 키를 반환할 수 있다. 첫 번째 키가 LAST_INSERT_ID 값이다.
+    // 변경된 row 가 없어 키를 반환하지 않으면 LAST_INSERT_ID() 를 직접 조회한다.
+    private Long firstGeneratedKey(GeneratedKeyHolder keyHolder) {
+        if (keyHolder.getKeyList().isEmpty()) {
+            return jdbcTemplate.queryForObject("select last_insert_id()", Long.class);
+        }
+        Map<String, Object> keys = keyHolder.getKeyList().get(0);
+        return ((Number) keys.values().iterator().next()).longValue();
+    }
+}
@@ -0,0 +1,15 @@
+package com.comeon.userservice.domain.user.repository;
+
+import lombok.Getter;
+
+@Getter
+public class UserUpsertResult {
+
+    private final Long userId;
+    private final boolean created;
+
+    public UserUpsertResult(Long userId, boolean created) {
+        this.userId = userId;
+        this.created = created;
+    }
+}
@@ -3,63 +3,75 @@ package com.comeon.userservice.domain.user.service;
 import com.comeon.userservice.common.exception.CustomException;
 import com.comeon.userservice.common.exception.ErrorCode;
 import com.comeon.userservice.domain.common.exception.EntityNotFoundException;
+import com.comeon.userservice.domain.profileimage.entity.ProfileImg;
+import com.comeon.userservice.domain.profileimage.repository.ProfileImgRepository;
 import com.comeon.userservice.domain.user.entity.User;
+import com.comeon.userservice.domain.user.event.UserChangedEvent;
 import com.comeon.userservice.domain.user.repository.UserRepository;
+import com.comeon.userservice.domain.user.repository.UserUpsertRepository;
+import com.comeon.userservice.domain.user.repository.UserUpsertResult;
 import com.comeon.userservice.domain.user.service.dto.ModifyUserInfoFields;
 import com.comeon.userservice.domain.user.service.dto.UserAccountDto;
+import com.comeon.userservice.domain.user.withdrawal.UserWithdrawalTask;
+import com.comeon.userservice.domain.user.withdrawal.UserWithdrawalTaskRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
-
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class UserService {
 
     private final UserRepository userRepository;
+    private final UserUpsertRepository userUpsertRepository;
+    private final ProfileImgRepository profileImgRepository;
+    private final UserWithdrawalTaskRepository userWithdrawalTaskRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
+    // 로그인 할 때마다 호출된다. 같은 계정으로 동시에 요청해도 하나의 유저만 저장된다.
     public Long saveUser(UserAccountDto accountDto) {
-        Optional<User> findUser = userRepository.findByOAuthIdAndProvider(
-                accountDto.getOauthId(),
-                accountDto.getProvider()
-        );
+        UserUpsertResult result = userUpsertRepository.upsert(accountDto);
 
-        User user = null;
-        if (findUser.isPresent()) {
-            user = findUser.orElseThrow();
-            user.getAccount().updateOAuthInfo(
-                    accountDto.getEmail(),
-                    accountDto.getName(),
-                    accountDto.getProfileImgUrl()
-            );
-        } else {
-            User signupUser = User.builder()
-                    .account(accountDto.toEntity())
-                    .build();
-            user = userRepository.save(signupUser);
+        if (result.isCreated()) {
+            eventPublisher.publishEvent(new UserChangedEvent(result.getUserId()));
         }
-
-        return user.getId();
+        return result.getUserId();
     }
 
+    // 유저를 탈퇴 처리하고, Auth-Service 연결 끊기 등 외부 시스템 정리 작업을 같은 트랜잭션에서 저장한다.
+    // 저장된 작업은 UserWithdrawalDispatcher 가 백그라운드에서 처리한다.
     public void withdrawUser(Long userId) {
         User user = getUser(userId);
-        
+
+        ProfileImg profileImg = user.getProfileImg();
+        if (profileImg != null) {
+            user.updateProfileImg(null);
+            profileImgRepository.delete(profileImg);
+            userWithdrawalTaskRepository.save(
+                    UserWithdrawalTask.profileImgFileDelete(userId, profileImg.getStoredName())
+            );
+        }
+        userWithdrawalTaskRepository.save(
+                UserWithdrawalTask.authUnlink(userId, user.getAccount().getOauthId())
+        );
+
         user.withdrawal();
+        eventPublisher.publishEvent(new UserChangedEvent(userId));
     }
 
     public void modifyUser(Long userId, ModifyUserInfoFields modifyUserInfoFields) {
         User user = getUser(userId);
 
         user.updateNickname(modifyUserInfoFields.getNickname());
+        eventPublisher.publishEvent(new UserChangedEvent(userId));
     }
 
 
     /* ### private method ### */
     private User getUser(Long userId) {
-        User user = userRepository.findById(userId)
+        User user = userRepository.findByIdForUpdate(userId)
                 .orElseThrow(
                         () -> new EntityNotFoundException("해당 식별자를 가진 User가 없습니다. 요청한 User 식별값 : " + userId)
                 );
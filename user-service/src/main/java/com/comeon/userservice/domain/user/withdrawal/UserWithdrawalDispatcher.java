@@ -0,0 +1,84 @@
+package com.comeon.userservice.domain.user.withdrawal;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// 회원 탈퇴 트랜잭션에서 저장된 작업들을 백그라운드에서 처리한다.
+// 작업은 서로 독립적이므로, 하나가 실패해도 나머지 작업을 계속 처리한다.
+// 실패한 작업은 지수적으로 늘어나는 간격으로 다시 시도하고, 최대 시도 횟수를 넘기면 FAILED 상태로 남긴다.
+@Slf4j
+public class UserWithdrawalDispatcher {
+
+    private final UserWithdrawalTaskRepository userWithdrawalTaskRepository;
+    private final Map<UserWithdrawalTaskType, UserWithdrawalTaskHandler> handlers = new EnumMap<>(UserWithdrawalTaskType.class);
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    public UserWithdrawalDispatcher(UserWithdrawalTaskRepository userWithdrawalTaskRepository,
+                                    List<UserWithdrawalTaskHandler> handlers,
+                                    TransactionTemplate transactionTemplate,
+                                    int batchSize,
+                                    int maxAttempts,
+                                    Duration initialBackoff,
+                                    Duration maxBackoff) {
+        this.userWithdrawalTaskRepository = userWithdrawalTaskRepository;
+        handlers.forEach(handler -> this.handlers.put(handler.getType(), handler));
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    @Scheduled(fixedDelayString = "${user.withdrawal.dispatcher.poll-interval:1000}")
+    public void dispatch() {
+        List<UserWithdrawalTask> tasks;
+        do {
+            tasks = userWithdrawalTaskRepository.findDue(LocalDateTime.now(), PageRequest.of(0, batchSize));
+            tasks.forEach(this::handle);
+        } while (tasks.size() == batchSize);
+    }
+
+    private void handle(UserWithdrawalTask task) {
+        try {
+            UserWithdrawalTaskHandler handler = handlers.get(task.getType());
+            if (handler == null) {
+                throw new IllegalStateException("회원 탈퇴 작업 처리기가 없습니다. type : " + task.getType());
+            }
+            handler.handle(task);
+        } catch (RuntimeException e) {
+            transactionTemplate.executeWithoutResult(status -> onFailure(task, e));
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> userWithdrawalTaskRepository.deleteById(task.getId()));
+    }
+
+    private void onFailure(UserWithdrawalTask task, RuntimeException e) {
+        if (task.getAttempts() + 1 >= maxAttempts) {
+            log.error("[user-withdrawal] task failed. taskId : {}, userId : {}, type : {}, attempts : {}",
+                    task.getId(), task.getUserId(), task.getType(), task.getAttempts() + 1, e);
+            task.fail();
+        } else {
+            log.warn("[user-withdrawal] task will be retried. taskId : {}, userId : {}, type : {}, attempts : {}",
+                    task.getId(), task.getUserId(), task.getType(), task.getAttempts() + 1, e);
+            task.retryAt(LocalDateTime.now().plus(backoff(task.getAttempts())));
+        }
+        userWithdrawalTaskRepository.save(task);
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempts, 20));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+}
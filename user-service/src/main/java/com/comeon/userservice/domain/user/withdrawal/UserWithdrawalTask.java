@@ -0,0 +1,72 @@
+package com.comeon.userservice.domain.user.withdrawal;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+// 회원 탈퇴 후 처리해야 하는 작업. 회원 탈퇴 트랜잭션 안에서 함께 저장되고, 처리된 후 삭제된다.
+@Entity @Getter
+@Table(name = "user_withdrawal_task", indexes = {
+        @Index(name = "idx_user_withdrawal_task_status_next_attempt", columnList = "status, nextAttemptDate")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserWithdrawalTask {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "user_withdrawal_task_id")
+    private Long id;
+
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    private UserWithdrawalTaskType type;
+
+    @Enumerated(EnumType.STRING)
+    private UserWithdrawalTaskStatus status;
+
+    // AUTH_UNLINK : 유저 토큰은 저장하지 않는다. Auth-Service 가 oauthId 로 연결을 끊고(카카오 어드민 키), 리프레시 토큰을 삭제한다.
+    private String oauthId;
+
+    // PROFILE_IMG_FILE_DELETE
+    private String storedFileName;
+
+    private int attempts;
+
+    private LocalDateTime nextAttemptDate;
+
+    private LocalDateTime createdDate;
+
+    private UserWithdrawalTask(Long userId, UserWithdrawalTaskType type) {
+        this.userId = userId;
+        this.type = type;
+        this.status = UserWithdrawalTaskStatus.PENDING;
+        this.createdDate = LocalDateTime.now();
+        this.nextAttemptDate = this.createdDate;
+    }
+
+    public static UserWithdrawalTask authUnlink(Long userId, String oauthId) {
+        UserWithdrawalTask task = new UserWithdrawalTask(userId, UserWithdrawalTaskType.AUTH_UNLINK);
+        task.oauthId = oauthId;
+        return task;
+    }
+
+    public static UserWithdrawalTask profileImgFileDelete(Long userId, String storedFileName) {
+        UserWithdrawalTask task = new UserWithdrawalTask(userId, UserWithdrawalTaskType.PROFILE_IMG_FILE_DELETE);
+        task.storedFileName = storedFileName;
+        return task;
+    }
+
+    public void retryAt(LocalDateTime nextAttemptDate) {
+        this.attempts++;
+        this.nextAttemptDate = nextAttemptDate;
+    }
+
+    public void fail() {
+        this.attempts++;
+        this.status = UserWithdrawalTaskStatus.FAILED;
+    }
+}
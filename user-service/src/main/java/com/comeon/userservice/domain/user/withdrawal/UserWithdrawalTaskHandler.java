@@ -0,0 +1,9 @@
+package com.comeon.userservice.domain.user.withdrawal;
+
+// 회원 탈퇴 작업 유형별 처리기. 처리에 실패하면 예외를 던지고, 디스패처가 다시 시도한다.
+public interface UserWithdrawalTaskHandler {
+
+    UserWithdrawalTaskType getType();
+
+    void handle(UserWithdrawalTask task);
+}
@@ -0,0 +1,20 @@
+package com.comeon.userservice.domain.user.withdrawal;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface UserWithdrawalTaskRepository extends JpaRepository<UserWithdrawalTask, Long> {
+
+    @Query("select t from UserWithdrawalTask t " +
+            "where t.status = com.comeon.userservice.domain.user.withdrawal.UserWithdrawalTaskStatus.PENDING " +
+            "and t.nextAttemptDate <= :now " +
+            "order by t.id asc")
+    List<UserWithdrawalTask> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    List<UserWithdrawalTask> findByUserId(Long userId);
+}
@@ -0,0 +1,7 @@
+package com.comeon.userservice.domain.user.withdrawal;
+
+public enum UserWithdrawalTaskStatus {
+
+    PENDING,
+    FAILED,
+}
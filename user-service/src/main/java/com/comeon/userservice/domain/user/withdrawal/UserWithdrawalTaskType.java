@@ -0,0 +1,15 @@
+package com.comeon.userservice.domain.user.withdrawal;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum UserWithdrawalTaskType {
+
+    AUTH_UNLINK("Auth-Service 에 소셜 로그인 연결 끊기 및 로그아웃 요청"),
+    PROFILE_IMG_FILE_DELETE("프로필 이미지 파일 삭제"),
+    ;
+
+    private final String description;
+}
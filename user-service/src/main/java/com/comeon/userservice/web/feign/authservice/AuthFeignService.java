@@ -1,11 +1,16 @@
 package com.comeon.userservice.web.feign.authservice;
 
 import com.comeon.userservice.common.exception.CustomException;
+import com.comeon.userservice.common.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.client.circuitbreaker.CircuitBreaker;
 import org.springframework.cloud.client.circuitbreaker.CircuitBreakerFactory;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.annotation.PostConstruct;
 
 @Slf4j
 @Component
@@ -17,10 +22,38 @@ public class AuthFeignService {
     private final AuthServiceFeignClient authServiceFeignClient;
     private final CircuitBreakerFactory circuitBreakerFactory;
 
-    public void userUnlink(String accessToken, Long userOauthId) {
+    // 유저 토큰 대신 서비스 간 공유 키로 인증한다. 토큰 만료와 관계없이 재시도할 수 있다.
+    // 기본값이 없으므로 config-service 에 키가 등록되어 있어야 기동된다.
+    @Value("${auth.service-key:}")
+    private String serviceKey;
+
+    @PostConstruct
+    void checkServiceKey() {
+        if (!StringUtils.hasText(serviceKey)) {
+            throw new IllegalStateException(
+                    "auth.service-key 가 설정되지 않았습니다. config-service 에 auth-service 와 같은 서비스 인증 키를 등록해주세요."
+            );
+        }
+    }
+
+    // 엑세스 토큰을 블랙리스트에 등록한다. 실패하면 예외가 발생하고, 탈퇴를 처리하지 않는다.
+    public void userLogout(String accessToken) {
+        CircuitBreaker userLogoutCb = circuitBreakerFactory.create("userLogout");
+        userLogoutCb.run(
+                () -> authServiceFeignClient.logout(serviceKey, BEARER_TOKEN_TYPE + accessToken),
+                throwable -> {
+                    if (throwable instanceof CustomException) {
+                        throw (CustomException) throwable;
+                    }
+                    throw new CustomException(throwable, ErrorCode.AUTH_SERVICE_ERROR);
+                }
+        );
+    }
+
+    public void userUnlink(Long userId, Long userOauthId) {
         CircuitBreaker userUnlinkCb = circuitBreakerFactory.create("userUnlink");
         userUnlinkCb.run(
-                () -> authServiceFeignClient.unlink(BEARER_TOKEN_TYPE + accessToken, userOauthId),
+                () -> authServiceFeignClient.unlink(serviceKey, userId, userOauthId),
                 throwable -> {
                     throw (CustomException) throwable;
                 }
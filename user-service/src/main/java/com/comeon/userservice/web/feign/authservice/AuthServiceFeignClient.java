@@ -1,5 +1,6 @@
 package com.comeon.userservice.web.feign.authservice;
 
+import com.comeon.userservice.web.feign.authservice.response.LogoutResponse;
 import com.comeon.userservice.web.feign.authservice.response.UnlinkResponse;
 import com.comeon.userservice.web.common.response.ApiResponse;
 import org.springframework.cloud.openfeign.FeignClient;
@@ -11,8 +12,16 @@ import org.springframework.web.bind.annotation.RequestParam;
 @FeignClient(name = "auth-service")
 public interface AuthServiceFeignClient {
 
-    @PostMapping("/auth/unlink")
+    String SERVICE_KEY_HEADER = "X-Service-Key";
+
+    @PostMapping("/internal/auth/unlink")
     ApiResponse<UnlinkResponse> unlink(
-            @RequestHeader(HttpHeaders.AUTHORIZATION) String bearerAccessToken,
+            @RequestHeader(SERVICE_KEY_HEADER) String serviceKey,
+            @RequestParam Long userId,
             @RequestParam Long userOauthId);
+
+    @PostMapping("/internal/auth/logout")
+    ApiResponse<LogoutResponse> logout(
+            @RequestHeader(SERVICE_KEY_HEADER) String serviceKey,
+            @RequestHeader(HttpHeaders.AUTHORIZATION) String authorization);
 }
@@ -0,0 +1,25 @@
+package com.comeon.userservice.web.feign.authservice;
+
+import com.comeon.userservice.domain.user.withdrawal.UserWithdrawalTask;
+import com.comeon.userservice.domain.user.withdrawal.UserWithdrawalTaskHandler;
+import com.comeon.userservice.domain.user.withdrawal.UserWithdrawalTaskType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// 탈퇴한 유저의 소셜 로그인 연결 끊기와 리프레시 토큰 삭제를 Auth-Service 에 요청한다.
+@Component
+@RequiredArgsConstructor
+public class AuthUnlinkTaskHandler implements UserWithdrawalTaskHandler {
+
+    private final AuthFeignService authFeignService;
+
+    @Override
+    public UserWithdrawalTaskType getType() {
+        return UserWithdrawalTaskType.AUTH_UNLINK;
+    }
+
+    @Override
+    public void handle(UserWithdrawalTask task) {
+        authFeignService.userUnlink(task.getUserId(), Long.parseLong(task.getOauthId()));
+    }
+}
@@ -0,0 +1,15 @@
+package com.comeon.userservice.web.feign.authservice.response;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter @Setter
+@NoArgsConstructor
+public class LogoutResponse {
+    private String message;
+
+    public LogoutResponse(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,30 @@
+package com.comeon.userservice.web.profileimage.task;
+
+import com.comeon.userservice.domain.user.withdrawal.UserWithdrawalTask;
+import com.comeon.userservice.domain.user.withdrawal.UserWithdrawalTaskHandler;
+import com.comeon.userservice.domain.user.withdrawal.UserWithdrawalTaskType;
+import com.comeon.userservice.web.common.file.FileManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 탈퇴한 유저의 프로필 이미지 파일을 삭제한다.
+@Component
+@RequiredArgsConstructor
+public class ProfileImgFileDeleteTaskHandler implements UserWithdrawalTaskHandler {
+
+    private final FileManager fileManager;
+
+    @Value("${s3.folder-name.user}")
+    private String dirName;
+
+    @Override
+    public UserWithdrawalTaskType getType() {
+        return UserWithdrawalTaskType.PROFILE_IMG_FILE_DELETE;
+    }
+
+    @Override
+    public void handle(UserWithdrawalTask task) {
+        fileManager.delete(task.getStoredFileName(), dirName);
+    }
+}
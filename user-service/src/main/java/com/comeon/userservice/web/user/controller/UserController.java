@@ -3,10 +3,11 @@ package com.comeon.userservice.web.user.controller;
 import com.comeon.userservice.config.argresolver.CurrentUserId;
 import com.comeon.userservice.domain.user.service.UserService;
 import com.comeon.userservice.web.common.response.ListResponse;
-import com.comeon.userservice.web.feign.authservice.AuthFeignService;
 import com.comeon.userservice.web.common.aop.ValidationRequired;
 import com.comeon.userservice.web.common.response.ApiResponse;
+import com.comeon.userservice.web.feign.authservice.AuthFeignService;
 import com.comeon.userservice.web.user.query.UserQueryService;
+import com.comeon.userservice.web.user.request.UserBatchRequest;
 import com.comeon.userservice.web.user.request.UserModifyRequest;
 import com.comeon.userservice.web.user.request.UserSaveRequest;
 import com.comeon.userservice.web.user.response.*;
@@ -55,6 +56,16 @@ public class UserController {
         );
     }
 
+    // 회원 리스트 일괄 조회. 조회는 chunk 단위로 나누어 하고, 모두 조회한 후에 응답한다.
+    @PostMapping("/batch")
+    @ValidationRequired
+    public ApiResponse<ListResponse<UserSimpleResponse>> userBatch(@Validated @RequestBody UserBatchRequest request,
+                                                                    BindingResult bindingResult) {
+        return ApiResponse.createSuccess(
+                userQueryService.getUserSimpleList(request.getUserIds())
+        );
+    }
+
     // 내 상세정보 조회
     @GetMapping("/me")
     public ApiResponse<UserDetailResponse> myDetails(@CurrentUserId Long currentUserId) {
@@ -65,11 +76,10 @@ public class UserController {
     @DeleteMapping("/me")
     public ApiResponse<UserWithdrawResponse> userWithdraw(@CurrentUserId Long currentUserId,
                                                           HttpServletRequest httpServletRequest) {
-        // auth-service에 회원 탈퇴 요청
-        Long userOauthId = userQueryService.getUserOauthId(currentUserId);
-        String accessToken = resolveAccessToken(httpServletRequest);
-        authFeignService.userUnlink(accessToken, userOauthId);
+        // 탈퇴 처리 전에 엑세스 토큰을 블랙리스트에 등록한다. 등록에 실패하면 탈퇴를 처리하지 않는다.
+        authFeignService.userLogout(resolveAccessToken(httpServletRequest));
 
+        // 카카오 연결 끊기 등은 UserWithdrawalDispatcher 가 백그라운드에서 처리한다.
         userService.withdrawUser(currentUserId);
 
         return ApiResponse.createSuccess(new UserWithdrawResponse());
@@ -86,7 +96,6 @@ public class UserController {
         return ApiResponse.createSuccess(new UserModifyResponse());
     }
 
-
     private String resolveAccessToken(HttpServletRequest request) {
         return request.getHeader(HttpHeaders.AUTHORIZATION).substring(7);
     }
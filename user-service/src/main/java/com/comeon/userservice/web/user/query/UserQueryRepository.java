@@ -1,11 +1,13 @@
 package com.comeon.userservice.web.user.query;
 
 import com.comeon.userservice.domain.user.entity.User;
+import com.comeon.userservice.web.user.query.dto.UserSimpleData;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +24,13 @@ public interface UserQueryRepository extends JpaRepository<User, Long> {
             "order by u.id asc ")
     List<User> findByIdInIdListFetchProfileImg(@Param("userIdList") List<Long> userIdList);
 
+    @Query("select new com.comeon.userservice.web.user.query.dto.UserSimpleData(u.id, u.nickname, u.status, p.storedName) " +
+            "from User u " +
+            "left join u.profileImg p " +
+            "where u.id in :userIds " +
+            "order by u.id asc ")
+    List<UserSimpleData> findUserSimpleDataInIdList(@Param("userIds") Collection<Long> userIds);
+
     @EntityGraph(attributePaths = {"account"})
     @Query("select u from User u " +
             "where u.id = :userId")
@@ -6,6 +6,7 @@ import com.comeon.userservice.domain.common.exception.EntityNotFoundException;
 import com.comeon.userservice.domain.user.entity.User;
 import com.comeon.userservice.web.common.file.FileManager;
 import com.comeon.userservice.web.common.response.ListResponse;
+import com.comeon.userservice.web.user.query.dto.UserSimpleData;
 import com.comeon.userservice.web.user.response.UserDetailResponse;
 import com.comeon.userservice.web.user.response.UserSimpleResponse;
 import lombok.RequiredArgsConstructor;
@@ -13,8 +14,12 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Service
 @RequiredArgsConstructor
@@ -24,8 +29,12 @@ public class UserQueryService {
     @Value("${s3.folder-name.user}")
     private String dirName;
 
+    @Value("${user.batch.chunk-size:500}")
+    private int batchChunkSize;
+
     private final UserQueryRepository userQueryRepository;
     private final FileManager fileManager;
+    private final UserSimpleCache userSimpleCache;
 
     public UserDetailResponse getUserDetails(Long userId) {
         User user = getUser(userId);
@@ -38,35 +47,53 @@ public class UserQueryService {
     }
 
     public UserSimpleResponse getUserSimple(Long userId) {
-        User user = getUser(userId);
+        return userSimpleCache.get(userId, id -> toUserSimpleResponse(getUser(id)));
+    }
 
-        if (!user.isActivateUser()) {
-            return UserSimpleResponse.withdrawnUserResponseBuilder()
-                    .user(user)
-                    .build();
-        }
+    // 캐시에 없는 유저들만 한 번에 조회한다. 응답은 유저 식별값 오름차순으로 정렬한다.
+    public ListResponse<UserSimpleResponse> getUserList(List<Long> userIds) {
+        List<Long> sortedUserIds = userIds.stream()
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList());
+
+        Map<Long, UserSimpleResponse> userSimpleMap = userSimpleCache.getAll(
+                sortedUserIds,
+                missingUserIds -> {
+                    List<Long> idsToLoad = new ArrayList<>();
+                    missingUserIds.forEach(idsToLoad::add);
+                    return userQueryRepository.findByIdInIdListFetchProfileImg(idsToLoad).stream()
+                            .collect(Collectors.toMap(User::getId, this::toUserSimpleResponse));
+                }
+        );
 
-        return UserSimpleResponse.activateUserResponseBuilder()
-                .user(user)
-                .profileImgUrl(getFileUrl(user))
-                .build();
+        return ListResponse.toListResponse(
+                sortedUserIds.stream()
+                        .map(userSimpleMap::get)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toList())
+        );
     }
 
-    public ListResponse<UserSimpleResponse> getUserList(List<Long> userIds) {
+    // 식별값의 중복을 제거하고 정렬한 후, chunk 단위로 나누어 조회한다.
+    // 모든 chunk 를 응답을 쓰기 전에 조회하므로, 중간에 조회가 실패하면 200 응답이 나가지 않고 요청 전체가 실패한다.
+    public ListResponse<UserSimpleResponse> getUserSimpleList(List<Long> userIds) {
+        List<Long> sortedUserIds = userIds.stream()
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList());
+
+        int chunkCount = (sortedUserIds.size() + batchChunkSize - 1) / batchChunkSize;
         return ListResponse.toListResponse(
-                userQueryRepository.findByIdInIdListFetchProfileImg(userIds).stream()
-                        .map(user -> {
-                                    if (user.isActivateUser()) {
-                                        return UserSimpleResponse.activateUserResponseBuilder()
-                                                .user(user)
-                                                .profileImgUrl(getFileUrl(user))
-                                                .build();
-                                    }
-                                    return UserSimpleResponse.withdrawnUserResponseBuilder()
-                                            .user(user)
-                                            .build();
-                                }
-                        ).collect(Collectors.toList())
+                IntStream.range(0, chunkCount)
+                        .mapToObj(i -> sortedUserIds.subList(i * batchChunkSize, Math.min((i + 1) * batchChunkSize, sortedUserIds.size())))
+                        .flatMap(chunk -> userQueryRepository.findUserSimpleDataInIdList(chunk).stream())
+                        .map(userSimpleData -> UserSimpleResponse.userSimpleDataResponseBuilder()
+                                .userSimpleData(userSimpleData)
+                                .profileImgUrl(getFileUrl(userSimpleData))
+                                .build()
+                        )
+                        .collect(Collectors.toList())
         );
     }
 
@@ -90,10 +117,30 @@ public class UserQueryService {
                 );
     }
 
+    private UserSimpleResponse toUserSimpleResponse(User user) {
+        if (!user.isActivateUser()) {
+            return UserSimpleResponse.withdrawnUserResponseBuilder()
+                    .user(user)
+                    .build();
+        }
+
+        return UserSimpleResponse.activateUserResponseBuilder()
+                .user(user)
+                .profileImgUrl(getFileUrl(user))
+                .build();
+    }
+
     private String getFileUrl(User user) {
         if (user.getProfileImg() != null) {
             return fileManager.getFileUrl(user.getProfileImg().getStoredName(), dirName);
         }
         return null;
     }
+
+    private String getFileUrl(UserSimpleData userSimpleData) {
+        if (userSimpleData.isActivateUser() && userSimpleData.getProfileImgStoredName() != null) {
+            return fileManager.getFileUrl(userSimpleData.getProfileImgStoredName(), dirName);
+        }
+        return null;
+    }
 }
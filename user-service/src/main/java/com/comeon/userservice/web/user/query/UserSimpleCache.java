@@ -0,0 +1,73 @@
+package com.comeon.userservice.web.user.query;
+
+import com.comeon.userservice.domain.user.event.UserChangedEvent;
+import com.comeon.userservice.web.user.response.UserSimpleResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+// 유저 기본 정보(닉네임, 상태, 프로필 이미지 URL) 캐시.
+// 유저 정보가 변경되면 트랜잭션 커밋 직후에 해당 유저의 캐시를 제거한다.
+@Component
+public class UserSimpleCache {
+
+    static final String CACHE_NAME = "userSimple";
+
+    private final Cache<Long, UserSimpleResponse> cache;
+
+    public UserSimpleCache(MeterRegistry meterRegistry,
+                           @Value("${user.cache.simple.maximum-size:10000}") long maximumSize,
+                           @Value("${user.cache.simple.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+
+        // cache.gets, cache.puts, cache.evictions, cache.size
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        // CaffeineCacheMetrics 는 LoadingCache 에 대해서만 조회 시간을 기록하므로 직접 등록한다.
+        FunctionTimer.builder("cache.load.duration", cache,
+                        c -> c.stats().loadCount(),
+                        c -> c.stats().totalLoadTime(),
+                        TimeUnit.NANOSECONDS)
+                .tag("cache", CACHE_NAME)
+                .description("The time the cache has spent loading new values")
+                .register(meterRegistry);
+        Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .tag("cache", CACHE_NAME)
+                .description("The ratio of cache requests which were hits")
+                .register(meterRegistry);
+    }
+
+    public UserSimpleResponse get(Long userId, Function<Long, UserSimpleResponse> loader) {
+        return cache.get(userId, loader);
+    }
+
+    // 캐시에 없는 식별값들은 한 번에 조회한다. 조회되지 않은 식별값은 결과에서 제외된다.
+    public Map<Long, UserSimpleResponse> getAll(Collection<Long> userIds,
+                                                Function<Iterable<? extends Long>, Map<Long, UserSimpleResponse>> loader) {
+        return cache.getAll(userIds, loader);
+    }
+
+    public void evict(Long userId) {
+        cache.invalidate(userId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        evict(event.getUserId());
+    }
+}
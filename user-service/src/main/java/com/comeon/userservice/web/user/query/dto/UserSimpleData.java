@@ -0,0 +1,24 @@
+package com.comeon.userservice.web.user.query.dto;
+
+import com.comeon.userservice.domain.user.entity.UserStatus;
+import lombok.Getter;
+
+@Getter
+public class UserSimpleData {
+
+    private Long userId;
+    private String nickname;
+    private UserStatus status;
+    private String profileImgStoredName;
+
+    public UserSimpleData(Long userId, String nickname, UserStatus status, String profileImgStoredName) {
+        this.userId = userId;
+        this.nickname = nickname;
+        this.status = status;
+        this.profileImgStoredName = profileImgStoredName;
+    }
+
+    public boolean isActivateUser() {
+        return this.status == UserStatus.ACTIVATE;
+    }
+}
@@ -0,0 +1,24 @@
+package com.comeon.userservice.web.user.request;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class UserBatchRequest {
+
+    public static final int MAX_USER_IDS = 1000;
+
+    @NotEmpty
+    @Size(max = MAX_USER_IDS)
+    private List<@NotNull Long> userIds;
+
+    public UserBatchRequest(List<Long> userIds) {
+        this.userIds = userIds;
+    }
+}
@@ -1,6 +1,7 @@
 package com.comeon.userservice.web.user.response;
 
 import com.comeon.userservice.domain.user.entity.User;
+import com.comeon.userservice.web.user.query.dto.UserSimpleData;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -26,4 +27,15 @@ public class UserSimpleResponse {
         this.status = user.getStatus().name();
     }
 
+    // 탈퇴한 유저는 userId, status 정보만 가진다.
+    @Builder(builderClassName = "userSimpleDataResponseBuilder", builderMethodName = "userSimpleDataResponseBuilder")
+    public UserSimpleResponse(UserSimpleData userSimpleData, String profileImgUrl) {
+        this.userId = userSimpleData.getUserId();
+        this.status = userSimpleData.getStatus().name();
+        if (userSimpleData.isActivateUser()) {
+            this.nickname = userSimpleData.getNickname();
+            this.profileImgUrl = profileImgUrl;
+        }
+    }
+
 }
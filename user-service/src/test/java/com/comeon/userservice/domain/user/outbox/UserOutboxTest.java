@@ -0,0 +1,140 @@
+package com.comeon.userservice.domain.user.outbox;
+
+import com.comeon.userservice.domain.user.entity.OAuthProvider;
+import com.comeon.userservice.domain.user.entity.UserStatus;
+import com.comeon.userservice.domain.user.repository.UserRepository;
+import com.comeon.userservice.domain.user.service.UserService;
+import com.comeon.userservice.domain.user.service.dto.ModifyUserInfoFields;
+import com.comeon.userservice.domain.user.service.dto.UserAccountDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+// outbox 는 트랜잭션 커밋 시점에 저장되므로, 테스트 트랜잭션 없이 수행한다.
+@SpringBootTest
+@ActiveProfiles("test")
+class UserOutboxTest {
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    UserOutboxRepository userOutboxRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    // 메시지 브로커를 대신하여 발행된 메시지를 저장한다.
+    List<UserChangedMessage> broker = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        userOutboxRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    private Long saveUser(String oauthId) {
+        return userService.saveUser(
+                UserAccountDto.builder()
+                        .oauthId(oauthId)
+                        .provider(OAuthProvider.KAKAO)
+                        .email(oauthId + "@email.com")
+                        .name("name" + oauthId)
+                        .build()
+        );
+    }
+
+    private UserOutboxRelay relay(UserChangedPublisher publisher) {
+        return new UserOutboxRelay(userOutboxRepository, publisher, new TransactionTemplate(transactionManager), 2);
+    }
+
+    @Nested
+    @DisplayName("outbox 저장")
+    class record {
+
+        @Test
+        @DisplayName("유저가 가입, 수정, 탈퇴하면 커밋 시점의 유저 정보가 증가하는 version 과 함께 outbox 에 저장된다.")
+        void recordOnCommit() {
+            // given
+            Long userId = saveUser("oauthId1");
+
+            // when
+            userService.modifyUser(userId, new ModifyUserInfoFields("newNickname"));
+            userService.withdrawUser(userId);
+
+            // then
+            List<UserOutbox> outboxes = userOutboxRepository.findAll();
+            assertThat(outboxes).hasSize(3);
+            assertThat(outboxes).extracting(UserOutbox::getUserId).containsOnly(userId);
+            assertThat(outboxes).extracting(UserOutbox::getVersion).isSorted().doesNotHaveDuplicates();
+
+            assertThat(outboxes.get(0).getNickname()).isEqualTo("nameoauthId1");
+            assertThat(outboxes.get(1).getNickname()).isEqualTo("newNickname");
+            assertThat(outboxes.get(1).getStatus()).isEqualTo(UserStatus.ACTIVATE);
+            assertThat(outboxes.get(2).getNickname()).isNull();
+            assertThat(outboxes.get(2).getStatus()).isEqualTo(UserStatus.WITHDRAWN);
+        }
+    }
+
+    @Nested
+    @DisplayName("outbox 발행")
+    class relay {
+
+        @Test
+        @DisplayName("저장된 순서대로 발행하고, 발행된 이벤트는 outbox 에서 삭제한다.")
+        void publishInOrder() {
+            // given
+            Long userId1 = saveUser("oauthId1");
+            Long userId2 = saveUser("oauthId2");
+            userService.modifyUser(userId1, new ModifyUserInfoFields("newNickname"));
+
+            // when
+            relay(broker::add).relay();
+
+            // then
+            assertThat(broker).extracting(UserChangedMessage::getUserId)
+                    .containsExactly(userId1, userId2, userId1);
+            assertThat(broker.get(2).getNickname()).isEqualTo("newNickname");
+            assertThat(broker.get(2).getVersion()).isGreaterThan(broker.get(0).getVersion());
+            assertThat(userOutboxRepository.count()).isZero();
+        }
+
+        @Test
+        @DisplayName("발행에 실패하면 실패한 이벤트부터 outbox 에 남겨두고, 다음 발행 때 다시 발행한다.")
+        void retryFailedEvent() {
+            // given
+            Long userId1 = saveUser("oauthId1");
+            Long userId2 = saveUser("oauthId2");
+
+            // when
+            relay(message -> {
+                if (message.getUserId().equals(userId2)) {
+                    throw new IllegalStateException("broker unavailable");
+                }
+                broker.add(message);
+            }).relay();
+
+            // then
+            assertThat(broker).extracting(UserChangedMessage::getUserId).containsExactly(userId1);
+            assertThat(userOutboxRepository.findAll()).extracting(UserOutbox::getUserId).containsExactly(userId2);
+
+            relay(broker::add).relay();
+            assertThat(broker).extracting(UserChangedMessage::getUserId).containsExactly(userId1, userId2);
+            assertThat(userOutboxRepository.count()).isZero();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.comeon.userservice.domain.user.repository;
+
+import com.comeon.userservice.domain.user.entity.OAuthProvider;
+import com.comeon.userservice.domain.user.service.dto.UserAccountDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    MySQL 의 upsert 문장을 실제 MySQL 에서 실행한다. 드라이버 설정은 기본값(CLIENT_FOUND_ROWS 사용)을 그대로 둔다.
+    H2 는 MERGE 로 처리하므로 다른 테스트에서는 이 분기를 실행하지 않는다.
+ */
+@Testcontainers
+@ActiveProfiles("test")
+@Import(UserUpsertRepository.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest
+class UserUpsertRepositoryMySqlTest {
+
+    @Container
+    static final MySQLContainer<?> MYSQL_CONTAINER = new MySQLContainer<>("mysql:8.0.30");
+
+    @DynamicPropertySource
+    static void overrideProps(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL_CONTAINER::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL_CONTAINER::getUsername);
+        registry.add("spring.datasource.password", MYSQL_CONTAINER::getPassword);
+        registry.add("spring.datasource.driver-class-name", MYSQL_CONTAINER::getDriverClassName);
+    }
+
+    @Autowired
+    UserUpsertRepository userUpsertRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private UserAccountDto accountDto(String oauthId, String email) {
+        return UserAccountDto.builder()
+                .oauthId(oauthId)
+                .provider(OAuthProvider.KAKAO)
+                .email(email)
+                .name("name")
+                .profileImgUrl("profileImgUrl")
+                .build();
+    }
+
+    @Test
+    @DisplayName("처음 로그인하면 계정과 유저를 저장하고 새로 저장되었다고 반환한다.")
+    void firstLogin() {
+        UserUpsertResult result = userUpsertRepository.upsert(accountDto("oauthId1", "email@email.com"));
+
+        assertThat(result.isCreated()).isTrue();
+        assertThat(result.getUserId()).isEqualTo(
+                jdbcTemplate.queryForObject("select user_id from users", Long.class)
+        );
+    }
+
+    @Test
+    @DisplayName("다시 로그인하면 같은 유저 식별값을 반환하고, 새로 저장되지 않았다고 반환한다.")
+    void repeatLogin() {
+        UserUpsertResult first = userUpsertRepository.upsert(accountDto("oauthId2", "email@email.com"));
+        UserUpsertResult second = userUpsertRepository.upsert(accountDto("oauthId2", "email@email.com"));
+
+        assertThat(second.isCreated()).isFalse();
+        assertThat(second.getUserId()).isEqualTo(first.getUserId());
+        assertThat(jdbcTemplate.queryForObject("select count(*) from users", Long.class)).isEqualTo(1L);
+        assertThat(jdbcTemplate.queryForObject("select version from users", Long.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("다시 로그인할 때 바뀐 계정 정보는 같은 계정에 반영된다.")
+    void repeatLoginWithChangedAccount() {
+        UserUpsertResult first = userUpsertRepository.upsert(accountDto("oauthId3", "before@email.com"));
+        UserUpsertResult second = userUpsertRepository.upsert(accountDto("oauthId3", "after@email.com"));
+
+        assertThat(second.isCreated()).isFalse();
+        assertThat(second.getUserId()).isEqualTo(first.getUserId());
+        assertThat(jdbcTemplate.queryForObject("select count(*) from user_account", Long.class)).isEqualTo(1L);
+        assertThat(jdbcTemplate.queryForObject("select email from user_account", String.class)).isEqualTo("after@email.com");
+    }
+
+    @Test
+    @DisplayName("다른 계정으로 로그인하면 각각의 유저를 저장한다.")
+    void otherAccounts() {
+        UserUpsertResult first = userUpsertRepository.upsert(accountDto("oauthId4", "email@email.com"));
+        UserUpsertResult second = userUpsertRepository.upsert(accountDto("oauthId5", "email@email.com"));
+
+        assertThat(first.isCreated()).isTrue();
+        assertThat(second.isCreated()).isTrue();
+        assertThat(second.getUserId()).isNotEqualTo(first.getUserId());
+    }
+}
@@ -0,0 +1,175 @@
+package com.comeon.userservice.domain.user.service;
+
+import com.comeon.userservice.domain.user.entity.OAuthProvider;
+import com.comeon.userservice.domain.user.entity.User;
+import com.comeon.userservice.domain.user.outbox.UserOutbox;
+import com.comeon.userservice.domain.user.outbox.UserOutboxRepository;
+import com.comeon.userservice.domain.user.repository.UserRepository;
+import com.comeon.userservice.domain.user.service.config.AccountRepository;
+import com.comeon.userservice.domain.user.service.dto.ModifyUserInfoFields;
+import com.comeon.userservice.domain.user.service.dto.UserAccountDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+// 각 요청이 별도의 트랜잭션으로 동시에 수행되어야 하므로, 테스트 트랜잭션 없이 수행한다.
+@SpringBootTest
+@ActiveProfiles("test")
+class UserServiceConcurrencyTest {
+
+    static final int THREADS = 16;
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    UserOutboxRepository userOutboxRepository;
+
+    @AfterEach
+    void cleanUp() {
+        userOutboxRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("같은 계정으로 동시에 로그인해도 하나의 계정과 유저만 저장되고, 모든 요청이 같은 유저 식별값을 반환한다.")
+    void concurrentSaveUser() throws Exception {
+        // given
+        UserAccountDto accountDto = UserAccountDto.builder()
+                .oauthId("concurrentOauthId")
+                .provider(OAuthProvider.KAKAO)
+                .email("email@email.com")
+                .name("name")
+                .build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<Future<Long>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            results.add(executor.submit(() -> {
+                ready.countDown();
+                start.await();
+                return userService.saveUser(accountDto);
+            }));
+        }
+        ready.await();
+        start.countDown();
+
+        List<Long> userIds = new ArrayList<>();
+        for (Future<Long> result : results) {
+            userIds.add(result.get(10, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(userIds).containsOnly(userIds.get(0));
+        assertThat(accountRepository.findAll())
+                .filteredOn(account -> account.getOauthId().equals("concurrentOauthId"))
+                .hasSize(1);
+        assertThat(userRepository.findAll()).extracting(User::getId).containsExactly(userIds.get(0));
+        // 새로 저장된 경우에만 유저 변경 이벤트가 저장된다.
+        assertThat(userOutboxRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미 저장된 계정으로 로그인하면 계정 정보만 수정하고, 같은 유저 식별값을 반환한다.")
+    void updateExistingAccount() {
+        // given
+        Long userId = userService.saveUser(
+                UserAccountDto.builder()
+                        .oauthId("oauthId")
+                        .provider(OAuthProvider.KAKAO)
+                        .email("email@email.com")
+                        .name("name")
+                        .build()
+        );
+
+        // when
+        Long savedUserId = userService.saveUser(
+                UserAccountDto.builder()
+                        .oauthId("oauthId")
+                        .provider(OAuthProvider.KAKAO)
+                        .email("newEmail@email.com")
+                        .name("newName")
+                        .build()
+        );
+
+        // then
+        assertThat(savedUserId).isEqualTo(userId);
+        assertThat(accountRepository.findAll())
+                .singleElement()
+                .satisfies(account -> {
+                    assertThat(account.getEmail()).isEqualTo("newEmail@email.com");
+                    assertThat(account.getName()).isEqualTo("newName");
+                    assertThat(account.getCreatedDate()).isNotNull();
+                });
+        assertThat(userOutboxRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 유저의 닉네임을 동시에 변경해도 모든 요청이 성공하고, 변경마다 더 큰 version 으로 outbox 에 저장된다.")
+    void concurrentModifyUser() throws Exception {
+        // given
+        Long userId = userService.saveUser(
+                UserAccountDto.builder()
+                        .oauthId("oauthId")
+                        .provider(OAuthProvider.KAKAO)
+                        .email("email@email.com")
+                        .name("name")
+                        .build()
+        );
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<Future<?>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            String nickname = "nickname" + i;
+            results.add(executor.submit(() -> {
+                ready.countDown();
+                start.await();
+                userService.modifyUser(userId, new ModifyUserInfoFields(nickname));
+                return null;
+            }));
+        }
+        ready.await();
+        start.countDown();
+
+        for (Future<?> result : results) {
+            result.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        List<UserOutbox> outboxes = userOutboxRepository.findAll();
+        outboxes.sort(Comparator.comparing(UserOutbox::getId));
+
+        // 가입 1건과 변경 THREADS 건이 커밋된 순서대로 증가하는 version 을 갖는다.
+        assertThat(outboxes).hasSize(THREADS + 1);
+        assertThat(outboxes).extracting(UserOutbox::getVersion).isSorted().doesNotHaveDuplicates();
+        // 마지막으로 커밋된 변경이 유저에 반영되어 있다.
+        assertThat(userRepository.findById(userId).orElseThrow().getNickname())
+                .isEqualTo(outboxes.get(THREADS).getNickname());
+    }
+}
@@ -3,11 +3,17 @@ package com.comeon.userservice.domain.user.service;
 import com.comeon.userservice.common.exception.CustomException;
 import com.comeon.userservice.common.exception.ErrorCode;
 import com.comeon.userservice.domain.common.exception.EntityNotFoundException;
+import com.comeon.userservice.domain.profileimage.entity.ProfileImg;
+import com.comeon.userservice.domain.profileimage.repository.ProfileImgRepository;
 import com.comeon.userservice.domain.user.entity.*;
 import com.comeon.userservice.domain.user.repository.UserRepository;
 import com.comeon.userservice.domain.user.service.config.AccountRepository;
 import com.comeon.userservice.domain.user.service.dto.ModifyUserInfoFields;
 import com.comeon.userservice.domain.user.service.dto.UserAccountDto;
+import com.comeon.userservice.domain.user.withdrawal.UserWithdrawalTask;
+import com.comeon.userservice.domain.user.withdrawal.UserWithdrawalTaskRepository;
+import com.comeon.userservice.domain.user.withdrawal.UserWithdrawalTaskStatus;
+import com.comeon.userservice.domain.user.withdrawal.UserWithdrawalTaskType;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -35,6 +41,12 @@ class UserServiceTest {
     @Autowired
     AccountRepository accountRepository;
 
+    @Autowired
+    ProfileImgRepository profileImgRepository;
+
+    @Autowired
+    UserWithdrawalTaskRepository userWithdrawalTaskRepository;
+
     @Autowired
     EntityManager em;
 
@@ -146,6 +158,43 @@ class UserServiceTest {
             assertThat(withdrawnUser.getAccount()).isNull();
             // 기존 UserAccount 식별자로 조회되지 않아야 한다.
             assertThat(accountRepository.findById(accountId)).isNotPresent();
+            // Auth-Service 연결 끊기 작업이 함께 저장된다.
+            assertThat(userWithdrawalTaskRepository.findByUserId(userId))
+                    .singleElement()
+                    .satisfies(task -> {
+                        assertThat(task.getType()).isEqualTo(UserWithdrawalTaskType.AUTH_UNLINK);
+                        assertThat(task.getStatus()).isEqualTo(UserWithdrawalTaskStatus.PENDING);
+                        assertThat(task.getOauthId()).isEqualTo("oauthId");
+                    });
+        }
+
+        @Test
+        @DisplayName("탈퇴하는 유저에게 프로필 이미지가 있으면, 프로필 이미지를 지우고 이미지 파일 삭제 작업을 함께 저장한다.")
+        void withdrawWithProfileImg() {
+            // given
+            initUser();
+            Long userId = user.getId();
+            ProfileImg profileImg = profileImgRepository.save(
+                    ProfileImg.builder()
+                            .user(user)
+                            .originalName("originalName")
+                            .storedName("storedName")
+                            .build()
+            );
+            em.flush();
+
+            // when
+            userService.withdrawUser(userId);
+            em.flush();
+
+            // then
+            assertThat(profileImgRepository.findById(profileImg.getId())).isNotPresent();
+            assertThat(userWithdrawalTaskRepository.findByUserId(userId))
+                    .extracting(UserWithdrawalTask::getType, UserWithdrawalTask::getStoredFileName)
+                    .containsExactlyInAnyOrder(
+                            tuple(UserWithdrawalTaskType.PROFILE_IMG_FILE_DELETE, "storedName"),
+                            tuple(UserWithdrawalTaskType.AUTH_UNLINK, null)
+                    );
         }
 
         @Test
@@ -0,0 +1,181 @@
+package com.comeon.userservice.domain.user.withdrawal;
+
+import com.comeon.userservice.domain.user.entity.OAuthProvider;
+import com.comeon.userservice.domain.user.entity.UserStatus;
+import com.comeon.userservice.domain.user.outbox.UserOutboxRepository;
+import com.comeon.userservice.domain.user.repository.UserRepository;
+import com.comeon.userservice.domain.user.service.UserService;
+import com.comeon.userservice.domain.user.service.dto.UserAccountDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+// 탈퇴 작업은 탈퇴 트랜잭션이 커밋된 후 처리되므로, 테스트 트랜잭션 없이 수행한다.
+@SpringBootTest
+@ActiveProfiles("test")
+class UserWithdrawalDispatcherTest {
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    UserOutboxRepository userOutboxRepository;
+
+    @Autowired
+    UserWithdrawalTaskRepository userWithdrawalTaskRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    // Auth-Service 를 대신하여 연결 끊기 요청을 받은 oauthId 를 저장한다.
+    List<String> unlinkedOauthIds = new ArrayList<>();
+    int failuresBeforeSuccess;
+
+    @AfterEach
+    void cleanUp() {
+        userWithdrawalTaskRepository.deleteAll();
+        userOutboxRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    private Long saveUser(String oauthId) {
+        return userService.saveUser(
+                UserAccountDto.builder()
+                        .oauthId(oauthId)
+                        .provider(OAuthProvider.KAKAO)
+                        .email(oauthId + "@email.com")
+                        .name("name" + oauthId)
+                        .build()
+        );
+    }
+
+    private UserWithdrawalDispatcher dispatcher(int maxAttempts, Duration initialBackoff) {
+        UserWithdrawalTaskHandler authUnlinkHandler = new UserWithdrawalTaskHandler() {
+            @Override
+            public UserWithdrawalTaskType getType() {
+                return UserWithdrawalTaskType.AUTH_UNLINK;
+            }
+
+            @Override
+            public void handle(UserWithdrawalTask task) {
+                if (failuresBeforeSuccess > 0) {
+                    failuresBeforeSuccess--;
+                    throw new IllegalStateException("Auth Service 이용 불가");
+                }
+                unlinkedOauthIds.add(task.getOauthId());
+            }
+        };
+        return new UserWithdrawalDispatcher(
+                userWithdrawalTaskRepository,
+                List.of(authUnlinkHandler),
+                new TransactionTemplate(transactionManager),
+                10,
+                maxAttempts,
+                initialBackoff,
+                Duration.ofMinutes(10)
+        );
+    }
+
+    @Nested
+    @DisplayName("회원 탈퇴 작업 처리")
+    class dispatch {
+
+        @Test
+        @DisplayName("탈퇴 요청은 외부 시스템 호출 없이 처리되고, 저장된 작업은 디스패처가 처리한 후 삭제된다.")
+        void success() {
+            // given
+            Long userId = saveUser("1000");
+
+            // when
+            userService.withdrawUser(userId);
+
+            // then
+            assertThat(userRepository.findById(userId).orElseThrow().getStatus()).isEqualTo(UserStatus.WITHDRAWN);
+            assertThat(unlinkedOauthIds).isEmpty();
+
+            dispatcher(3, Duration.ZERO).dispatch();
+
+            assertThat(unlinkedOauthIds).containsExactly("1000");
+            assertThat(userWithdrawalTaskRepository.findAll()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("작업 처리에 실패하면 시도 횟수를 늘리고, 대기 시간이 지난 후 다시 처리한다.")
+        void retryAfterBackoff() {
+            // given
+            Long userId = saveUser("1000");
+            userService.withdrawUser(userId);
+            failuresBeforeSuccess = 1;
+
+            // when
+            dispatcher(3, Duration.ofMinutes(1)).dispatch();
+
+            // then
+            UserWithdrawalTask task = userWithdrawalTaskRepository.findByUserId(userId).get(0);
+            assertThat(task.getAttempts()).isEqualTo(1);
+            assertThat(task.getStatus()).isEqualTo(UserWithdrawalTaskStatus.PENDING);
+            assertThat(task.getNextAttemptDate()).isAfter(LocalDateTime.now().plusSeconds(30));
+
+            // 대기 시간이 지나지 않았으면 처리하지 않는다.
+            dispatcher(3, Duration.ofMinutes(1)).dispatch();
+            assertThat(unlinkedOauthIds).isEmpty();
+        }
+
+        @Test
+        @DisplayName("최대 시도 횟수만큼 실패하면 FAILED 상태로 남기고, 더 이상 처리하지 않는다.")
+        void failAfterMaxAttempts() {
+            // given
+            Long userId = saveUser("1000");
+            userService.withdrawUser(userId);
+            failuresBeforeSuccess = 2;
+            UserWithdrawalDispatcher dispatcher = dispatcher(2, Duration.ZERO);
+
+            // when
+            dispatcher.dispatch();
+            dispatcher.dispatch();
+            dispatcher.dispatch();
+
+            // then
+            UserWithdrawalTask task = userWithdrawalTaskRepository.findByUserId(userId).get(0);
+            assertThat(task.getAttempts()).isEqualTo(2);
+            assertThat(task.getStatus()).isEqualTo(UserWithdrawalTaskStatus.FAILED);
+            assertThat(unlinkedOauthIds).isEmpty();
+        }
+
+        @Test
+        @DisplayName("하나의 작업이 실패해도 다른 유저의 작업은 계속 처리한다.")
+        void continueOnFailure() {
+            // given
+            Long userId1 = saveUser("1000");
+            Long userId2 = saveUser("2000");
+            userService.withdrawUser(userId1);
+            userService.withdrawUser(userId2);
+            failuresBeforeSuccess = 1;
+
+            // when
+            dispatcher(3, Duration.ofMinutes(1)).dispatch();
+
+            // then
+            assertThat(unlinkedOauthIds).containsExactly("2000");
+            assertThat(userWithdrawalTaskRepository.findAll())
+                    .extracting(UserWithdrawalTask::getUserId)
+                    .containsExactly(userId1);
+        }
+    }
+}
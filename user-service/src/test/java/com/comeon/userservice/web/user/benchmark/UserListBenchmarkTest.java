@@ -0,0 +1,148 @@
+package com.comeon.userservice.web.user.benchmark;
+
+import com.comeon.userservice.config.S3MockConfig;
+import com.comeon.userservice.domain.profileimage.entity.ProfileImg;
+import com.comeon.userservice.domain.profileimage.repository.ProfileImgRepository;
+import com.comeon.userservice.domain.user.entity.OAuthProvider;
+import com.comeon.userservice.domain.user.entity.User;
+import com.comeon.userservice.domain.user.entity.UserAccount;
+import com.comeon.userservice.domain.user.repository.UserRepository;
+import com.comeon.userservice.web.user.request.UserBatchRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import javax.persistence.EntityManagerFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/*
+    GET /users?userIds= 와 POST /users/batch 의 조회 성능 비교.
+    실행 : ./gradlew benchmark
+ */
+@Slf4j
+@Tag("benchmark")
+@ActiveProfiles("test")
+@Import({S3MockConfig.class})
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate=warn"
+})
+class UserListBenchmarkTest {
+
+    static final int[] USER_ID_COUNTS = {10, 100, 1000};
+    static final int WARM_UP_ITERATIONS = 30;
+    static final int ITERATIONS = 100;
+
+    @Autowired
+    WebApplicationContext context;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    ProfileImgRepository profileImgRepository;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    MockMvc mockMvc;
+    List<Long> userIds = new ArrayList<>();
+
+    @BeforeEach
+    void initUsers() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+
+        for (int i = 1; i <= 1000; i++) {
+            User user = userRepository.save(
+                    User.builder()
+                            .account(
+                                    UserAccount.builder()
+                                            .oauthId("oauthId" + i)
+                                            .provider(OAuthProvider.KAKAO)
+                                            .email("email" + i + "@email.com")
+                                            .name("userName" + i)
+                                            .build()
+                            )
+                            .build()
+            );
+            if (i % 2 == 0) {
+                profileImgRepository.save(
+                        ProfileImg.builder()
+                                .user(user)
+                                .originalName("originalFileName" + i)
+                                .storedName("storedFileName" + i)
+                                .build()
+                );
+            }
+            userIds.add(user.getId());
+        }
+    }
+
+    @Test
+    void compareUserListAndUserBatch() throws Exception {
+        StringBuilder report = new StringBuilder("\n=== user list benchmark ===\n")
+                .append(String.format("%-12s %6s %12s %14s %14s%n", "endpoint", "ids", "avg(ms)", "queries/req", "entities/req"));
+
+        for (int count : USER_ID_COUNTS) {
+            List<Long> targetUserIds = userIds.subList(0, count);
+
+            RequestBuilder userList = get("/users")
+                    .queryParam("userIds", targetUserIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
+            RequestBuilder userBatch = post("/users/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .characterEncoding(StandardCharsets.UTF_8)
+                    .content(objectMapper.writeValueAsString(new UserBatchRequest(targetUserIds)));
+
+            report.append(measure("GET /users", count, userList));
+            report.append(measure("POST /batch", count, userBatch));
+        }
+
+        log.info(report.toString());
+    }
+
+    private String measure(String name, int count, RequestBuilder requestBuilder) throws Exception {
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            mockMvc.perform(requestBuilder).andExpect(status().isOk());
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            mockMvc.perform(requestBuilder).andExpect(status().isOk());
+        }
+        double avgMillis = (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+
+        return String.format("%-12s %6d %12.3f %14.1f %14.1f%n",
+                name,
+                count,
+                avgMillis,
+                (double) statistics.getPrepareStatementCount() / ITERATIONS,
+                (double) statistics.getEntityLoadCount() / ITERATIONS);
+    }
+}
@@ -15,6 +15,8 @@ import com.comeon.userservice.web.common.aop.ValidationAspect;
 import com.comeon.userservice.web.common.response.ListResponse;
 import com.comeon.userservice.web.feign.authservice.AuthFeignService;
 import com.comeon.userservice.web.user.query.UserQueryService;
+import com.comeon.userservice.web.user.query.dto.UserSimpleData;
+import com.comeon.userservice.web.user.request.UserBatchRequest;
 import com.comeon.userservice.web.user.request.UserModifyRequest;
 import com.comeon.userservice.web.user.request.UserSaveRequest;
 import com.comeon.userservice.web.user.response.UserDetailResponse;
@@ -23,6 +25,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -39,6 +42,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.mockito.BDDMockito.*;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
@@ -626,6 +630,142 @@ public class UserControllerTest extends AbstractControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("유저 리스트 일괄 조회")
+    class userBatch {
+
+        @Test
+        @DisplayName("요청 데이터 검증에 성공하면 유저 리스트를 응답한다. 탈퇴한 유저는 userId, status 정보만 가진다.")
+        void success() throws Exception {
+            // given
+            List<User> userList = new ArrayList<>();
+            for (int i = 0; i < 7; i++) {
+                User user = setUser();
+                setProfileImg(user);
+
+                if (i % 5 == 0) {
+                    user.withdrawal();
+                }
+                userList.add(user);
+            }
+
+            List<Long> userIds = userList.stream()
+                    .map(User::getId)
+                    .collect(Collectors.toList());
+
+            given(userQueryService.getUserSimpleList(userIds))
+                    .will(invocation -> ListResponse.toListResponse(userList.stream()
+                            .map(user -> UserSimpleResponse.userSimpleDataResponseBuilder()
+                                    .userSimpleData(
+                                            new UserSimpleData(
+                                                    user.getId(),
+                                                    user.getNickname(),
+                                                    user.getStatus(),
+                                                    user.getProfileImg().getStoredName()
+                                            )
+                                    )
+                                    .profileImgUrl(fileManager.getFileUrl(user.getProfileImg().getStoredName(), dirName))
+                                    .build()
+                            )
+                            .collect(Collectors.toList()))
+                    );
+
+            // when
+            ResultActions perform = mockMvc.perform(
+                    post("/users/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .characterEncoding(StandardCharsets.UTF_8)
+                            .content(objectMapper.writeValueAsString(new UserBatchRequest(userIds)))
+            );
+
+            // then
+            perform.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.count").value(userIds.size()))
+                    .andExpect(jsonPath("$.data.contents.length()").value(userIds.size()))
+                    .andExpect(jsonPath("$.data.contents[0].status").value(UserStatus.WITHDRAWN.name()))
+                    .andExpect(jsonPath("$.data.contents[0].nickname").doesNotExist())
+                    .andExpect(jsonPath("$.data.contents[1].nickname").isNotEmpty())
+                    .andExpect(jsonPath("$.data.contents[1].profileImgUrl").isNotEmpty());
+
+            // docs
+            perform.andDo(
+                    restDocs.document(
+                            requestFields(
+                                    attributes(key("title").value("요청 필드")),
+                                    fieldWithPath("userIds").type(JsonFieldType.ARRAY).description("조회할 유저 식별값 리스트. 최대 " + UserBatchRequest.MAX_USER_IDS + "개")
+                            ),
+                            responseFields(
+                                    beneathPath("data").withSubsectionId("data"),
+                                    attributes(key("title").value("응답 필드")),
+                                    subsectionWithPath("contents").type(JsonFieldType.ARRAY).description("조회한 유저 정보 리스트"),
+                                    fieldWithPath("count").type(JsonFieldType.NUMBER).description("조회한 유저의 수")
+                            ),
+                            responseFields(
+                                    beneathPath("data.contents").withSubsectionId("contents"),
+                                    attributes(key("title").value("contents 응답 필드")),
+                                    fieldWithPath("userId").type(JsonFieldType.NUMBER).description("유저의 식별값"),
+                                    fieldWithPath("nickname").type(JsonFieldType.STRING).description("유저의 닉네임").optional(),
+                                    fieldWithPath("profileImgUrl").type(JsonFieldType.STRING).description("유저의 프로필 이미지 URL").optional(),
+                                    fieldWithPath("status").type(JsonFieldType.STRING).description(RestDocsUtil.generateLinkCode(RestDocsUtil.DocUrl.USER_STATUS))
+                            )
+                    )
+            );
+        }
+
+        @Test
+        @DisplayName("조회할 유저 식별값 리스트가 비어있으면 요청에 실패하고 http status 400 반환한다.")
+        void emptyUserIdsError() throws Exception {
+            // given
+            UserBatchRequest request = new UserBatchRequest(List.of());
+
+            // when
+            ResultActions perform = mockMvc.perform(
+                    post("/users/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .characterEncoding(StandardCharsets.UTF_8)
+                            .content(objectMapper.writeValueAsString(request))
+            );
+
+            // then
+            perform.andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.data.errorCode").value(ErrorCode.VALIDATION_FAIL.getCode()))
+                    .andExpect(jsonPath("$.data.message").isNotEmpty());
+
+            // docs
+            perform.andDo(
+                    restDocs.document(
+                            responseFields(
+                                    beneathPath("data").withSubsectionId("data"),
+                                    attributes(key("title").value("오류 응답 필드")),
+                                    fieldWithPath("errorCode").type(JsonFieldType.NUMBER).description(RestDocsUtil.generateLinkCode(RestDocsUtil.DocUrl.ERROR_CODE)),
+                                    subsectionWithPath("message").type(JsonFieldType.OBJECT).description("API 오류 메시지")
+                            )
+                    )
+            );
+        }
+
+        @Test
+        @DisplayName("조회할 유저 식별값이 최대 개수를 넘으면 요청에 실패하고 http status 400 반환한다.")
+        void tooManyUserIdsError() throws Exception {
+            // given
+            List<Long> userIds = LongStream.rangeClosed(1, UserBatchRequest.MAX_USER_IDS + 1)
+                    .boxed()
+                    .collect(Collectors.toList());
+
+            // when
+            ResultActions perform = mockMvc.perform(
+                    post("/users/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .characterEncoding(StandardCharsets.UTF_8)
+                            .content(objectMapper.writeValueAsString(new UserBatchRequest(userIds)))
+            );
+
+            // then
+            perform.andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.data.errorCode").value(ErrorCode.VALIDATION_FAIL.getCode()));
+        }
+    }
+
     @Nested
     @DisplayName("내 정보 조회")
     class myDetails {
@@ -796,11 +936,7 @@ public class UserControllerTest extends AbstractControllerTest {
             String accessToken = generateUserAccessToken(userId);
 
             // mocking
-            given(userQueryService.getUserOauthId(userId))
-                    .willReturn(Long.parseLong(user.getAccount().getOauthId()));
             willDoNothing().given(userService).withdrawUser(userId);
-            willDoNothing().given(authFeignService)
-                    .userUnlink(anyString(), anyLong());
 
             // when
             ResultActions perform = mockMvc.perform(
@@ -812,6 +948,11 @@ public class UserControllerTest extends AbstractControllerTest {
 
             // then
             perform.andExpect(status().isOk());
+            // 엑세스 토큰을 블랙리스트에 등록한 후 탈퇴 처리한다. auth-service 연결 끊기는 요청 처리 중에 호출하지 않는다.
+            InOrder inOrder = inOrder(authFeignService, userService);
+            inOrder.verify(authFeignService).userLogout(accessToken);
+            inOrder.verify(userService).withdrawUser(userId);
+            then(authFeignService).shouldHaveNoMoreInteractions();
 
             // docs
             perform.andDo(
@@ -830,63 +971,17 @@ public class UserControllerTest extends AbstractControllerTest {
         }
         
         @Test
-        @DisplayName("auth-service 내부 로직 오류 발생 또는 이용 불가상태이면 http status 500 반환")
-        void authServiceError() throws Exception {
-            // given
-            User user = setUser();
-            Long userId = user.getId();
-            String accessToken = generateUserAccessToken(userId);
-            
-            // mocking
-            given(userQueryService.getUserOauthId(userId))
-                    .willReturn(Long.parseLong(user.getAccount().getOauthId()));
-            willThrow(new CustomException("error", ErrorCode.AUTH_SERVICE_ERROR))
-                    .given(authFeignService)
-                    .userUnlink(anyString(), anyLong());
-
-            // when
-            ResultActions perform = mockMvc.perform(
-                    delete("/users/me")
-                            .contentType(MediaType.APPLICATION_JSON)
-                            .characterEncoding(StandardCharsets.UTF_8)
-                            .header(HttpHeaders.AUTHORIZATION, BEARER_TOKEN_TYPE + accessToken)
-            );
-
-            // then
-            perform.andExpect(status().isInternalServerError())
-                    .andExpect(jsonPath("$.data.errorCode").value(ErrorCode.AUTH_SERVICE_ERROR.getCode()))
-                    .andExpect(jsonPath("$.data.message").value(ErrorCode.AUTH_SERVICE_ERROR.getMessage()));
-
-            // docs
-            perform.andDo(
-                    document(
-                            "{class-name}/{method-name}",
-                            preprocessRequest(prettyPrint()),
-                            preprocessResponse(prettyPrint()),
-                            responseFields(
-                                    beneathPath("data").withSubsectionId("data"),
-                                    attributes(key("title").value("응답 필드")),
-                                    fieldWithPath("errorCode").type(JsonFieldType.NUMBER).description(RestDocsUtil.generateLinkCode(RestDocsUtil.DocUrl.ERROR_CODE)),
-                                    subsectionWithPath("message").type(JsonFieldType.STRING).description("API 오류 메시지")
-                            )
-                    )
-            );
-        }
-
-        @Test
-        @DisplayName("카카오 API 오류 응답을 받으면 http status 500 반환한다.")
-        void kakaoApiError() throws Exception {
+        @DisplayName("이미 탈퇴한 회원이면 http status 400 반환한다.")
+        void alreadyWithdrawn() throws Exception {
             // given
             User user = setUser();
             Long userId = user.getId();
             String accessToken = generateUserAccessToken(userId);
 
             // mocking
-            given(userQueryService.getUserOauthId(userId))
-                    .willReturn(Long.parseLong(user.getAccount().getOauthId()));
-            willThrow(new CustomException("error", ErrorCode.KAKAO_API_ERROR))
-                    .given(authFeignService)
-                    .userUnlink(anyString(), anyLong());
+            willThrow(new CustomException("error", ErrorCode.ALREADY_WITHDRAW))
+                    .given(userService)
+                    .withdrawUser(userId);
 
             // when
             ResultActions perform = mockMvc.perform(
@@ -897,9 +992,9 @@ public class UserControllerTest extends AbstractControllerTest {
             );
 
             // then
-            perform.andExpect(status().isInternalServerError())
-                    .andExpect(jsonPath("$.data.errorCode").value(ErrorCode.KAKAO_API_ERROR.getCode()))
-                    .andExpect(jsonPath("$.data.message").value(ErrorCode.KAKAO_API_ERROR.getMessage()));
+            perform.andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.data.errorCode").value(ErrorCode.ALREADY_WITHDRAW.getCode()))
+                    .andExpect(jsonPath("$.data.message").value(ErrorCode.ALREADY_WITHDRAW.getMessage()));
 
             // docs
             perform.andDo(
@@ -918,19 +1013,17 @@ public class UserControllerTest extends AbstractControllerTest {
         }
 
         @Test
-        @DisplayName("oauthId 관련 오류 응답은 ErrorCode.SERVER_ERROR")
-        void userServiceError() throws Exception {
+        @DisplayName("엑세스 토큰을 블랙리스트에 등록하지 못하면 탈퇴 처리하지 않고 http status 500 반환한다.")
+        void authServiceError() throws Exception {
             // given
             User user = setUser();
             Long userId = user.getId();
             String accessToken = generateUserAccessToken(userId);
 
             // mocking
-            given(userQueryService.getUserOauthId(userId))
-                    .willReturn(Long.parseLong(user.getAccount().getOauthId()));
-            willThrow(new CustomException("error", ErrorCode.SERVER_ERROR))
+            willThrow(new CustomException("error", ErrorCode.AUTH_SERVICE_ERROR))
                     .given(authFeignService)
-                    .userUnlink(anyString(), anyLong());
+                    .userLogout(accessToken);
 
             // when
             ResultActions perform = mockMvc.perform(
@@ -942,8 +1035,8 @@ public class UserControllerTest extends AbstractControllerTest {
 
             // then
             perform.andExpect(status().isInternalServerError())
-                    .andExpect(jsonPath("$.data.errorCode").value(ErrorCode.SERVER_ERROR.getCode()))
-                    .andExpect(jsonPath("$.data.message").value(ErrorCode.SERVER_ERROR.getMessage()));
+                    .andExpect(jsonPath("$.data.errorCode").value(ErrorCode.AUTH_SERVICE_ERROR.getCode()));
+            then(userService).shouldHaveNoInteractions();
 
             // docs
             perform.andDo(
@@ -7,7 +7,9 @@ import com.comeon.userservice.domain.user.entity.UserAccount;
 import com.comeon.userservice.domain.user.entity.UserStatus;
 import com.comeon.userservice.web.common.file.FileManager;
 import com.comeon.userservice.web.common.response.ListResponse;
+import com.comeon.userservice.web.user.query.dto.UserSimpleData;
 import com.comeon.userservice.web.user.response.UserSimpleResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -15,11 +17,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.*;
@@ -35,6 +42,9 @@ public class UserQueryServiceTestV2 {
     @Mock
     UserQueryRepository userQueryRepository;
 
+    @Spy
+    UserSimpleCache userSimpleCache = new UserSimpleCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(10));
+
     @InjectMocks
     UserQueryService userQueryService;
 
@@ -154,4 +164,155 @@ public class UserQueryServiceTestV2 {
                     });
         }
     }
+
+    @Nested
+    @DisplayName("유저 리스트 chunk 단위 조회")
+    class getUserSimpleList {
+
+        @Test
+        @DisplayName("식별값의 중복을 제거하고 정렬한 후, chunk 단위로 나누어 조회한다.")
+        void queryByChunk() {
+            //given
+            ReflectionTestUtils.setField(userQueryService, "batchChunkSize", 2);
+            List<Long> userIds = List.of(5L, 1L, 3L, 3L, 2L);
+
+            given(userQueryRepository.findUserSimpleDataInIdList(anyCollection()))
+                    .will(invocation -> {
+                        Collection<Long> chunk = invocation.getArgument(0);
+                        return chunk.stream()
+                                .map(userId -> new UserSimpleData(userId, "userName" + userId, UserStatus.ACTIVATE, "storedFileName" + userId))
+                                .collect(Collectors.toList());
+                    });
+            given(fileManager.getFileUrl(anyString(), any()))
+                    .willReturn("profileImgUrl");
+
+            //when
+            ListResponse<UserSimpleResponse> listResponse = userQueryService.getUserSimpleList(userIds);
+
+            //then
+            assertThat(listResponse.getCount()).isEqualTo(4);
+            assertThat(listResponse.getContents())
+                    .extracting(UserSimpleResponse::getUserId)
+                    .containsExactly(1L, 2L, 3L, 5L);
+            then(userQueryRepository).should().findUserSimpleDataInIdList(List.of(1L, 2L));
+            then(userQueryRepository).should().findUserSimpleDataInIdList(List.of(3L, 5L));
+            then(userQueryRepository).shouldHaveNoMoreInteractions();
+        }
+
+        @Test
+        @DisplayName("중간 chunk 조회에 실패하면 앞서 조회한 chunk 를 응답하지 않고 예외가 발생한다.")
+        void chunkQueryFail() {
+            //given
+            ReflectionTestUtils.setField(userQueryService, "batchChunkSize", 2);
+            List<Long> userIds = List.of(1L, 2L, 3L, 4L, 5L);
+
+            given(userQueryRepository.findUserSimpleDataInIdList(List.of(1L, 2L)))
+                    .willReturn(
+                            List.of(
+                                    new UserSimpleData(1L, "userName1", UserStatus.ACTIVATE, null),
+                                    new UserSimpleData(2L, "userName2", UserStatus.ACTIVATE, null)
+                            )
+                    );
+            given(userQueryRepository.findUserSimpleDataInIdList(List.of(3L, 4L)))
+                    .willThrow(new QueryTimeoutException("query timeout"));
+
+            //when, then
+            assertThatThrownBy(() -> userQueryService.getUserSimpleList(userIds))
+                    .isInstanceOf(QueryTimeoutException.class);
+            then(userQueryRepository).should(never()).findUserSimpleDataInIdList(List.of(5L));
+        }
+
+        @Test
+        @DisplayName("탈퇴 처리된 유저는 닉네임, 프로필 이미지 정보가 없다.")
+        void withdrawnUser() {
+            //given
+            ReflectionTestUtils.setField(userQueryService, "batchChunkSize", 2);
+            List<Long> userIds = List.of(1L, 2L);
+
+            given(userQueryRepository.findUserSimpleDataInIdList(userIds))
+                    .willReturn(
+                            List.of(
+                                    new UserSimpleData(1L, "userName1", UserStatus.ACTIVATE, "storedFileName1"),
+                                    new UserSimpleData(2L, "userName2", UserStatus.WITHDRAWN, "storedFileName2")
+                            )
+                    );
+            given(fileManager.getFileUrl(anyString(), any()))
+                    .willReturn("profileImgUrl");
+
+            //when
+            List<UserSimpleResponse> contents = userQueryService.getUserSimpleList(userIds).getContents();
+
+            //then
+            assertThat(contents.get(0).getNickname()).isEqualTo("userName1");
+            assertThat(contents.get(0).getProfileImgUrl()).isEqualTo("profileImgUrl");
+            assertThat(contents.get(1).getNickname()).isNull();
+            assertThat(contents.get(1).getProfileImgUrl()).isNull();
+            assertThat(contents.get(1).getStatus()).isEqualTo(UserStatus.WITHDRAWN.name());
+            then(fileManager).should(times(1)).getFileUrl(anyString(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("유저 기본 정보 캐시")
+    class userSimpleCache {
+
+        private User createUser(long userId) {
+            User user = User.builder()
+                    .account(
+                            UserAccount.builder()
+                                    .oauthId("oauthId" + userId)
+                                    .provider(OAuthProvider.KAKAO)
+                                    .email("email" + userId + "@email.com")
+                                    .name("userName" + userId)
+                                    .build()
+                    )
+                    .build();
+            ReflectionTestUtils.setField(user, "id", userId);
+            return user;
+        }
+
+        @Test
+        @DisplayName("같은 유저를 다시 조회하면 캐시된 정보를 응답하고, 캐시가 제거되면 다시 조회한다.")
+        void getUserSimpleHitAndEvict() {
+            //given
+            User user = createUser(1L);
+            given(userQueryRepository.findByIdFetchAll(user.getId()))
+                    .willReturn(Optional.of(user));
+
+            //when
+            UserSimpleResponse first = userQueryService.getUserSimple(user.getId());
+            UserSimpleResponse second = userQueryService.getUserSimple(user.getId());
+
+            userSimpleCache.evict(user.getId());
+            userQueryService.getUserSimple(user.getId());
+
+            //then
+            assertThat(second).isSameAs(first);
+            then(userQueryRepository).should(times(2)).findByIdFetchAll(user.getId());
+        }
+
+        @Test
+        @DisplayName("유저 리스트 조회시, 캐시에 없는 유저들만 한 번에 조회한다.")
+        void getUserListLoadsOnlyMissingUsers() {
+            //given
+            User user1 = createUser(1L);
+            User user2 = createUser(2L);
+            User user3 = createUser(3L);
+            given(userQueryRepository.findByIdFetchAll(user1.getId()))
+                    .willReturn(Optional.of(user1));
+            given(userQueryRepository.findByIdInIdListFetchProfileImg(List.of(2L, 3L)))
+                    .willReturn(List.of(user2, user3));
+
+            userQueryService.getUserSimple(user1.getId());
+
+            //when
+            ListResponse<UserSimpleResponse> listResponse = userQueryService.getUserList(List.of(3L, 1L, 2L, 100L));
+
+            //then
+            assertThat(listResponse.getContents())
+                    .extracting(UserSimpleResponse::getUserId)
+                    .containsExactly(1L, 2L, 3L);
+            then(userQueryRepository).should().findByIdInIdListFetchProfileImg(List.of(2L, 3L));
+        }
+    }
 }
@@ -0,0 +1,76 @@
+package com.comeon.userservice.web.user.query;
+
+import com.comeon.userservice.domain.user.entity.OAuthProvider;
+import com.comeon.userservice.domain.user.entity.User;
+import com.comeon.userservice.domain.user.entity.UserAccount;
+import com.comeon.userservice.domain.user.event.UserChangedEvent;
+import com.comeon.userservice.web.user.response.UserSimpleResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class UserSimpleCacheTest {
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    UserSimpleCache userSimpleCache = new UserSimpleCache(meterRegistry, 100, Duration.ofMinutes(10));
+
+    AtomicInteger loadCount = new AtomicInteger();
+
+    private UserSimpleResponse load(Long userId) {
+        loadCount.incrementAndGet();
+        User user = User.builder()
+                .account(
+                        UserAccount.builder()
+                                .oauthId("oauthId" + userId)
+                                .provider(OAuthProvider.KAKAO)
+                                .email("email" + userId + "@email.com")
+                                .name("userName" + userId)
+                                .build()
+                )
+                .build();
+        ReflectionTestUtils.setField(user, "id", userId);
+        return UserSimpleResponse.activateUserResponseBuilder()
+                .user(user)
+                .build();
+    }
+
+    @Test
+    @DisplayName("UserChangedEvent 를 받으면 해당 유저의 캐시를 제거한다.")
+    void evictOnUserChanged() {
+        // given
+        userSimpleCache.get(1L, this::load);
+        userSimpleCache.get(2L, this::load);
+
+        // when
+        userSimpleCache.onUserChanged(new UserChangedEvent(1L));
+        userSimpleCache.get(1L, this::load);
+        userSimpleCache.get(2L, this::load);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("캐시 적중률과 조회 시간 지표를 노출한다.")
+    void metrics() {
+        // given
+        userSimpleCache.get(1L, this::load);
+        userSimpleCache.get(1L, this::load);
+        userSimpleCache.get(1L, this::load);
+        userSimpleCache.get(2L, this::load);
+
+        // then
+        assertThat(meterRegistry.get("cache.hit.ratio").tag("cache", UserSimpleCache.CACHE_NAME).gauge().value())
+                .isEqualTo(0.5);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", UserSimpleCache.CACHE_NAME).tag("result", "hit").functionCounter().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("cache.load.duration").tag("cache", UserSimpleCache.CACHE_NAME).functionTimer().count())
+                .isEqualTo(2);
+    }
+}